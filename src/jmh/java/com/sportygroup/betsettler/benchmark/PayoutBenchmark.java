@@ -0,0 +1,75 @@
+package com.sportygroup.betsettler.benchmark;
+
+import com.sportygroup.betsettler.service.PayoutCalculator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares payout computation for a large event settled with BigDecimal
+ * against the fixed-point arithmetic used by BetMatchingService.
+ *
+ * Run with {@code ./gradlew jmh}; the gc profiler reports
+ * {@code gc.alloc.rate.norm}, the bytes allocated per settled bet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(PayoutBenchmark.BETS)
+public class PayoutBenchmark {
+
+    static final int BETS = 1_000_000;
+
+    private BigDecimal[] stakes;
+    private BigDecimal[] odds;
+    private long[] stakesMinor;
+    private long[] oddsFixed;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        stakes = new BigDecimal[BETS];
+        odds = new BigDecimal[BETS];
+        stakesMinor = new long[BETS];
+        oddsFixed = new long[BETS];
+
+        for (int i = 0; i < BETS; i++) {
+            long stake = random.nextLong(100, 100_000_00);
+            long price = random.nextLong(1_0100, 50_0000);
+            stakes[i] = BigDecimal.valueOf(stake, PayoutCalculator.MINOR_UNIT_SCALE);
+            odds[i] = BigDecimal.valueOf(price, PayoutCalculator.ODDS_SCALE);
+            stakesMinor[i] = stake;
+            oddsFixed[i] = price;
+        }
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        for (int i = 0; i < BETS; i++) {
+            blackhole.consume(stakes[i].multiply(odds[i]).setScale(PayoutCalculator.MINOR_UNIT_SCALE, RoundingMode.DOWN));
+        }
+    }
+
+    @Benchmark
+    public void fixedPoint(Blackhole blackhole) {
+        for (int i = 0; i < BETS; i++) {
+            blackhole.consume(PayoutCalculator.payout(stakesMinor[i], oddsFixed[i]));
+        }
+    }
+
+    /**
+     * Fixed point including the one-off conversion from the entity's BigDecimals,
+     * as done when matching bets loaded through JPA.
+     */
+    @Benchmark
+    public void fixedPointFromEntity(Blackhole blackhole) {
+        for (int i = 0; i < BETS; i++) {
+            blackhole.consume(PayoutCalculator.payout(
+                    PayoutCalculator.toMinorUnits(stakes[i]), PayoutCalculator.toFixedOdds(odds[i])));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.sportygroup.betsettler.benchmark;
+
+import com.sportygroup.betsettler.config.SettlementDataAccessConfig;
+import com.sportygroup.betsettler.config.SettlementJournalConfig;
+import com.sportygroup.betsettler.config.SettlementMatchingConfig;
+import com.sportygroup.betsettler.dto.BetSettlementDTO;
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.journal.SettlementJournal;
+import com.sportygroup.betsettler.repository.BetRepository;
+import com.sportygroup.betsettler.repository.JdbcBetRepository;
+import com.sportygroup.betsettler.repository.PendingBetReader;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter;
+import com.sportygroup.betsettler.service.BetMatchingService;
+import com.sportygroup.betsettler.service.BetSettlementService;
+import com.sportygroup.betsettler.service.SettlementLatencyTracker;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JPA and plain-JDBC data access paths for matching and settling a large event.
+ *
+ * Both paths run against the same in-memory H2 database through the real
+ * BetMatchingService and BetSettlementService; only
+ * {@code application.settlement.data-access.mode} differs. Results are per
+ * bet. Run with {@code ./gradlew jmh -Pjmh.includes=SettlementDataAccessBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(SettlementDataAccessBenchmark.BETS)
+public class SettlementDataAccessBenchmark {
+
+    static final int BETS = 20_000;
+    static final int SETTLE_BATCH = 500;
+    static final String EVENT_ID = "EVT-BENCH";
+
+    @Param({"JPA", "JDBC"})
+    public String dataAccess;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private BetMatchingService betMatchingService;
+    private BetSettlementService betSettlementService;
+    private EventOutcomeDTO eventOutcome;
+    private List<List<BetSettlementDTO>> settlementBatches;
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = KafkaAutoConfiguration.class)
+    @EntityScan(basePackageClasses = Bet.class)
+    @EnableJpaRepositories(basePackageClasses = BetRepository.class)
+    @Import({BetMatchingService.class, BetSettlementService.class, PendingBetReader.class,
+            JdbcBetRepository.class, UserBetSummaryWriter.class, SettlementLatencyTracker.class,
+            SettlementJournal.class, SettlementMatchingConfig.class, SettlementDataAccessConfig.class,
+            SettlementJournalConfig.class})
+    static class BenchmarkContext {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkContext.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:settlement-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.sql.init.mode=never",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        context.getBean(SettlementDataAccessConfig.class)
+                .setMode(SettlementDataAccessConfig.Mode.valueOf(dataAccess));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        betMatchingService = context.getBean(BetMatchingService.class);
+        betSettlementService = context.getBean(BetSettlementService.class);
+
+        SplittableRandom random = new SplittableRandom(42);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(BETS);
+        for (int i = 0; i < BETS; i++) {
+            rows.add(new Object[]{"USER-" + random.nextInt(5_000), EVENT_ID, "MATCH_WINNER",
+                    random.nextBoolean() ? "TEAM-A" : "TEAM-B",
+                    BigDecimal.valueOf(random.nextLong(100, 100_000), 2), createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO bet (user_id, event_id, event_market_id, event_winner_id, "
+                + "bet_amount, status, created_at, settlement_version) VALUES (?, ?, ?, ?, ?, 'PENDING', ?, 0)", rows);
+
+        eventOutcome = EventOutcomeDTO.builder()
+                .eventId(EVENT_ID)
+                .eventName("Benchmark Final")
+                .eventWinnerId("TEAM-A")
+                .build();
+
+        List<BetSettlementDTO> settlements = betMatchingService.matchBets(eventOutcome);
+        settlementBatches = new ArrayList<>();
+        for (int from = 0; from < settlements.size(); from += SETTLE_BATCH) {
+            settlementBatches.add(settlements.subList(from, Math.min(settlements.size(), from + SETTLE_BATCH)));
+        }
+    }
+
+    /**
+     * Puts every bet back to PENDING so each settle invocation does the same work.
+     */
+    @Setup(Level.Invocation)
+    public void resetBets() {
+        jdbcTemplate.update("UPDATE bet SET status = 'PENDING', settled_at = NULL WHERE event_id = ?", EVENT_ID);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void matchPendingBets(Blackhole blackhole) {
+        blackhole.consume(betMatchingService.matchBets(eventOutcome));
+    }
+
+    @Benchmark
+    public void settleBets() {
+        for (List<BetSettlementDTO> batch : settlementBatches) {
+            betSettlementService.settleBets(batch);
+        }
+    }
+}
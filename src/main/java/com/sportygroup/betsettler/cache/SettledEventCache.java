@@ -0,0 +1,198 @@
+package com.sportygroup.betsettler.cache;
+
+import com.sportygroup.betsettler.config.SettledEventCacheConfig;
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.entity.DispatchCheckpoint;
+import com.sportygroup.betsettler.repository.DispatchCheckpointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cache of events whose outcome has been fully dispatched.
+ *
+ * A Bloom filter holding every settled eventId answers the common case -
+ * an event that was never settled - without any further lookup. Only when
+ * the filter reports a possible hit is the bounded LRU map of recent
+ * events consulted, and on an LRU miss the completed dispatch checkpoint.
+ * An event counts as settled only for the outcome it was settled with -
+ * its winner and the markets it resolved, see
+ * {@link EventOutcomeDTO#resultKey()} - so neither a corrected outcome nor
+ * one resolving further markets of the event is short-circuited.
+ *
+ * The cache is filled at startup by {@link SettlementStateSnapshotter},
+ * from a snapshot plus the checkpoints written since, or from every
+ * completed checkpoint when there is no usable snapshot.
+ */
+@Component
+@Slf4j
+public class SettledEventCache {
+
+    private final SettledEventCacheConfig config;
+    private final DispatchCheckpointRepository checkpointRepository;
+    private final BloomFilter settledFilter;
+    private final Map<String, String> recentResults;
+
+    public SettledEventCache(SettledEventCacheConfig config, DispatchCheckpointRepository checkpointRepository) {
+        this.config = config;
+        this.checkpointRepository = checkpointRepository;
+        this.settledFilter = new BloomFilter(config.getExpectedEvents(), config.getFalsePositiveRate());
+        this.recentResults = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > config.getMaxEntries();
+            }
+        };
+    }
+
+    /**
+     * Loads the eventIds of completed dispatches into the pre-filter.
+     */
+    public void warmUp() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        List<String> eventIds = checkpointRepository.findCompletedEventIds();
+        eventIds.forEach(settledFilter::put);
+        log.info("Settled event cache warmed up with {} events - Filter bits: {}, Hashes: {}",
+                eventIds.size(), settledFilter.getBitCount(), settledFilter.getHashCount());
+    }
+
+    /**
+     * Applies the checkpoints written since a snapshot was taken.
+     *
+     * Completed checkpoints are added with their outcome; any other
+     * checkpoint means the event is being dispatched again, typically for
+     * a corrected outcome, so its remembered outcome is dropped.
+     *
+     * @param since The time the snapshot was taken, less a safety margin
+     * @return Number of checkpoints applied
+     */
+    public int warmUpSince(LocalDateTime since) {
+        if (!config.isEnabled()) {
+            return 0;
+        }
+        List<DispatchCheckpoint> checkpoints = checkpointRepository.findUpdatedSince(since);
+        for (DispatchCheckpoint checkpoint : checkpoints) {
+            if (checkpoint.isCompleted()) {
+                markSettled(checkpoint.getEventId(), resultKeyOf(checkpoint));
+            } else {
+                evict(checkpoint.getEventId());
+            }
+        }
+        log.info("Settled event cache caught up with {} checkpoints written since {}", checkpoints.size(), since);
+        return checkpoints.size();
+    }
+
+    /**
+     * Writes the pre-filter and the recent outcomes, least recently used first.
+     *
+     * @param out Destination of the snapshot
+     */
+    public void writeSnapshot(DataOutput out) throws IOException {
+        settledFilter.writeTo(out);
+        Map<String, String> results;
+        synchronized (recentResults) {
+            results = new LinkedHashMap<>(recentResults);
+        }
+        out.writeInt(results.size());
+        for (Map.Entry<String, String> result : results.entrySet()) {
+            out.writeUTF(result.getKey());
+            out.writeUTF(result.getValue());
+        }
+    }
+
+    /**
+     * Loads a snapshot written by {@link #writeSnapshot(DataOutput)}.
+     *
+     * @param in Source of the snapshot
+     * @return false, loading nothing, if the snapshot's pre-filter was sized differently
+     */
+    public boolean readSnapshot(DataInput in) throws IOException {
+        if (!settledFilter.mergeFrom(in)) {
+            return false;
+        }
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            remember(in.readUTF(), in.readUTF());
+        }
+        return true;
+    }
+
+    /**
+     * Whether the event has already been settled with the given outcome.
+     *
+     * @param eventId The event identifier
+     * @param resultKey The result key of the outcome being published, see {@link EventOutcomeDTO#resultKey()}
+     * @return true if the same outcome has already been fully dispatched
+     */
+    public boolean isSettled(String eventId, String resultKey) {
+        if (!config.isEnabled() || !settledFilter.mightContain(eventId)) {
+            return false;
+        }
+
+        String settledResult;
+        synchronized (recentResults) {
+            settledResult = recentResults.get(eventId);
+        }
+        if (settledResult != null) {
+            return settledResult.equals(resultKey);
+        }
+
+        // Possible false positive or an event older than the LRU window
+        Optional<DispatchCheckpoint> checkpoint = checkpointRepository.findById(eventId)
+                .filter(DispatchCheckpoint::isCompleted);
+        if (checkpoint.isEmpty()) {
+            return false;
+        }
+
+        settledResult = resultKeyOf(checkpoint.get());
+        remember(eventId, settledResult);
+        return settledResult.equals(resultKey);
+    }
+
+    /**
+     * Records that every matched bet of an outcome has been dispatched.
+     *
+     * @param eventId The event identifier
+     * @param resultKey The result key of the outcome the event was settled with
+     */
+    public void markSettled(String eventId, String resultKey) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        settledFilter.put(eventId);
+        remember(eventId, resultKey);
+    }
+
+    /**
+     * Forgets the settled outcome of an event, e.g. when its outcome is being corrected.
+     *
+     * The event stays in the pre-filter, which only costs a checkpoint lookup.
+     *
+     * @param eventId The event identifier
+     */
+    public void evict(String eventId) {
+        synchronized (recentResults) {
+            recentResults.remove(eventId);
+        }
+    }
+
+    private void remember(String eventId, String resultKey) {
+        synchronized (recentResults) {
+            recentResults.put(eventId, resultKey);
+        }
+    }
+
+    private static String resultKeyOf(DispatchCheckpoint checkpoint) {
+        return EventOutcomeDTO.resultKey(checkpoint.getEventWinnerId(), checkpoint.getMarketResults());
+    }
+}
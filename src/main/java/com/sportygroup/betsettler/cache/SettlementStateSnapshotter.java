@@ -0,0 +1,210 @@
+package com.sportygroup.betsettler.cache;
+
+import com.sportygroup.betsettler.config.SettledEventCacheConfig;
+import com.sportygroup.betsettler.config.SettlementSnapshotConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Loads the in-memory settlement state at startup and snapshots it to disk.
+ *
+ * The settled-event cache is restored from the last snapshot and then
+ * caught up with the dispatch checkpoints written since it was taken, so
+ * a restart reads a few recent rows instead of every completed
+ * checkpoint. Without a usable snapshot (none yet, corrupt, or taken with
+ * a different cache sizing) the cache is loaded in full as before.
+ *
+ * Loading runs as the first lifecycle phase, before the web server and
+ * the Kafka listeners start, so the node only consumes outcomes and
+ * reports readiness once its state is warm. Snapshots are written every
+ * {@code intervalMs} and on shutdown, to a temporary file that replaces
+ * the previous snapshot once it is complete and synced. Each file is
+ * {@code [magic][version][takenAt][cache state][crc32]}.
+ */
+@Component
+@Slf4j
+public class SettlementStateSnapshotter implements SmartLifecycle {
+
+    static final String SNAPSHOT_FILE = "settled-event-cache.snapshot";
+    private static final int MAGIC = 0x53455443;
+    private static final int VERSION = 1;
+    private static final int CHECKSUM_BYTES = 8;
+
+    private final SettledEventCache settledEventCache;
+    private final SettledEventCacheConfig cacheConfig;
+    private final SettlementSnapshotConfig config;
+    private final Timer snapshotTimer;
+    private volatile boolean running;
+
+    public SettlementStateSnapshotter(SettledEventCache settledEventCache, SettledEventCacheConfig cacheConfig,
+                                      SettlementSnapshotConfig config, MeterRegistry meterRegistry) {
+        this.settledEventCache = settledEventCache;
+        this.cacheConfig = cacheConfig;
+        this.config = config;
+        this.snapshotTimer = meterRegistry.timer("settlement.snapshot.duration");
+    }
+
+    /**
+     * Restores the state from the snapshot and the checkpoints written since, or loads it in full.
+     */
+    @Override
+    public void start() {
+        long startNanos = System.nanoTime();
+        String source = "disabled";
+        if (cacheConfig.isEnabled()) {
+            Optional<LocalDateTime> takenAt = config.isEnabled() ? restore() : Optional.empty();
+            if (takenAt.isPresent()) {
+                settledEventCache.warmUpSince(takenAt.get().minus(Duration.ofMillis(config.getDeltaOverlapMs())));
+                source = "snapshot of " + takenAt.get();
+            } else {
+                settledEventCache.warmUp();
+                source = "database";
+            }
+        }
+        running = true;
+        log.info("Settlement state loaded in {}ms - Source: {}",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), source);
+    }
+
+    /**
+     * Writes a snapshot periodically if enabled.
+     */
+    @Scheduled(fixedDelayString = "${application.settlement.snapshot.interval-ms:60000}",
+            initialDelayString = "${application.settlement.snapshot.interval-ms:60000}")
+    public void scheduledSnapshot() {
+        if (config.isEnabled() && cacheConfig.isEnabled() && running) {
+            snapshot();
+        }
+    }
+
+    /**
+     * Writes the current state to the snapshot file.
+     *
+     * @return true if the snapshot was written
+     */
+    public boolean snapshot() {
+        Path directory = Paths.get(config.getDirectory());
+        Path file = directory.resolve(SNAPSHOT_FILE);
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        // Taken before reading the state, so anything written meanwhile is replayed at startup
+        LocalDateTime takenAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                CheckedOutputStream checked = new CheckedOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024), new CRC32());
+                DataOutputStream out = new DataOutputStream(checked);
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(takenAt.toString());
+                settledEventCache.writeSnapshot(out);
+                out.flush();
+                out.writeLong(checked.getChecksum().getValue());
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The previous snapshot stays in place; a stale one only means a longer catch-up
+            log.warn("Failed to write settlement state snapshot - Path: {}, Error: {}", file, e.getMessage());
+            return false;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        snapshotTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        log.debug("Wrote settlement state snapshot - Path: {}, Taken at: {}, Duration: {}ms",
+                file, takenAt, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return true;
+    }
+
+    /**
+     * Loads the snapshot file into the cache.
+     *
+     * @return The time the snapshot was taken, or empty if there was no usable snapshot
+     */
+    Optional<LocalDateTime> restore() {
+        Path file = Paths.get(config.getDirectory()).resolve(SNAPSHOT_FILE);
+        if (!Files.exists(file)) {
+            log.info("No settlement state snapshot found - Path: {}", file);
+            return Optional.empty();
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            int length = bytes.length - CHECKSUM_BYTES;
+            CRC32 crc = new CRC32();
+            if (length > 0) {
+                crc.update(bytes, 0, length);
+            }
+            if (length <= 0 || crc.getValue() != ByteBuffer.wrap(bytes, length, CHECKSUM_BYTES).getLong()) {
+                log.warn("Ignoring corrupt settlement state snapshot - Path: {}", file);
+                return Optional.empty();
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, length));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                log.warn("Ignoring settlement state snapshot of an unknown format - Path: {}", file);
+                return Optional.empty();
+            }
+            LocalDateTime takenAt = LocalDateTime.parse(in.readUTF());
+            if (!settledEventCache.readSnapshot(in)) {
+                log.warn("Ignoring settlement state snapshot taken with a different cache sizing - Path: {}", file);
+                return Optional.empty();
+            }
+            log.info("Restored settlement state snapshot - Path: {}, Taken at: {}, Size: {} bytes",
+                    file, takenAt, bytes.length);
+            return Optional.of(takenAt);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to restore settlement state snapshot - Path: {}, Error: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes a final snapshot; listeners in later phases have already stopped.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (config.isEnabled() && cacheConfig.isEnabled()) {
+            snapshot();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before the web server and the listener containers, which use the default phases.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+}
@@ -0,0 +1,26 @@
+package com.sportygroup.betsettler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the user bet history API.
+ *
+ * Binds properties from application.yml with prefix 'application.bet-history'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.bet-history")
+@Data
+public class BetHistoryConfig {
+
+    /**
+     * Page size used when the request does not specify one
+     */
+    private int defaultPageSize = 50;
+
+    /**
+     * Largest page size a client may request
+     */
+    private int maxPageSize = 200;
+}
@@ -0,0 +1,67 @@
+package com.sportygroup.betsettler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for bet placement ingestion.
+ *
+ * Binds properties from application.yml with prefix 'application.bet-ingestion'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.bet-ingestion")
+@Data
+public class BetIngestionConfig {
+
+    /**
+     * How long the group-commit writer waits for more inserts before flushing
+     */
+    private long lingerMs = 5;
+
+    /**
+     * Maximum number of bets written in a single JDBC batch
+     */
+    private int maxBatchSize = 1000;
+
+    /**
+     * Maximum number of queued placement requests before new ones are rejected
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * Maximum number of bets accepted in a single batch request
+     */
+    private int maxBetsPerRequest = 1000;
+
+    /**
+     * Seconds a client is asked to wait when the writer queue is full
+     */
+    private long retryAfterSeconds = 1;
+
+    /**
+     * Kafka bet-placement topic configuration
+     */
+    private KafkaIngestionConfig kafka = new KafkaIngestionConfig();
+
+    @Data
+    public static class KafkaIngestionConfig {
+        private boolean enabled = false;
+        private int concurrency = 3;
+
+        /**
+         * Attempts to persist a polled batch before its records are dead-lettered
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * Delay between two attempts to persist a polled batch
+         */
+        private long retryBackoffMs = 1000;
+
+        /**
+         * Suffix of the dead-letter topic for bet placements that could not be persisted
+         */
+        private String dltSuffix = "-dlt";
+    }
+}
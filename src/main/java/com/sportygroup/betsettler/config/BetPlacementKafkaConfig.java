@@ -0,0 +1,98 @@
+package com.sportygroup.betsettler.config;
+
+import com.sportygroup.betsettler.dto.PlaceBetRequest;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kafka configuration for the optional bet-placements topic.
+ *
+ * Records are consumed in batches so each poll maps onto one group commit.
+ * A batch that cannot be persisted is retried a few times and its records
+ * are then sent to the bet-placements dead-letter topic, so a failing
+ * batch never blocks the partition.
+ *
+ * Activated when application.bet-ingestion.kafka.enabled=true
+ */
+@Configuration
+@ConditionalOnProperty(name = "application.bet-ingestion.kafka.enabled", havingValue = "true")
+public class BetPlacementKafkaConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    /**
+     * Configuration for the bet placement consumer.
+     */
+    @Bean
+    public ConsumerFactory<String, PlaceBetRequest> betPlacementConsumerFactory(BetIngestionConfig betIngestionConfig) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId + "-placements");
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
+        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "com.sportygroup.betsettler.dto");
+        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, PlaceBetRequest.class.getName());
+        configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        // A full poll is placed as one request, so it must not exceed the per-request limit
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.max(1, betIngestionConfig.getMaxBetsPerRequest()));
+
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
+    /**
+     * Batch listener container factory for bet placements.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PlaceBetRequest> betPlacementListenerContainerFactory(
+            BetIngestionConfig betIngestionConfig,
+            KafkaTemplate<String, Object> retryKafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<String, PlaceBetRequest> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(betPlacementConsumerFactory(betIngestionConfig));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setConcurrency(betIngestionConfig.getKafka().getConcurrency());
+        factory.setCommonErrorHandler(betPlacementErrorHandler(betIngestionConfig, retryKafkaTemplate));
+        return factory;
+    }
+
+    /**
+     * Retries a failed batch in place, then dead-letters each of its records.
+     *
+     * The dead-letter partition is left to the producer, since the
+     * dead-letter topic need not have as many partitions as the source.
+     */
+    private DefaultErrorHandler betPlacementErrorHandler(BetIngestionConfig betIngestionConfig,
+                                                         KafkaTemplate<String, Object> retryKafkaTemplate) {
+        BetIngestionConfig.KafkaIngestionConfig kafka = betIngestionConfig.getKafka();
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(retryKafkaTemplate,
+                (record, ex) -> new TopicPartition(record.topic() + kafka.getDltSuffix(), -1));
+        return new DefaultErrorHandler(recoverer,
+                new FixedBackOff(kafka.getRetryBackoffMs(), Math.max(0, kafka.getMaxAttempts() - 1)));
+    }
+}
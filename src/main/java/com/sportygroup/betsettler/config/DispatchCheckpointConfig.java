@@ -0,0 +1,30 @@
+package com.sportygroup.betsettler.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for settlement dispatch checkpoints.
+ *
+ * Binds properties from application.yml with prefix 'application.settlement.checkpoint'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.settlement.checkpoint")
+@Validated
+@Data
+public class DispatchCheckpointConfig {
+
+    /**
+     * Whether dispatch progress is checkpointed and resumed
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of dispatched settlements between two checkpoint writes
+     */
+    @Min(1)
+    private int interval = 1000;
+}
@@ -1,7 +1,10 @@
 package com.sportygroup.betsettler.config;
 
 import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.kafka.ListenerLoadTracker;
+import com.sportygroup.betsettler.kafka.PartitionPendingBetCache;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.CooperativeStickyAssignor;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
@@ -32,13 +35,16 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${application.kafka.partition-affinity.cooperative-sticky:true}")
+    private boolean cooperativeSticky;
+
     /**
      * Configuration for Kafka Producer.
      *
      * Produces EventOutcomeDTO messages to Kafka topics.
      */
     @Bean
-    public ProducerFactory<String, EventOutcomeDTO> producerFactory() {
+    public ProducerFactory<String, EventOutcomeDTO> producerFactory(OutcomePublishingConfig publishingConfig) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
@@ -46,6 +52,8 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        // Fail fast instead of parking request threads when the buffer is full
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, publishingConfig.getMaxBlockMs());
         configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
 
         return new DefaultKafkaProducerFactory<>(configProps);
@@ -55,8 +63,8 @@ public class KafkaConfig {
      * KafkaTemplate for sending messages to Kafka.
      */
     @Bean
-    public KafkaTemplate<String, EventOutcomeDTO> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, EventOutcomeDTO> kafkaTemplate(OutcomePublishingConfig publishingConfig) {
+        return new KafkaTemplate<>(producerFactory(publishingConfig));
     }
 
     /**
@@ -72,28 +80,39 @@ public class KafkaConfig {
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName());
-        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "com.betting.settlement.dto");
+        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "com.sportygroup.betsettler.dto");
         configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, EventOutcomeDTO.class.getName());
+        configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        if (cooperativeSticky) {
+            // Incremental rebalances: only partitions that change owner are revoked
+            configProps.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG,
+                    CooperativeStickyAssignor.class.getName());
+        }
 
-        return new DefaultKafkaConsumerFactory<>(
-                configProps,
-                new StringDeserializer(),
-                new JsonDeserializer<>(EventOutcomeDTO.class, false)
-        );
+        // Deserializers are built from the properties so ErrorHandlingDeserializer wraps the
+        // JSON one; a malformed payload then reaches the error handler instead of looping in poll()
+        return new DefaultKafkaConsumerFactory<>(configProps);
     }
 
     /**
      * Kafka Listener Container Factory for @KafkaListener annotations.
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, EventOutcomeDTO> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, EventOutcomeDTO> kafkaListenerContainerFactory(
+            ListenerAutoscalingConfig listenerConfig,
+            ListenerLoadTracker loadTracker,
+            PartitionPendingBetCache partitionPendingBetCache) {
         ConcurrentKafkaListenerContainerFactory<String, EventOutcomeDTO> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
-        factory.setConcurrency(3);
+        // Starting value only; ListenerConcurrencyAutoscaler adjusts it at runtime
+        factory.setConcurrency(listenerConfig.getConcurrency());
+        factory.setRecordInterceptor(loadTracker);
+        // Loads and drops the pending bets of partitions as they move between consumers
+        factory.getContainerProperties().setConsumerRebalanceListener(partitionPendingBetCache);
         return factory;
     }
 }
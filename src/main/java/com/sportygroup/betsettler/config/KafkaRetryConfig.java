@@ -0,0 +1,94 @@
+package com.sportygroup.betsettler.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaRetryTopic;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Kafka configuration for non-blocking retries of event outcomes.
+ *
+ * A failed outcome is re-published to a chain of retry topics with
+ * exponentially growing delays and finally to a dead-letter topic, so the
+ * main partition keeps moving while the failure is retried. Payloads that
+ * cannot be deserialized go straight to the dead-letter topic.
+ */
+@Configuration
+@EnableKafkaRetryTopic
+public class KafkaRetryConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    /**
+     * Producer for retry and dead-letter records.
+     *
+     * Records that failed deserialization still carry their raw bytes, so
+     * byte arrays are written as-is and everything else as JSON.
+     */
+    @Bean
+    public ProducerFactory<String, Object> retryProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+        JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+        jsonSerializer.setAddTypeInfo(false);
+
+        Map<Class<?>, Serializer<?>> delegates = new LinkedHashMap<>();
+        delegates.put(byte[].class, new ByteArraySerializer());
+        delegates.put(Object.class, jsonSerializer);
+
+        return new DefaultKafkaProducerFactory<>(configProps,
+                new StringSerializer(),
+                new DelegatingByTypeSerializer(delegates, true));
+    }
+
+    /**
+     * KafkaTemplate used to forward failed outcomes to retry and dead-letter topics.
+     */
+    @Bean
+    public KafkaTemplate<String, Object> retryKafkaTemplate() {
+        return new KafkaTemplate<>(retryProducerFactory());
+    }
+
+    /**
+     * Retry topic chain for the event outcome listener.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "application.kafka.retry.enabled", havingValue = "true", matchIfMissing = true)
+    public RetryTopicConfiguration eventOutcomeRetryTopicConfiguration(
+            OutcomeRetryConfig retryConfig,
+            KafkaTopicConfig topicConfig) {
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopic(topicConfig.getEventOutcomes())
+                .maxAttempts(retryConfig.getMaxAttempts())
+                .exponentialBackoff(retryConfig.getInitialBackoffMs(),
+                        retryConfig.getBackoffMultiplier(),
+                        retryConfig.getMaxBackoffMs())
+                .retryTopicSuffix(retryConfig.getRetryTopicSuffix())
+                .dltSuffix(retryConfig.getDltSuffix())
+                .setTopicSuffixingStrategy(TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE)
+                .dltHandlerMethod("eventOutcomeDltHandler", "handleDeadLetter")
+                .doNotRetryOnDltFailure()
+                .create(retryKafkaTemplate());
+    }
+}
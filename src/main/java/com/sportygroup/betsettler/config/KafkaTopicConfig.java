@@ -18,4 +18,9 @@ public class KafkaTopicConfig {
      * Topic name for event outcomes
      */
     private String eventOutcomes = "event-outcomes";
+
+    /**
+     * Topic name for bet placements (optional ingestion path)
+     */
+    private String betPlacements = "bet-placements";
 }
\ No newline at end of file
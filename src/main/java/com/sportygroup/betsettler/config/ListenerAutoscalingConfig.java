@@ -0,0 +1,104 @@
+package com.sportygroup.betsettler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the event outcome listener concurrency and backpressure.
+ *
+ * Binds properties from application.yml with prefix 'application.kafka.listener'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.kafka.listener")
+@Data
+public class ListenerAutoscalingConfig {
+
+    /**
+     * Number of consumer threads the listener container starts with
+     */
+    private int concurrency = 3;
+
+    /**
+     * Lag-driven autoscaling of the listener concurrency
+     */
+    private Autoscaling autoscaling = new Autoscaling();
+
+    /**
+     * Pausing of the listener while settlement is falling behind
+     */
+    private Backpressure backpressure = new Backpressure();
+
+    @Data
+    public static class Autoscaling {
+
+        /**
+         * Whether the concurrency is adjusted automatically
+         */
+        private boolean enabled = false;
+
+        /**
+         * Lower bound for the concurrency
+         */
+        private int minConcurrency = 1;
+
+        /**
+         * Upper bound for the concurrency; partitions beyond the partition count stay idle
+         */
+        private int maxConcurrency = 12;
+
+        /**
+         * How often lag is sampled and the concurrency re-evaluated
+         */
+        private long intervalMs = 30000;
+
+        /**
+         * Minimum time between two concurrency changes (each change rebalances the group)
+         */
+        private long cooldownMs = 120000;
+
+        /**
+         * Time in which the current lag should be drained at the observed processing rate
+         */
+        private long targetDrainSeconds = 60;
+
+        /**
+         * Per-consumer throughput assumed before any processing time has been observed
+         */
+        private double defaultRecordsPerSecond = 50;
+    }
+
+    @Data
+    public static class Backpressure {
+
+        /**
+         * Whether the listener is paused while settlement is falling behind
+         */
+        private boolean enabled = true;
+
+        /**
+         * How often the settlement backlog is checked
+         */
+        private long checkIntervalMs = 1000;
+
+        /**
+         * Settlements queued for writing above which the listener is paused
+         */
+        private int pauseInFlightSettlements = 50000;
+
+        /**
+         * Queued settlements at or below which a paused listener may resume
+         */
+        private int resumeInFlightSettlements = 10000;
+
+        /**
+         * Average settlement write latency above which the listener is paused
+         */
+        private long pauseDbLatencyMs = 500;
+
+        /**
+         * Average settlement write latency at or below which a paused listener may resume
+         */
+        private long resumeDbLatencyMs = 200;
+    }
+}
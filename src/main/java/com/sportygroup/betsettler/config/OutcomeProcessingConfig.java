@@ -0,0 +1,70 @@
+package com.sportygroup.betsettler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for processing consumed event outcomes.
+ *
+ * Binds properties from application.yml with prefix 'application.kafka.processing'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.kafka.processing")
+@Data
+public class OutcomeProcessingConfig {
+
+    /**
+     * How records of one partition are processed
+     */
+    private Mode mode = Mode.SEQUENTIAL;
+
+    /**
+     * Number of worker lanes in key-ordered mode; records with the same eventId always use the same lane.
+     * In fair mode, the number of threads in the shared settlement pool
+     */
+    private int workers = 8;
+
+    /**
+     * Records queued per lane (in fair mode, in total) before the listener thread blocks
+     */
+    private int laneQueueCapacity = 1000;
+
+    /**
+     * Attempts per record in key-ordered mode (per chunk in fair mode) before it is given up on
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Delay between attempts in key-ordered and fair mode
+     */
+    private long retryBackoffMs = 1000;
+
+    /**
+     * Pending bets read and dispatched per chunk in fair mode
+     */
+    private int chunkSize = 5000;
+
+    /**
+     * Chunks of one event dispatched at the same time in fair mode
+     */
+    private int maxChunksPerEvent = 2;
+
+    public enum Mode {
+        /**
+         * One record at a time per partition, in offset order
+         */
+        SEQUENTIAL,
+
+        /**
+         * Records with different eventIds run concurrently; order is kept per eventId
+         */
+        KEY_ORDERED,
+
+        /**
+         * Events are split into chunks that take turns on a shared worker pool;
+         * order is kept per eventId
+         */
+        FAIR
+    }
+}
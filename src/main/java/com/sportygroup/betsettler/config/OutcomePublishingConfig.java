@@ -0,0 +1,91 @@
+package com.sportygroup.betsettler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for publishing event outcomes to Kafka.
+ *
+ * Binds properties from application.yml with prefix 'application.kafka.publishing'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.kafka.publishing")
+@Data
+public class OutcomePublishingConfig {
+
+    /**
+     * Maximum number of outcomes accepted in a single batch request
+     */
+    private int maxBatchItems = 10000;
+
+    /**
+     * Whether POST /api/events/outcomes waits for the broker acknowledgement (true)
+     * or returns as soon as the record is handed to the producer (false)
+     */
+    private boolean acknowledged = false;
+
+    /**
+     * Latency budget for the broker acknowledgement in acknowledged mode
+     */
+    private long ackTimeoutMs = 2000;
+
+    /**
+     * Maximum number of acknowledged-mode sends awaiting a broker response
+     */
+    private int maxInFlight = 1000;
+
+    /**
+     * Reject new sends when the producer buffer has less free space than this (0 disables the check)
+     */
+    private long minAvailableBufferBytes = 1048576;
+
+    /**
+     * Maximum time the producer may block a caller when its buffer is full
+     */
+    private long maxBlockMs = 1000;
+
+    /**
+     * Seconds a client is asked to wait after an overload rejection
+     */
+    private long retryAfterSeconds = 1;
+
+    /**
+     * Admission control of POST /api/events/outcomes
+     */
+    private Admission admission = new Admission();
+
+    @Data
+    public static class Admission {
+
+        /**
+         * Whether outcome publication requests are rate limited per client and capped in total
+         */
+        private boolean enabled = true;
+
+        /**
+         * Sustained publication requests allowed per client and second; a batch counts as one
+         */
+        private double permitsPerSecond = 100;
+
+        /**
+         * Publication requests a client may make at once before being held to the sustained rate
+         */
+        private int burst = 200;
+
+        /**
+         * Outcome publication requests handled at the same time across all clients
+         */
+        private int maxConcurrentRequests = 500;
+
+        /**
+         * Clients tracked with their own bucket; further clients share one bucket
+         */
+        private int maxClients = 10000;
+
+        /**
+         * How often the buckets of idle clients are dropped
+         */
+        private long idleEvictionMs = 60000;
+    }
+}
@@ -0,0 +1,51 @@
+package com.sportygroup.betsettler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for retrying failed event outcomes.
+ *
+ * Binds properties from application.yml with prefix 'application.kafka.retry'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.kafka.retry")
+@Data
+public class OutcomeRetryConfig {
+
+    /**
+     * Whether failed outcomes are moved to retry topics instead of blocking their partition
+     */
+    private boolean enabled = true;
+
+    /**
+     * Total delivery attempts, including the first one on the main topic
+     */
+    private int maxAttempts = 4;
+
+    /**
+     * Delay before the first retry
+     */
+    private long initialBackoffMs = 1000;
+
+    /**
+     * Factor applied to the delay for each further retry
+     */
+    private double backoffMultiplier = 2.0;
+
+    /**
+     * Upper bound for the retry delay
+     */
+    private long maxBackoffMs = 30000;
+
+    /**
+     * Suffix of the retry topics, followed by the retry index (e.g. event-outcomes-retry-0)
+     */
+    private String retryTopicSuffix = "-retry";
+
+    /**
+     * Suffix of the dead-letter topic
+     */
+    private String dltSuffix = "-dlt";
+}
@@ -0,0 +1,33 @@
+package com.sportygroup.betsettler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for partition-affine local state of the event outcome listener.
+ *
+ * Binds properties from application.yml with prefix 'application.kafka.partition-affinity'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.kafka.partition-affinity")
+@Data
+public class PartitionAffinityConfig {
+
+    /**
+     * Whether the pending bets of events on assigned partitions are loaded into memory
+     */
+    private boolean enabled = false;
+
+    /**
+     * Whether the outcome consumers use the cooperative-sticky assignor, so a rebalance
+     * only moves the partitions (and their loaded state) that change owner
+     */
+    private boolean cooperativeSticky = true;
+
+    /**
+     * Maximum number of pending bets held across all assigned partitions; partitions that
+     * would exceed it stay unloaded and are read from the database
+     */
+    private int maxBets = 2_000_000;
+}
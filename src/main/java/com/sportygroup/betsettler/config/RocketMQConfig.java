@@ -44,6 +44,10 @@ public class RocketMQConfig {
         private String group = "betting-settlement-producer";
         private int sendMsgTimeout = 3000;
         private int retryTimesWhenSendFailed = 2;
+        /**
+         * Build the producer client on the first send instead of at startup
+         */
+        private boolean lazyStart = false;
     }
 
     @Data
@@ -51,6 +55,20 @@ public class RocketMQConfig {
         private String group = "betting-settlement-consumer";
         private int consumeThreadMin = 5;
         private int consumeThreadMax = 20;
+        /**
+         * Consume WON and LOST settlements on separate subscriptions and thread pools.
+         * The lanes use the consumer groups {@code <group>-won} and {@code <group>-lost},
+         * which do not inherit the consume progress of {@code group}
+         */
+        private boolean priorityLanes = false;
+        /**
+         * Share of the consumer threads given to WON settlements
+         */
+        private int wonWeight = 3;
+        /**
+         * Share of the consumer threads given to LOST settlements
+         */
+        private int lostWeight = 1;
     }
 
     @Data
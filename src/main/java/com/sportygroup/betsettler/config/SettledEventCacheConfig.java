@@ -0,0 +1,36 @@
+package com.sportygroup.betsettler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the cache of already-settled events.
+ *
+ * Binds properties from application.yml with prefix 'application.settlement.settled-cache'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.settlement.settled-cache")
+@Data
+public class SettledEventCacheConfig {
+
+    /**
+     * Whether re-published outcomes of settled events are short-circuited
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of recently settled events whose winner is kept in memory
+     */
+    private int maxEntries = 100000;
+
+    /**
+     * Number of settled events the pre-filter is sized for
+     */
+    private int expectedEvents = 1000000;
+
+    /**
+     * Target false-positive rate of the pre-filter at the expected size
+     */
+    private double falsePositiveRate = 0.01;
+}
@@ -0,0 +1,46 @@
+package com.sportygroup.betsettler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for data access on the matching and settlement paths.
+ *
+ * Binds properties from application.yml with prefix 'application.settlement.data-access'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.settlement.data-access")
+@Data
+public class SettlementDataAccessConfig {
+
+    /**
+     * How pending bets are loaded for list-based matching and how settlements are written
+     */
+    private Mode mode = Mode.JPA;
+
+    /**
+     * Settlements per JDBC batch update in JDBC mode
+     */
+    private int writeBatchSize = 500;
+
+    /**
+     * Whether the plain-JDBC repository is used instead of Spring Data JPA.
+     */
+    public boolean isJdbc() {
+        return mode == Mode.JDBC;
+    }
+
+    public enum Mode {
+        /**
+         * Entities are loaded and saved through BetRepository
+         */
+        JPA,
+
+        /**
+         * Rows are read and updated with prepared statements through JdbcBetRepository,
+         * without a persistence context
+         */
+        JDBC
+    }
+}
@@ -0,0 +1,46 @@
+package com.sportygroup.betsettler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the settlement journal.
+ *
+ * Binds properties from application.yml with prefix 'application.settlement.journal'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.settlement.journal")
+@Data
+public class SettlementJournalConfig {
+
+    /**
+     * Whether every committed settlement is appended to the journal
+     */
+    private boolean enabled = false;
+
+    /**
+     * Directory holding the journal segment files
+     */
+    private String directory = "data/settlement-journal";
+
+    /**
+     * Size of one segment file; a new segment is started when a record does not fit
+     */
+    private int segmentSizeBytes = 64 * 1024 * 1024;
+
+    /**
+     * How often appended records are forced to disk; all records appended in between share one fsync
+     */
+    private long flushIntervalMs = 10;
+
+    /**
+     * Whether a settlement waits for its records to be forced to disk before returning
+     */
+    private boolean awaitFlush = false;
+
+    /**
+     * Records applied per transaction when replaying the journal into the database
+     */
+    private int replayBatchSize = 1000;
+}
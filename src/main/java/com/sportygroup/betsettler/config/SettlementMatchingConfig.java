@@ -0,0 +1,27 @@
+package com.sportygroup.betsettler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for bet matching.
+ *
+ * Binds properties from application.yml with prefix 'application.settlement.matching'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.settlement.matching")
+@Data
+public class SettlementMatchingConfig {
+
+    /**
+     * Whether pending bets are matched into a columnar SettlementBatch read
+     * straight from JDBC, instead of a list of entities and settlement DTOs
+     */
+    private boolean columnar = true;
+
+    /**
+     * JDBC fetch size used when reading pending bets
+     */
+    private int fetchSize = 1000;
+}
@@ -0,0 +1,54 @@
+package com.sportygroup.betsettler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the settlement reconciliation job.
+ *
+ * Binds properties from application.yml with prefix 'application.settlement.reconciliation'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.settlement.reconciliation")
+@Data
+public class SettlementReconciliationConfig {
+
+    /**
+     * Whether reconciliation runs periodically; it can always be started from the actuator endpoint
+     */
+    private boolean enabled = false;
+
+    /**
+     * Delay between the end of one scheduled run and the start of the next
+     */
+    private long intervalMs = 3_600_000;
+
+    /**
+     * Events whose bets are scanned at the same time
+     */
+    private int parallelism = 4;
+
+    /**
+     * JDBC fetch size when streaming the bets of an event
+     */
+    private int fetchSize = 5000;
+
+    /**
+     * Markets whose bets are checked against the recorded result of their market (empty for every market)
+     */
+    private List<String> markets = new ArrayList<>();
+
+    /**
+     * Flagged betIds kept per event in the report; every flagged bet is still counted
+     */
+    private int maxFlaggedBetsPerEvent = 100;
+
+    /**
+     * Events with discrepancies kept in the report; every event is still counted
+     */
+    private int maxReportedEvents = 1000;
+}
@@ -0,0 +1,46 @@
+package com.sportygroup.betsettler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the in-process settlement transport.
+ *
+ * Binds properties from application.yml with prefix 'application.settlement.ring-buffer'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.settlement.ring-buffer")
+@Data
+public class SettlementRingBufferConfig {
+
+    /**
+     * Whether settlements are handed to in-process workers when RocketMQ is disabled
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of slots in the ring buffer; rounded up to a power of two
+     */
+    private int capacity = 65536;
+
+    /**
+     * Number of settlement worker threads
+     */
+    private int workers = 4;
+
+    /**
+     * Maximum settlements a worker settles in one transaction
+     */
+    private int batchSize = 256;
+
+    /**
+     * How long a sender waits for a free slot before the settlement is rejected
+     */
+    private long offerTimeoutMs = 30000;
+
+    /**
+     * How long a sender waits in flush for its queued settlements to be written
+     */
+    private long flushTimeoutMs = 60000;
+}
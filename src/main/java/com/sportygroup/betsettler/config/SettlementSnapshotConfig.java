@@ -0,0 +1,37 @@
+package com.sportygroup.betsettler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for snapshots of the in-memory settlement state.
+ *
+ * Binds properties from application.yml with prefix 'application.settlement.snapshot'.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "application.settlement.snapshot")
+@Data
+public class SettlementSnapshotConfig {
+
+    /**
+     * Whether the state is snapshotted to disk and restored from the snapshot at startup
+     */
+    private boolean enabled = false;
+
+    /**
+     * Directory holding the snapshot file
+     */
+    private String directory = "data/snapshots";
+
+    /**
+     * Delay between the end of one snapshot and the start of the next
+     */
+    private long intervalMs = 60_000;
+
+    /**
+     * How far before the snapshot time the database is replayed at startup, to cover clock skew
+     * and checkpoints written while the snapshot was being taken
+     */
+    private long deltaOverlapMs = 60_000;
+}
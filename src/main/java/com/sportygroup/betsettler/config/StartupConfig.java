@@ -0,0 +1,43 @@
+package com.sportygroup.betsettler.config;
+
+import com.sportygroup.betsettler.rocketmq.BetSettlementConsumer;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Startup configuration for lazy initialization.
+ *
+ * The fast-startup profile sets {@code spring.main.lazy-initialization}, so
+ * beans are only created on first use. Beans that do their work without
+ * ever being injected must still start with the application: listeners
+ * and scheduled jobs are only registered once their bean exists, and the
+ * RocketMQ consumer subscribes in its {@code @PostConstruct}.
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Keeps listener, scheduled and consumer beans eager under lazy initialization.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (BetSettlementConsumer.class.isAssignableFrom(beanType) || hasStartupMethods(beanType));
+    }
+
+    private static boolean hasStartupMethods(Class<?> beanType) {
+        if (AnnotatedElementUtils.hasAnnotation(beanType, KafkaListener.class)) {
+            return true;
+        }
+        return !MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                        AnnotatedElementUtils.hasAnnotation(method, KafkaListener.class)
+                                || AnnotatedElementUtils.hasAnnotation(method, Scheduled.class) ? Boolean.TRUE : null)
+                .isEmpty();
+    }
+}
@@ -0,0 +1,72 @@
+package com.sportygroup.betsettler.controller;
+
+import com.sportygroup.betsettler.dto.BetPlacementResponse;
+import com.sportygroup.betsettler.dto.PlaceBetBatchRequest;
+import com.sportygroup.betsettler.dto.PlaceBetRequest;
+import com.sportygroup.betsettler.service.BetPlacementService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * REST Controller for bet placement.
+ *
+ * Responses complete asynchronously once the group-commit writer has
+ * persisted the bets, so request threads are not held during the flush.
+ */
+@RestController
+@RequestMapping("/api/bets")
+@RequiredArgsConstructor
+@Slf4j
+public class BetController {
+
+    private final BetPlacementService betPlacementService;
+
+    /**
+     * Places a single bet.
+     *
+     * POST /api/bets
+     *
+     * @param request The bet to place
+     * @return 201 Created once the bet is persisted
+     */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<BetPlacementResponse>> placeBet(
+            @Valid @RequestBody PlaceBetRequest request) {
+
+        log.debug("Received bet placement - User: {}, Event: {}", request.getUserId(), request.getEventId());
+
+        return betPlacementService.placeBet(request)
+                .thenApply(this::created);
+    }
+
+    /**
+     * Places several bets in one request.
+     *
+     * POST /api/bets/batch
+     *
+     * @param request The bets to place
+     * @return 201 Created once all bets are persisted
+     */
+    @PostMapping("/batch")
+    public CompletableFuture<ResponseEntity<BetPlacementResponse>> placeBets(
+            @Valid @RequestBody PlaceBetBatchRequest request) {
+
+        log.debug("Received batch bet placement - Bets: {}", request.getBets().size());
+
+        return betPlacementService.placeBets(request.getBets())
+                .thenApply(this::created);
+    }
+
+    private ResponseEntity<BetPlacementResponse> created(int accepted) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(BetPlacementResponse.created(accepted));
+    }
+}
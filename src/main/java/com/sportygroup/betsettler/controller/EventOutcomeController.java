@@ -2,15 +2,25 @@ package com.sportygroup.betsettler.controller;
 
 import com.sportygroup.betsettler.dto.ApiResponse;
 import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.dto.OutcomeBatchResponse;
+import com.sportygroup.betsettler.dto.OutcomeCorrectionResponse;
 import com.sportygroup.betsettler.dto.PublishEventRequest;
+import com.sportygroup.betsettler.service.EventOutcomeBatchService;
 import com.sportygroup.betsettler.service.EventOutcomeService;
+import com.sportygroup.betsettler.service.OutcomeAdmissionControl;
+import com.sportygroup.betsettler.service.OutcomeCorrectionService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * REST Controller for event outcome operations.
  *
@@ -22,7 +32,15 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 public class EventOutcomeController {
 
+    /**
+     * Header identifying the publishing client; the remote address is used without it
+     */
+    static final String CLIENT_ID_HEADER = "X-Client-Id";
+
     private final EventOutcomeService eventOutcomeService;
+    private final EventOutcomeBatchService eventOutcomeBatchService;
+    private final OutcomeCorrectionService outcomeCorrectionService;
+    private final OutcomeAdmissionControl admissionControl;
 
     /**
      * Publishes an event outcome to Kafka.
@@ -30,39 +48,66 @@ public class EventOutcomeController {
      * POST /api/events/outcomes
      *
      * This endpoint accepts event outcome data and publishes it to Kafka
-     * for asynchronous processing. The response is returned immediately
-     * (202 Accepted) while bet matching and settlement occur asynchronously.
+     * for asynchronous processing. By default the response is returned
+     * immediately (202 Accepted) while bet matching and settlement occur
+     * asynchronously. In acknowledged mode the response completes once the
+     * broker has acknowledged the record, without holding the request thread;
+     * overload is answered with 429/503 and a Retry-After header.
+     * An outcome identical to one already settled is answered with 200 OK
+     * without being published again.
+     * Requests are rate limited per client (the X-Client-Id header, or the
+     * remote address) and capped in total; rejected requests get 429.
      *
      * @param request The event outcome request
-     * @return 202 Accepted with success message
+     * @param httpRequest The HTTP request, used to identify the client
+     * @return 202 Accepted with success message, or 200 OK if already settled
      */
     @PostMapping("/outcomes")
-    public ResponseEntity<ApiResponse> publishEventOutcome(
-            @Valid @RequestBody PublishEventRequest request) {
+    public CompletableFuture<ResponseEntity<ApiResponse>> publishEventOutcome(
+            @Valid @RequestBody PublishEventRequest request, HttpServletRequest httpRequest) {
 
         log.info("Received request to publish event outcome - Event ID: {}, Event Name: {}, Winner: {}",
                 request.getEventId(), request.getEventName(), request.getEventWinnerId());
 
+        admissionControl.admit(clientIdOf(httpRequest));
+        CompletableFuture<ResponseEntity<ApiResponse>> response;
         try {
-            // Convert request to DTO
-            EventOutcomeDTO eventOutcome = EventOutcomeDTO.builder()
+            response = publish(request);
+        } catch (RuntimeException e) {
+            admissionControl.release();
+            throw e;
+        }
+        // Acknowledged publications hold their slot until the broker has answered
+        return response.whenComplete((result, ex) -> admissionControl.release());
+    }
+
+    private CompletableFuture<ResponseEntity<ApiResponse>> publish(PublishEventRequest request) {
+        // Convert request to DTO
+        EventOutcomeDTO eventOutcome = request.toEventOutcome();
+
+        if (eventOutcomeService.isAlreadySettled(eventOutcome)) {
+            log.info("Event outcome already settled, not re-publishing - Event ID: {}", request.getEventId());
+            ApiResponse response = ApiResponse.builder()
+                    .message("Event outcome already settled")
                     .eventId(request.getEventId())
-                    .eventName(request.getEventName())
-                    .eventWinnerId(request.getEventWinnerId())
+                    .status(HttpStatus.OK.value())
                     .build();
+            return CompletableFuture.completedFuture(ResponseEntity.ok(response));
+        }
 
+        if (eventOutcomeService.isAcknowledgedMode()) {
+            return eventOutcomeService.publishAcknowledged(eventOutcome)
+                    .thenApply(result -> accepted(request.getEventId()));
+        }
+
+        try {
             // Publish to Kafka
             eventOutcomeService.publishEventOutcome(eventOutcome);
 
             log.info("Event outcome published successfully - Event ID: {}", request.getEventId());
 
             // Return 202 Accepted (async processing)
-            ApiResponse response = ApiResponse.success(
-                    "Event outcome published successfully",
-                    request.getEventId()
-            );
-
-            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+            return CompletableFuture.completedFuture(accepted(request.getEventId()));
 
         } catch (Exception e) {
             log.error("Failed to publish event outcome - Event ID: {}, Error: {}",
@@ -73,9 +118,84 @@ public class EventOutcomeController {
                     HttpStatus.INTERNAL_SERVER_ERROR.value()
             );
 
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(errorResponse);
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse));
+        }
+    }
+
+    /**
+     * Publishes a batch of event outcomes to Kafka.
+     *
+     * POST /api/events/outcomes/batch
+     *
+     * Accepts either a JSON array of outcomes or newline-delimited JSON.
+     * The body is stream-parsed and each valid outcome is sent as soon as it
+     * is read; the response lists the result of every item once Kafka has
+     * acknowledged (or failed) all sends.
+     * The request is admitted like a single publication; each outcome then
+     * waits for one of the in-flight sends, so a large batch is held back
+     * to the broker's pace rather than rejected.
+     *
+     * @param request The HTTP request carrying the batch body
+     * @return 200 OK with per-item results, or 400 if the body could not be fully parsed
+     * @throws IOException if the body cannot be read
+     */
+    @PostMapping(value = "/outcomes/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public CompletableFuture<ResponseEntity<OutcomeBatchResponse>> publishEventOutcomes(
+            HttpServletRequest request) throws IOException {
+
+        log.info("Received batch request to publish event outcomes - Content-Type: {}",
+                request.getContentType());
+
+        String clientId = clientIdOf(request);
+        admissionControl.admit(clientId);
+        CompletableFuture<OutcomeBatchResponse> batch;
+        try {
+            batch = eventOutcomeBatchService.publishBatch(request.getInputStream());
+        } catch (IOException | RuntimeException e) {
+            admissionControl.release();
+            throw e;
         }
+        return batch.whenComplete((result, ex) -> admissionControl.release())
+                .thenApply(response -> response.getError() == null
+                        ? ResponseEntity.ok(response)
+                        : ResponseEntity.badRequest().body(response));
+    }
+
+    /**
+     * Corrects the outcome of an already-settled event.
+     *
+     * POST /api/events/outcomes/corrections
+     *
+     * Re-settles only the settled bets whose status changes under the
+     * corrected winner (or market results) and returns how many changed.
+     * The correction is applied directly, not through Kafka.
+     *
+     * @param request The corrected event outcome
+     * @return 200 OK with the number of bets that changed status
+     */
+    @PostMapping("/outcomes/corrections")
+    public ResponseEntity<OutcomeCorrectionResponse> correctEventOutcome(
+            @Valid @RequestBody PublishEventRequest request) {
+
+        log.info("Received request to correct event outcome - Event ID: {}, Winner: {}",
+                request.getEventId(), request.getEventWinnerId());
+
+        return ResponseEntity.ok(outcomeCorrectionService.correctOutcome(request.toEventOutcome()));
+    }
+
+    private static String clientIdOf(HttpServletRequest httpRequest) {
+        String clientId = httpRequest.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() ? clientId : httpRequest.getRemoteAddr();
+    }
+
+    private ResponseEntity<ApiResponse> accepted(String eventId) {
+        ApiResponse response = ApiResponse.success(
+                "Event outcome published successfully",
+                eventId
+        );
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
     }
 
     /**
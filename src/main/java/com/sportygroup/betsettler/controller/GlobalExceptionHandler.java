@@ -1,13 +1,16 @@
 package com.sportygroup.betsettler.controller;
 
 import com.sportygroup.betsettler.dto.ApiResponse;
+import com.sportygroup.betsettler.exception.OverloadedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -68,6 +71,45 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
 
+    /**
+     * Handles request parameters that cannot be converted, such as an unknown bet status.
+     *
+     * @param ex The exception
+     * @return 400 Bad Request
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponse> handleTypeMismatchException(MethodArgumentTypeMismatchException ex) {
+        log.warn("Invalid value for parameter {}: {}", ex.getName(), ex.getValue());
+
+        ApiResponse response = ApiResponse.error(
+                "Invalid value for parameter '" + ex.getName() + "': " + ex.getValue(),
+                HttpStatus.BAD_REQUEST.value()
+        );
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    /**
+     * Handles requests rejected because a downstream resource is saturated.
+     *
+     * @param ex The exception
+     * @return 429 Too Many Requests or 503 Service Unavailable with a Retry-After header
+     */
+    @ExceptionHandler(OverloadedException.class)
+    public ResponseEntity<ApiResponse> handleOverloadedException(OverloadedException ex) {
+        HttpStatus status = ex.getReason() == OverloadedException.Reason.THROTTLED
+                ? HttpStatus.TOO_MANY_REQUESTS
+                : HttpStatus.SERVICE_UNAVAILABLE;
+
+        log.warn("Request rejected ({}): {}", status.value(), ex.getMessage());
+
+        ApiResponse response = ApiResponse.error(ex.getMessage(), status.value());
+
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     /**
      * Handles all other uncaught exceptions.
      *
@@ -0,0 +1,64 @@
+package com.sportygroup.betsettler.controller;
+
+import com.sportygroup.betsettler.dto.BetHistoryPage;
+import com.sportygroup.betsettler.dto.UserBetSummaryDTO;
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.service.BetHistoryService;
+import com.sportygroup.betsettler.service.UserBetSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for reading a user's bets.
+ */
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+@Slf4j
+public class UserBetController {
+
+    private final BetHistoryService betHistoryService;
+    private final UserBetSummaryService userBetSummaryService;
+
+    /**
+     * Returns a page of the user's bets, newest first.
+     *
+     * GET /api/users/{userId}/bets?status=PENDING&amp;size=50&amp;cursor=...
+     *
+     * @param userId The user identifier
+     * @param status Optional status filter
+     * @param cursor Cursor returned as nextCursor by the previous page
+     * @param size Optional page size
+     * @return 200 OK with the page
+     */
+    @GetMapping("/{userId}/bets")
+    public ResponseEntity<BetHistoryPage> getUserBets(
+            @PathVariable String userId,
+            @RequestParam(required = false) BetStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        log.debug("Received bet history request - User: {}, Status: {}", userId, status);
+
+        return ResponseEntity.ok(betHistoryService.getUserBets(userId, status, cursor, size));
+    }
+
+    /**
+     * Returns the user's betting totals.
+     *
+     * GET /api/users/{userId}/summary
+     *
+     * @param userId The user identifier
+     * @return 200 OK with the totals (all zero for users without bets)
+     */
+    @GetMapping("/{userId}/summary")
+    public ResponseEntity<UserBetSummaryDTO> getUserSummary(@PathVariable String userId) {
+        return ResponseEntity.ok(userBetSummaryService.getSummary(userId));
+    }
+}
@@ -0,0 +1,89 @@
+package com.sportygroup.betsettler.dto;
+
+import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.entity.BetStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A single bet in a user's bet history.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BetHistoryItem {
+
+    /**
+     * Unique identifier of the bet
+     */
+    private Long betId;
+
+    /**
+     * Event the bet is for
+     */
+    private String eventId;
+
+    /**
+     * Market of the bet
+     */
+    private String eventMarketId;
+
+    /**
+     * Predicted winner
+     */
+    private String eventWinnerId;
+
+    /**
+     * Amount wagered
+     */
+    private BigDecimal betAmount;
+
+    /**
+     * Decimal odds of the bet (null if placed without odds)
+     */
+    private BigDecimal odds;
+
+    /**
+     * Current status of the bet
+     */
+    private BetStatus status;
+
+    /**
+     * When the bet was placed
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * When the bet was settled (null while pending)
+     */
+    private LocalDateTime settledAt;
+
+    /**
+     * Number of times the bet has been settled (greater than 1 after an outcome correction)
+     */
+    private int settlementVersion;
+
+    /**
+     * Creates a history item from a bet entity
+     */
+    public static BetHistoryItem from(Bet bet) {
+        return BetHistoryItem.builder()
+                .betId(bet.getBetId())
+                .eventId(bet.getEventId())
+                .eventMarketId(bet.getEventMarketId())
+                .eventWinnerId(bet.getEventWinnerId())
+                .betAmount(bet.getBetAmount())
+                .odds(bet.getOdds())
+                .status(bet.getStatus())
+                .createdAt(bet.getCreatedAt())
+                .settledAt(bet.getSettledAt())
+                .settlementVersion(bet.getSettlementVersion())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.sportygroup.betsettler.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a user's bet history, newest bets first.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BetHistoryPage {
+
+    /**
+     * User the bets belong to
+     */
+    private String userId;
+
+    /**
+     * Bets on this page
+     */
+    private List<BetHistoryItem> bets;
+
+    /**
+     * Opaque cursor for the next page, null on the last page
+     */
+    private String nextCursor;
+
+    /**
+     * Whether older bets exist beyond this page
+     */
+    private boolean hasMore;
+}
@@ -0,0 +1,50 @@
+package com.sportygroup.betsettler.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response returned once placed bets have been written to the database.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BetPlacementResponse {
+
+    /**
+     * Response message
+     */
+    private String message;
+
+    /**
+     * Number of bets persisted
+     */
+    private Integer accepted;
+
+    /**
+     * Timestamp of the response
+     */
+    @Builder.Default
+    private LocalDateTime timestamp = LocalDateTime.now();
+
+    /**
+     * HTTP status code
+     */
+    private Integer status;
+
+    /**
+     * Creates a response for successfully persisted bets
+     */
+    public static BetPlacementResponse created(int accepted) {
+        return BetPlacementResponse.builder()
+                .message(accepted == 1 ? "Bet placed successfully" : "Bets placed successfully")
+                .accepted(accepted)
+                .status(201)
+                .build();
+    }
+}
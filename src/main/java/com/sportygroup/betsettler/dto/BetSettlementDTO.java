@@ -64,6 +64,19 @@ public class BetSettlementDTO implements Serializable {
     @JsonProperty("won")
     private Boolean won;
 
+    /**
+     * Decimal odds of the bet (null for bets placed without odds)
+     */
+    @JsonProperty("odds")
+    private BigDecimal odds;
+
+    /**
+     * Amount to pay out in minor currency units, stake included; 0 for lost
+     * bets and null for bets placed without odds
+     */
+    @JsonProperty("payoutMinorUnits")
+    private Long payoutMinorUnits;
+
     /**
      * Name of the event market
      */
@@ -8,6 +8,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * Data Transfer Object for Event Outcome messages.
@@ -22,6 +25,21 @@ public class EventOutcomeDTO implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Maximum number of market results of one outcome
+     */
+    public static final int MAX_MARKET_RESULTS = 100;
+
+    /**
+     * Maximum length of a market ID or result, as stored on a bet
+     */
+    public static final int MAX_MARKET_VALUE_LENGTH = 50;
+
+    /**
+     * Maximum length of {@link #marketResultsKey()} for market results within the limits above
+     */
+    public static final int MAX_MARKET_RESULTS_KEY_LENGTH = MAX_MARKET_RESULTS * (2 * MAX_MARKET_VALUE_LENGTH + 2);
+
     /**
      * Unique identifier of the event
      */
@@ -42,4 +60,84 @@ public class EventOutcomeDTO implements Serializable {
     @NotBlank(message = "Event winner ID is required")
     @JsonProperty("eventWinnerId")
     private String eventWinnerId;
+
+    /**
+     * Result of each market of the event, keyed by market ID (e.g.,
+     * MATCH_WINNER -> TEAM-A, OVER_UNDER_2_5 -> OVER). When empty, every
+     * market is settled against {@link #eventWinnerId}.
+     */
+    @JsonProperty("marketResults")
+    private Map<String, String> marketResults;
+
+    /**
+     * Returns the winning selection of a market.
+     *
+     * @param eventMarketId The market identifier
+     * @return The market's result, or null if this outcome does not settle the market
+     */
+    public String resultFor(String eventMarketId) {
+        if (marketResults == null || marketResults.isEmpty()) {
+            return eventWinnerId;
+        }
+        return marketResults.get(eventMarketId);
+    }
+
+    /**
+     * Returns the market results in canonical form, sorted by market (e.g.,
+     * MATCH_WINNER=TEAM-A;OVER_UNDER_2_5=OVER).
+     *
+     * Market IDs and results are not escaped; publication requests
+     * containing ';' or '=' in either are rejected.
+     *
+     * @return The market results, or null if every market is settled against the winner
+     */
+    public String marketResultsKey() {
+        if (marketResults == null || marketResults.isEmpty()) {
+            return null;
+        }
+        return new TreeMap<>(marketResults).entrySet().stream()
+                .map(result -> result.getKey() + "=" + result.getValue())
+                .collect(Collectors.joining(";"));
+    }
+
+    /**
+     * Parses market results in the canonical form of {@link #marketResultsKey()}.
+     *
+     * @param marketResultsKey The canonical market results, or null
+     * @return The market results keyed by market ID; empty if every market is settled against the winner
+     */
+    public static Map<String, String> parseMarketResults(String marketResultsKey) {
+        Map<String, String> results = new TreeMap<>();
+        if (marketResultsKey == null || marketResultsKey.isEmpty()) {
+            return results;
+        }
+        for (String result : marketResultsKey.split(";")) {
+            int separator = result.indexOf('=');
+            results.put(result.substring(0, separator), result.substring(separator + 1));
+        }
+        return results;
+    }
+
+    /**
+     * Returns the identity of this outcome: its winner and the markets it resolves.
+     *
+     * Two outcomes of an event with the same winner but different market
+     * results settle different bets, so they must not be taken for one another.
+     *
+     * @return The outcome's result key
+     */
+    public String resultKey() {
+        return resultKey(eventWinnerId, marketResultsKey());
+    }
+
+    /**
+     * Builds the result key of an outcome from its winner and canonical market results.
+     *
+     * @param eventWinnerId The winner of the outcome
+     * @param marketResultsKey The market results as returned by {@link #marketResultsKey()}, or null
+     * @return The outcome's result key
+     */
+    public static String resultKey(String eventWinnerId, String marketResultsKey) {
+        return marketResultsKey == null ? eventWinnerId : eventWinnerId + "|" + marketResultsKey;
+    }
 }
@@ -0,0 +1,68 @@
+package com.sportygroup.betsettler.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-item result of a batch outcome publication.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OutcomeBatchItemResult {
+
+    /**
+     * Result of a single item
+     */
+    public enum Status {
+        /**
+         * Outcome was acknowledged by Kafka
+         */
+        ACCEPTED,
+
+        /**
+         * Outcome failed validation and was not sent
+         */
+        REJECTED,
+
+        /**
+         * Outcome was valid but the Kafka send failed
+         */
+        FAILED
+    }
+
+    /**
+     * Zero-based position of the item in the request body
+     */
+    private Integer index;
+
+    /**
+     * Event ID of the item (if present)
+     */
+    private String eventId;
+
+    /**
+     * Result of the item
+     */
+    private Status status;
+
+    /**
+     * Reason for rejection or failure
+     */
+    private String message;
+
+    /**
+     * Kafka partition the outcome was written to
+     */
+    private Integer partition;
+
+    /**
+     * Kafka offset the outcome was written at
+     */
+    private Long offset;
+}
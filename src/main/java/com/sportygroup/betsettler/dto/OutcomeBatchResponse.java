@@ -0,0 +1,57 @@
+package com.sportygroup.betsettler.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response of a batch outcome publication.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OutcomeBatchResponse {
+
+    /**
+     * Number of items read from the request body
+     */
+    private Integer total;
+
+    /**
+     * Number of items acknowledged by Kafka
+     */
+    private Integer accepted;
+
+    /**
+     * Number of items that failed validation
+     */
+    private Integer rejected;
+
+    /**
+     * Number of valid items whose Kafka send failed
+     */
+    private Integer failed;
+
+    /**
+     * Parse error that stopped reading the body (items before it were still processed)
+     */
+    private String error;
+
+    /**
+     * Per-item results, in request order
+     */
+    private List<OutcomeBatchItemResult> results;
+
+    /**
+     * Timestamp of the response
+     */
+    @Builder.Default
+    private LocalDateTime timestamp = LocalDateTime.now();
+}
@@ -0,0 +1,49 @@
+package com.sportygroup.betsettler.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response of an outcome correction.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutcomeCorrectionResponse {
+
+    /**
+     * Identifier of the corrected event
+     */
+    private String eventId;
+
+    /**
+     * Corrected winner of the event
+     */
+    private String eventWinnerId;
+
+    /**
+     * Number of bets changed from WON to LOST
+     */
+    private Integer wonToLost;
+
+    /**
+     * Number of bets changed from LOST to WON
+     */
+    private Integer lostToWon;
+
+    /**
+     * Number of distinct users whose bets changed
+     */
+    private Integer usersAffected;
+
+    /**
+     * Timestamp of the response
+     */
+    @Builder.Default
+    private LocalDateTime timestamp = LocalDateTime.now();
+}
@@ -0,0 +1,27 @@
+package com.sportygroup.betsettler.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for placing several bets in one REST call.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlaceBetBatchRequest {
+
+    /**
+     * Bets to place
+     */
+    @NotEmpty(message = "Bets cannot be empty")
+    @Valid
+    private List<PlaceBetRequest> bets;
+}
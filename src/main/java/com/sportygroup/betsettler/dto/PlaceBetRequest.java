@@ -0,0 +1,66 @@
+package com.sportygroup.betsettler.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO for placing a bet via REST API or the bet-placements topic.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlaceBetRequest {
+
+    /**
+     * Identifier of the user placing the bet
+     */
+    @NotBlank(message = "User ID cannot be blank")
+    @Size(max = 50, message = "User ID cannot exceed 50 characters")
+    private String userId;
+
+    /**
+     * Identifier of the event the bet is for
+     */
+    @NotBlank(message = "Event ID cannot be blank")
+    @Size(max = 50, message = "Event ID cannot exceed 50 characters")
+    private String eventId;
+
+    /**
+     * Type of market (e.g., MATCH_WINNER, OVER_UNDER, etc.)
+     */
+    @NotBlank(message = "Event market ID cannot be blank")
+    @Size(max = 50, message = "Event market ID cannot exceed 50 characters")
+    private String eventMarketId;
+
+    /**
+     * The predicted winner or outcome
+     */
+    @NotBlank(message = "Event winner ID cannot be blank")
+    @Size(max = 50, message = "Event winner ID cannot exceed 50 characters")
+    private String eventWinnerId;
+
+    /**
+     * Amount wagered on this bet
+     */
+    @NotNull(message = "Bet amount is required")
+    @DecimalMin(value = "0.01", message = "Bet amount must be at least 0.01")
+    @Digits(integer = 8, fraction = 2, message = "Bet amount must have at most 8 integer and 2 fraction digits")
+    private BigDecimal betAmount;
+
+    /**
+     * Decimal odds accepted by the user (e.g., 2.5 pays 2.5 times the stake)
+     */
+    @DecimalMin(value = "1.0001", message = "Odds must be greater than 1")
+    @Digits(integer = 4, fraction = 4, message = "Odds must have at most 4 integer and 4 fraction digits")
+    private BigDecimal odds;
+}
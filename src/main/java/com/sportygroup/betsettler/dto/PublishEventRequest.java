@@ -1,11 +1,15 @@
 package com.sportygroup.betsettler.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 /**
  * Request DTO for publishing event outcomes via REST API.
  */
@@ -32,4 +36,29 @@ public class PublishEventRequest {
      */
     @NotBlank(message = "Event winner ID cannot be blank")
     private String eventWinnerId;
+
+    /**
+     * Optional result of each market, keyed by market ID; markets not listed stay pending.
+     * Market IDs and results are stored joined by ';' and '=', so they may not contain either
+     */
+    @Size(max = EventOutcomeDTO.MAX_MARKET_RESULTS,
+            message = "Market results cannot exceed " + EventOutcomeDTO.MAX_MARKET_RESULTS + " markets")
+    private Map<@NotBlank(message = "Market ID cannot be blank")
+            @Size(max = EventOutcomeDTO.MAX_MARKET_VALUE_LENGTH, message = "Market ID cannot exceed 50 characters")
+            @Pattern(regexp = "[^;=]*", message = "Market ID cannot contain ';' or '='") String,
+            @NotBlank(message = "Market result cannot be blank")
+            @Size(max = EventOutcomeDTO.MAX_MARKET_VALUE_LENGTH, message = "Market result cannot exceed 50 characters")
+            @Pattern(regexp = "[^;=]*", message = "Market result cannot contain ';' or '='") String> marketResults;
+
+    /**
+     * Converts this request into the Kafka message format
+     */
+    public EventOutcomeDTO toEventOutcome() {
+        return EventOutcomeDTO.builder()
+                .eventId(eventId)
+                .eventName(eventName)
+                .eventWinnerId(eventWinnerId)
+                .marketResults(marketResults)
+                .build();
+    }
 }
@@ -0,0 +1,101 @@
+package com.sportygroup.betsettler.dto;
+
+import com.sportygroup.betsettler.entity.UserBetSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Per-user betting totals returned by the summary endpoint.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBetSummaryDTO {
+
+    /**
+     * Identifier of the user
+     */
+    private String userId;
+
+    /**
+     * Number of bets ever placed
+     */
+    private long totalCount;
+
+    /**
+     * Total amount ever staked
+     */
+    private BigDecimal totalStake;
+
+    /**
+     * Number of bets awaiting settlement
+     */
+    private long pendingCount;
+
+    /**
+     * Amount staked on bets awaiting settlement
+     */
+    private BigDecimal pendingStake;
+
+    /**
+     * Number of bets settled as won
+     */
+    private long wonCount;
+
+    /**
+     * Amount staked on bets settled as won
+     */
+    private BigDecimal wonStake;
+
+    /**
+     * Number of bets settled as lost
+     */
+    private long lostCount;
+
+    /**
+     * Amount staked on bets settled as lost
+     */
+    private BigDecimal lostStake;
+
+    /**
+     * Timestamp of the last change (null if the user has never bet)
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * Creates a DTO from a summary entity
+     */
+    public static UserBetSummaryDTO from(UserBetSummary summary) {
+        return UserBetSummaryDTO.builder()
+                .userId(summary.getUserId())
+                .totalCount(summary.getTotalCount())
+                .totalStake(summary.getTotalStake())
+                .pendingCount(summary.getPendingCount())
+                .pendingStake(summary.getPendingStake())
+                .wonCount(summary.getWonCount())
+                .wonStake(summary.getWonStake())
+                .lostCount(summary.getLostCount())
+                .lostStake(summary.getLostStake())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Creates an all-zero summary for a user without bets
+     */
+    public static UserBetSummaryDTO empty(String userId) {
+        return UserBetSummaryDTO.builder()
+                .userId(userId)
+                .totalStake(BigDecimal.ZERO)
+                .pendingStake(BigDecimal.ZERO)
+                .wonStake(BigDecimal.ZERO)
+                .lostStake(BigDecimal.ZERO)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -17,7 +18,9 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "bet", indexes = {
-        @Index(name = "idx_event_id_status", columnList = "eventId,status")
+        @Index(name = "idx_event_id_status", columnList = "eventId,status"),
+        @Index(name = "idx_user_id_created_at_bet_id", columnList = "userId,createdAt,betId"),
+        @Index(name = "idx_user_id_status_created_at_bet_id", columnList = "userId,status,createdAt,betId")
 })
 @Data
 @NoArgsConstructor
@@ -62,6 +65,12 @@ public class Bet {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal betAmount;
 
+    /**
+     * Decimal odds accepted when the bet was placed (null for bets placed without odds)
+     */
+    @Column(precision = 8, scale = 4)
+    private BigDecimal odds;
+
     /**
      * Current status of the bet
      */
@@ -82,6 +91,14 @@ public class Bet {
     @Column
     private LocalDateTime settledAt;
 
+    /**
+     * Number of times the bet has been settled; incremented by every settlement and outcome correction
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int settlementVersion = 0;
+
     /**
      * Pre-persist callback to set creation timestamp
      */
@@ -98,6 +115,7 @@ public class Bet {
     public void markAsWon() {
         this.status = BetStatus.WON;
         this.settledAt = LocalDateTime.now();
+        this.settlementVersion++;
     }
 
     /**
@@ -106,5 +124,6 @@ public class Bet {
     public void markAsLost() {
         this.status = BetStatus.LOST;
         this.settledAt = LocalDateTime.now();
+        this.settlementVersion++;
     }
 }
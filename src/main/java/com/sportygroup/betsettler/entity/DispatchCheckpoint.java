@@ -0,0 +1,73 @@
+package com.sportygroup.betsettler.entity;
+
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity recording how far settlement dispatch of an event has progressed.
+ *
+ * Settlements are dispatched in betId order, so the last dispatched betId
+ * is enough to resume an interrupted event without re-sending bets that
+ * already went out.
+ */
+@Entity
+@Table(name = "dispatch_checkpoint")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DispatchCheckpoint {
+
+    /**
+     * Identifier of the event being dispatched
+     */
+    @Id
+    @Column(length = 50)
+    private String eventId;
+
+    /**
+     * Winner of the outcome being dispatched; a different winner means a
+     * corrected outcome, for which this checkpoint does not apply
+     */
+    @Column(nullable = false, length = 50)
+    private String eventWinnerId;
+
+    /**
+     * Market results of the outcome being dispatched, in the canonical form
+     * of {@code EventOutcomeDTO.marketResultsKey()}; null when every market
+     * was settled against the winner. An outcome resolving other markets is
+     * a different outcome, for which this checkpoint does not apply either
+     */
+    @Column(length = EventOutcomeDTO.MAX_MARKET_RESULTS_KEY_LENGTH)
+    private String marketResults;
+
+    /**
+     * Highest betId whose settlement has been dispatched
+     */
+    @Column(nullable = false)
+    private Long lastBetId;
+
+    /**
+     * Number of settlements dispatched for this outcome so far
+     */
+    @Column(nullable = false)
+    private Long dispatchedCount;
+
+    /**
+     * Whether every matched bet had been dispatched when this was written
+     */
+    @Column(nullable = false)
+    private boolean completed;
+
+    /**
+     * Timestamp of the last update
+     */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,87 @@
+package com.sportygroup.betsettler.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity holding running per-user betting totals.
+ *
+ * This is a read model: it is never recomputed from the bet table but
+ * adjusted by deltas in the same transaction that places or settles bets,
+ * so reading a user's figures is a single primary-key lookup.
+ */
+@Entity
+@Table(name = "user_bet_summary")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBetSummary {
+
+    /**
+     * Identifier of the user
+     */
+    @Id
+    @Column(length = 50)
+    private String userId;
+
+    /**
+     * Number of bets ever placed
+     */
+    @Column(nullable = false)
+    private long totalCount;
+
+    /**
+     * Total amount ever staked
+     */
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalStake;
+
+    /**
+     * Number of bets awaiting settlement
+     */
+    @Column(nullable = false)
+    private long pendingCount;
+
+    /**
+     * Amount staked on bets awaiting settlement
+     */
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal pendingStake;
+
+    /**
+     * Number of bets settled as won
+     */
+    @Column(nullable = false)
+    private long wonCount;
+
+    /**
+     * Amount staked on bets settled as won
+     */
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal wonStake;
+
+    /**
+     * Number of bets settled as lost
+     */
+    @Column(nullable = false)
+    private long lostCount;
+
+    /**
+     * Amount staked on bets settled as lost
+     */
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal lostStake;
+
+    /**
+     * Timestamp of the last update
+     */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,36 @@
+package com.sportygroup.betsettler.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a request is rejected because a downstream resource is saturated.
+ *
+ * Carries a retry hint so the REST layer can answer with a Retry-After header
+ * instead of holding the request thread until capacity frees up.
+ */
+@Getter
+public class OverloadedException extends RuntimeException {
+
+    /**
+     * Whether the caller is being throttled (429) or the service is unavailable (503)
+     */
+    public enum Reason {
+        THROTTLED,
+        UNAVAILABLE
+    }
+
+    private final Reason reason;
+    private final long retryAfterSeconds;
+
+    public OverloadedException(String message, Reason reason, long retryAfterSeconds) {
+        super(message);
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public OverloadedException(String message, Reason reason, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,436 @@
+package com.sportygroup.betsettler.journal;
+
+import com.sportygroup.betsettler.config.SettlementJournalConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, memory-mapped journal of committed settlements.
+ *
+ * Records are written into fixed-size segment files mapped into memory, so
+ * an append is a copy into the page cache. A background thread forces the
+ * written range to disk every {@code flushIntervalMs}; every record
+ * appended in between shares that one fsync (group commit). Callers that
+ * need durability wait for their position with {@link #awaitFlushed(long)}.
+ *
+ * Positions are logical byte offsets across all segments; a segment file
+ * is named after the position of its first record. Each record is
+ * {@code [length][crc32][payload]}; a zero length marks the end of a
+ * segment, and a record whose checksum does not match (a write torn by a
+ * crash) ends the journal and is overwritten by the next append. Reading
+ * is a sequential scan of the mapped segments.
+ */
+@Component
+@Slf4j
+public class SettlementJournal {
+
+    static final String SEGMENT_SUFFIX = ".journal";
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_PAYLOAD_BYTES = 64 * 1024;
+
+    /**
+     * One committed settlement.
+     *
+     * @param betId The settled bet
+     * @param eventId The bet's event
+     * @param userId The bet's user
+     * @param won Whether the bet was won
+     * @param payoutMinorUnits Payout in minor units, or null if the bet had no odds
+     * @param settledAt When the bet was settled
+     */
+    public record Entry(long betId, String eventId, String userId, boolean won, Long payoutMinorUnits,
+                        LocalDateTime settledAt) {
+    }
+
+    private final SettlementJournalConfig config;
+    private final Counter appendedCounter;
+    private final Object flushLock = new Object();
+    private final ByteBuffer scratch = ByteBuffer.allocate(MAX_PAYLOAD_BYTES);
+    private final CRC32 crc = new CRC32();
+    private Path directory;
+    private Segment segment;
+    private volatile long writePosition;
+    private volatile long flushedPosition;
+    private volatile boolean running;
+    private Thread flusher;
+
+    public SettlementJournal(SettlementJournalConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.appendedCounter = meterRegistry.counter("settlement.journal.records");
+        Gauge.builder("settlement.journal.unflushed.bytes", this, j -> j.writePosition - j.flushedPosition)
+                .description("Journal bytes appended but not yet forced to disk")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens the last segment and starts the flusher if the journal is enabled.
+     */
+    @PostConstruct
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            directory = Paths.get(config.getDirectory());
+            Files.createDirectories(directory);
+            List<Path> segments = segmentFiles(directory);
+            long base = segments.isEmpty() ? 0L : baseOf(segments.get(segments.size() - 1));
+            segment = openSegment(base);
+            segment.offset = recover(segment.buffer);
+            writePosition = base + segment.offset;
+            flushedPosition = writePosition;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open settlement journal in " + config.getDirectory(), e);
+        }
+
+        running = true;
+        flusher = new Thread(this::runFlusher, "settlement-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Settlement journal opened - Directory: {}, Position: {}, Segment size: {}, Flush interval: {}ms",
+                directory.toAbsolutePath(), writePosition, config.getSegmentSizeBytes(), config.getFlushIntervalMs());
+    }
+
+    /**
+     * Whether settlements should be appended.
+     */
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * Whether callers should wait for their records to be forced to disk.
+     */
+    public boolean isAwaitFlush() {
+        return config.isAwaitFlush();
+    }
+
+    /**
+     * Appends settlements to the journal.
+     *
+     * @param entries The settlements to append, in commit order
+     * @return The position after the last appended record
+     * @throws IllegalStateException if the journal is not open
+     */
+    public synchronized long append(List<Entry> entries) {
+        if (!running) {
+            throw new IllegalStateException("Settlement journal is not open");
+        }
+        for (Entry entry : entries) {
+            ByteBuffer payload = encode(entry);
+            int length = payload.remaining();
+            if (segment.offset + HEADER_BYTES + length > segment.buffer.capacity()) {
+                roll();
+            }
+            crc.reset();
+            crc.update(payload.duplicate());
+
+            MappedByteBuffer buffer = segment.buffer;
+            buffer.putInt(segment.offset + 4, (int) crc.getValue());
+            buffer.put(segment.offset + HEADER_BYTES, payload, payload.position(), length);
+            // Length last: a reader never sees a length before its payload has been copied
+            buffer.putInt(segment.offset, length);
+            segment.offset += HEADER_BYTES + length;
+        }
+        writePosition = segment.base + segment.offset;
+        appendedCounter.increment(entries.size());
+        return writePosition;
+    }
+
+    /**
+     * Waits until every record up to a position has been forced to disk.
+     *
+     * @param position A position returned by {@link #append(List)}
+     * @return true once flushed, false if the journal closed or the wait was interrupted first
+     */
+    public boolean awaitFlushed(long position) {
+        synchronized (flushLock) {
+            while (flushedPosition < position) {
+                if (!running) {
+                    return false;
+                }
+                try {
+                    flushLock.wait(Math.max(1, config.getFlushIntervalMs()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Reads the journal sequentially from a position.
+     *
+     * @param fromPosition Position to start at (0 for the beginning)
+     * @param consumer Receives each record in append order
+     * @return The position after the last record read
+     */
+    public long read(long fromPosition, Consumer<Entry> consumer) {
+        return read(Paths.get(config.getDirectory()), fromPosition, consumer);
+    }
+
+    /**
+     * Reads the journal in a directory sequentially from a position, without opening it for writing.
+     *
+     * @param directory The journal directory
+     * @param fromPosition Position to start at (0 for the beginning)
+     * @param consumer Receives each record in append order
+     * @return The position after the last record read
+     */
+    public static long read(Path directory, long fromPosition, Consumer<Entry> consumer) {
+        long position = fromPosition;
+        try {
+            List<Path> segments = segmentFiles(directory);
+            for (int i = 0; i < segments.size(); i++) {
+                long base = baseOf(segments.get(i));
+                long nextBase = i + 1 < segments.size() ? baseOf(segments.get(i + 1)) : Long.MAX_VALUE;
+                if (nextBase <= fromPosition) {
+                    continue;
+                }
+                try (FileChannel channel = FileChannel.open(segments.get(i), StandardOpenOption.READ)) {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    int offset = (int) Math.max(0, fromPosition - base);
+                    while (true) {
+                        int length = validLength(buffer, offset);
+                        if (length <= 0) {
+                            break;
+                        }
+                        consumer.accept(decode(buffer.slice(offset + HEADER_BYTES, length)));
+                        offset += HEADER_BYTES + length;
+                        position = base + offset;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read settlement journal in " + directory, e);
+        }
+        return position;
+    }
+
+    /**
+     * Returns the journal's positions and segment count.
+     */
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", running);
+        status.put("directory", config.getDirectory());
+        status.put("writePosition", writePosition);
+        status.put("flushedPosition", flushedPosition);
+        if (directory != null) {
+            try {
+                status.put("segments", segmentFiles(directory).size());
+            } catch (IOException e) {
+                status.put("segments", "unavailable: " + e.getMessage());
+            }
+        }
+        return status;
+    }
+
+    private void runFlusher() {
+        while (running) {
+            try {
+                Thread.sleep(Math.max(1, config.getFlushIntervalMs()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            flush();
+        }
+    }
+
+    /**
+     * Forces everything appended to the current segment so far to disk.
+     */
+    void flush() {
+        Segment current;
+        int from;
+        int to;
+        synchronized (this) {
+            current = segment;
+            from = (int) Math.max(0, flushedPosition - current.base);
+            to = current.offset;
+        }
+        if (to > from) {
+            current.buffer.force(from, to - from);
+            markFlushed(current.base + to);
+        }
+    }
+
+    private void markFlushed(long position) {
+        synchronized (flushLock) {
+            if (position > flushedPosition) {
+                flushedPosition = position;
+            }
+            flushLock.notifyAll();
+        }
+    }
+
+    /**
+     * Forces the full segment and starts the next one where it ended. Called with the append lock held.
+     */
+    private void roll() {
+        segment.buffer.force();
+        long nextBase = segment.base + segment.offset;
+        markFlushed(nextBase);
+        try {
+            segment = openSegment(nextBase);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start settlement journal segment at " + nextBase, e);
+        }
+        log.info("Started settlement journal segment - Position: {}", nextBase);
+    }
+
+    private Segment openSegment(long base) throws IOException {
+        Path file = directory.resolve(String.format("%020d%s", base, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            return new Segment(base, channel.map(FileChannel.MapMode.READ_WRITE, 0, config.getSegmentSizeBytes()));
+        }
+    }
+
+    /**
+     * Finds the end of the valid records of a segment and clears anything after it.
+     */
+    private int recover(MappedByteBuffer buffer) {
+        int offset = 0;
+        int length;
+        while ((length = validLength(buffer, offset)) > 0) {
+            offset += HEADER_BYTES + length;
+        }
+        if (offset + 4 <= buffer.capacity() && buffer.getInt(offset) != 0) {
+            log.warn("Discarding torn settlement journal record - Offset: {}", offset);
+            for (int i = offset; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+        return offset;
+    }
+
+    /**
+     * Returns the payload length of the record at an offset, or 0 if there is no intact record there.
+     */
+    private static int validLength(ByteBuffer buffer, int offset) {
+        if (offset + HEADER_BYTES > buffer.capacity()) {
+            return 0;
+        }
+        int length = buffer.getInt(offset);
+        if (length <= 0 || length > MAX_PAYLOAD_BYTES || offset + HEADER_BYTES + length > buffer.capacity()) {
+            return 0;
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.slice(offset + HEADER_BYTES, length));
+        return (int) checksum.getValue() == buffer.getInt(offset + 4) ? length : 0;
+    }
+
+    private ByteBuffer encode(Entry entry) {
+        byte[] eventId = bytes(entry.eventId());
+        byte[] userId = bytes(entry.userId());
+        scratch.clear();
+        scratch.putLong(entry.betId());
+        scratch.putLong(entry.settledAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+        scratch.put((byte) (entry.won() ? 1 : 0));
+        scratch.putLong(entry.payoutMinorUnits() != null ? entry.payoutMinorUnits() : -1L);
+        scratch.putShort((short) eventId.length).put(eventId);
+        scratch.putShort((short) userId.length).put(userId);
+        return scratch.flip();
+    }
+
+    private static Entry decode(ByteBuffer payload) {
+        long betId = payload.getLong();
+        LocalDateTime settledAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(payload.getLong()), ZoneOffset.UTC);
+        boolean won = payload.get() == 1;
+        long payout = payload.getLong();
+        String eventId = string(payload);
+        String userId = string(payload);
+        return new Entry(betId, eventId, userId, won, payout >= 0 ? payout : null, settledAt);
+    }
+
+    private static byte[] bytes(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    private static String string(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.getShort()];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static List<Path> segmentFiles(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long baseOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Forces the remaining records to disk and stops the flusher.
+     */
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.interrupt();
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        synchronized (flushLock) {
+            flushLock.notifyAll();
+        }
+        log.info("Settlement journal closed - Position: {}", writePosition);
+    }
+
+    private static class Segment {
+        private final long base;
+        private final MappedByteBuffer buffer;
+        private int offset;
+
+        private Segment(long base, MappedByteBuffer buffer) {
+            this.base = base;
+            this.buffer = buffer;
+        }
+    }
+}
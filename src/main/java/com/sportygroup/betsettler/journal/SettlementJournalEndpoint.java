@@ -0,0 +1,36 @@
+package com.sportygroup.betsettler.journal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint for the settlement journal.
+ *
+ * GET /actuator/settlementjournal shows the journal positions,
+ * POST with {"fromPosition": n} replays the journal into the database
+ * (from the beginning when fromPosition is omitted).
+ */
+@Component
+@Endpoint(id = "settlementjournal")
+@RequiredArgsConstructor
+public class SettlementJournalEndpoint {
+
+    private final SettlementJournal journal;
+    private final SettlementJournalReplayer replayer;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return journal.status();
+    }
+
+    @WriteOperation
+    public SettlementJournalReplayer.ReplayResult replay(@Nullable Long fromPosition) {
+        return replayer.replay(fromPosition != null ? fromPosition : 0L);
+    }
+}
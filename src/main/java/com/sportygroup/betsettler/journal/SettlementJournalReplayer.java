@@ -0,0 +1,144 @@
+package com.sportygroup.betsettler.journal;
+
+import com.sportygroup.betsettler.config.SettlementJournalConfig;
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter.StatusChange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays the settlement journal into the database.
+ *
+ * Used to recover settlements after the bet table has been restored from
+ * an older backup. Records are read sequentially and applied in
+ * transactions of {@code replayBatchSize}. The journal holds both
+ * settlements and outcome corrections, so every bet ends with the status
+ * and time of its latest record: within a transaction only a bet's last
+ * record is applied, and only if it changes the bet's status. A replay can
+ * therefore be repeated or overlap settlements already in the table. The
+ * user bet summaries are adjusted in the same transactions.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SettlementJournalReplayer {
+
+    private static final String SELECT_SQL =
+            "SELECT bet_id, user_id, bet_amount, status FROM bet WHERE bet_id IN (%s) FOR UPDATE";
+
+    private static final String SETTLE_SQL =
+            "UPDATE bet SET status = ?, settled_at = ?, settlement_version = settlement_version + 1 "
+                    + "WHERE bet_id = ? AND status = ?";
+
+    private final SettlementJournal journal;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserBetSummaryWriter summaryWriter;
+    private final SettlementJournalConfig config;
+
+    /**
+     * Outcome of a replay.
+     *
+     * @param records Journal records read
+     * @param settled Bets whose status was changed from the journal
+     * @param position Journal position after the last record read
+     */
+    public record ReplayResult(long records, long settled, long position) {
+    }
+
+    /**
+     * Replays the journal from a position.
+     *
+     * @param fromPosition Position to start at (0 for the whole journal)
+     * @return Counts of records read and bets settled
+     */
+    public ReplayResult replay(long fromPosition) {
+        log.info("Replaying settlement journal - Directory: {}, From position: {}",
+                config.getDirectory(), fromPosition);
+        int batchSize = Math.max(1, config.getReplayBatchSize());
+        List<SettlementJournal.Entry> batch = new ArrayList<>(batchSize);
+        long[] counts = new long[2];
+
+        long position = journal.read(fromPosition, entry -> {
+            batch.add(entry);
+            counts[0]++;
+            if (batch.size() == batchSize) {
+                counts[1] += apply(batch);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            counts[1] += apply(batch);
+        }
+
+        log.info("Replayed settlement journal - Records: {}, Bets settled: {}, Position: {}",
+                counts[0], counts[1], position);
+        return new ReplayResult(counts[0], counts[1], position);
+    }
+
+    private int apply(List<SettlementJournal.Entry> batch) {
+        // A later record of a bet, such as a correction, replaces the earlier ones
+        Map<Long, SettlementJournal.Entry> latest = new LinkedHashMap<>();
+        batch.forEach(entry -> latest.put(entry.betId(), entry));
+
+        Integer settled = transactionTemplate.execute(tx -> {
+            Map<Long, CurrentBet> bets = load(latest.keySet());
+            List<Update> toSettle = new ArrayList<>();
+            List<StatusChange> changes = new ArrayList<>();
+            for (SettlementJournal.Entry entry : latest.values()) {
+                CurrentBet bet = bets.get(entry.betId());
+                if (bet != null && bet.status() != status(entry)) {
+                    toSettle.add(new Update(entry, bet.status()));
+                    changes.add(new StatusChange(bet.userId(), bet.amount(), bet.status(), status(entry)));
+                }
+            }
+            if (toSettle.isEmpty()) {
+                return 0;
+            }
+
+            jdbcTemplate.batchUpdate(SETTLE_SQL, toSettle, toSettle.size(), (statement, update) -> {
+                statement.setString(1, status(update.entry()).name());
+                statement.setTimestamp(2, Timestamp.valueOf(update.entry().settledAt()));
+                statement.setLong(3, update.entry().betId());
+                statement.setString(4, update.from().name());
+            });
+            summaryWriter.recordStatusChanges(changes);
+            return toSettle.size();
+        });
+        return settled != null ? settled : 0;
+    }
+
+    private Map<Long, CurrentBet> load(Collection<Long> betIds) {
+        String placeholders = String.join(", ", Collections.nCopies(betIds.size(), "?"));
+        Map<Long, CurrentBet> bets = new HashMap<>();
+        jdbcTemplate.query(String.format(SELECT_SQL, placeholders), rs -> {
+            bets.put(rs.getLong(1), new CurrentBet(rs.getString(2), rs.getBigDecimal(3),
+                    BetStatus.valueOf(rs.getString(4))));
+        }, betIds.toArray());
+        return bets;
+    }
+
+    private static BetStatus status(SettlementJournal.Entry entry) {
+        return entry.won() ? BetStatus.WON : BetStatus.LOST;
+    }
+
+    private record CurrentBet(String userId, BigDecimal amount, BetStatus status) {
+    }
+
+    private record Update(SettlementJournal.Entry entry, BetStatus from) {
+    }
+}
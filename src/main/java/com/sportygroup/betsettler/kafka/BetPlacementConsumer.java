@@ -0,0 +1,82 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.dto.PlaceBetRequest;
+import com.sportygroup.betsettler.service.BetPlacementService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Kafka consumer for bet placement messages.
+ *
+ * Each polled batch is validated and written as one group commit. Invalid
+ * or undeserializable records are logged and skipped so that they do not
+ * block the partition. A batch whose write fails is retried by the
+ * container's error handler and then dead-lettered.
+ *
+ * Activated when application.bet-ingestion.kafka.enabled=true
+ */
+@Component
+@ConditionalOnProperty(name = "application.bet-ingestion.kafka.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class BetPlacementConsumer {
+
+    private final BetPlacementService betPlacementService;
+    private final Validator validator;
+
+    /**
+     * Consumes a batch of bet placements from Kafka.
+     *
+     * The batch is acknowledged only after the bets are committed to the database;
+     * a failed write is rethrown to the container's error handler.
+     *
+     * @param requests The bet placements in this poll
+     * @param acknowledgment Manual acknowledgment handle
+     */
+    @KafkaListener(
+            topics = "${application.kafka.topics.bet-placements}",
+            containerFactory = "betPlacementListenerContainerFactory"
+    )
+    public void consumeBetPlacements(@Payload List<PlaceBetRequest> requests, Acknowledgment acknowledgment) {
+        List<PlaceBetRequest> valid = new ArrayList<>(requests.size());
+        for (PlaceBetRequest request : requests) {
+            if (request == null) {
+                log.warn("Skipping bet placement that could not be deserialized");
+                continue;
+            }
+            Set<ConstraintViolation<PlaceBetRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                log.warn("Skipping invalid bet placement - User: {}, Event: {}, Violations: {}",
+                        request.getUserId(), request.getEventId(), violations.size());
+                continue;
+            }
+            valid.add(request);
+        }
+
+        if (!valid.isEmpty()) {
+            try {
+                int persisted = betPlacementService.placeBets(valid).join();
+                log.debug("Persisted {} bets from Kafka batch of {}", persisted, requests.size());
+            } catch (RuntimeException e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                log.error("Failed to persist Kafka batch of {} bet placements - Error: {}",
+                        requests.size(), cause.getMessage());
+                throw new IllegalStateException("Failed to persist bet placements", cause);
+            }
+        }
+
+        acknowledgment.acknowledge();
+    }
+}
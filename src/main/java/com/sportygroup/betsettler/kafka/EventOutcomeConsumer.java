@@ -1,11 +1,17 @@
 package com.sportygroup.betsettler.kafka;
 
+import com.sportygroup.betsettler.cache.SettledEventCache;
 import com.sportygroup.betsettler.dto.BetSettlementDTO;
 import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.entity.DispatchCheckpoint;
+import com.sportygroup.betsettler.repository.PreloadedPendingBets;
 import com.sportygroup.betsettler.rocketmq.BetSettlementProducer;
 import com.sportygroup.betsettler.service.BetMatchingService;
+import com.sportygroup.betsettler.service.DispatchCheckpointService;
+import com.sportygroup.betsettler.service.SettlementBatch;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -14,6 +20,7 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Kafka consumer for event outcome messages.
@@ -26,8 +33,19 @@ import java.util.List;
 @Slf4j
 public class EventOutcomeConsumer {
 
+    /**
+     * Listener container id, used to look the container up in the endpoint registry
+     */
+    public static final String LISTENER_ID = "eventOutcomeListener";
+
     private final BetMatchingService betMatchingService;
     private final BetSettlementProducer betSettlementProducer;
+    private final KeyOrderedProcessor keyOrderedProcessor;
+    private final FairSettlementScheduler fairSettlementScheduler;
+    private final OutcomeDeadLetterPublisher deadLetterPublisher;
+    private final DispatchCheckpointService checkpointService;
+    private final SettledEventCache settledEventCache;
+    private final PartitionPendingBetCache partitionPendingBetCache;
 
     /**
      * Consumes event outcome messages from Kafka.
@@ -38,52 +56,56 @@ public class EventOutcomeConsumer {
      * 3. Sends settlement messages to RocketMQ
      *
      * Uses manual acknowledgment to ensure message processing reliability.
+     * A failure is rethrown so the record is forwarded to the retry topics
+     * and, once those are exhausted, to the dead-letter topic.
+     * In key-ordered mode the record is handed to {@link KeyOrderedProcessor}
+     * and acknowledged once it and every earlier offset have completed.
+     * In fair mode the outcome is dispatched in chunks by
+     * {@link FairSettlementScheduler}, taking turns with other events.
      *
      * @param eventOutcome The event outcome message
+     * @param topic The Kafka topic, the main topic or one of its retry topics
      * @param partition The Kafka partition
      * @param offset The message offset
      * @param acknowledgment Manual acknowledgment handle
      */
     @KafkaListener(
+            id = LISTENER_ID,
             topics = "${application.kafka.topics.event-outcomes}",
             groupId = "${spring.kafka.consumer.group-id}",
             containerFactory = "kafkaListenerContainerFactory"
     )
     public void consumeEventOutcome(
             @Payload EventOutcomeDTO eventOutcome,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
             Acknowledgment acknowledgment) {
 
-        log.info("Received event outcome from Kafka - Event ID: {}, Winner: {}, Partition: {}, Offset: {}",
-                eventOutcome.getEventId(), eventOutcome.getEventWinnerId(), partition, offset);
+        log.info("Received event outcome from Kafka - Event ID: {}, Winner: {}, Topic: {}, Partition: {}, Offset: {}",
+                eventOutcome.getEventId(), eventOutcome.getEventWinnerId(), topic, partition, offset);
+
+        if (fairSettlementScheduler.isEnabled()) {
+            // Acknowledged by the scheduler once every chunk and every earlier offset has completed
+            fairSettlementScheduler.submit(eventOutcome.getEventId(), new TopicPartition(topic, partition), offset,
+                    new OutcomeChunkJob(eventOutcome, betMatchingService, betSettlementProducer,
+                            checkpointService, settledEventCache, fairSettlementScheduler.getChunkSize()),
+                    e -> deadLetterPublisher.publish(eventOutcome, e),
+                    acknowledgment);
+            return;
+        }
+
+        if (keyOrderedProcessor.isEnabled()) {
+            // Acknowledged by the processor once this and every earlier offset has completed
+            keyOrderedProcessor.submit(eventOutcome.getEventId(), new TopicPartition(topic, partition), offset,
+                    () -> processOutcome(eventOutcome),
+                    e -> deadLetterPublisher.publish(eventOutcome, e),
+                    acknowledgment);
+            return;
+        }
 
         try {
-            // Match pending bets with the event outcome
-            List<BetSettlementDTO> settlements = betMatchingService.matchBets(eventOutcome);
-
-            if (settlements.isEmpty()) {
-                log.info("No bets to settle for event: {}", eventOutcome.getEventId());
-            } else {
-                log.info("Processing {} bet settlements for event: {}",
-                        settlements.size(), eventOutcome.getEventId());
-
-                // Send each settlement to RocketMQ
-                for (BetSettlementDTO settlement : settlements) {
-                    try {
-                        betSettlementProducer.sendSettlement(settlement);
-                        log.debug("Sent settlement to RocketMQ - Bet ID: {}, Won: {}",
-                                settlement.getBetId(), settlement.getWon());
-                    } catch (Exception e) {
-                        log.error("Failed to send settlement to RocketMQ - Bet ID: {}, Error: {}",
-                                settlement.getBetId(), e.getMessage(), e);
-                        // Continue processing other settlements even if one fails
-                    }
-                }
-
-                log.info("Successfully processed all settlements for event: {}",
-                        eventOutcome.getEventId());
-            }
+            processOutcome(eventOutcome);
 
             // Acknowledge successful processing
             acknowledgment.acknowledge();
@@ -92,8 +114,138 @@ public class EventOutcomeConsumer {
         } catch (Exception e) {
             log.error("Error processing event outcome - Event ID: {}, Error: {}",
                     eventOutcome.getEventId(), e.getMessage(), e);
-            // Don't acknowledge - message will be reprocessed
+            // Don't acknowledge - the error handler moves it to the next retry topic
             throw new RuntimeException("Failed to process event outcome", e);
         }
     }
+
+    /**
+     * Matches pending bets for an event outcome and sends their settlements.
+     *
+     * Settlements go out in betId order and progress is checkpointed, so a
+     * redelivered outcome resumes after the last checkpointed bet. The first
+     * settlement that cannot be sent fails the outcome: the checkpoint is not
+     * advanced past it and the event is not marked settled.
+     *
+     * @param eventOutcome The event outcome to process
+     */
+    void processOutcome(EventOutcomeDTO eventOutcome) {
+        // Taken first, so the preloaded bets of an event are never used by a second outcome
+        PreloadedPendingBets preloaded = partitionPendingBetCache.take(eventOutcome.getEventId());
+
+        if (settledEventCache.isSettled(eventOutcome.getEventId(), eventOutcome.resultKey())) {
+            log.info("Event already settled with outcome {}, skipping - Event ID: {}",
+                    eventOutcome.resultKey(), eventOutcome.getEventId());
+            return;
+        }
+
+        Optional<DispatchCheckpoint> checkpoint = checkpointService.findResumePoint(eventOutcome);
+
+        if (betMatchingService.isColumnar()) {
+            dispatchBatch(eventOutcome, checkpoint, preloaded);
+            return;
+        }
+
+        // Match pending bets with the event outcome
+        List<BetSettlementDTO> settlements = checkpoint.isPresent()
+                ? betMatchingService.matchBetsAfter(eventOutcome, checkpoint.get().getLastBetId())
+                : betMatchingService.matchBets(eventOutcome);
+
+        if (settlements.isEmpty()) {
+            completeWithoutSettlements(eventOutcome, checkpoint);
+            return;
+        }
+
+        log.info("Processing {} bet settlements for event: {}",
+                settlements.size(), eventOutcome.getEventId());
+
+        long dispatched = checkpoint.map(DispatchCheckpoint::getDispatchedCount).orElse(0L);
+        long lastBetId = checkpoint.map(DispatchCheckpoint::getLastBetId).orElse(0L);
+
+        // Send each settlement to RocketMQ
+        for (BetSettlementDTO settlement : settlements) {
+            try {
+                betSettlementProducer.sendSettlement(settlement);
+                log.debug("Sent settlement to RocketMQ - Bet ID: {}, Won: {}",
+                        settlement.getBetId(), settlement.getWon());
+            } catch (Exception e) {
+                log.error("Failed to send settlement to RocketMQ - Bet ID: {}, Error: {}",
+                        settlement.getBetId(), e.getMessage(), e);
+                // The checkpoint stops before this bet, so a redelivery resumes from it
+                throw new IllegalStateException("Failed to send settlement for bet " + settlement.getBetId(), e);
+            }
+
+            if (settlement.getBetId() != null) {
+                lastBetId = settlement.getBetId();
+            }
+            recordProgress(eventOutcome, lastBetId, ++dispatched);
+        }
+
+        complete(eventOutcome, lastBetId, dispatched);
+    }
+
+    /**
+     * Matches and sends settlements through a columnar {@link SettlementBatch}.
+     *
+     * Same dispatch, checkpoint and failure semantics as the list-based path,
+     * without holding a DTO per matched bet. Bets preloaded for the event's
+     * partition are matched without reading them again.
+     */
+    private void dispatchBatch(EventOutcomeDTO eventOutcome, Optional<DispatchCheckpoint> checkpoint,
+                               PreloadedPendingBets preloaded) {
+        long lastBetId = checkpoint.map(DispatchCheckpoint::getLastBetId).orElse(0L);
+        long dispatched = checkpoint.map(DispatchCheckpoint::getDispatchedCount).orElse(0L);
+
+        SettlementBatch batch = preloaded != null
+                ? betMatchingService.matchBatch(eventOutcome, lastBetId, preloaded)
+                : betMatchingService.matchBatch(eventOutcome, lastBetId);
+        if (batch.isEmpty()) {
+            completeWithoutSettlements(eventOutcome, checkpoint);
+            return;
+        }
+
+        log.info("Processing {} bet settlements for event: {}", batch.size(), eventOutcome.getEventId());
+
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                betSettlementProducer.sendSettlement(batch, i);
+            } catch (Exception e) {
+                log.error("Failed to send settlement to RocketMQ - Bet ID: {}, Error: {}",
+                        batch.betId(i), e.getMessage(), e);
+                // The checkpoint stops before this bet, so a redelivery resumes from it
+                throw new IllegalStateException("Failed to send settlement for bet " + batch.betId(i), e);
+            }
+
+            lastBetId = batch.betId(i);
+            recordProgress(eventOutcome, lastBetId, ++dispatched);
+        }
+
+        complete(eventOutcome, lastBetId, dispatched);
+    }
+
+    private void completeWithoutSettlements(EventOutcomeDTO eventOutcome, Optional<DispatchCheckpoint> checkpoint) {
+        log.info("No bets to settle for event: {}", eventOutcome.getEventId());
+        checkpoint.ifPresent(c -> {
+            // Redelivered after the last checkpoint had already covered every bet
+            checkpointService.markCompleted(eventOutcome, c.getLastBetId(), c.getDispatchedCount());
+            settledEventCache.markSettled(eventOutcome.getEventId(), eventOutcome.resultKey());
+        });
+    }
+
+    private void recordProgress(EventOutcomeDTO eventOutcome, long lastBetId, long dispatched) {
+        if (checkpointService.isCheckpointDue(dispatched)) {
+            // Only checkpoint settlements the transport has actually delivered
+            betSettlementProducer.flush();
+        }
+        checkpointService.recordProgress(eventOutcome, lastBetId, dispatched);
+    }
+
+    private void complete(EventOutcomeDTO eventOutcome, long lastBetId, long dispatched) {
+        betSettlementProducer.flush();
+        checkpointService.markCompleted(eventOutcome, lastBetId, dispatched);
+        settledEventCache.markSettled(eventOutcome.getEventId(), eventOutcome.resultKey());
+
+        log.info("Successfully processed all settlements for event: {}",
+                eventOutcome.getEventId());
+    }
 }
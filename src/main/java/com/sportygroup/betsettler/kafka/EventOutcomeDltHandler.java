@@ -0,0 +1,38 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handles event outcomes that reached the dead-letter topic.
+ *
+ * The record stays on the dead-letter topic for inspection and replay;
+ * this handler only records that it arrived and why it failed.
+ */
+@Component
+@Slf4j
+public class EventOutcomeDltHandler {
+
+    /**
+     * Logs and acknowledges a dead-lettered event outcome.
+     *
+     * @param record The dead-lettered record
+     * @param exceptionMessage Message of the exception that exhausted the retries
+     * @param acknowledgment Manual acknowledgment handle
+     */
+    public void handleDeadLetter(
+            ConsumerRecord<String, EventOutcomeDTO> record,
+            @Header(name = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) String exceptionMessage,
+            Acknowledgment acknowledgment) {
+
+        log.error("Event outcome moved to dead-letter topic - Topic: {}, Key: {}, Partition: {}, Offset: {}, Error: {}",
+                record.topic(), record.key(), record.partition(), record.offset(), exceptionMessage);
+
+        acknowledgment.acknowledge();
+    }
+}
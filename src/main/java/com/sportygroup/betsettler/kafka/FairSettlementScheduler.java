@@ -0,0 +1,410 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.config.OutcomeProcessingConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Settles events in chunks on a shared worker pool, letting events take turns.
+ *
+ * Each consumed record becomes a {@link ChunkedJob}. Events with work wait
+ * in a round-robin queue: a worker takes the event at the head, claims its
+ * next chunk and puts the event back at the tail, so an event with a
+ * million bets gets one chunk per round just like an event with ten. At
+ * most {@code maxChunksPerEvent} chunks of one event run at the same time,
+ * which keeps the rest of the pool free for other events. Records with the
+ * same eventId run one after the other in offset order.
+ *
+ * Completed offsets go through an {@link OffsetTracker} so only the
+ * contiguous completed prefix of each topic partition is acknowledged;
+ * the listener also consumes the retry topics, whose partition numbers
+ * overlap with the main topic's. A chunk
+ * that keeps failing ends its record, which is handed to a failure
+ * callback and committed past; if the callback fails too, the offset
+ * stays pending so the record is redelivered. When too many records are queued the
+ * listener thread blocks, which in turn slows down polling.
+ */
+@Component
+@Slf4j
+public class FairSettlementScheduler {
+
+    /**
+     * Work of one record, split into chunks.
+     *
+     * Chunks of a job are claimed by one thread at a time, in order, but
+     * may run concurrently once claimed.
+     */
+    public interface ChunkedJob {
+
+        /**
+         * Prepares the next chunk.
+         *
+         * @return The chunk's work, or null once the job has no chunks left
+         */
+        Runnable nextChunk();
+
+        /**
+         * Called once after every chunk has run successfully.
+         */
+        void complete();
+    }
+
+    private final OutcomeProcessingConfig config;
+    private final OffsetTracker offsetTracker = new OffsetTracker();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workAvailable = lock.newCondition();
+    private final Condition spaceAvailable = lock.newCondition();
+    private final Map<String, EventQueue> events = new HashMap<>();
+    private final Deque<EventQueue> ready = new ArrayDeque<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private int queuedJobs;
+    private volatile boolean running;
+
+    public FairSettlementScheduler(OutcomeProcessingConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Starts the worker pool if fair processing is configured.
+     */
+    @PostConstruct
+    public void start() {
+        if (config.getMode() != OutcomeProcessingConfig.Mode.FAIR) {
+            return;
+        }
+        for (int i = 0; i < config.getWorkers(); i++) {
+            Thread worker = new Thread(this::runWorker, "settlement-worker-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+        }
+        running = true;
+        workers.forEach(Thread::start);
+        log.info("Fair settlement scheduling started - Workers: {}, Chunk size: {}, Max chunks per event: {}",
+                config.getWorkers(), config.getChunkSize(), config.getMaxChunksPerEvent());
+    }
+
+    /**
+     * Whether records should be handed to this scheduler instead of being processed inline.
+     */
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * Pending bets a job should read per chunk.
+     */
+    public int getChunkSize() {
+        return config.getChunkSize();
+    }
+
+    /**
+     * Queues a record behind earlier records with the same key.
+     *
+     * Blocks while the number of queued records is at capacity.
+     *
+     * @param key The record key; records with equal keys are processed in order
+     * @param partition The record's topic partition
+     * @param offset The record's offset
+     * @param work The record's chunked work
+     * @param onFailure Called with the last error once a chunk has failed every attempt
+     * @param acknowledgment The record's acknowledgment handle
+     */
+    public void submit(String key, TopicPartition partition, long offset, ChunkedJob work,
+                       Consumer<Exception> onFailure, Acknowledgment acknowledgment) {
+        if (!running) {
+            throw new IllegalStateException("Fair settlement scheduler is not running");
+        }
+
+        offsetTracker.register(partition, offset);
+        lock.lock();
+        try {
+            while (queuedJobs >= config.getLaneQueueCapacity()) {
+                if (!running) {
+                    throw new IllegalStateException("Fair settlement scheduler is not running");
+                }
+                spaceAvailable.await();
+            }
+            EventQueue queue = events.computeIfAbsent(key != null ? key : "", EventQueue::new);
+            queue.jobs.add(new Job(partition, offset, work, onFailure, acknowledgment));
+            queuedJobs++;
+            schedule(queue);
+        } catch (InterruptedException e) {
+            // The offset stays pending, so nothing past it is committed and it is redelivered
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing record", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of records dispatched but not yet completed.
+     */
+    public int getPendingCount() {
+        return offsetTracker.getPendingCount();
+    }
+
+    /**
+     * Returns the number of events with queued or running records.
+     */
+    public int getActiveEventCount() {
+        lock.lock();
+        try {
+            return events.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runWorker() {
+        while (true) {
+            EventQueue queue;
+            Job job;
+            lock.lock();
+            try {
+                while (ready.isEmpty()) {
+                    if (!running) {
+                        return;
+                    }
+                    workAvailable.await(100, TimeUnit.MILLISECONDS);
+                }
+                queue = ready.pollFirst();
+                queue.ready = false;
+                job = queue.jobs.peek();
+                job.claiming = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            Runnable[] chunk = new Runnable[1];
+            runWithRetries(job, () -> chunk[0] = job.work.nextChunk());
+
+            lock.lock();
+            try {
+                job.claiming = false;
+                if (chunk[0] == null || job.exhausted) {
+                    job.exhausted = true;
+                    chunk[0] = null;
+                } else {
+                    job.running++;
+                }
+                // Back to the tail of the round for the event's next chunk
+                schedule(queue);
+            } finally {
+                lock.unlock();
+            }
+
+            if (chunk[0] != null) {
+                runWithRetries(job, chunk[0]);
+                lock.lock();
+                try {
+                    job.running--;
+                    schedule(queue);
+                } finally {
+                    lock.unlock();
+                }
+            }
+
+            finishIfDone(queue, job);
+        }
+    }
+
+    /**
+     * Queues an event for its next turn if its current record can take another chunk.
+     *
+     * Must be called with the lock held.
+     */
+    private void schedule(EventQueue queue) {
+        Job job = queue.jobs.peek();
+        if (!queue.ready && job != null && !job.claiming && !job.exhausted
+                && job.running < Math.max(1, config.getMaxChunksPerEvent())) {
+            queue.ready = true;
+            ready.addLast(queue);
+            workAvailable.signal();
+        }
+    }
+
+    private void runWithRetries(Job job, Runnable work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                work.run();
+                return;
+            } catch (Exception e) {
+                if (attempt >= config.getMaxAttempts()) {
+                    log.error("Giving up on record after {} attempts - Partition: {}, Offset: {}, Error: {}",
+                            attempt, job.partition, job.offset, e.getMessage(), e);
+                    fail(job, e, false);
+                    return;
+                }
+                log.warn("Chunk failed, retrying - Attempt: {}, Partition: {}, Offset: {}, Error: {}",
+                        attempt, job.partition, job.offset, e.getMessage());
+                if (!sleep(config.getRetryBackoffMs())) {
+                    // Leave the offset uncommitted so the record is redelivered after restart
+                    fail(job, e, true);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void fail(Job job, Exception cause, boolean abandoned) {
+        lock.lock();
+        try {
+            if (job.failure == null) {
+                job.failure = cause;
+            }
+            job.abandoned |= abandoned;
+            job.exhausted = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void finishIfDone(EventQueue queue, Job job) {
+        lock.lock();
+        try {
+            if (!job.exhausted || job.running > 0 || job.claiming || job.finished) {
+                return;
+            }
+            job.finished = true;
+        } finally {
+            lock.unlock();
+        }
+
+        // Finished before the event's next record starts, so that record sees its effects
+        if (job.failure == null) {
+            try {
+                job.work.complete();
+            } catch (Exception e) {
+                log.error("Failed to complete record - Partition: {}, Offset: {}, Error: {}",
+                        job.partition, job.offset, e.getMessage(), e);
+                job.failure = e;
+            }
+        }
+        if (job.failure != null && !job.abandoned && !handleFailure(job)) {
+            // Not dead-lettered either - leave the offset uncommitted so the record is redelivered
+            job.abandoned = true;
+        }
+        if (!job.abandoned) {
+            Acknowledgment commit = offsetTracker.complete(job.partition, job.offset, job.acknowledgment);
+            if (commit != null) {
+                commit.acknowledge();
+            }
+        }
+
+        lock.lock();
+        try {
+            queue.jobs.poll();
+            queuedJobs--;
+            spaceAvailable.signalAll();
+            if (queue.jobs.isEmpty()) {
+                events.remove(queue.key);
+            } else {
+                schedule(queue);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean handleFailure(Job job) {
+        try {
+            job.onFailure.accept(job.failure);
+            return true;
+        } catch (Exception e) {
+            log.error("Failure handler failed, holding back commits of the partition - Partition: {}, Offset: {}, "
+                    + "Error: {}", job.partition, job.offset, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Stops accepting records and lets the workers finish the chunks they are running.
+     *
+     * Records that have not finished are not acknowledged and are redelivered.
+     */
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        lock.lock();
+        try {
+            spaceAvailable.signalAll();
+            workAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        log.info("Fair settlement scheduling stopped");
+    }
+
+    private static class EventQueue {
+        private final String key;
+        private final Deque<Job> jobs = new ArrayDeque<>();
+        private boolean ready;
+
+        private EventQueue(String key) {
+            this.key = key;
+        }
+    }
+
+    private static class Job {
+        private final TopicPartition partition;
+        private final long offset;
+        private final ChunkedJob work;
+        private final Consumer<Exception> onFailure;
+        private final Acknowledgment acknowledgment;
+        private int running;
+        private boolean claiming;
+        private boolean exhausted;
+        private boolean finished;
+        private boolean abandoned;
+        private Exception failure;
+
+        private Job(TopicPartition partition, long offset, ChunkedJob work,
+                    Consumer<Exception> onFailure, Acknowledgment acknowledgment) {
+            this.partition = partition;
+            this.offset = offset;
+            this.work = work;
+            this.onFailure = onFailure;
+            this.acknowledgment = acknowledgment;
+        }
+    }
+}
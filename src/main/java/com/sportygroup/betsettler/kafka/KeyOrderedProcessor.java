@@ -0,0 +1,206 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.config.OutcomeProcessingConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs consumed records concurrently while keeping per-key order.
+ *
+ * Each record is routed to one of a fixed number of lanes by the hash of
+ * its key; a lane is a single thread with a bounded queue, so records with
+ * the same key run in offset order while different keys run in parallel.
+ * Completed offsets go through an {@link OffsetTracker} so only the
+ * contiguous completed prefix of each partition is acknowledged. A record
+ * that keeps failing is handed to a failure callback and committed past;
+ * if the callback fails too, its offset stays pending so the record is
+ * redelivered.
+ * When a lane's queue is full the listener thread blocks, which in turn
+ * slows down polling.
+ */
+@Component
+@Slf4j
+public class KeyOrderedProcessor {
+
+    private final OutcomeProcessingConfig config;
+    private final OffsetTracker offsetTracker = new OffsetTracker();
+    private final List<Lane> lanes = new ArrayList<>();
+    private volatile boolean running;
+
+    public KeyOrderedProcessor(OutcomeProcessingConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Starts the lanes if key-ordered processing is configured.
+     */
+    @PostConstruct
+    public void start() {
+        if (config.getMode() != OutcomeProcessingConfig.Mode.KEY_ORDERED) {
+            return;
+        }
+        for (int i = 0; i < config.getWorkers(); i++) {
+            Lane lane = new Lane(new ArrayBlockingQueue<>(config.getLaneQueueCapacity()));
+            lane.thread = new Thread(() -> runLane(lane), "outcome-lane-" + i);
+            lane.thread.setDaemon(true);
+            lanes.add(lane);
+        }
+        running = true;
+        lanes.forEach(lane -> lane.thread.start());
+        log.info("Key-ordered outcome processing started - Lanes: {}, Lane capacity: {}",
+                config.getWorkers(), config.getLaneQueueCapacity());
+    }
+
+    /**
+     * Whether records should be handed to this processor instead of being processed inline.
+     */
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * Queues a record on the lane for its key.
+     *
+     * Blocks while that lane's queue is full.
+     *
+     * @param key The record key; records with equal keys are processed in order
+     * @param partition The record's topic partition
+     * @param offset The record's offset
+     * @param task The processing work
+     * @param onFailure Called with the last error once every attempt has failed
+     * @param acknowledgment The record's acknowledgment handle
+     */
+    public void submit(String key, TopicPartition partition, long offset, Runnable task,
+                       Consumer<Exception> onFailure, Acknowledgment acknowledgment) {
+        if (!running) {
+            throw new IllegalStateException("Key-ordered processor is not running");
+        }
+
+        offsetTracker.register(partition, offset);
+        Lane lane = lanes.get(Math.floorMod(key != null ? key.hashCode() : 0, lanes.size()));
+        try {
+            lane.queue.put(new LaneTask(partition, offset, task, onFailure, acknowledgment));
+        } catch (InterruptedException e) {
+            // The offset stays pending, so nothing past it is committed and it is redelivered
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing record", e);
+        }
+    }
+
+    /**
+     * Returns the number of records dispatched but not yet completed.
+     */
+    public int getPendingCount() {
+        return offsetTracker.getPendingCount();
+    }
+
+    private void runLane(Lane lane) {
+        while (running || !lane.queue.isEmpty()) {
+            LaneTask task;
+            try {
+                task = lane.queue.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (task != null) {
+                execute(task);
+            }
+        }
+    }
+
+    private void execute(LaneTask task) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                task.work().run();
+                break;
+            } catch (Exception e) {
+                if (attempt >= config.getMaxAttempts()) {
+                    log.error("Giving up on record after {} attempts - Partition: {}, Offset: {}, Error: {}",
+                            attempt, task.partition(), task.offset(), e.getMessage(), e);
+                    if (!handleFailure(task, e)) {
+                        // Not dead-lettered either - leave the offset uncommitted so the record is redelivered
+                        return;
+                    }
+                    break;
+                }
+                log.warn("Record failed, retrying - Attempt: {}, Partition: {}, Offset: {}, Error: {}",
+                        attempt, task.partition(), task.offset(), e.getMessage());
+                if (!sleep(config.getRetryBackoffMs())) {
+                    // Leave the offset uncommitted so the record is redelivered after restart
+                    return;
+                }
+            }
+        }
+
+        Acknowledgment commit = offsetTracker.complete(task.partition(), task.offset(), task.acknowledgment());
+        if (commit != null) {
+            commit.acknowledge();
+        }
+    }
+
+    private boolean handleFailure(LaneTask task, Exception cause) {
+        try {
+            task.onFailure().accept(cause);
+            return true;
+        } catch (Exception e) {
+            log.error("Failure handler failed, holding back commits of the partition - Partition: {}, Offset: {}, "
+                    + "Error: {}", task.partition(), task.offset(), e.getMessage(), e);
+            return false;
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Stops accepting records and lets the lanes drain their queues.
+     */
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Lane lane : lanes) {
+            try {
+                lane.thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        log.info("Key-ordered outcome processing stopped");
+    }
+
+    private static class Lane {
+        private final BlockingQueue<LaneTask> queue;
+        private Thread thread;
+
+        private Lane(BlockingQueue<LaneTask> queue) {
+            this.queue = queue;
+        }
+    }
+
+    private record LaneTask(TopicPartition partition, long offset, Runnable work,
+                            Consumer<Exception> onFailure, Acknowledgment acknowledgment) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.config.ListenerAutoscalingConfig;
+import com.sportygroup.betsettler.rocketmq.InProcessBetSettlementProducer;
+import com.sportygroup.betsettler.service.SettlementLatencyTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pauses the event outcome listener while settlement is falling behind.
+ *
+ * On every check the number of settlements waiting to be written and the
+ * recent average settlement write latency are compared with the pause
+ * thresholds. Exceeding either pauses all partitions assigned to the
+ * listener; the consumers keep polling (so the group does not rebalance)
+ * but receive no records. The listener resumes once both signals are back
+ * at or below the lower resume thresholds, which keeps it from flapping
+ * around a single limit.
+ */
+@Component
+@Slf4j
+public class ListenerBackpressureController {
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final ObjectProvider<InProcessBetSettlementProducer> inProcessProducer;
+    private final SettlementLatencyTracker latencyTracker;
+    private final ListenerAutoscalingConfig config;
+    private final Counter pauseCounter;
+    private volatile int lastInFlight;
+    private volatile double lastLatencyMillis;
+
+    public ListenerBackpressureController(
+            KafkaListenerEndpointRegistry registry,
+            ObjectProvider<InProcessBetSettlementProducer> inProcessProducer,
+            SettlementLatencyTracker latencyTracker,
+            ListenerAutoscalingConfig config,
+            MeterRegistry meterRegistry) {
+        this.registry = registry;
+        this.inProcessProducer = inProcessProducer;
+        this.latencyTracker = latencyTracker;
+        this.config = config;
+
+        Gauge.builder("kafka.listener.backpressure.paused", this, c -> c.isPaused() ? 1 : 0)
+                .description("1 while the event outcome listener is paused by backpressure")
+                .register(meterRegistry);
+        Gauge.builder("kafka.listener.backpressure.in.flight", this, c -> c.lastInFlight)
+                .description("Settlements waiting to be written at the last check")
+                .register(meterRegistry);
+        Gauge.builder("kafka.listener.backpressure.db.latency", this, c -> c.lastLatencyMillis)
+                .description("Average settlement write latency in ms at the last check")
+                .register(meterRegistry);
+        this.pauseCounter = meterRegistry.counter("kafka.listener.backpressure.pauses");
+    }
+
+    /**
+     * Checks the settlement backlog and pauses or resumes the listener.
+     */
+    @Scheduled(fixedDelayString = "${application.kafka.listener.backpressure.check-interval-ms:1000}")
+    public void evaluate() {
+        ListenerAutoscalingConfig.Backpressure backpressure = config.getBackpressure();
+        MessageListenerContainer container = registry.getListenerContainer(EventOutcomeConsumer.LISTENER_ID);
+        if (container == null || !container.isRunning()) {
+            return;
+        }
+
+        if (!backpressure.isEnabled()) {
+            if (container.isPauseRequested()) {
+                log.info("Backpressure disabled, resuming event outcome listener");
+                container.resume();
+            }
+            return;
+        }
+
+        // A paused listener produces no writes, so only recent samples count
+        int inFlight = inFlightSettlements();
+        double latencyMillis = latencyTracker.getRecentAverageMillis(backpressure.getCheckIntervalMs() * 5);
+        lastInFlight = inFlight;
+        lastLatencyMillis = latencyMillis;
+
+        if (!container.isPauseRequested()) {
+            if (inFlight > backpressure.getPauseInFlightSettlements()
+                    || latencyMillis > backpressure.getPauseDbLatencyMs()) {
+                log.warn("Pausing event outcome listener - In-flight settlements: {}, DB latency: {}ms",
+                        inFlight, String.format("%.1f", latencyMillis));
+                container.pause();
+                pauseCounter.increment();
+            }
+        } else if (inFlight <= backpressure.getResumeInFlightSettlements()
+                && latencyMillis <= backpressure.getResumeDbLatencyMs()) {
+            log.info("Resuming event outcome listener - In-flight settlements: {}, DB latency: {}ms",
+                    inFlight, String.format("%.1f", latencyMillis));
+            container.resume();
+        }
+    }
+
+    /**
+     * Whether the listener is currently paused.
+     */
+    public boolean isPaused() {
+        MessageListenerContainer container = registry.getListenerContainer(EventOutcomeConsumer.LISTENER_ID);
+        return container != null && container.isPauseRequested();
+    }
+
+    private int inFlightSettlements() {
+        InProcessBetSettlementProducer producer = inProcessProducer.getIfAvailable();
+        return producer != null ? producer.getQueueDepth() : 0;
+    }
+}
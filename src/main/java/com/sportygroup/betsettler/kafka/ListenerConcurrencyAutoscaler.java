@@ -0,0 +1,287 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.config.KafkaTopicConfig;
+import com.sportygroup.betsettler.config.ListenerAutoscalingConfig;
+import com.sportygroup.betsettler.config.OutcomeProcessingConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adjusts the event outcome listener concurrency to the consumer lag.
+ *
+ * On every interval the total lag of the consumer group is compared with
+ * the throughput one consumer achieves at the observed processing time.
+ * The concurrency is raised straight to what is needed to drain the lag
+ * within the target window, and lowered one step at a time once the lag
+ * is gone, never beyond the partition count or the configured bounds.
+ * Changing the concurrency restarts the container, so changes are spaced
+ * by a cooldown. The value can also be pinned at runtime, which suspends
+ * autoscaling until it is released.
+ *
+ * Autoscaling only applies in sequential mode. In key-ordered and fair
+ * mode the listener thread just hands records to worker lanes or chunks,
+ * so its timing says nothing about settlement throughput, and that
+ * throughput is set by the worker pool rather than the consumer count.
+ */
+@Component
+@Slf4j
+public class ListenerConcurrencyAutoscaler {
+
+    private static final long ADMIN_TIMEOUT_MS = 5000;
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final KafkaAdmin kafkaAdmin;
+    private final ListenerLoadTracker loadTracker;
+    private final ListenerAutoscalingConfig config;
+    private final OutcomeProcessingConfig processingConfig;
+    private final KafkaTopicConfig topicConfig;
+    private final String groupId;
+
+    private AdminClient adminClient;
+    private volatile boolean pinned;
+    private volatile long lastLag = -1;
+    private volatile int lastPartitionCount = -1;
+    private volatile long lastChangeMillis;
+
+    public ListenerConcurrencyAutoscaler(
+            KafkaListenerEndpointRegistry registry,
+            KafkaAdmin kafkaAdmin,
+            ListenerLoadTracker loadTracker,
+            ListenerAutoscalingConfig config,
+            OutcomeProcessingConfig processingConfig,
+            KafkaTopicConfig topicConfig,
+            @Value("${spring.kafka.consumer.group-id}") String groupId) {
+        this.registry = registry;
+        this.kafkaAdmin = kafkaAdmin;
+        this.loadTracker = loadTracker;
+        this.config = config;
+        this.processingConfig = processingConfig;
+        this.topicConfig = topicConfig;
+        this.groupId = groupId;
+    }
+
+    /**
+     * Samples the lag and applies a new concurrency if one is needed.
+     */
+    @Scheduled(fixedDelayString = "${application.kafka.listener.autoscaling.interval-ms:30000}")
+    public void evaluate() {
+        ListenerAutoscalingConfig.Autoscaling autoscaling = config.getAutoscaling();
+        if (!isAutoscalingActive() || pinned) {
+            return;
+        }
+
+        ConcurrentMessageListenerContainer<?, ?> container = container();
+        if (container == null || !container.isRunning()) {
+            return;
+        }
+
+        try {
+            sampleLag();
+        } catch (Exception e) {
+            log.warn("Could not sample consumer lag for group {} - Error: {}", groupId, e.getMessage());
+            return;
+        }
+
+        int current = container.getConcurrency();
+        int desired = desiredConcurrency(current, lastLag, lastPartitionCount,
+                loadTracker.getAverageProcessingMillis(), autoscaling);
+
+        if (desired == current) {
+            return;
+        }
+        if (System.currentTimeMillis() - lastChangeMillis < autoscaling.getCooldownMs()) {
+            log.debug("Listener concurrency change {} -> {} deferred by cooldown", current, desired);
+            return;
+        }
+
+        log.info("Scaling event outcome listener concurrency {} -> {} - Lag: {}, Partitions: {}, Avg processing: {}ms",
+                current, desired, lastLag, lastPartitionCount,
+                String.format("%.1f", loadTracker.getAverageProcessingMillis()));
+        apply(container, desired);
+    }
+
+    /**
+     * Whether autoscaling is enabled and applies to the processing mode.
+     */
+    public boolean isAutoscalingActive() {
+        return config.getAutoscaling().isEnabled()
+                && processingConfig.getMode() == OutcomeProcessingConfig.Mode.SEQUENTIAL;
+    }
+
+    /**
+     * Computes the concurrency needed for the given lag.
+     *
+     * @param current Current concurrency
+     * @param lag Total consumer group lag across partitions
+     * @param partitionCount Number of partitions of the topic, or a negative value if unknown
+     * @param averageProcessingMillis Average time to process one record, or 0 if unknown
+     * @param autoscaling Scaling bounds and targets
+     * @return Concurrency to run with, clamped to the bounds and the partition count
+     */
+    static int desiredConcurrency(int current, long lag, int partitionCount,
+                                  double averageProcessingMillis,
+                                  ListenerAutoscalingConfig.Autoscaling autoscaling) {
+        int upper = autoscaling.getMaxConcurrency();
+        if (partitionCount > 0) {
+            upper = Math.min(upper, partitionCount);
+        }
+        int lower = Math.max(1, Math.min(autoscaling.getMinConcurrency(), upper));
+
+        double recordsPerSecond = averageProcessingMillis > 0
+                ? 1000.0 / averageProcessingMillis
+                : autoscaling.getDefaultRecordsPerSecond();
+        double drainCapacity = recordsPerSecond * Math.max(1, autoscaling.getTargetDrainSeconds());
+        int needed = (int) Math.ceil(lag / drainCapacity);
+
+        int desired;
+        if (needed > current) {
+            desired = needed;
+        } else if (needed < current) {
+            // Scale down gradually so a brief lull does not give back all capacity at once
+            desired = current - 1;
+        } else {
+            desired = current;
+        }
+
+        return Math.max(lower, Math.min(upper, desired));
+    }
+
+    /**
+     * Pins the concurrency to a fixed value and suspends autoscaling.
+     *
+     * @param concurrency Concurrency to run with
+     */
+    public void pin(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        ConcurrentMessageListenerContainer<?, ?> container = container();
+        if (container == null) {
+            throw new IllegalStateException("Event outcome listener container is not registered");
+        }
+
+        pinned = true;
+        log.info("Pinning event outcome listener concurrency to {}", concurrency);
+        if (container.getConcurrency() != concurrency) {
+            apply(container, concurrency);
+        }
+    }
+
+    /**
+     * Releases a pinned concurrency so autoscaling resumes on the next interval.
+     */
+    public void unpin() {
+        pinned = false;
+        log.info("Released pinned event outcome listener concurrency");
+    }
+
+    /**
+     * Returns the current autoscaling state for the actuator endpoint.
+     */
+    public Map<String, Object> status() {
+        ConcurrentMessageListenerContainer<?, ?> container = container();
+        ListenerAutoscalingConfig.Autoscaling autoscaling = config.getAutoscaling();
+
+        Map<String, Object> status = new HashMap<>();
+        status.put("concurrency", container != null ? container.getConcurrency() : null);
+        status.put("running", container != null && container.isRunning());
+        status.put("autoscalingEnabled", isAutoscalingActive());
+        status.put("processingMode", processingConfig.getMode());
+        status.put("pinned", pinned);
+        status.put("minConcurrency", autoscaling.getMinConcurrency());
+        status.put("maxConcurrency", autoscaling.getMaxConcurrency());
+        status.put("lag", lastLag);
+        status.put("partitions", lastPartitionCount);
+        status.put("averageProcessingMillis", loadTracker.getAverageProcessingMillis());
+        return status;
+    }
+
+    public boolean isPinned() {
+        return pinned;
+    }
+
+    private void apply(ConcurrentMessageListenerContainer<?, ?> container, int concurrency) {
+        lastChangeMillis = System.currentTimeMillis();
+        if (!container.isRunning()) {
+            container.setConcurrency(concurrency);
+            return;
+        }
+        // Concurrency only takes effect on start; pending acks are committed on stop
+        container.stop(() -> {
+            container.setConcurrency(concurrency);
+            container.start();
+        });
+    }
+
+    private void sampleLag() throws Exception {
+        AdminClient admin = admin();
+        String topic = topicConfig.getEventOutcomes();
+
+        Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(groupId)
+                .partitionsToOffsetAndMetadata()
+                .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        int partitionCount = admin.describeTopics(List.of(topic))
+                .allTopicNames()
+                .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+                .get(topic)
+                .partitions()
+                .size();
+
+        Map<TopicPartition, OffsetSpec> request = new HashMap<>();
+        for (int p = 0; p < partitionCount; p++) {
+            request.put(new TopicPartition(topic, p), OffsetSpec.latest());
+        }
+        Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets = admin.listOffsets(request)
+                .all()
+                .get(ADMIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        long lag = 0;
+        for (Map.Entry<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> entry : endOffsets.entrySet()) {
+            OffsetAndMetadata position = committed.get(entry.getKey());
+            // No commit yet means the group starts from the earliest offset
+            long consumed = position != null ? position.offset() : 0;
+            lag += Math.max(0, entry.getValue().offset() - consumed);
+        }
+
+        lastLag = lag;
+        lastPartitionCount = partitionCount;
+    }
+
+    private synchronized AdminClient admin() {
+        if (adminClient == null) {
+            adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+        }
+        return adminClient;
+    }
+
+    private ConcurrentMessageListenerContainer<?, ?> container() {
+        MessageListenerContainer container = registry.getListenerContainer(EventOutcomeConsumer.LISTENER_ID);
+        return container instanceof ConcurrentMessageListenerContainer<?, ?> concurrent ? concurrent : null;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (adminClient != null) {
+            adminClient.close();
+            adminClient = null;
+        }
+    }
+}
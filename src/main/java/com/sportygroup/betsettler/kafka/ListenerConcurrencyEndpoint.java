@@ -0,0 +1,41 @@
+package com.sportygroup.betsettler.kafka;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint for inspecting and overriding the listener concurrency.
+ *
+ * GET /actuator/listenerconcurrency shows the current state,
+ * POST with {"concurrency": n} pins the value and DELETE releases it.
+ */
+@Component
+@Endpoint(id = "listenerconcurrency")
+@RequiredArgsConstructor
+public class ListenerConcurrencyEndpoint {
+
+    private final ListenerConcurrencyAutoscaler autoscaler;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return autoscaler.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> pin(int concurrency) {
+        autoscaler.pin(concurrency);
+        return autoscaler.status();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> unpin() {
+        autoscaler.unpin();
+        return autoscaler.status();
+    }
+}
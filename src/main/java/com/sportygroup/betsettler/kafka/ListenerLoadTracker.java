@@ -0,0 +1,70 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Measures how long the event outcome listener spends on each record.
+ *
+ * Registered as a record interceptor on the listener container, so the
+ * listener itself is unaware of it. Keeps an exponentially weighted moving
+ * average of the processing time, which the autoscaler uses to estimate
+ * per-consumer throughput. Only in sequential mode does this cover the
+ * settlement of the record; the other modes return once it is queued.
+ */
+@Component
+public class ListenerLoadTracker implements RecordInterceptor<String, EventOutcomeDTO> {
+
+    /**
+     * Weight of the newest sample in the moving average
+     */
+    private static final double ALPHA = 0.2;
+
+    private final ThreadLocal<Long> startNanos = new ThreadLocal<>();
+    private double averageMillis;
+    private long processedRecords;
+
+    @Override
+    public ConsumerRecord<String, EventOutcomeDTO> intercept(
+            ConsumerRecord<String, EventOutcomeDTO> record,
+            Consumer<String, EventOutcomeDTO> consumer) {
+        startNanos.set(System.nanoTime());
+        return record;
+    }
+
+    @Override
+    public void afterRecord(ConsumerRecord<String, EventOutcomeDTO> record, Consumer<String, EventOutcomeDTO> consumer) {
+        Long start = startNanos.get();
+        if (start != null) {
+            startNanos.remove();
+            recordProcessingTime((System.nanoTime() - start) / 1_000_000.0);
+        }
+    }
+
+    /**
+     * Adds one processing time sample to the moving average.
+     *
+     * @param millis Time spent processing one record
+     */
+    public synchronized void recordProcessingTime(double millis) {
+        averageMillis = processedRecords == 0 ? millis : ALPHA * millis + (1 - ALPHA) * averageMillis;
+        processedRecords++;
+    }
+
+    /**
+     * Returns the moving average processing time, or 0 if nothing has been processed yet.
+     */
+    public synchronized double getAverageProcessingMillis() {
+        return averageMillis;
+    }
+
+    /**
+     * Returns the number of records measured since startup.
+     */
+    public synchronized long getProcessedRecords() {
+        return processedRecords;
+    }
+}
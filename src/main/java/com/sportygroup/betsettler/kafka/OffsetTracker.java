@@ -0,0 +1,92 @@
+package com.sportygroup.betsettler.kafka;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Tracks out-of-order completion of records per topic partition.
+ *
+ * Records are registered in offset order when they are dispatched and may
+ * complete in any order. Committing an offset implicitly commits every
+ * offset before it, so only the highest offset of the contiguous completed
+ * prefix may be acknowledged; completions behind a still-running record
+ * are held back until it finishes. Partitions are told apart by topic
+ * too, since the same listener also consumes the retry topics.
+ */
+public class OffsetTracker {
+
+    private final Map<TopicPartition, PartitionState> partitions = new HashMap<>();
+
+    /**
+     * Registers a dispatched record.
+     *
+     * An offset at or below one already seen means the partition was
+     * re-assigned and re-read from its committed position, so earlier
+     * state for it is discarded.
+     *
+     * @param partition The record's topic partition
+     * @param offset The record's offset
+     */
+    public synchronized void register(TopicPartition partition, long offset) {
+        PartitionState state = partitions.computeIfAbsent(partition, p -> new PartitionState());
+        if (offset <= state.highestRegistered) {
+            state = new PartitionState();
+            partitions.put(partition, state);
+        }
+        state.pending.add(offset);
+        state.highestRegistered = offset;
+    }
+
+    /**
+     * Marks a record as complete.
+     *
+     * @param partition The record's topic partition
+     * @param offset The record's offset
+     * @param acknowledgment The record's acknowledgment handle
+     * @return The acknowledgment to invoke to commit the new contiguous prefix,
+     *         or null if the commit position has not moved
+     */
+    public synchronized Acknowledgment complete(TopicPartition partition, long offset,
+                                                Acknowledgment acknowledgment) {
+        PartitionState state = partitions.get(partition);
+        if (state == null || !state.pending.remove(offset)) {
+            // Stale completion from before a re-assignment
+            return null;
+        }
+        state.completed.put(offset, acknowledgment);
+
+        NavigableMap<Long, Acknowledgment> committable = state.pending.isEmpty()
+                ? state.completed
+                : state.completed.headMap(state.pending.first(), false);
+        if (committable.isEmpty()) {
+            return null;
+        }
+
+        Acknowledgment last = committable.lastEntry().getValue();
+        committable.clear();
+        return last;
+    }
+
+    /**
+     * Returns the number of dispatched records that have not completed yet.
+     */
+    public synchronized int getPendingCount() {
+        int count = 0;
+        for (PartitionState state : partitions.values()) {
+            count += state.pending.size();
+        }
+        return count;
+    }
+
+    private static class PartitionState {
+        private final TreeSet<Long> pending = new TreeSet<>();
+        private final TreeMap<Long, Acknowledgment> completed = new TreeMap<>();
+        private long highestRegistered = -1;
+    }
+}
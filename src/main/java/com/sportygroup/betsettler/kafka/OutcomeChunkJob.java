@@ -0,0 +1,151 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.cache.SettledEventCache;
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.entity.DispatchCheckpoint;
+import com.sportygroup.betsettler.rocketmq.BetSettlementProducer;
+import com.sportygroup.betsettler.service.BetMatchingService;
+import com.sportygroup.betsettler.service.DispatchCheckpointService;
+import com.sportygroup.betsettler.service.SettlementBatch;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Dispatches one event outcome chunk by chunk for the {@link FairSettlementScheduler}.
+ *
+ * Each chunk reads the next {@code chunkSize} pending bets after the
+ * previous chunk's last betId, so chunks are read in order but may be
+ * sent concurrently. Progress is checkpointed up to the last chunk whose
+ * predecessors have all been sent; a redelivered outcome therefore never
+ * skips the bets of an unfinished chunk. A chunk fails on its first
+ * settlement that cannot be sent; once the scheduler gives up on it the
+ * record is dead-lettered and the event is never marked settled.
+ */
+@Slf4j
+class OutcomeChunkJob implements FairSettlementScheduler.ChunkedJob {
+
+    private final EventOutcomeDTO eventOutcome;
+    private final BetMatchingService betMatchingService;
+    private final BetSettlementProducer betSettlementProducer;
+    private final DispatchCheckpointService checkpointService;
+    private final SettledEventCache settledEventCache;
+    private final int chunkSize;
+
+    // Claim state, only touched by the thread claiming the next chunk
+    private boolean started;
+    private boolean skipped;
+    private boolean resumed;
+    private boolean lastChunkRead;
+    private long readAfterBetId;
+    private int nextChunkIndex;
+
+    // Completion state, guarded by this
+    private final TreeMap<Integer, long[]> sentChunks = new TreeMap<>();
+    private int checkpointedChunks;
+    private long checkpointedBetId;
+    private long dispatched;
+    private boolean sentAny;
+
+    OutcomeChunkJob(EventOutcomeDTO eventOutcome, BetMatchingService betMatchingService,
+                    BetSettlementProducer betSettlementProducer, DispatchCheckpointService checkpointService,
+                    SettledEventCache settledEventCache, int chunkSize) {
+        this.eventOutcome = eventOutcome;
+        this.betMatchingService = betMatchingService;
+        this.betSettlementProducer = betSettlementProducer;
+        this.checkpointService = checkpointService;
+        this.settledEventCache = settledEventCache;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public Runnable nextChunk() {
+        if (!started) {
+            if (settledEventCache.isSettled(eventOutcome.getEventId(), eventOutcome.resultKey())) {
+                log.info("Event already settled with outcome {}, skipping - Event ID: {}",
+                        eventOutcome.resultKey(), eventOutcome.getEventId());
+                skipped = true;
+                lastChunkRead = true;
+            } else {
+                Optional<DispatchCheckpoint> checkpoint = checkpointService.findResumePoint(eventOutcome);
+                resumed = checkpoint.isPresent();
+                readAfterBetId = checkpoint.map(DispatchCheckpoint::getLastBetId).orElse(0L);
+                synchronized (this) {
+                    checkpointedBetId = readAfterBetId;
+                    dispatched = checkpoint.map(DispatchCheckpoint::getDispatchedCount).orElse(0L);
+                }
+            }
+            // Set last, so a failed lookup is retried by the next claim
+            started = true;
+        }
+        if (lastChunkRead) {
+            return null;
+        }
+
+        SettlementBatch batch = betMatchingService.matchChunk(eventOutcome, readAfterBetId, chunkSize);
+        if (batch.getReadCount() < chunkSize) {
+            lastChunkRead = true;
+        }
+        if (batch.getReadCount() == 0) {
+            return null;
+        }
+
+        int index = nextChunkIndex++;
+        long lastBetId = batch.getLastReadBetId();
+        readAfterBetId = lastBetId;
+        return () -> send(index, batch, lastBetId);
+    }
+
+    private void send(int index, SettlementBatch batch, long lastBetId) {
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                betSettlementProducer.sendSettlement(batch, i);
+            } catch (Exception e) {
+                log.error("Failed to send settlement to RocketMQ - Bet ID: {}, Error: {}",
+                        batch.betId(i), e.getMessage(), e);
+                // Not recorded as sent, so the checkpoint stays before this chunk and the scheduler retries it
+                throw new IllegalStateException("Failed to send settlement for bet " + batch.betId(i), e);
+            }
+        }
+        // Delivered before the chunk counts towards the checkpoint
+        betSettlementProducer.flush();
+        log.debug("Sent chunk {} of event {} - Settlements: {}, Last bet ID: {}",
+                index, eventOutcome.getEventId(), batch.size(), lastBetId);
+        chunkSent(index, lastBetId, batch.size());
+    }
+
+    private synchronized void chunkSent(int index, long lastBetId, int sent) {
+        sentChunks.put(index, new long[]{lastBetId, sent});
+        sentAny |= sent > 0;
+
+        boolean advanced = false;
+        long[] next;
+        while ((next = sentChunks.remove(checkpointedChunks)) != null) {
+            checkpointedChunks++;
+            checkpointedBetId = next[0];
+            dispatched += next[1];
+            advanced = true;
+        }
+        if (advanced) {
+            checkpointService.recordChunk(eventOutcome, checkpointedBetId, dispatched);
+        }
+    }
+
+    @Override
+    public synchronized void complete() {
+        if (skipped) {
+            return;
+        }
+        if (!sentAny && !resumed) {
+            log.info("No bets to settle for event: {}", eventOutcome.getEventId());
+            return;
+        }
+
+        checkpointService.markCompleted(eventOutcome, checkpointedBetId, dispatched);
+        settledEventCache.markSettled(eventOutcome.getEventId(), eventOutcome.resultKey());
+
+        log.info("Successfully processed all settlements for event: {} - Chunks: {}, Dispatched: {}",
+                eventOutcome.getEventId(), nextChunkIndex, dispatched);
+    }
+}
@@ -0,0 +1,66 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.config.KafkaTopicConfig;
+import com.sportygroup.betsettler.config.OutcomeRetryConfig;
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes event outcomes that could not be processed to the dead-letter topic.
+ *
+ * Used by key-ordered processing, which retries in its lanes and so never
+ * lets a failure reach the container's retry-topic error handling.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutcomeDeadLetterPublisher {
+
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
+    private final KafkaTemplate<String, Object> retryKafkaTemplate;
+    private final KafkaTopicConfig topicConfig;
+    private final OutcomeRetryConfig retryConfig;
+
+    /**
+     * Sends an outcome to the dead-letter topic and waits for the broker.
+     *
+     * @param eventOutcome The outcome that failed
+     * @param cause The last processing error
+     * @throws IllegalStateException if the broker does not acknowledge the record; the
+     *         caller must then not commit past the original record
+     */
+    public void publish(EventOutcomeDTO eventOutcome, Exception cause) {
+        String topic = topicConfig.getEventOutcomes() + retryConfig.getDltSuffix();
+
+        ProducerRecord<String, Object> record = new ProducerRecord<>(topic, eventOutcome.getEventId(), eventOutcome);
+        record.headers().add(KafkaHeaders.DLT_ORIGINAL_TOPIC,
+                topicConfig.getEventOutcomes().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_FQCN,
+                cause.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        if (cause.getMessage() != null) {
+            record.headers().add(KafkaHeaders.DLT_EXCEPTION_MESSAGE,
+                    cause.getMessage().getBytes(StandardCharsets.UTF_8));
+        }
+
+        try {
+            retryKafkaTemplate.send(record).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            log.warn("Sent event outcome to dead-letter topic - Topic: {}, Event ID: {}",
+                    topic, eventOutcome.getEventId());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while dead-lettering event outcome "
+                    + eventOutcome.getEventId(), e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to dead-letter event outcome " + eventOutcome.getEventId(), e);
+        }
+    }
+}
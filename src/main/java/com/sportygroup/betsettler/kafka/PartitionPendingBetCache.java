@@ -0,0 +1,282 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.config.KafkaTopicConfig;
+import com.sportygroup.betsettler.config.OutcomeProcessingConfig;
+import com.sportygroup.betsettler.config.PartitionAffinityConfig;
+import com.sportygroup.betsettler.config.SettlementMatchingConfig;
+import com.sportygroup.betsettler.repository.PendingBetReader;
+import com.sportygroup.betsettler.repository.PreloadedPendingBets;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pending bets of the events on this node's event outcome partitions.
+ *
+ * Outcomes are keyed by eventId, so an event's outcomes normally reach
+ * the owner of its partition. When partitions are assigned, the pending
+ * bets of the events hashing to them are loaded in the background up to
+ * the highest betId at the time; when they are revoked or lost, their bets
+ * are dropped. With the cooperative-sticky assignor a rebalance only hands
+ * over the partitions that change owner, so the rest of the loaded state
+ * stays in place.
+ *
+ * The preload is an optimisation, not a claim on the event. A retried
+ * outcome arrives on a retry topic partition that another node may own,
+ * and an insert holding a betId below the watermark may commit after the
+ * load, which {@link com.sportygroup.betsettler.service.BetMatchingService}
+ * detects before using the preload. Either way the bets are read from the
+ * database, and a bet settled twice is written only once, as settlement
+ * only updates bets that are still PENDING.
+ *
+ * The bets of an event are taken once, by the first outcome processed
+ * for it; they are not kept in step with settlements, so any later
+ * outcome of the event reads from the database. Only columnar matching
+ * uses preloaded bets, and fair mode dispatches through chunked database
+ * reads, so the cache is not used with list matching or in fair mode.
+ */
+@Component
+@Slf4j
+public class PartitionPendingBetCache implements ConsumerAwareRebalanceListener {
+
+    private final PartitionAffinityConfig config;
+    private final OutcomeProcessingConfig processingConfig;
+    private final SettlementMatchingConfig matchingConfig;
+    private final KafkaTopicConfig topicConfig;
+    private final PendingBetReader pendingBetReader;
+    private final Map<Integer, PartitionState> partitions = new ConcurrentHashMap<>();
+    private final ExecutorService loader;
+    private volatile int partitionCount;
+
+    public PartitionPendingBetCache(PartitionAffinityConfig config, OutcomeProcessingConfig processingConfig,
+                                    SettlementMatchingConfig matchingConfig, KafkaTopicConfig topicConfig,
+                                    PendingBetReader pendingBetReader, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.processingConfig = processingConfig;
+        this.matchingConfig = matchingConfig;
+        this.topicConfig = topicConfig;
+        this.pendingBetReader = pendingBetReader;
+        this.loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "partition-state-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("kafka.listener.local.partitions", this, PartitionPendingBetCache::getLoadedPartitionCount)
+                .description("Assigned event outcome partitions whose pending bets are loaded")
+                .register(meterRegistry);
+        Gauge.builder("kafka.listener.local.bets", this, PartitionPendingBetCache::getHeldBetCount)
+                .description("Pending bets held for assigned event outcome partitions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether pending bets are loaded for assigned partitions.
+     */
+    public boolean isEnabled() {
+        return config.isEnabled() && matchingConfig.isColumnar()
+                && processingConfig.getMode() != OutcomeProcessingConfig.Mode.FAIR;
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> assigned) {
+        if (!isEnabled()) {
+            return;
+        }
+        Map<Integer, PartitionState> loading = new HashMap<>();
+        for (TopicPartition topicPartition : assigned) {
+            if (topicConfig.getEventOutcomes().equals(topicPartition.topic())) {
+                PartitionState state = new PartitionState();
+                partitions.put(topicPartition.partition(), state);
+                loading.put(topicPartition.partition(), state);
+            }
+        }
+        if (loading.isEmpty()) {
+            return;
+        }
+        int count = consumer.partitionsFor(topicConfig.getEventOutcomes()).size();
+        partitionCount = count;
+        log.info("Loading pending bets for assigned partitions - Partitions: {}, Partition count: {}",
+                loading.keySet(), count);
+        loader.execute(() -> load(loading, count));
+    }
+
+    @Override
+    public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> revoked) {
+        evict(revoked);
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> lost) {
+        evict(lost);
+    }
+
+    /**
+     * Takes the preloaded pending bets of an event, once.
+     *
+     * @param eventId The event identifier
+     * @return The event's pending bets up to the watermark, or null if they
+     *         must be read from the database
+     */
+    public PreloadedPendingBets take(String eventId) {
+        int count = partitionCount;
+        if (!isEnabled() || count == 0) {
+            return null;
+        }
+        PartitionState state = partitions.get(partitionFor(eventId, count));
+        return state != null ? state.take(eventId) : null;
+    }
+
+    /**
+     * Loads the pending bets of the given partitions and publishes them if still assigned.
+     */
+    void load(Map<Integer, PartitionState> loading, int count) {
+        long startNanos = System.nanoTime();
+        long watermark;
+        try {
+            watermark = pendingBetReader.findMaxBetId();
+        } catch (Exception e) {
+            loading.values().forEach(PartitionState::abandon);
+            log.warn("Failed to load pending bets of partitions {} - Error: {}", loading.keySet(), e.getMessage());
+            return;
+        }
+
+        Map<Integer, Map<String, PreloadedPendingBets>> loaded = new HashMap<>();
+        Map<String, String> identifiers = new HashMap<>();
+        long budget = config.getMaxBets() - getHeldBetCount();
+        long[] read = new long[1];
+        try {
+            pendingBetReader.readAllPendingBets(watermark,
+                    (eventId, betId, userId, marketId, predictedWinnerId, stakeMinor, oddsFixed) -> {
+                        int partition = partitionFor(eventId, count);
+                        if (!loading.containsKey(partition)) {
+                            return;
+                        }
+                        if (++read[0] > budget) {
+                            throw new LoadLimitExceededException();
+                        }
+                        // Markets and predictions repeat across bets; keep one copy of each
+                        loaded.computeIfAbsent(partition, p -> new HashMap<>())
+                                .computeIfAbsent(eventId, id -> new PreloadedPendingBets(id, watermark))
+                                .add(betId, userId, identifiers.computeIfAbsent(marketId, id -> id),
+                                        identifiers.computeIfAbsent(predictedWinnerId, id -> id),
+                                        stakeMinor, oddsFixed);
+                    });
+        } catch (LoadLimitExceededException e) {
+            loading.values().forEach(PartitionState::abandon);
+            log.warn("Not loading pending bets of partitions {} - more than {} bets would be held; "
+                    + "their outcomes read from the database", loading.keySet(), config.getMaxBets());
+            return;
+        } catch (Exception e) {
+            loading.values().forEach(PartitionState::abandon);
+            log.warn("Failed to load pending bets of partitions {} - Error: {}", loading.keySet(), e.getMessage());
+            return;
+        }
+
+        loading.forEach((partition, state) -> {
+            Map<String, PreloadedPendingBets> events = loaded.getOrDefault(partition, new HashMap<>());
+            events.values().forEach(PreloadedPendingBets::seal);
+            if (partitions.get(partition) == state) {
+                state.publish(events);
+            }
+        });
+        log.info("Loaded pending bets for partitions {} - Bets: {}, Watermark bet: {}, Duration: {}ms",
+                loading.keySet(), read[0], watermark, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    private void evict(Collection<TopicPartition> revoked) {
+        for (TopicPartition topicPartition : revoked) {
+            if (topicConfig.getEventOutcomes().equals(topicPartition.topic())
+                    && partitions.remove(topicPartition.partition()) != null) {
+                log.info("Dropped pending bets of revoked partition - Partition: {}", topicPartition.partition());
+            }
+        }
+    }
+
+    /**
+     * Partition of an eventId key, as chosen by the producer's default partitioner.
+     */
+    static int partitionFor(String eventId, int partitionCount) {
+        return Utils.toPositive(Utils.murmur2(eventId.getBytes(StandardCharsets.UTF_8))) % partitionCount;
+    }
+
+    public int getLoadedPartitionCount() {
+        return (int) partitions.values().stream().filter(PartitionState::isLoaded).count();
+    }
+
+    public long getHeldBetCount() {
+        return partitions.values().stream().mapToLong(PartitionState::heldBets).sum();
+    }
+
+    @PreDestroy
+    public void stop() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * Loaded state of one assigned partition.
+     */
+    static final class PartitionState {
+        // Events taken while loading; only needed until the load is published or abandoned
+        private Set<String> taken = new HashSet<>();
+        private Map<String, PreloadedPendingBets> events;
+        private long heldBets;
+
+        synchronized void publish(Map<String, PreloadedPendingBets> loadedEvents) {
+            // Events taken while loading were read from the database and may be part-settled already
+            loadedEvents.keySet().removeAll(taken);
+            taken = null;
+            events = loadedEvents;
+            heldBets = loadedEvents.values().stream().mapToLong(PreloadedPendingBets::size).sum();
+        }
+
+        synchronized PreloadedPendingBets take(String eventId) {
+            if (events == null) {
+                if (taken != null) {
+                    taken.add(eventId);
+                }
+                return null;
+            }
+            // Removed once taken, so a later outcome of the event reads from the database
+            PreloadedPendingBets bets = events.remove(eventId);
+            if (bets != null) {
+                heldBets -= bets.size();
+            }
+            return bets;
+        }
+
+        synchronized void abandon() {
+            taken = null;
+        }
+
+        synchronized boolean isLoaded() {
+            return events != null;
+        }
+
+        synchronized long heldBets() {
+            return heldBets;
+        }
+    }
+
+    private static final class LoadLimitExceededException extends RuntimeException {
+        private LoadLimitExceededException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.sportygroup.betsettler.reconciliation;
+
+import com.sportygroup.betsettler.config.SettlementReconciliationConfig;
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Checks that the bets of every settled event carry the status its outcome implies.
+ *
+ * Known outcomes are the completed dispatch checkpoints, which record the
+ * winner and market results each event was settled with. They are streamed
+ * from the database and handed to a bounded pool, which streams the bets of
+ * up to {@code parallelism} events at a time. Every bet is compared with the
+ * result of its own market, as settlement does: a bet still PENDING, or
+ * WON/LOST the wrong way round, is flagged. Bets on markets the recorded
+ * outcome does not resolve were left pending by it and are not checked.
+ * Only counters and a capped sample of flagged betIds are kept, so a run
+ * over millions of bets needs no more memory than one fetch per event.
+ */
+@Component
+@Slf4j
+public class SettlementReconciler {
+
+    private static final String SELECT_OUTCOMES_SQL =
+            "SELECT event_id, event_winner_id, market_results FROM dispatch_checkpoint WHERE completed = TRUE";
+
+    private static final String SELECT_OUTCOME_SQL = SELECT_OUTCOMES_SQL + " AND event_id = ?";
+
+    private static final String SELECT_BETS_SQL =
+            "SELECT bet_id, event_market_id, event_winner_id, status FROM bet WHERE event_id = ?";
+
+    /**
+     * Discrepancies found in one event.
+     *
+     * @param eventId The event
+     * @param winnerId The winner the event was settled with
+     * @param betsScanned Bets of the event that were checked
+     * @param mismatched Settled bets whose status contradicts the result of their market
+     * @param stillPending Bets that are still PENDING
+     * @param flaggedBetIds Sample of the flagged bets
+     */
+    public record EventDiscrepancy(String eventId, String winnerId, long betsScanned, long mismatched,
+                                   long stillPending, List<Long> flaggedBetIds) {
+    }
+
+    /**
+     * Result of a reconciliation run.
+     *
+     * @param startedAt When the run started
+     * @param finishedAt When the run finished
+     * @param eventsChecked Settled events whose bets were scanned
+     * @param eventsFailed Events that could not be scanned
+     * @param betsScanned Bets checked across all events
+     * @param mismatched Settled bets whose status contradicts the result of their market
+     * @param stillPending Bets of settled events that are still PENDING
+     * @param eventsWithDiscrepancies Events with at least one flagged bet
+     * @param events Events with flagged bets, capped at {@code maxReportedEvents}
+     */
+    public record Report(LocalDateTime startedAt, LocalDateTime finishedAt, long eventsChecked, long eventsFailed,
+                         long betsScanned, long mismatched, long stillPending, long eventsWithDiscrepancies,
+                         List<EventDiscrepancy> events) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SettlementReconciliationConfig config;
+    private final Timer runTimer;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Report lastReport;
+
+    public SettlementReconciler(JdbcTemplate jdbcTemplate, SettlementReconciliationConfig config,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.runTimer = meterRegistry.timer("settlement.reconciliation.duration");
+        Gauge.builder("settlement.reconciliation.mismatched", this,
+                        r -> r.lastReport != null ? r.lastReport.mismatched() : 0)
+                .description("Mismatched bets found by the last reconciliation")
+                .register(meterRegistry);
+        Gauge.builder("settlement.reconciliation.pending", this,
+                        r -> r.lastReport != null ? r.lastReport.stillPending() : 0)
+                .description("Still-pending bets of settled events found by the last reconciliation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs a reconciliation periodically if enabled.
+     */
+    @Scheduled(fixedDelayString = "${application.settlement.reconciliation.interval-ms:3600000}",
+            initialDelayString = "${application.settlement.reconciliation.interval-ms:3600000}")
+    public void scheduledRun() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (IllegalStateException e) {
+            log.info("Skipping scheduled reconciliation - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reconciles the bets of every settled event.
+     *
+     * @return The report of the run
+     * @throws IllegalStateException if a run is already in progress
+     */
+    public Report reconcile() {
+        return run(null);
+    }
+
+    /**
+     * Reconciles the bets of one settled event.
+     *
+     * @param eventId The event identifier
+     * @return The report of the run; it checks no events if the event has not been settled
+     * @throws IllegalStateException if a run is already in progress
+     */
+    public Report reconcile(String eventId) {
+        return run(eventId);
+    }
+
+    /**
+     * Returns the report of the last completed run.
+     *
+     * @return The last report, or null if no run has completed yet
+     */
+    public Report getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * Whether a run is in progress.
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private Report run(String eventId) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Reconciliation is already running");
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            log.info("Starting settlement reconciliation - Event ID: {}, Parallelism: {}",
+                    eventId != null ? eventId : "all", config.getParallelism());
+            Totals totals = runTimer.record(() -> scan(eventId));
+            Report report = totals.toReport(startedAt, LocalDateTime.now());
+            lastReport = report;
+            log.info("Finished settlement reconciliation - Events: {}, Bets: {}, Mismatched: {}, Still pending: {}, "
+                            + "Failed events: {}", report.eventsChecked(), report.betsScanned(), report.mismatched(),
+                    report.stillPending(), report.eventsFailed());
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Totals scan(String eventId) {
+        Totals totals = new Totals();
+        int parallelism = Math.max(1, config.getParallelism());
+        AtomicInteger threadCount = new AtomicInteger();
+        // A full queue makes the outcome stream scan the next event itself, so outcomes are never buffered
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(parallelism),
+                runnable -> new Thread(runnable, "settlement-reconciler-" + threadCount.incrementAndGet()),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            RowCallbackHandler outcomes = rs -> {
+                String settledEventId = rs.getString(1);
+                EventOutcomeDTO outcome = EventOutcomeDTO.builder()
+                        .eventId(settledEventId)
+                        .eventWinnerId(rs.getString(2))
+                        .marketResults(EventOutcomeDTO.parseMarketResults(rs.getString(3)))
+                        .build();
+                executor.execute(() -> reconcileEvent(outcome, totals));
+            };
+            if (eventId != null) {
+                jdbcTemplate.query(SELECT_OUTCOME_SQL, outcomes, eventId);
+            } else {
+                jdbcTemplate.query(SELECT_OUTCOMES_SQL, outcomes);
+            }
+        } finally {
+            executor.shutdown();
+            awaitTermination(executor);
+        }
+        return totals;
+    }
+
+    /**
+     * Streams the bets of one event and counts those that contradict the result of their market.
+     */
+    void reconcileEvent(EventOutcomeDTO outcome, Totals totals) {
+        String eventId = outcome.getEventId();
+        String winnerId = outcome.getEventWinnerId();
+        Set<String> markets = config.getMarkets().isEmpty() ? null : new HashSet<>(config.getMarkets());
+        int maxFlagged = Math.max(0, config.getMaxFlaggedBetsPerEvent());
+        long[] counts = new long[3];
+        List<Long> flagged = new ArrayList<>();
+        try {
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(SELECT_BETS_SQL);
+                statement.setFetchSize(config.getFetchSize());
+                statement.setString(1, eventId);
+                return statement;
+            }, rs -> {
+                String marketId = rs.getString(2);
+                String result = outcome.resultFor(marketId);
+                if (result == null || (markets != null && !markets.contains(marketId))) {
+                    return;
+                }
+                counts[0]++;
+                String status = rs.getString(4);
+                boolean flag;
+                if ("PENDING".equals(status)) {
+                    counts[2]++;
+                    flag = true;
+                } else {
+                    boolean won = result.equals(rs.getString(3));
+                    flag = won != "WON".equals(status);
+                    if (flag) {
+                        counts[1]++;
+                    }
+                }
+                if (flag && flagged.size() < maxFlagged) {
+                    flagged.add(rs.getLong(1));
+                }
+            });
+        } catch (Exception e) {
+            totals.eventsFailed.increment();
+            log.warn("Failed to reconcile event - Event ID: {}, Error: {}", eventId, e.getMessage());
+            return;
+        }
+
+        totals.eventsChecked.increment();
+        totals.betsScanned.add(counts[0]);
+        totals.mismatched.add(counts[1]);
+        totals.stillPending.add(counts[2]);
+        if (counts[1] > 0 || counts[2] > 0) {
+            log.warn("Reconciliation found discrepancies - Event ID: {}, Winner: {}, Mismatched: {}, Still pending: {}",
+                    eventId, winnerId, counts[1], counts[2]);
+            totals.addDiscrepancy(new EventDiscrepancy(eventId, winnerId, counts[0], counts[1], counts[2],
+                    List.copyOf(flagged)), config.getMaxReportedEvents());
+        }
+    }
+
+    private static void awaitTermination(ThreadPoolExecutor executor) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.info("Waiting for reconciliation workers - Active: {}", executor.getActiveCount());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Counters shared by the workers of one run.
+     */
+    static class Totals {
+        private final LongAdder eventsChecked = new LongAdder();
+        private final LongAdder eventsFailed = new LongAdder();
+        private final LongAdder betsScanned = new LongAdder();
+        private final LongAdder mismatched = new LongAdder();
+        private final LongAdder stillPending = new LongAdder();
+        private final LongAdder eventsWithDiscrepancies = new LongAdder();
+        private final ConcurrentLinkedQueue<EventDiscrepancy> discrepancies = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger reported = new AtomicInteger();
+
+        private void addDiscrepancy(EventDiscrepancy discrepancy, int maxReported) {
+            eventsWithDiscrepancies.increment();
+            if (reported.incrementAndGet() <= maxReported) {
+                discrepancies.add(discrepancy);
+            }
+        }
+
+        private Report toReport(LocalDateTime startedAt, LocalDateTime finishedAt) {
+            return new Report(startedAt, finishedAt, eventsChecked.sum(), eventsFailed.sum(), betsScanned.sum(),
+                    mismatched.sum(), stillPending.sum(), eventsWithDiscrepancies.sum(), List.copyOf(discrepancies));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.sportygroup.betsettler.reconciliation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for settlement reconciliation.
+ *
+ * GET /actuator/settlementreconciliation shows the report of the last run,
+ * POST runs a reconciliation and returns its report, for one event with
+ * {"eventId": "..."} or for every settled event when eventId is omitted.
+ */
+@Component
+@Endpoint(id = "settlementreconciliation")
+@RequiredArgsConstructor
+public class SettlementReconciliationEndpoint {
+
+    private final SettlementReconciler reconciler;
+
+    @ReadOperation
+    public Map<String, Object> lastReport() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", reconciler.isRunning());
+        status.put("lastReport", reconciler.getLastReport());
+        return status;
+    }
+
+    @WriteOperation
+    public SettlementReconciler.Report run(@Nullable String eventId) {
+        return eventId != null ? reconciler.reconcile(eventId) : reconciler.reconcile();
+    }
+}
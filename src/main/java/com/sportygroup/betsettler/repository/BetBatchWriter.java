@@ -0,0 +1,225 @@
+package com.sportygroup.betsettler.repository;
+
+import com.sportygroup.betsettler.config.BetIngestionConfig;
+import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.exception.OverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group-commit writer for new bets.
+ *
+ * Placement requests are queued and a single flusher thread accumulates
+ * them for up to {@code lingerMs} (or until {@code maxBatchSize} rows are
+ * pending), then writes them with one JDBC batch inside one transaction.
+ * Callers receive a future that completes once their rows are committed.
+ * The users' bet summaries are updated in the same transaction.
+ */
+@Component
+@Slf4j
+public class BetBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO bet (user_id, event_id, event_market_id, event_winner_id, bet_amount, odds, status, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BetIngestionConfig config;
+    private final UserBetSummaryWriter summaryWriter;
+    private final BlockingQueue<PendingInsert> queue;
+    private volatile boolean running;
+    private Thread flusher;
+
+    public BetBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            BetIngestionConfig config,
+            UserBetSummaryWriter summaryWriter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.config = config;
+        this.summaryWriter = summaryWriter;
+        this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+    }
+
+    /**
+     * Starts the flusher thread on bean creation.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlusher, "bet-batch-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Bet batch writer started - Linger: {}ms, Max batch size: {}, Queue capacity: {}",
+                config.getLingerMs(), config.getMaxBatchSize(), config.getQueueCapacity());
+    }
+
+    /**
+     * Queues bets for the next group commit.
+     *
+     * @param bets The bets to insert
+     * @return Future completed with the number of rows written once committed
+     * @throws OverloadedException if the writer queue is full
+     */
+    public CompletableFuture<Integer> submit(List<Bet> bets) {
+        if (bets.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        if (!running) {
+            throw new IllegalStateException("Bet batch writer is not running");
+        }
+
+        PendingInsert pending = new PendingInsert(bets, new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            log.warn("Bet batch writer queue full - rejecting {} bets", bets.size());
+            throw new OverloadedException("Bet ingestion queue is full",
+                    OverloadedException.Reason.UNAVAILABLE, config.getRetryAfterSeconds());
+        }
+        // Stopped while queueing - unless the flusher or stop() already took it, nobody will
+        if (!running && queue.remove(pending)) {
+            throw new IllegalStateException("Bet batch writer is not running");
+        }
+        return pending.future();
+    }
+
+    /**
+     * Returns the number of requests waiting for the next flush.
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void runFlusher() {
+        long lingerNanos = TimeUnit.MILLISECONDS.toNanos(config.getLingerMs());
+        List<PendingInsert> batch = new ArrayList<>();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingInsert first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                int rows = first.bets().size();
+                long deadline = System.nanoTime() + lingerNanos;
+
+                // Keep accumulating until the batch is full or the linger window closes
+                while (rows < config.getMaxBatchSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingInsert next = remaining > 0
+                            ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    rows += next.bets().size();
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(p -> p.future().completeExceptionally(e));
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes a group of requests in one transaction.
+     *
+     * If the group fails, each request is retried on its own so that one
+     * bad request does not fail the others it happened to be batched with.
+     */
+    void flush(List<PendingInsert> batch) {
+        try {
+            int written = write(batch);
+            batch.forEach(p -> p.future().complete(p.bets().size()));
+            log.debug("Flushed {} bets from {} requests", written, batch.size());
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                log.error("Failed to write bets - Error: {}", e.getMessage(), e);
+                batch.get(0).future().completeExceptionally(e);
+                return;
+            }
+            log.warn("Group commit of {} requests failed, retrying individually - Error: {}",
+                    batch.size(), e.getMessage());
+            for (PendingInsert pending : batch) {
+                flush(List.of(pending));
+            }
+        }
+    }
+
+    private int write(List<PendingInsert> batch) {
+        List<Bet> rows = new ArrayList<>();
+        for (PendingInsert pending : batch) {
+            rows.addAll(pending.bets());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, bet) -> {
+                ps.setString(1, bet.getUserId());
+                ps.setString(2, bet.getEventId());
+                ps.setString(3, bet.getEventMarketId());
+                ps.setString(4, bet.getEventWinnerId());
+                ps.setBigDecimal(5, bet.getBetAmount());
+                ps.setBigDecimal(6, bet.getOdds());
+                ps.setString(7, bet.getStatus().name());
+                ps.setTimestamp(8, Timestamp.valueOf(bet.getCreatedAt()));
+            });
+            summaryWriter.recordPlaced(rows);
+        });
+        return rows.size();
+    }
+
+    /**
+     * Stops accepting bets and drains the queue before shutdown.
+     *
+     * Requests the flusher could not write in time are failed, so no
+     * caller is left waiting on a future that never completes.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(5));
+                if (flusher.isAlive()) {
+                    flusher.interrupt();
+                    flusher.join(TimeUnit.SECONDS.toMillis(1));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<PendingInsert> unwritten = new ArrayList<>();
+        queue.drainTo(unwritten);
+        if (!unwritten.isEmpty()) {
+            log.warn("Failing {} bet placement requests not written before shutdown", unwritten.size());
+            IllegalStateException stopped =
+                    new IllegalStateException("Bet batch writer stopped before writing the bets");
+            unwritten.forEach(p -> p.future().completeExceptionally(stopped));
+        }
+        log.info("Bet batch writer stopped");
+    }
+
+    record PendingInsert(List<Bet> bets, CompletableFuture<Integer> future) {
+    }
+}
@@ -2,9 +2,16 @@ package com.sportygroup.betsettler.repository;
 
 import com.sportygroup.betsettler.entity.Bet;
 import com.sportygroup.betsettler.entity.BetStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -27,14 +34,89 @@ public interface BetRepository extends JpaRepository<Bet, Long> {
      */
     List<Bet> findByEventIdAndStatus(String eventId, BetStatus status);
 
+    /**
+     * Finds bets for an event with a given status after a given betId, in betId order.
+     *
+     * Used to resume settlement dispatch from a checkpoint.
+     *
+     * @param eventId The event identifier
+     * @param status The bet status (typically PENDING)
+     * @param betId Only bets with a higher betId are returned
+     * @return List of matching bets ordered by betId
+     */
+    List<Bet> findByEventIdAndStatusAndBetIdGreaterThanOrderByBetIdAsc(String eventId, BetStatus status, Long betId);
+
     /**
      * Finds all bets for a specific user.
      *
+     * Unbounded - use the keyset queries below for user-facing history.
+     *
      * @param userId The user identifier
      * @return List of user's bets
      */
     List<Bet> findByUserId(String userId);
 
+    /**
+     * Finds the newest bets of a user.
+     *
+     * First page of the user bet history, served by the
+     * (userId, createdAt, betId) index.
+     *
+     * @param userId The user identifier
+     * @param page Page limit (only the size is used)
+     * @return Bets ordered newest first
+     */
+    List<Bet> findByUserIdOrderByCreatedAtDescBetIdDesc(String userId, Pageable page);
+
+    /**
+     * Finds the newest bets of a user with a given status.
+     *
+     * @param userId The user identifier
+     * @param status The bet status
+     * @param page Page limit (only the size is used)
+     * @return Bets ordered newest first
+     */
+    List<Bet> findByUserIdAndStatusOrderByCreatedAtDescBetIdDesc(String userId, BetStatus status, Pageable page);
+
+    /**
+     * Finds the bets of a user placed before a cursor position.
+     *
+     * Seeks straight to the cursor in the (userId, createdAt, betId) index,
+     * so the cost of a page does not grow with the length of the history.
+     *
+     * @param userId The user identifier
+     * @param createdAt Creation time of the last bet on the previous page
+     * @param betId ID of the last bet on the previous page
+     * @param page Page limit (only the size is used)
+     * @return Bets ordered newest first
+     */
+    @Query("SELECT b FROM Bet b WHERE b.userId = :userId "
+            + "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.betId < :betId)) "
+            + "ORDER BY b.createdAt DESC, b.betId DESC")
+    List<Bet> findUserBetsBefore(@Param("userId") String userId,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("betId") Long betId,
+                                 Pageable page);
+
+    /**
+     * Finds the bets of a user with a given status placed before a cursor position.
+     *
+     * @param userId The user identifier
+     * @param status The bet status
+     * @param createdAt Creation time of the last bet on the previous page
+     * @param betId ID of the last bet on the previous page
+     * @param page Page limit (only the size is used)
+     * @return Bets ordered newest first
+     */
+    @Query("SELECT b FROM Bet b WHERE b.userId = :userId AND b.status = :status "
+            + "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.betId < :betId)) "
+            + "ORDER BY b.createdAt DESC, b.betId DESC")
+    List<Bet> findUserBetsBefore(@Param("userId") String userId,
+                                 @Param("status") BetStatus status,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("betId") Long betId,
+                                 Pageable page);
+
     /**
      * Finds all bets for a specific event.
      *
@@ -50,4 +132,17 @@ public interface BetRepository extends JpaRepository<Bet, Long> {
      * @return List of bets with the given status
      */
     List<Bet> findByStatus(BetStatus status);
-}
\ No newline at end of file
+
+    /**
+     * Finds bets by ID and locks them until the end of the transaction.
+     *
+     * Used when settling, so that a bet's status is checked and changed
+     * without a concurrent settlement or correction in between.
+     *
+     * @param betIds The bet identifiers
+     * @return The bets found, in no particular order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Bet b WHERE b.betId IN :betIds")
+    List<Bet> findAllByIdForUpdate(@Param("betIds") Collection<Long> betIds);
+}
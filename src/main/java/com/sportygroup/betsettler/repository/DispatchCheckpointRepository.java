@@ -0,0 +1,36 @@
+package com.sportygroup.betsettler.repository;
+
+import com.sportygroup.betsettler.entity.DispatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JPA Repository for DispatchCheckpoint entity.
+ *
+ * Checkpoints are keyed by eventId.
+ */
+@Repository
+public interface DispatchCheckpointRepository extends JpaRepository<DispatchCheckpoint, String> {
+
+    /**
+     * Returns the eventIds of all events whose dispatch has completed.
+     *
+     * @return List of eventIds
+     */
+    @Query("SELECT c.eventId FROM DispatchCheckpoint c WHERE c.completed = true")
+    List<String> findCompletedEventIds();
+
+    /**
+     * Returns every checkpoint written at or after a point in time.
+     *
+     * @param since The earliest update time to include
+     * @return List of checkpoints
+     */
+    @Query("SELECT c FROM DispatchCheckpoint c WHERE c.updatedAt >= :since")
+    List<DispatchCheckpoint> findUpdatedSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,185 @@
+package com.sportygroup.betsettler.repository;
+
+import com.sportygroup.betsettler.config.SettlementDataAccessConfig;
+import com.sportygroup.betsettler.config.SettlementMatchingConfig;
+import com.sportygroup.betsettler.dto.BetSettlementDTO;
+import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter.StatusChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Plain-JDBC counterpart of {@link BetRepository} for the matching and settlement hot paths.
+ *
+ * Pending bets are read with a prepared statement and the configured fetch
+ * size into detached {@link Bet} objects, and settlements are written with
+ * batched updates, so neither path pays for a persistence context, dirty
+ * checking or a flush. Used instead of BetRepository when
+ * {@code application.settlement.data-access.mode} is JDBC. Callers must
+ * invoke {@link #settle(List, LocalDateTime, Consumer)} inside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcBetRepository {
+
+    private static final String SELECT_PENDING_SQL =
+            "SELECT bet_id, user_id, event_id, event_market_id, event_winner_id, bet_amount, odds, "
+                    + "status, created_at, settled_at, settlement_version "
+                    + "FROM bet WHERE event_id = ? AND status = 'PENDING' AND bet_id > ? ORDER BY bet_id";
+
+    private static final String SELECT_FOR_SETTLEMENT_SQL =
+            "SELECT bet_id, user_id, bet_amount, status FROM bet WHERE bet_id IN (%s) FOR UPDATE";
+
+    private static final String SETTLE_SQL =
+            "UPDATE bet SET status = ?, settled_at = ?, settlement_version = settlement_version + 1 "
+                    + "WHERE bet_id = ? AND status = 'PENDING'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SettlementMatchingConfig matchingConfig;
+    private final SettlementDataAccessConfig dataAccessConfig;
+
+    /**
+     * Reads the pending bets of an event in betId order.
+     *
+     * @param eventId The event identifier
+     * @param afterBetId Only bets with a higher betId are read (0 for all)
+     * @return Detached bets; changing them does not change the database
+     */
+    public List<Bet> findPendingBets(String eventId, long afterBetId) {
+        List<Bet> bets = new ArrayList<>();
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SELECT_PENDING_SQL);
+            statement.setFetchSize(matchingConfig.getFetchSize());
+            statement.setString(1, eventId);
+            statement.setLong(2, afterBetId);
+            return statement;
+        }, rs -> {
+            bets.add(toBet(rs));
+        });
+        return bets;
+    }
+
+    /**
+     * Writes settlements with batched updates.
+     *
+     * The current status, user and stake of each bet are read and locked
+     * first (one query per batch) so the status changes can be returned for
+     * the user bet summaries; the updates then go out as JDBC batches of
+     * {@code writeBatchSize}. Each bet's {@code settlement_version} is
+     * incremented, as with {@link Bet#markAsWon()}.
+     *
+     * Only pending bets are settled. A bet that is already settled, for
+     * example by a redelivered settlement or after an outcome correction,
+     * is left as it is, and so is one whose update matches no pending row.
+     *
+     * @param settlements The settlements to apply
+     * @param settledAt Settlement timestamp written to the bets
+     * @param onSettled Called with each settlement that changed its bet, in settlement order
+     * @return The status change of every bet that was settled, in settlement order
+     * @throws IllegalArgumentException if any bet is not found
+     */
+    public List<StatusChange> settle(List<BetSettlementDTO> settlements, LocalDateTime settledAt,
+                                     Consumer<BetSettlementDTO> onSettled) {
+        if (settlements.isEmpty()) {
+            return List.of();
+        }
+
+        int batchSize = Math.max(1, dataAccessConfig.getWriteBatchSize());
+        List<StatusChange> changes = new ArrayList<>(settlements.size());
+        for (int from = 0; from < settlements.size(); from += batchSize) {
+            List<BetSettlementDTO> batch = settlements.subList(from, Math.min(settlements.size(), from + batchSize));
+            Map<Long, SettlingBet> bets = loadForSettlement(batch);
+
+            List<BetSettlementDTO> pending = new ArrayList<>(batch.size());
+            List<StatusChange> pendingChanges = new ArrayList<>(batch.size());
+            for (BetSettlementDTO settlement : batch) {
+                SettlingBet bet = bets.get(settlement.getBetId());
+                if (bet == null) {
+                    throw new IllegalArgumentException("Bet not found: " + settlement.getBetId());
+                }
+                if (bet.status != BetStatus.PENDING) {
+                    // Also skips a bet settled twice in one batch
+                    continue;
+                }
+                BetStatus to = Boolean.TRUE.equals(settlement.getWon()) ? BetStatus.WON : BetStatus.LOST;
+                pending.add(settlement);
+                pendingChanges.add(new StatusChange(bet.userId, bet.amount, bet.status, to));
+                bet.status = to;
+            }
+            if (pending.isEmpty()) {
+                continue;
+            }
+
+            Timestamp timestamp = Timestamp.valueOf(settledAt);
+            int[][] updated = jdbcTemplate.batchUpdate(SETTLE_SQL, pending, pending.size(), (statement, settlement) -> {
+                statement.setString(1, Boolean.TRUE.equals(settlement.getWon())
+                        ? BetStatus.WON.name() : BetStatus.LOST.name());
+                statement.setTimestamp(2, timestamp);
+                statement.setLong(3, settlement.getBetId());
+            });
+            int[] counts = updated.length > 0 ? updated[0] : new int[0];
+            for (int i = 0; i < pendingChanges.size(); i++) {
+                // Drivers that cannot tell report SUCCESS_NO_INFO; the rows are locked and pending then
+                if (i >= counts.length || counts[i] != 0) {
+                    changes.add(pendingChanges.get(i));
+                    onSettled.accept(pending.get(i));
+                }
+            }
+        }
+        return changes;
+    }
+
+    private Map<Long, SettlingBet> loadForSettlement(List<BetSettlementDTO> batch) {
+        String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+        Object[] betIds = batch.stream().map(BetSettlementDTO::getBetId).toArray();
+        Map<Long, SettlingBet> bets = new HashMap<>();
+        jdbcTemplate.query(String.format(SELECT_FOR_SETTLEMENT_SQL, placeholders), rs -> {
+            bets.put(rs.getLong(1), new SettlingBet(rs.getString(2), rs.getBigDecimal(3),
+                    BetStatus.valueOf(rs.getString(4))));
+        }, betIds);
+        return bets;
+    }
+
+    private Bet toBet(ResultSet rs) throws SQLException {
+        Timestamp settledAt = rs.getTimestamp(10);
+        return Bet.builder()
+                .betId(rs.getLong(1))
+                .userId(rs.getString(2))
+                .eventId(rs.getString(3))
+                .eventMarketId(rs.getString(4))
+                .eventWinnerId(rs.getString(5))
+                .betAmount(rs.getBigDecimal(6))
+                .odds(rs.getBigDecimal(7))
+                .status(BetStatus.valueOf(rs.getString(8)))
+                .createdAt(rs.getTimestamp(9).toLocalDateTime())
+                .settledAt(settledAt != null ? settledAt.toLocalDateTime() : null)
+                .settlementVersion(rs.getInt(11))
+                .build();
+    }
+
+    private static final class SettlingBet {
+        private final String userId;
+        private final BigDecimal amount;
+        private BetStatus status;
+
+        private SettlingBet(String userId, BigDecimal amount, BetStatus status) {
+            this.userId = userId;
+            this.amount = amount;
+            this.status = status;
+        }
+    }
+}
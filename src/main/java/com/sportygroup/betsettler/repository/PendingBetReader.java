@@ -0,0 +1,178 @@
+package com.sportygroup.betsettler.repository;
+
+import com.sportygroup.betsettler.config.SettlementMatchingConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Streams the pending bets of an event straight from JDBC.
+ *
+ * Rows are handed to the caller column by column without creating
+ * entities, and amounts are converted to fixed point by the database, so
+ * reading a large event allocates little beyond the identifier strings.
+ */
+@Component
+@RequiredArgsConstructor
+public class PendingBetReader {
+
+    private static final String SELECT_SQL =
+            "SELECT bet_id, user_id, event_market_id, event_winner_id, "
+                    + "CAST(bet_amount * 100 AS BIGINT) AS stake_minor, "
+                    + "CAST(odds * 10000 AS BIGINT) AS odds_fixed "
+                    + "FROM bet WHERE event_id = ? AND status = 'PENDING' AND bet_id > ? "
+                    + "ORDER BY bet_id";
+
+    private static final String SELECT_LIMIT_SQL = SELECT_SQL + " LIMIT ?";
+
+    private static final String SELECT_ALL_SQL =
+            "SELECT bet_id, event_id, user_id, event_market_id, event_winner_id, "
+                    + "CAST(bet_amount * 100 AS BIGINT) AS stake_minor, "
+                    + "CAST(odds * 10000 AS BIGINT) AS odds_fixed "
+                    + "FROM bet WHERE status = 'PENDING' AND bet_id <= ?";
+
+    private static final String SELECT_IDS_SQL =
+            "SELECT bet_id FROM bet WHERE event_id = ? AND status = 'PENDING' AND bet_id > ? AND bet_id <= ?";
+
+    private static final String MAX_BET_ID_SQL = "SELECT COALESCE(MAX(bet_id), 0) FROM bet";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SettlementMatchingConfig config;
+
+    /**
+     * Receives one pending bet per call.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+
+        /**
+         * @param betId The bet identifier
+         * @param userId The user identifier
+         * @param eventMarketId The market identifier
+         * @param predictedWinnerId The predicted winner
+         * @param stakeMinor The stake in minor units
+         * @param oddsFixed The odds in ten-thousandths, or 0 if the bet has none
+         */
+        void accept(long betId, String userId, String eventMarketId, String predictedWinnerId,
+                    long stakeMinor, long oddsFixed);
+    }
+
+    /**
+     * Receives one pending bet of any event per call.
+     */
+    @FunctionalInterface
+    public interface EventRowHandler {
+
+        /**
+         * @param eventId The event identifier
+         * @param betId The bet identifier
+         * @param userId The user identifier
+         * @param eventMarketId The market identifier
+         * @param predictedWinnerId The predicted winner
+         * @param stakeMinor The stake in minor units
+         * @param oddsFixed The odds in ten-thousandths, or 0 if the bet has none
+         */
+        void accept(String eventId, long betId, String userId, String eventMarketId, String predictedWinnerId,
+                    long stakeMinor, long oddsFixed);
+    }
+
+    /**
+     * Reads the pending bets of an event in betId order.
+     *
+     * @param eventId The event identifier
+     * @param afterBetId Only bets with a higher betId are read (0 for all)
+     * @param handler Receives each bet
+     */
+    public void readPendingBets(String eventId, long afterBetId, RowHandler handler) {
+        read(eventId, afterBetId, 0, handler);
+    }
+
+    /**
+     * Reads at most {@code limit} pending bets of an event in betId order.
+     *
+     * Calling again with the last betId read as {@code afterBetId} reads
+     * the next chunk of the event.
+     *
+     * @param eventId The event identifier
+     * @param afterBetId Only bets with a higher betId are read (0 for all)
+     * @param limit Maximum number of bets to read
+     * @param handler Receives each bet
+     */
+    public void readPendingBets(String eventId, long afterBetId, int limit, RowHandler handler) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        read(eventId, afterBetId, limit, handler);
+    }
+
+    private void read(String eventId, long afterBetId, int limit, RowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(limit > 0 ? SELECT_LIMIT_SQL : SELECT_SQL);
+            statement.setFetchSize(limit > 0 ? Math.min(limit, config.getFetchSize()) : config.getFetchSize());
+            statement.setString(1, eventId);
+            statement.setLong(2, afterBetId);
+            if (limit > 0) {
+                statement.setInt(3, limit);
+            }
+            return statement;
+        }, rs -> {
+            // getLong returns 0 for NULL odds, which the handler treats as "no odds"
+            handler.accept(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                    rs.getLong(5), rs.getLong(6));
+        });
+    }
+
+    /**
+     * Reads the betIds of an event's pending bets in a betId range, in no particular order.
+     *
+     * Only the betIds are selected, so the database can answer from its
+     * (event_id, status) index without reading the bets themselves.
+     *
+     * @param eventId The event identifier
+     * @param afterBetId Only bets with a higher betId are read
+     * @param maxBetId Only bets with this or a lower betId are read
+     * @param handler Receives each betId
+     */
+    public void readPendingBetIds(String eventId, long afterBetId, long maxBetId, LongConsumer handler) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SELECT_IDS_SQL);
+            statement.setFetchSize(config.getFetchSize());
+            statement.setString(1, eventId);
+            statement.setLong(2, afterBetId);
+            statement.setLong(3, maxBetId);
+            return statement;
+        }, rs -> {
+            handler.accept(rs.getLong(1));
+        });
+    }
+
+    /**
+     * Returns the highest betId placed so far.
+     *
+     * @return The highest betId, or 0 if there are no bets
+     */
+    public long findMaxBetId() {
+        Long maxBetId = jdbcTemplate.queryForObject(MAX_BET_ID_SQL, Long.class);
+        return maxBetId != null ? maxBetId : 0L;
+    }
+
+    /**
+     * Reads the pending bets of every event up to a betId, in no particular order.
+     *
+     * @param maxBetId Only bets with this or a lower betId are read
+     * @param handler Receives each bet
+     */
+    public void readAllPendingBets(long maxBetId, EventRowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SELECT_ALL_SQL);
+            statement.setFetchSize(config.getFetchSize());
+            statement.setLong(1, maxBetId);
+            return statement;
+        }, rs -> {
+            handler.accept(rs.getString(2), rs.getLong(1), rs.getString(3), rs.getString(4), rs.getString(5),
+                    rs.getLong(6), rs.getLong(7));
+        });
+    }
+}
@@ -0,0 +1,145 @@
+package com.sportygroup.betsettler.repository;
+
+import java.util.Arrays;
+
+/**
+ * Pending bets of one event, loaded ahead of its outcome.
+ *
+ * Holds every bet of the event that was pending when it was loaded and
+ * has a betId up to {@link #getWatermarkBetId()}, in parallel arrays
+ * sorted by betId. Bets placed later normally have higher betIds and are
+ * read from the database above the watermark. An insert that was given a
+ * betId below the watermark but committed only after the load is missing,
+ * though, so a preload is checked with {@link #contains(long)} against the
+ * event's pending betIds before it is used.
+ */
+public class PreloadedPendingBets {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final String eventId;
+    private final long watermarkBetId;
+    private long[] betIds = new long[INITIAL_CAPACITY];
+    private String[] userIds = new String[INITIAL_CAPACITY];
+    private String[] marketIds = new String[INITIAL_CAPACITY];
+    private String[] predictedWinnerIds = new String[INITIAL_CAPACITY];
+    private long[] stakesMinor = new long[INITIAL_CAPACITY];
+    private long[] oddsFixed = new long[INITIAL_CAPACITY];
+    private int size;
+    private boolean sorted = true;
+
+    /**
+     * @param eventId The event the bets belong to
+     * @param watermarkBetId Highest betId covered by this load
+     */
+    public PreloadedPendingBets(String eventId, long watermarkBetId) {
+        this.eventId = eventId;
+        this.watermarkBetId = watermarkBetId;
+    }
+
+    /**
+     * Adds a pending bet; bets may be added in any order.
+     */
+    public void add(long betId, String userId, String eventMarketId, String predictedWinnerId,
+                    long stakeMinor, long odds) {
+        if (size == betIds.length) {
+            int capacity = size * 2;
+            betIds = Arrays.copyOf(betIds, capacity);
+            userIds = Arrays.copyOf(userIds, capacity);
+            marketIds = Arrays.copyOf(marketIds, capacity);
+            predictedWinnerIds = Arrays.copyOf(predictedWinnerIds, capacity);
+            stakesMinor = Arrays.copyOf(stakesMinor, capacity);
+            oddsFixed = Arrays.copyOf(oddsFixed, capacity);
+        }
+        if (size > 0 && betId < betIds[size - 1]) {
+            sorted = false;
+        }
+        betIds[size] = betId;
+        userIds[size] = userId;
+        marketIds[size] = eventMarketId;
+        predictedWinnerIds[size] = predictedWinnerId;
+        stakesMinor[size] = stakeMinor;
+        oddsFixed[size] = odds;
+        size++;
+    }
+
+    /**
+     * Sorts the bets by betId and releases unused capacity; called once loading is done.
+     */
+    public void seal() {
+        if (!sorted) {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(betIds[a], betIds[b]));
+            long[] sortedBetIds = new long[size];
+            String[] sortedUserIds = new String[size];
+            String[] sortedMarketIds = new String[size];
+            String[] sortedPredicted = new String[size];
+            long[] sortedStakes = new long[size];
+            long[] sortedOdds = new long[size];
+            for (int i = 0; i < size; i++) {
+                int from = order[i];
+                sortedBetIds[i] = betIds[from];
+                sortedUserIds[i] = userIds[from];
+                sortedMarketIds[i] = marketIds[from];
+                sortedPredicted[i] = predictedWinnerIds[from];
+                sortedStakes[i] = stakesMinor[from];
+                sortedOdds[i] = oddsFixed[from];
+            }
+            betIds = sortedBetIds;
+            userIds = sortedUserIds;
+            marketIds = sortedMarketIds;
+            predictedWinnerIds = sortedPredicted;
+            stakesMinor = sortedStakes;
+            oddsFixed = sortedOdds;
+            sorted = true;
+            return;
+        }
+        if (size < betIds.length) {
+            betIds = Arrays.copyOf(betIds, size);
+            userIds = Arrays.copyOf(userIds, size);
+            marketIds = Arrays.copyOf(marketIds, size);
+            predictedWinnerIds = Arrays.copyOf(predictedWinnerIds, size);
+            stakesMinor = Arrays.copyOf(stakesMinor, size);
+            oddsFixed = Arrays.copyOf(oddsFixed, size);
+        }
+    }
+
+    /**
+     * Hands the bets after a betId to a handler in betId order.
+     *
+     * @param afterBetId Only bets with a higher betId are handed over (0 for all)
+     * @param handler Receives each bet
+     */
+    public void forEach(long afterBetId, PendingBetReader.RowHandler handler) {
+        int from = Arrays.binarySearch(betIds, 0, size, afterBetId);
+        from = from >= 0 ? from + 1 : -from - 1;
+        for (int i = from; i < size; i++) {
+            handler.accept(betIds[i], userIds[i], marketIds[i], predictedWinnerIds[i], stakesMinor[i], oddsFixed[i]);
+        }
+    }
+
+    /**
+     * Whether a bet was loaded.
+     *
+     * @param betId The bet identifier
+     * @return true if the bet is held
+     */
+    public boolean contains(long betId) {
+        return Arrays.binarySearch(betIds, 0, size, betId) >= 0;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public long getWatermarkBetId() {
+        return watermarkBetId;
+    }
+
+    public int size() {
+        return size;
+    }
+}
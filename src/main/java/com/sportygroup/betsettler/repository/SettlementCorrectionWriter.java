@@ -0,0 +1,116 @@
+package com.sportygroup.betsettler.repository;
+
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter.StatusChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Re-settles the already-settled bets of an event against a corrected result.
+ *
+ * Only two sets of bets can change status when a market's result changes:
+ * WON bets that did not pick the new result, and LOST bets that did. Both
+ * are selected and updated with the same predicate, so a correction touches
+ * only those rows and leaves every other settled bet (and all pending bets)
+ * alone. Each changed bet's {@code settlement_version} is incremented.
+ * Callers must invoke this inside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class SettlementCorrectionWriter {
+
+    private static final String CHANGED_PREDICATE =
+            "((status = 'WON' AND event_winner_id <> ?) OR (status = 'LOST' AND event_winner_id = ?))";
+
+    private static final String SELECT_SQL =
+            "SELECT user_id, bet_amount, status, bet_id, odds FROM bet WHERE event_id = ? AND "
+                    + CHANGED_PREDICATE + " FOR UPDATE";
+
+    private static final String SELECT_MARKET_SQL =
+            "SELECT user_id, bet_amount, status, bet_id, odds FROM bet WHERE event_id = ? AND event_market_id = ? AND "
+                    + CHANGED_PREDICATE + " FOR UPDATE";
+
+    private static final String UPDATE_SET =
+            "UPDATE bet SET status = CASE WHEN event_winner_id = ? THEN 'WON' ELSE 'LOST' END, "
+                    + "settled_at = ?, settlement_version = settlement_version + 1 ";
+
+    private static final String UPDATE_SQL =
+            UPDATE_SET + "WHERE event_id = ? AND " + CHANGED_PREDICATE;
+
+    private static final String UPDATE_MARKET_SQL =
+            UPDATE_SET + "WHERE event_id = ? AND event_market_id = ? AND " + CHANGED_PREDICATE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * A bet whose status was changed by a correction.
+     *
+     * @param betId The bet identifier
+     * @param userId The bet's user
+     * @param won Whether the bet is now won
+     * @param amount The bet's stake
+     * @param odds The bet's odds, or null if it has none
+     */
+    public record CorrectedBet(long betId, String userId, boolean won, BigDecimal amount, BigDecimal odds) {
+    }
+
+    /**
+     * Re-settles the settled bets of an event, or of one of its markets, against a new result.
+     *
+     * The affected rows are locked and read first so their status changes
+     * can be returned; the update then applies the same predicate in one
+     * statement.
+     *
+     * @param eventId The event identifier
+     * @param eventMarketId The market to correct, or null for every market of the event
+     * @param result The corrected winning selection
+     * @param settledAt Settlement timestamp written to the changed bets
+     * @param onCorrected Called with every bet that is updated, once the update has succeeded
+     * @return The status change of every bet that was updated
+     * @throws IllegalStateException if the update does not match the locked rows
+     */
+    public List<StatusChange> resettle(String eventId, String eventMarketId, String result, LocalDateTime settledAt,
+                                       Consumer<CorrectedBet> onCorrected) {
+        List<StatusChange> changes = new ArrayList<>();
+        List<CorrectedBet> corrected = new ArrayList<>();
+        jdbcTemplate.query(eventMarketId == null ? SELECT_SQL : SELECT_MARKET_SQL, rs -> {
+            BetStatus from = BetStatus.valueOf(rs.getString(3));
+            BetStatus to = from == BetStatus.WON ? BetStatus.LOST : BetStatus.WON;
+            changes.add(new StatusChange(rs.getString(1), rs.getBigDecimal(2), from, to));
+            corrected.add(new CorrectedBet(rs.getLong(4), rs.getString(1), to == BetStatus.WON,
+                    rs.getBigDecimal(2), rs.getBigDecimal(5)));
+        }, args(eventId, eventMarketId, result));
+
+        if (changes.isEmpty()) {
+            return changes;
+        }
+
+        List<Object> updateArgs = new ArrayList<>();
+        updateArgs.add(result);
+        updateArgs.add(Timestamp.valueOf(settledAt));
+        updateArgs.addAll(List.of(args(eventId, eventMarketId, result)));
+
+        int updated = jdbcTemplate.update(eventMarketId == null ? UPDATE_SQL : UPDATE_MARKET_SQL,
+                updateArgs.toArray());
+        if (updated != changes.size()) {
+            throw new IllegalStateException("Correction of event " + eventId + " updated " + updated
+                    + " bets but " + changes.size() + " were selected");
+        }
+        corrected.forEach(onCorrected);
+        return changes;
+    }
+
+    private Object[] args(String eventId, String eventMarketId, String result) {
+        return eventMarketId == null
+                ? new Object[]{eventId, result, result}
+                : new Object[]{eventId, eventMarketId, result, result};
+    }
+}
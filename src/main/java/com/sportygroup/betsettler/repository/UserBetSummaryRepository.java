@@ -0,0 +1,14 @@
+package com.sportygroup.betsettler.repository;
+
+import com.sportygroup.betsettler.entity.UserBetSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JPA Repository for UserBetSummary entity.
+ *
+ * Read side only; summaries are updated through {@link UserBetSummaryWriter}.
+ */
+@Repository
+public interface UserBetSummaryRepository extends JpaRepository<UserBetSummary, String> {
+}
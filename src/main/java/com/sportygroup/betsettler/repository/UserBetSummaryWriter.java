@@ -0,0 +1,167 @@
+package com.sportygroup.betsettler.repository;
+
+import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.entity.BetStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Applies incremental changes to the per-user bet summaries.
+ *
+ * Changes are folded into one delta per user and written as relative
+ * updates ({@code col = col + ?}), so concurrent writers never overwrite
+ * each other's totals. Callers must invoke this inside the transaction that
+ * changes the bets, keeping the summaries consistent with the bet table.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserBetSummaryWriter {
+
+    private static final String UPDATE_SQL =
+            "UPDATE user_bet_summary SET total_count = total_count + ?, total_stake = total_stake + ?, "
+                    + "pending_count = pending_count + ?, pending_stake = pending_stake + ?, "
+                    + "won_count = won_count + ?, won_stake = won_stake + ?, "
+                    + "lost_count = lost_count + ?, lost_stake = lost_stake + ?, updated_at = ? "
+                    + "WHERE user_id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO user_bet_summary (total_count, total_stake, pending_count, pending_stake, "
+                    + "won_count, won_stake, lost_count, lost_stake, updated_at, user_id) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds newly placed bets to their users' summaries.
+     *
+     * @param bets The bets being inserted
+     */
+    public void recordPlaced(Collection<Bet> bets) {
+        Map<String, Delta> deltas = new TreeMap<>();
+        for (Bet bet : bets) {
+            Delta delta = deltas.computeIfAbsent(bet.getUserId(), Delta::new);
+            delta.totalCount++;
+            delta.totalStake = delta.totalStake.add(bet.getBetAmount());
+            delta.add(bet.getStatus(), bet.getBetAmount(), 1);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * Moves bets between status buckets of their users' summaries.
+     *
+     * @param changes The status changes being applied to bets
+     */
+    public void recordStatusChanges(Collection<StatusChange> changes) {
+        Map<String, Delta> deltas = new TreeMap<>();
+        for (StatusChange change : changes) {
+            if (change.from() == change.to()) {
+                continue;
+            }
+            Delta delta = deltas.computeIfAbsent(change.userId(), Delta::new);
+            delta.add(change.from(), change.amount(), -1);
+            delta.add(change.to(), change.amount(), 1);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * Writes the deltas, creating summaries for users that do not have one yet.
+     *
+     * Deltas are sorted by userId so that concurrent transactions lock
+     * summary rows in the same order.
+     */
+    private void apply(Map<String, Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Delta> ordered = new ArrayList<>(deltas.values());
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, toArgs(ordered, now));
+
+        List<Delta> missing = new ArrayList<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (updated[i] == 0) {
+                missing.add(ordered.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, toArgs(missing, now));
+        }
+
+        log.debug("Applied bet summary deltas - Users: {}, Created: {}", ordered.size(), missing.size());
+    }
+
+    private List<Object[]> toArgs(List<Delta> deltas, Timestamp now) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        for (Delta d : deltas) {
+            args.add(new Object[]{
+                    d.totalCount, d.totalStake,
+                    d.pendingCount, d.pendingStake,
+                    d.wonCount, d.wonStake,
+                    d.lostCount, d.lostStake,
+                    now, d.userId
+            });
+        }
+        return args;
+    }
+
+    /**
+     * A bet moving from one status to another.
+     *
+     * @param userId Owner of the bet
+     * @param amount Amount staked on the bet
+     * @param from Status before the change
+     * @param to Status after the change
+     */
+    public record StatusChange(String userId, BigDecimal amount, BetStatus from, BetStatus to) {
+    }
+
+    private static final class Delta {
+
+        private final String userId;
+        private long totalCount;
+        private BigDecimal totalStake = BigDecimal.ZERO;
+        private long pendingCount;
+        private BigDecimal pendingStake = BigDecimal.ZERO;
+        private long wonCount;
+        private BigDecimal wonStake = BigDecimal.ZERO;
+        private long lostCount;
+        private BigDecimal lostStake = BigDecimal.ZERO;
+
+        private Delta(String userId) {
+            this.userId = userId;
+        }
+
+        private void add(BetStatus status, BigDecimal amount, int sign) {
+            BigDecimal signed = sign < 0 ? amount.negate() : amount;
+            switch (status) {
+                case PENDING -> {
+                    pendingCount += sign;
+                    pendingStake = pendingStake.add(signed);
+                }
+                case WON -> {
+                    wonCount += sign;
+                    wonStake = wonStake.add(signed);
+                }
+                case LOST -> {
+                    lostCount += sign;
+                    lostStake = lostStake.add(signed);
+                }
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.sportygroup.betsettler.config.RocketMQConfig;
 import com.sportygroup.betsettler.dto.BetSettlementDTO;
 import com.sportygroup.betsettler.service.BetSettlementService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.rocketmq.client.apis.ClientConfiguration;
 import org.apache.rocketmq.client.apis.ClientException;
@@ -12,13 +14,17 @@ import org.apache.rocketmq.client.apis.consumer.ConsumeResult;
 import org.apache.rocketmq.client.apis.consumer.FilterExpression;
 import org.apache.rocketmq.client.apis.consumer.FilterExpressionType;
 import org.apache.rocketmq.client.apis.consumer.PushConsumer;
+import org.apache.rocketmq.client.apis.message.MessageView;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * RocketMQ consumer for bet settlement messages.
@@ -26,6 +32,12 @@ import java.util.Collections;
  * Listens to the bet-settlements topic and processes each
  * settlement by updating the bet status in the database.
  *
+ * With priority lanes enabled, WON and LOST settlements (told apart by the
+ * message tag) are consumed by two push consumers in their own consumer
+ * groups, each with its own thread pool. The threads are split by the
+ * configured weights, so winning bets, which drive payouts, keep settling
+ * quickly while a large event floods the topic with losing ones.
+ *
  * Only active when application.rocketmq.enabled=true
  */
 @Component
@@ -33,18 +45,24 @@ import java.util.Collections;
 @Slf4j
 public class BetSettlementConsumer {
 
+    static final String WON_TAG = "WON";
+    static final String LOST_TAG = "LOST";
+
     private final RocketMQConfig rocketMQConfig;
     private final BetSettlementService betSettlementService;
     private final ObjectMapper objectMapper;
-    private PushConsumer consumer;
+    private final MeterRegistry meterRegistry;
+    private final List<PushConsumer> consumers = new ArrayList<>();
 
     public BetSettlementConsumer(
             RocketMQConfig rocketMQConfig,
             BetSettlementService betSettlementService,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
         this.rocketMQConfig = rocketMQConfig;
         this.betSettlementService = betSettlementService;
         this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -52,75 +70,121 @@ public class BetSettlementConsumer {
      */
     @PostConstruct
     public void init() {
+        RocketMQConfig.ConsumerConfig consumerConfig = rocketMQConfig.getConsumer();
         try {
-            log.info("Initializing RocketMQ Consumer - NameServer: {}, Group: {}",
-                    rocketMQConfig.getNameServer(),
-                    rocketMQConfig.getConsumer().getGroup());
-
-            ClientServiceProvider provider = ClientServiceProvider.loadService();
-
-            ClientConfiguration clientConfig = ClientConfiguration.newBuilder()
-                    .setEndpoints(rocketMQConfig.getNameServer())
-                    .build();
-
-            // Subscribe to all tags
-            FilterExpression filterExpression = new FilterExpression(
-                    "*",
-                    FilterExpressionType.TAG
-            );
-
-            this.consumer = provider.newPushConsumerBuilder()
-                    .setClientConfiguration(clientConfig)
-                    .setConsumerGroup(rocketMQConfig.getConsumer().getGroup())
-                    .setSubscriptionExpressions(Collections.singletonMap(
-                            rocketMQConfig.getTopics().getBetSettlements(),
-                            filterExpression
-                    ))
-                    .setMessageListener(messageView -> {
-                        try {
-                            // Deserialize message
-                            String json = StandardCharsets.UTF_8.decode(
-                                    messageView.getBody()
-                            ).toString();
-
-                            BetSettlementDTO settlement = objectMapper.readValue(
-                                    json,
-                                    BetSettlementDTO.class
-                            );
-
-                            log.info("Received bet settlement from RocketMQ - Bet ID: {}, Message ID: {}",
-                                    settlement.getBetId(), messageView.getMessageId());
-
-                            // Process settlement
-                            betSettlementService.settleBet(settlement);
-
-                            log.info("Successfully processed bet settlement - Bet ID: {}",
-                                    settlement.getBetId());
-
-                            return ConsumeResult.SUCCESS;
-
-                        } catch (Exception e) {
-                            log.error("Error processing bet settlement message - Message ID: {}, Error: {}",
-                                    messageView.getMessageId(), e.getMessage(), e);
-                            return ConsumeResult.FAILURE;
-                        }
-                    })
-                    .build();
+            log.info("Initializing RocketMQ Consumer - NameServer: {}, Group: {}, Priority lanes: {}",
+                    rocketMQConfig.getNameServer(), consumerConfig.getGroup(), consumerConfig.isPriorityLanes());
+
+            if (!consumerConfig.isPriorityLanes()) {
+                // Subscribe to all tags
+                consumers.add(createConsumer(consumerConfig.getGroup(), "*", "all",
+                        consumerConfig.getConsumeThreadMax()));
+            } else {
+                int wonThreads = laneThreads(consumerConfig.getConsumeThreadMax(),
+                        consumerConfig.getWonWeight(), consumerConfig.getLostWeight());
+                int lostThreads = Math.max(1, consumerConfig.getConsumeThreadMax() - wonThreads);
+
+                consumers.add(createConsumer(consumerConfig.getGroup() + "-won", WON_TAG, "won", wonThreads));
+                consumers.add(createConsumer(consumerConfig.getGroup() + "-lost", LOST_TAG, "lost", lostThreads));
+                log.info("RocketMQ priority lanes started - WON threads: {}, LOST threads: {}",
+                        wonThreads, lostThreads);
+            }
 
             log.info("RocketMQ Consumer initialized and listening for messages");
 
         } catch (ClientException e) {
             log.error("Failed to initialize RocketMQ Consumer", e);
+            destroy();
             throw new RuntimeException("Failed to initialize RocketMQ Consumer", e);
         }
     }
 
+    /**
+     * Number of threads a lane gets out of the total, by weight.
+     *
+     * Each lane keeps at least one thread.
+     *
+     * @param totalThreads Threads shared by both lanes
+     * @param weight Weight of this lane
+     * @param otherWeight Weight of the other lane
+     * @return Threads for this lane
+     */
+    static int laneThreads(int totalThreads, int weight, int otherWeight) {
+        if (totalThreads < 2) {
+            return 1;
+        }
+        int weightSum = Math.max(1, weight + otherWeight);
+        int threads = (int) Math.round((double) totalThreads * weight / weightSum);
+        return Math.max(1, Math.min(totalThreads - 1, threads));
+    }
+
+    private PushConsumer createConsumer(String group, String tagExpression, String lane, int threads)
+            throws ClientException {
+        ClientServiceProvider provider = ClientServiceProvider.loadService();
+
+        ClientConfiguration clientConfig = ClientConfiguration.newBuilder()
+                .setEndpoints(rocketMQConfig.getNameServer())
+                .build();
+
+        FilterExpression filterExpression = new FilterExpression(tagExpression, FilterExpressionType.TAG);
+
+        Timer latency = Timer.builder("settlement.consume.latency")
+                .description("Time from a settlement being sent to it being applied")
+                .tag("lane", lane)
+                .register(meterRegistry);
+
+        return provider.newPushConsumerBuilder()
+                .setClientConfiguration(clientConfig)
+                .setConsumerGroup(group)
+                .setSubscriptionExpressions(Collections.singletonMap(
+                        rocketMQConfig.getTopics().getBetSettlements(),
+                        filterExpression
+                ))
+                .setConsumptionThreadCount(threads)
+                .setMessageListener(messageView -> consume(messageView, latency))
+                .build();
+    }
+
+    /**
+     * Applies one settlement message.
+     *
+     * @param messageView The received message
+     * @param latency Timer of the lane the message was received on
+     * @return SUCCESS once the bet is settled, FAILURE to have the message redelivered
+     */
+    ConsumeResult consume(MessageView messageView, Timer latency) {
+        try {
+            // Deserialize message
+            String json = StandardCharsets.UTF_8.decode(messageView.getBody()).toString();
+
+            BetSettlementDTO settlement = objectMapper.readValue(json, BetSettlementDTO.class);
+
+            log.info("Received bet settlement from RocketMQ - Bet ID: {}, Message ID: {}",
+                    settlement.getBetId(), messageView.getMessageId());
+
+            // Process settlement
+            betSettlementService.settleBet(settlement);
+            latency.record(Math.max(0, System.currentTimeMillis() - messageView.getBornTimestamp()),
+                    TimeUnit.MILLISECONDS);
+
+            log.info("Successfully processed bet settlement - Bet ID: {}",
+                    settlement.getBetId());
+
+            return ConsumeResult.SUCCESS;
+
+        } catch (Exception e) {
+            log.error("Error processing bet settlement message - Message ID: {}, Error: {}",
+                    messageView.getMessageId(), e.getMessage(), e);
+            return ConsumeResult.FAILURE;
+        }
+    }
+
     /**
      * Gracefully shuts down RocketMQ consumer.
      */
     @PreDestroy
     public void destroy() {
-        if (consumer != null) {
+        for (PushConsumer consumer : consumers) {
             try {
                 log.info("Shutting down RocketMQ Consumer");
                 consumer.close();
@@ -129,5 +193,6 @@ public class BetSettlementConsumer {
                 log.error("Error shutting down RocketMQ Consumer", e);
             }
         }
+        consumers.clear();
     }
 }
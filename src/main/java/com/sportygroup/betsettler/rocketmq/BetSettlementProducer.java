@@ -1,6 +1,7 @@
 package com.sportygroup.betsettler.rocketmq;
 
 import com.sportygroup.betsettler.dto.BetSettlementDTO;
+import com.sportygroup.betsettler.service.SettlementBatch;
 
 /**
  * Interface for bet settlement message producers.
@@ -15,4 +16,29 @@ public interface BetSettlementProducer {
      * @param settlement The bet settlement to send
      */
     void sendSettlement(BetSettlementDTO settlement);
-}
\ No newline at end of file
+
+    /**
+     * Sends one row of a columnar settlement batch.
+     *
+     * The default materializes just that row as a message; implementations
+     * that can read the columns directly may override it.
+     *
+     * @param batch The matched settlements
+     * @param index Row to send
+     */
+    default void sendSettlement(SettlementBatch batch, int index) {
+        sendSettlement(batch.toSettlement(index));
+    }
+
+    /**
+     * Waits until every settlement sent by the calling thread has been delivered.
+     *
+     * Dispatch progress must not be checkpointed past a settlement before
+     * this returns. Transports that deliver synchronously in
+     * {@link #sendSettlement(BetSettlementDTO)} need not override it.
+     *
+     * @throws IllegalStateException if one of the settlements could not be delivered
+     */
+    default void flush() {
+    }
+}
@@ -0,0 +1,231 @@
+package com.sportygroup.betsettler.rocketmq;
+
+import com.sportygroup.betsettler.config.SettlementRingBufferConfig;
+import com.sportygroup.betsettler.dto.BetSettlementDTO;
+import com.sportygroup.betsettler.service.BetSettlementService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process implementation of BetSettlementProducer for single-node deployments.
+ *
+ * Settlements are put on a lock-free ring buffer and settled by a pool of
+ * worker threads, each draining up to {@code batchSize} settlements and
+ * writing them in one transaction. Matching on the Kafka listener thread
+ * and database writes therefore overlap instead of running one after the
+ * other. When the buffer is full the sender waits for a slot, which slows
+ * the listener down to the pace of the workers.
+ *
+ * A queued settlement is not yet persisted, so senders call {@link #flush()}
+ * before checkpointing dispatch progress or marking an event settled. It
+ * waits for the workers to write the calling thread's settlements and fails
+ * if any of them could not be settled; the outcome is then retried from its
+ * last checkpoint, which re-dispatches the bets that are still pending.
+ *
+ * Activated when application.rocketmq.enabled=false and
+ * application.settlement.ring-buffer.enabled=true
+ */
+@Component
+@ConditionalOnExpression("!${application.rocketmq.enabled:false} && ${application.settlement.ring-buffer.enabled:false}")
+@Slf4j
+public class InProcessBetSettlementProducer implements BetSettlementProducer {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final BetSettlementService betSettlementService;
+    private final SettlementRingBufferConfig config;
+    private final SettlementRingBuffer<Entry> ringBuffer;
+    private final ThreadLocal<Delivery> deliveries = ThreadLocal.withInitial(Delivery::new);
+    private final Counter settledCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public InProcessBetSettlementProducer(
+            BetSettlementService betSettlementService,
+            SettlementRingBufferConfig config,
+            MeterRegistry meterRegistry) {
+        this.betSettlementService = betSettlementService;
+        this.config = config;
+        this.ringBuffer = new SettlementRingBuffer<>(config.getCapacity());
+
+        Gauge.builder("settlement.ring.depth", ringBuffer, SettlementRingBuffer::size)
+                .description("Settlements waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("settlement.ring.capacity", ringBuffer, SettlementRingBuffer::capacity)
+                .register(meterRegistry);
+        this.settledCounter = meterRegistry.counter("settlement.ring.settled");
+        this.failedCounter = meterRegistry.counter("settlement.ring.failed");
+        this.rejectedCounter = meterRegistry.counter("settlement.ring.rejected");
+    }
+
+    /**
+     * Starts the settlement workers on bean creation.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < config.getWorkers(); i++) {
+            Thread worker = new Thread(this::runWorker, "settlement-worker-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("In-process settlement transport started - Capacity: {}, Workers: {}, Batch size: {}",
+                ringBuffer.capacity(), config.getWorkers(), config.getBatchSize());
+    }
+
+    /**
+     * Queues a settlement for the workers.
+     *
+     * Waits for a free slot while the buffer is full.
+     *
+     * @param settlement The bet settlement to queue
+     * @throws IllegalStateException if no slot frees up within the offer timeout
+     */
+    @Override
+    public void sendSettlement(BetSettlementDTO settlement) {
+        Delivery delivery = deliveries.get();
+        Entry entry = new Entry(settlement, delivery);
+        delivery.outstanding.incrementAndGet();
+        if (ringBuffer.offer(entry)) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getOfferTimeoutMs());
+        while (running && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+            if (ringBuffer.offer(entry)) {
+                return;
+            }
+        }
+
+        delivery.outstanding.decrementAndGet();
+        rejectedCounter.increment();
+        throw new IllegalStateException("Settlement buffer is full - Bet ID: " + settlement.getBetId());
+    }
+
+    /**
+     * Waits until the workers have written every settlement queued by the calling thread.
+     *
+     * @throws IllegalStateException if a settlement failed, or they were not written within the flush timeout
+     */
+    @Override
+    public void flush() {
+        Delivery delivery = deliveries.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getFlushTimeoutMs());
+        while (delivery.outstanding.get() > 0) {
+            if (!running || System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException(delivery.outstanding.get()
+                        + " queued settlements were not written");
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+
+        long failed = delivery.failed.getAndSet(0);
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " queued settlements could not be settled");
+        }
+    }
+
+    /**
+     * Returns the number of settlements waiting for a worker.
+     */
+    public int getQueueDepth() {
+        return ringBuffer.size();
+    }
+
+    private void runWorker() {
+        List<Entry> entries = new ArrayList<>(config.getBatchSize());
+        List<BetSettlementDTO> batch = new ArrayList<>(config.getBatchSize());
+        while (running || ringBuffer.size() > 0) {
+            if (ringBuffer.drainTo(entries, config.getBatchSize()) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            entries.forEach(entry -> batch.add(entry.settlement()));
+            List<BetSettlementDTO> failed = settle(batch);
+            for (Entry entry : entries) {
+                if (!failed.isEmpty() && failed.contains(entry.settlement())) {
+                    entry.delivery().failed.incrementAndGet();
+                }
+                entry.delivery().outstanding.decrementAndGet();
+            }
+            entries.clear();
+            batch.clear();
+        }
+    }
+
+    /**
+     * Settles a batch in one transaction.
+     *
+     * If the batch fails, each settlement is retried on its own so one bad
+     * settlement does not fail the others it happened to be drained with.
+     *
+     * @return The settlements that could not be settled
+     */
+    List<BetSettlementDTO> settle(List<BetSettlementDTO> batch) {
+        List<BetSettlementDTO> failed = new ArrayList<>();
+        try {
+            betSettlementService.settleBets(batch);
+            settledCounter.increment(batch.size());
+        } catch (Exception e) {
+            log.warn("Batch settlement of {} bets failed, settling individually - Error: {}",
+                    batch.size(), e.getMessage());
+            for (BetSettlementDTO settlement : batch) {
+                try {
+                    betSettlementService.settleBet(settlement);
+                    settledCounter.increment();
+                } catch (Exception ex) {
+                    failedCounter.increment();
+                    failed.add(settlement);
+                    log.error("Failed to settle bet - Bet ID: {}, Error: {}",
+                            settlement.getBetId(), ex.getMessage(), ex);
+                }
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Stops the workers once the buffer has been drained.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        log.info("In-process settlement transport stopped - Undelivered: {}", ringBuffer.size());
+    }
+
+    /**
+     * Settlements queued by one sender thread that the workers have not finished yet.
+     */
+    private static final class Delivery {
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicLong failed = new AtomicLong();
+    }
+
+    private record Entry(BetSettlementDTO settlement, Delivery delivery) {
+    }
+}
@@ -4,7 +4,7 @@ import com.sportygroup.betsettler.dto.BetSettlementDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
 /**
@@ -14,10 +14,11 @@ import org.springframework.stereotype.Component;
  * simply logs the settlement information. Useful for testing
  * and development without RocketMQ infrastructure.
  *
- * Activated when application.rocketmq.enabled=false
+ * Activated when application.rocketmq.enabled=false and the in-process
+ * transport (application.settlement.ring-buffer.enabled) is off
  */
 @Component
-@ConditionalOnProperty(name = "application.rocketmq.enabled", havingValue = "false", matchIfMissing = true)
+@ConditionalOnExpression("!${application.rocketmq.enabled:false} && !${application.settlement.ring-buffer.enabled:false}")
 @RequiredArgsConstructor
 @Slf4j
 public class MockBetSettlementProducer implements BetSettlementProducer {
@@ -31,7 +31,7 @@ public class RealBetSettlementProducer implements BetSettlementProducer {
 
     private final RocketMQConfig rocketMQConfig;
     private final ObjectMapper objectMapper;
-    private Producer producer;
+    private volatile Producer producer;
 
     public RealBetSettlementProducer(RocketMQConfig rocketMQConfig, ObjectMapper objectMapper) {
         this.rocketMQConfig = rocketMQConfig;
@@ -40,32 +40,55 @@ public class RealBetSettlementProducer implements BetSettlementProducer {
 
     /**
      * Initializes RocketMQ producer on bean creation.
+     *
+     * With {@code producer.lazy-start} the client is built on the first send
+     * instead, so startup does not wait for the broker.
      */
     @PostConstruct
     public void init() {
+        if (rocketMQConfig.getProducer().isLazyStart()) {
+            log.info("RocketMQ Producer will be initialized on first send");
+            return;
+        }
+        this.producer = createProducer();
+    }
+
+    private Producer createProducer() {
         try {
             log.info("Initializing RocketMQ Producer - NameServer: {}, Group: {}",
                     rocketMQConfig.getNameServer(),
                     rocketMQConfig.getProducer().getGroup());
 
-            ClientServiceProvider provider = ClientServiceProvider.loadService();
-
             ClientConfiguration clientConfig = ClientConfiguration.newBuilder()
                     .setEndpoints(rocketMQConfig.getNameServer())
                     .build();
 
-            this.producer = provider.newProducerBuilder()
+            Producer created = provider.newProducerBuilder()
                     .setClientConfiguration(clientConfig)
                     .setTopics(rocketMQConfig.getTopics().getBetSettlements())
                     .build();
 
             log.info("RocketMQ Producer initialized successfully");
+            return created;
         } catch (ClientException e) {
             log.error("Failed to initialize RocketMQ Producer", e);
             throw new RuntimeException("Failed to initialize RocketMQ Producer", e);
         }
     }
 
+    private Producer producer() {
+        Producer current = producer;
+        if (current == null) {
+            synchronized (this) {
+                if (producer == null) {
+                    producer = createProducer();
+                }
+                current = producer;
+            }
+        }
+        return current;
+    }
+
     /**
      * Sends a bet settlement message to RocketMQ.
      *
@@ -90,7 +113,7 @@ public class RealBetSettlementProducer implements BetSettlementProducer {
                     .build();
 
             // Send message
-            SendReceipt sendReceipt = producer.send(message);
+            SendReceipt sendReceipt = producer().send(message);
 
             log.info("Bet settlement sent successfully - Bet ID: {}, Message ID: {}",
                     settlement.getBetId(), sendReceipt.getMessageId());
@@ -0,0 +1,123 @@
+package com.sportygroup.betsettler.rocketmq;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free multi-producer multi-consumer ring buffer.
+ *
+ * Each slot carries a sequence number telling producers and consumers
+ * whose turn it is: a producer may write slot {@code i} at position
+ * {@code p} when its sequence equals {@code p}, and a consumer may read it
+ * when the sequence equals {@code p + 1}. Positions are claimed with a
+ * single CAS, so neither side ever blocks the other.
+ *
+ * @param <E> Element type
+ */
+public class SettlementRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private final AtomicLong consumerPosition = new AtomicLong();
+
+    /**
+     * @param requestedCapacity Minimum number of slots; rounded up to a power of two
+     */
+    public SettlementRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2");
+        }
+        int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element if a slot is free.
+     *
+     * @param element The element to add
+     * @return false if the buffer is full
+     */
+    public boolean offer(E element) {
+        while (true) {
+            long position = producerPosition.get();
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+
+            if (diff == 0) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    // Publish the slot to consumers
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+            // Another producer claimed this position first; retry with the next one
+        }
+    }
+
+    /**
+     * Removes the oldest element.
+     *
+     * @return The element, or null if the buffer is empty
+     */
+    public E poll() {
+        while (true) {
+            long position = consumerPosition.get();
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - (position + 1);
+
+            if (diff == 0) {
+                if (consumerPosition.compareAndSet(position, position + 1)) {
+                    E element = slots.get(index);
+                    slots.set(index, null);
+                    // Hand the slot back to producers for the next lap
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+            } else if (diff < 0) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code max} elements into {@code batch}.
+     *
+     * @return Number of elements moved
+     */
+    public int drainTo(List<E> batch, int max) {
+        int drained = 0;
+        while (drained < max) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            batch.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Returns an approximate number of queued elements.
+     */
+    public int size() {
+        long size = producerPosition.get() - consumerPosition.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
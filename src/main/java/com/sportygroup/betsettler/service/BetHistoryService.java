@@ -0,0 +1,115 @@
+package com.sportygroup.betsettler.service;
+
+import com.sportygroup.betsettler.config.BetHistoryConfig;
+import com.sportygroup.betsettler.dto.BetHistoryItem;
+import com.sportygroup.betsettler.dto.BetHistoryPage;
+import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.repository.BetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Service for reading a user's bet history.
+ *
+ * Pages are keyset-paginated on (createdAt, betId), newest first: the
+ * cursor carries the position of the last bet returned and the next page
+ * seeks directly to it, so every page costs the same no matter how deep
+ * into the history it is, and bets placed meanwhile do not shift pages.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BetHistoryService {
+
+    private static final String CURSOR_SEPARATOR = "|";
+
+    private final BetRepository betRepository;
+    private final BetHistoryConfig config;
+
+    /**
+     * Returns one page of a user's bets.
+     *
+     * @param userId The user identifier
+     * @param status Only bets with this status, or null for all
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @param size Requested page size, or null for the default
+     * @return The page, with a cursor for the next one if more bets exist
+     * @throws IllegalArgumentException if the cursor or page size is invalid
+     */
+    @Transactional(readOnly = true)
+    public BetHistoryPage getUserBets(String userId, BetStatus status, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        // One extra row tells whether another page exists without a count query
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Bet> bets;
+        if (cursor == null || cursor.isBlank()) {
+            bets = status == null
+                    ? betRepository.findByUserIdOrderByCreatedAtDescBetIdDesc(userId, limit)
+                    : betRepository.findByUserIdAndStatusOrderByCreatedAtDescBetIdDesc(userId, status, limit);
+        } else {
+            Cursor position = decodeCursor(cursor);
+            bets = status == null
+                    ? betRepository.findUserBetsBefore(userId, position.createdAt(), position.betId(), limit)
+                    : betRepository.findUserBetsBefore(userId, status, position.createdAt(), position.betId(), limit);
+        }
+
+        boolean hasMore = bets.size() > pageSize;
+        List<Bet> page = hasMore ? bets.subList(0, pageSize) : bets;
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1)) : null;
+
+        log.debug("Read bet history page - User: {}, Status: {}, Bets: {}, Has more: {}",
+                userId, status, page.size(), hasMore);
+
+        return BetHistoryPage.builder()
+                .userId(userId)
+                .bets(page.stream().map(BetHistoryItem::from).toList())
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return config.getDefaultPageSize();
+        }
+        if (size < 1 || size > config.getMaxPageSize()) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + config.getMaxPageSize());
+        }
+        return size;
+    }
+
+    static String encodeCursor(Bet bet) {
+        String raw = bet.getCreatedAt() + CURSOR_SEPARATOR + bet.getBetId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException is an IllegalArgumentException
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    record Cursor(LocalDateTime createdAt, Long betId) {
+    }
+}
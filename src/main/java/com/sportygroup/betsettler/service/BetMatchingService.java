@@ -1,22 +1,33 @@
 package com.sportygroup.betsettler.service;
 
+import com.sportygroup.betsettler.config.SettlementDataAccessConfig;
+import com.sportygroup.betsettler.config.SettlementMatchingConfig;
 import com.sportygroup.betsettler.dto.BetSettlementDTO;
 import com.sportygroup.betsettler.dto.EventOutcomeDTO;
 import com.sportygroup.betsettler.entity.Bet;
 import com.sportygroup.betsettler.entity.BetStatus;
 import com.sportygroup.betsettler.repository.BetRepository;
+import com.sportygroup.betsettler.repository.JdbcBetRepository;
+import com.sportygroup.betsettler.repository.PendingBetReader;
+import com.sportygroup.betsettler.repository.PreloadedPendingBets;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * Service for matching event outcomes with pending bets.
  *
  * This service contains the core business logic for determining which
- * bets need to be settled when an event outcome is published.
+ * bets need to be settled when an event outcome is published. The
+ * list-based methods load pending bets through JPA, or through
+ * {@link JdbcBetRepository} in JDBC data-access mode.
  */
 @Service
 @RequiredArgsConstructor
@@ -24,13 +35,146 @@ import java.util.stream.Collectors;
 public class BetMatchingService {
 
     private final BetRepository betRepository;
+    private final PendingBetReader pendingBetReader;
+    private final SettlementMatchingConfig config;
+    private final JdbcBetRepository jdbcBetRepository;
+    private final SettlementDataAccessConfig dataAccessConfig;
+
+    /**
+     * Whether callers should use {@link #matchBatch(EventOutcomeDTO, long)}
+     * rather than the list-based methods.
+     */
+    public boolean isColumnar() {
+        return config.isColumnar();
+    }
+
+    /**
+     * Matches pending bets with an event outcome into a columnar batch.
+     *
+     * Bets are streamed from JDBC in betId order and written straight into
+     * the batch's arrays; winners are decided by comparing dictionary codes
+     * and payouts are computed in fixed point, so no per-bet objects are
+     * kept.
+     *
+     * @param eventOutcome The event outcome to match against
+     * @param afterBetId The last betId already dispatched (0 to match all)
+     * @return The matched settlements in betId order
+     */
+    public SettlementBatch matchBatch(EventOutcomeDTO eventOutcome, long afterBetId) {
+        return matchBatch(eventOutcome, afterBetId,
+                handler -> pendingBetReader.readPendingBets(eventOutcome.getEventId(), afterBetId, handler));
+    }
+
+    /**
+     * Matches pending bets loaded ahead of the outcome into a columnar batch.
+     *
+     * The preloaded bets are matched first; only bets placed after they
+     * were loaded, above their watermark, are read from the database. The
+     * event's pending betIds up to the watermark are checked first: if one
+     * was not loaded - an insert that committed after the load - the
+     * preload is ignored and the event is read from the database.
+     *
+     * @param eventOutcome The event outcome to match against
+     * @param afterBetId The last betId already dispatched (0 to match all)
+     * @param preloaded Pending bets of the event loaded up to a watermark
+     * @return The matched settlements in betId order
+     */
+    public SettlementBatch matchBatch(EventOutcomeDTO eventOutcome, long afterBetId, PreloadedPendingBets preloaded) {
+        long missing = countMissingBets(eventOutcome.getEventId(), afterBetId, preloaded);
+        if (missing > 0) {
+            log.info("Preloaded bets of event {} miss {} bets committed after loading - reading from the database",
+                    eventOutcome.getEventId(), missing);
+            return matchBatch(eventOutcome, afterBetId);
+        }
+        long readAfterBetId = Math.max(afterBetId, preloaded.getWatermarkBetId());
+        return matchBatch(eventOutcome, afterBetId, handler -> {
+            preloaded.forEach(afterBetId, handler);
+            pendingBetReader.readPendingBets(eventOutcome.getEventId(), readAfterBetId, handler);
+        });
+    }
+
+    /**
+     * Matches the next chunk of an event's pending bets into a columnar batch.
+     *
+     * At most {@code maxBets} pending bets are read; the batch's
+     * {@link SettlementBatch#getLastReadBetId()} is where the following
+     * chunk starts, and fewer than {@code maxBets} reads mean the event has
+     * no more pending bets.
+     *
+     * @param eventOutcome The event outcome to match against
+     * @param afterBetId The last betId of the previous chunk (0 for the first)
+     * @param maxBets Maximum number of pending bets to read
+     * @return The matched settlements of this chunk in betId order
+     */
+    public SettlementBatch matchChunk(EventOutcomeDTO eventOutcome, long afterBetId, int maxBets) {
+        return matchBatch(eventOutcome, afterBetId,
+                handler -> pendingBetReader.readPendingBets(eventOutcome.getEventId(), afterBetId, maxBets, handler));
+    }
+
+    /**
+     * Counts the event's pending bets up to the preload's watermark that the preload does not hold.
+     */
+    private long countMissingBets(String eventId, long afterBetId, PreloadedPendingBets preloaded) {
+        if (afterBetId >= preloaded.getWatermarkBetId()) {
+            return 0;
+        }
+        long[] missing = new long[1];
+        pendingBetReader.readPendingBetIds(eventId, afterBetId, preloaded.getWatermarkBetId(), betId -> {
+            if (!preloaded.contains(betId)) {
+                missing[0]++;
+            }
+        });
+        return missing[0];
+    }
+
+    private SettlementBatch matchBatch(EventOutcomeDTO eventOutcome, long afterBetId,
+                                       Consumer<PendingBetReader.RowHandler> reader) {
+        SettlementBatch batch = new SettlementBatch(eventOutcome.getEventId(), eventOutcome.getEventWinnerId());
+
+        // Encode each market's result once; rows then resolve their result with one hash lookup
+        Map<String, Integer> resultCodes = new HashMap<>();
+        Map<String, String> marketResults = eventOutcome.getMarketResults();
+        if (marketResults != null) {
+            marketResults.forEach((market, result) -> resultCodes.put(market, batch.encode(result)));
+        }
+        Integer defaultResultCode = resultCodes.isEmpty() ? batch.getWinnerCode() : null;
+        int[] unresolved = new int[1];
+
+        reader.accept((betId, userId, marketId, predictedWinnerId, stakeMinor, oddsFixed) -> {
+            batch.recordRead(betId);
+            Integer resultCode = defaultResultCode != null ? defaultResultCode : resultCodes.get(marketId);
+            if (resultCode == null) {
+                // Market not resolved by this outcome - the bet stays pending
+                unresolved[0]++;
+                return;
+            }
+            int predictedCode = batch.encode(predictedWinnerId);
+            long payout = predictedCode == resultCode && oddsFixed != 0
+                    ? PayoutCalculator.payout(stakeMinor, oddsFixed)
+                    : 0L;
+            batch.add(betId, batch.encode(userId), batch.encode(marketId), predictedCode, resultCode,
+                    stakeMinor, oddsFixed, payout);
+        });
+
+        if (unresolved[0] > 0) {
+            log.warn("Left {} bets pending on markets without a result - Event ID: {}",
+                    unresolved[0], eventOutcome.getEventId());
+        }
+        log.info("Matched {} bets for event {} after bet {} - Won: {}, Lost: {}",
+                batch.size(), eventOutcome.getEventId(), afterBetId,
+                batch.wonCount(), batch.size() - batch.wonCount());
+
+        return batch;
+    }
 
     /**
      * Matches pending bets with an event outcome.
      *
      * Finds all pending bets for the given event and creates settlement
      * DTOs for each bet, determining whether the bet was won or lost
-     * by comparing the predicted winner with the actual winner.
+     * by comparing the predicted winner with the result of the bet's
+     * market. All markets of the event are settled in this single pass;
+     * bets on markets the outcome does not resolve stay pending.
      *
      * @param eventOutcome The event outcome to match against
      * @return List of bet settlement DTOs ready for processing
@@ -40,10 +184,9 @@ public class BetMatchingService {
                 eventOutcome.getEventId(), eventOutcome.getEventWinnerId());
 
         // Find all pending bets for this event
-        List<Bet> pendingBets = betRepository.findByEventIdAndStatus(
-                eventOutcome.getEventId(),
-                BetStatus.PENDING
-        );
+        List<Bet> pendingBets = dataAccessConfig.isJdbc()
+                ? jdbcBetRepository.findPendingBets(eventOutcome.getEventId(), 0L)
+                : betRepository.findByEventIdAndStatus(eventOutcome.getEventId(), BetStatus.PENDING);
 
         log.info("Found {} pending bets for event: {}",
                 pendingBets.size(), eventOutcome.getEventId());
@@ -53,8 +196,10 @@ public class BetMatchingService {
             return List.of();
         }
 
-        // Convert bets to settlement DTOs
+        // Convert bets to settlement DTOs in betId order, so dispatch progress can be checkpointed by betId
         List<BetSettlementDTO> settlements = pendingBets.stream()
+                .sorted(Comparator.comparing(Bet::getBetId, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .filter(bet -> eventOutcome.resultFor(bet.getEventMarketId()) != null)
                 .map(bet -> createSettlement(bet, eventOutcome))
                 .collect(Collectors.toList());
 
@@ -67,34 +212,77 @@ public class BetMatchingService {
         return settlements;
     }
 
+    /**
+     * Matches pending bets with an event outcome, resuming after a given bet.
+     *
+     * Used when dispatch of an event was interrupted: only bets with a
+     * higher betId than the last one dispatched are matched again.
+     *
+     * @param eventOutcome The event outcome to match against
+     * @param afterBetId The last betId already dispatched
+     * @return List of bet settlement DTOs in betId order
+     */
+    public List<BetSettlementDTO> matchBetsAfter(EventOutcomeDTO eventOutcome, long afterBetId) {
+        log.info("Matching bets for event: {} with winner: {} after bet: {}",
+                eventOutcome.getEventId(), eventOutcome.getEventWinnerId(), afterBetId);
+
+        List<Bet> pendingBets = dataAccessConfig.isJdbc()
+                ? jdbcBetRepository.findPendingBets(eventOutcome.getEventId(), afterBetId)
+                : betRepository.findByEventIdAndStatusAndBetIdGreaterThanOrderByBetIdAsc(
+                        eventOutcome.getEventId(),
+                        BetStatus.PENDING,
+                        afterBetId
+                );
+
+        log.info("Found {} remaining pending bets for event: {}",
+                pendingBets.size(), eventOutcome.getEventId());
+
+        return pendingBets.stream()
+                .filter(bet -> eventOutcome.resultFor(bet.getEventMarketId()) != null)
+                .map(bet -> createSettlement(bet, eventOutcome))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Creates a bet settlement DTO from a bet and event outcome.
      *
      * Determines if the bet was won by comparing the predicted winner
-     * with the actual winner from the event outcome.
+     * with the actual winner from the event outcome, and computes the
+     * payout in fixed point so downstream consumers need not re-read the bet.
      *
      * @param bet The bet to settle
      * @param eventOutcome The event outcome
      * @return BetSettlementDTO ready for processing
      */
     private BetSettlementDTO createSettlement(Bet bet, EventOutcomeDTO eventOutcome) {
-        // Determine if the bet was won
-        boolean won = bet.getEventWinnerId().equals(eventOutcome.getEventWinnerId());
+        // Determine if the bet was won against the result of its market
+        String result = eventOutcome.resultFor(bet.getEventMarketId());
+        boolean won = bet.getEventWinnerId().equals(result);
 
-        log.debug("Bet {} for user {} - Predicted: {}, Actual: {}, Result: {}",
-                bet.getBetId(), bet.getUserId(),
-                bet.getEventWinnerId(), eventOutcome.getEventWinnerId(),
+        log.debug("Bet {} for user {} - Market: {}, Predicted: {}, Actual: {}, Result: {}",
+                bet.getBetId(), bet.getUserId(), bet.getEventMarketId(),
+                bet.getEventWinnerId(), result,
                 won ? "WON" : "LOST");
 
+        Long payout = null;
+        if (bet.getOdds() != null) {
+            payout = won
+                    ? PayoutCalculator.payout(PayoutCalculator.toMinorUnits(bet.getBetAmount()),
+                            PayoutCalculator.toFixedOdds(bet.getOdds()))
+                    : 0L;
+        }
+
         return BetSettlementDTO.builder()
                 .betId(bet.getBetId())
                 .userId(bet.getUserId())
                 .eventId(bet.getEventId())
                 .eventMarketId(bet.getEventMarketId())
-                .eventWinnerId(eventOutcome.getEventWinnerId())
+                .eventWinnerId(result)
                 .predictedWinnerId(bet.getEventWinnerId())
                 .betAmount(bet.getBetAmount())
                 .won(won)
+                .odds(bet.getOdds())
+                .payoutMinorUnits(payout)
                 .build();
     }
 
@@ -0,0 +1,76 @@
+package com.sportygroup.betsettler.service;
+
+import com.sportygroup.betsettler.config.BetIngestionConfig;
+import com.sportygroup.betsettler.dto.PlaceBetRequest;
+import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.repository.BetBatchWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service for placing new bets.
+ *
+ * Converts placement requests into pending bets and hands them to the
+ * group-commit writer, which persists them in JDBC batches.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BetPlacementService {
+
+    private final BetBatchWriter betBatchWriter;
+    private final BetIngestionConfig config;
+
+    /**
+     * Places a single bet.
+     *
+     * @param request The bet to place
+     * @return Future completed with the number of bets persisted
+     */
+    public CompletableFuture<Integer> placeBet(PlaceBetRequest request) {
+        return placeBets(List.of(request));
+    }
+
+    /**
+     * Places several bets in one group commit.
+     *
+     * @param requests The bets to place
+     * @return Future completed with the number of bets persisted
+     * @throws IllegalArgumentException if more bets are sent than allowed per request
+     */
+    public CompletableFuture<Integer> placeBets(List<PlaceBetRequest> requests) {
+        if (requests.size() > config.getMaxBetsPerRequest()) {
+            throw new IllegalArgumentException("Too many bets in one request: " + requests.size()
+                    + " (max " + config.getMaxBetsPerRequest() + ")");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Bet> bets = new ArrayList<>(requests.size());
+        for (PlaceBetRequest request : requests) {
+            bets.add(toBet(request, now));
+        }
+
+        log.debug("Queueing {} bets for placement", bets.size());
+        return betBatchWriter.submit(bets);
+    }
+
+    private Bet toBet(PlaceBetRequest request, LocalDateTime createdAt) {
+        return Bet.builder()
+                .userId(request.getUserId())
+                .eventId(request.getEventId())
+                .eventMarketId(request.getEventMarketId())
+                .eventWinnerId(request.getEventWinnerId())
+                .betAmount(request.getBetAmount())
+                .odds(request.getOdds())
+                .status(BetStatus.PENDING)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -1,18 +1,39 @@
 package com.sportygroup.betsettler.service;
 
+import com.sportygroup.betsettler.config.SettlementDataAccessConfig;
 import com.sportygroup.betsettler.dto.BetSettlementDTO;
 import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.journal.SettlementJournal;
 import com.sportygroup.betsettler.repository.BetRepository;
+import com.sportygroup.betsettler.repository.JdbcBetRepository;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter.StatusChange;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for settling bets in the database.
  *
  * This service handles the final step of bet settlement - updating
- * the bet status in the database based on settlement messages.
+ * the bet status in the database based on settlement messages. The
+ * users' bet summaries are adjusted in the same transaction. The time of
+ * every settlement transaction is reported to {@link SettlementLatencyTracker}.
+ * In JDBC data-access mode bets are updated through {@link JdbcBetRepository}
+ * with batched statements instead of being loaded and saved as entities.
+ * With the settlement journal enabled, the bets each transaction actually
+ * changed are appended to {@link SettlementJournal} once it has committed.
  */
 @Service
 @RequiredArgsConstructor
@@ -20,29 +41,54 @@ import org.springframework.transaction.annotation.Transactional;
 public class BetSettlementService {
 
     private final BetRepository betRepository;
+    private final UserBetSummaryWriter summaryWriter;
+    private final SettlementLatencyTracker latencyTracker;
+    private final JdbcBetRepository jdbcBetRepository;
+    private final SettlementDataAccessConfig dataAccessConfig;
+    private final SettlementJournal settlementJournal;
 
     /**
      * Settles a bet based on the settlement DTO.
      *
      * Updates the bet status to WON or LOST and sets the settlement timestamp.
-     * This operation is transactional to ensure data consistency.
+     * This operation is transactional to ensure data consistency. Only a
+     * pending bet is settled; a bet that has already been settled, by a
+     * redelivered settlement or an outcome correction, is left unchanged.
      *
      * @param settlement The bet settlement information
      * @throws IllegalArgumentException if bet is not found
      */
     @Transactional
     public void settleBet(BetSettlementDTO settlement) {
+        trackLatency(System.nanoTime());
         log.info("Settling bet - Bet ID: {}, User: {}, Event: {}, Won: {}",
                 settlement.getBetId(), settlement.getUserId(),
                 settlement.getEventId(), settlement.getWon());
 
-        // Fetch the bet from database
-        Bet bet = betRepository.findById(settlement.getBetId())
+        if (dataAccessConfig.isJdbc()) {
+            LocalDateTime settledAt = LocalDateTime.now();
+            List<SettlementJournal.Entry> entries = new ArrayList<>(1);
+            summaryWriter.recordStatusChanges(jdbcBetRepository.settle(List.of(settlement), settledAt,
+                    settled -> entries.add(journalEntry(settled, settledAt))));
+            journal(entries);
+            log.info("Successfully settled bet - Bet ID: {}, Won: {}", settlement.getBetId(), settlement.getWon());
+            return;
+        }
+
+        // Fetch and lock the bet
+        Bet bet = betRepository.findAllByIdForUpdate(List.of(settlement.getBetId())).stream()
+                .findFirst()
                 .orElseThrow(() -> {
                     log.error("Bet not found - Bet ID: {}", settlement.getBetId());
                     return new IllegalArgumentException("Bet not found: " + settlement.getBetId());
                 });
 
+        BetStatus previous = bet.getStatus();
+        if (previous != BetStatus.PENDING) {
+            log.info("Bet already settled, skipping - Bet ID: {}, Status: {}", bet.getBetId(), previous);
+            return;
+        }
+
         // Update bet status based on outcome
         if (settlement.getWon()) {
             bet.markAsWon();
@@ -56,11 +102,71 @@ public class BetSettlementService {
 
         // Save updated bet
         betRepository.save(bet);
+        summaryWriter.recordStatusChanges(List.of(statusChange(bet, previous)));
+        journal(List.of(journalEntry(settlement, bet)));
 
         log.info("Successfully settled bet - Bet ID: {}, Status: {}, Settled at: {}",
                 bet.getBetId(), bet.getStatus(), bet.getSettledAt());
     }
 
+    /**
+     * Settles a batch of bets in one transaction.
+     *
+     * Loads and locks all bets with a single query and writes the pending
+     * ones back together; bets that are already settled are left unchanged.
+     * If any bet is missing the whole batch is rolled back, so callers can
+     * fall back to {@link #settleBet(BetSettlementDTO)} per settlement.
+     *
+     * @param settlements The bet settlements to apply
+     * @throws IllegalArgumentException if any bet is not found
+     */
+    @Transactional
+    public void settleBets(List<BetSettlementDTO> settlements) {
+        trackLatency(System.nanoTime());
+        if (dataAccessConfig.isJdbc()) {
+            LocalDateTime settledAt = LocalDateTime.now();
+            List<SettlementJournal.Entry> entries = new ArrayList<>(settlements.size());
+            summaryWriter.recordStatusChanges(jdbcBetRepository.settle(settlements, settledAt,
+                    settled -> entries.add(journalEntry(settled, settledAt))));
+            journal(entries);
+            log.info("Settled batch of {} bets", settlements.size());
+            return;
+        }
+
+        List<Long> betIds = settlements.stream().map(BetSettlementDTO::getBetId).toList();
+        Map<Long, Bet> bets = betRepository.findAllByIdForUpdate(betIds).stream()
+                .collect(Collectors.toMap(Bet::getBetId, Function.identity()));
+
+        List<Bet> settled = new ArrayList<>(settlements.size());
+        List<StatusChange> changes = new ArrayList<>(settlements.size());
+        List<SettlementJournal.Entry> entries = new ArrayList<>(settlements.size());
+        for (BetSettlementDTO settlement : settlements) {
+            Bet bet = bets.get(settlement.getBetId());
+            if (bet == null) {
+                throw new IllegalArgumentException("Bet not found: " + settlement.getBetId());
+            }
+            BetStatus previous = bet.getStatus();
+            if (previous != BetStatus.PENDING) {
+                // Already settled, possibly earlier in this batch
+                continue;
+            }
+            if (settlement.getWon()) {
+                bet.markAsWon();
+            } else {
+                bet.markAsLost();
+            }
+            settled.add(bet);
+            changes.add(statusChange(bet, previous));
+            entries.add(journalEntry(settlement, bet));
+        }
+
+        betRepository.saveAll(settled);
+        summaryWriter.recordStatusChanges(changes);
+        journal(entries);
+        log.info("Settled batch of {} bets - Already settled: {}", settled.size(),
+                settlements.size() - settled.size());
+    }
+
     /**
      * Retrieves a bet by its ID.
      *
@@ -72,4 +178,67 @@ public class BetSettlementService {
         return betRepository.findById(betId)
                 .orElseThrow(() -> new IllegalArgumentException("Bet not found: " + betId));
     }
-}
\ No newline at end of file
+
+    /**
+     * Reports the transaction's duration once it has completed, so the commit is included.
+     */
+    private void trackLatency(long startNanos) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                latencyTracker.recordWrite((System.nanoTime() - startNanos) / 1_000_000.0);
+            }
+        });
+    }
+
+    /**
+     * Appends settlements to the journal once the transaction has committed.
+     *
+     * Also used for the bets changed by an outcome correction, so a replay
+     * ends with the latest status of every bet. A failed append is logged
+     * rather than thrown, as the settlements are already committed.
+     */
+    void journal(List<SettlementJournal.Entry> entries) {
+        if (!settlementJournal.isEnabled() || entries.isEmpty()) {
+            return;
+        }
+        Runnable append = () -> {
+            try {
+                long position = settlementJournal.append(entries);
+                if (settlementJournal.isAwaitFlush()) {
+                    settlementJournal.awaitFlushed(position);
+                }
+            } catch (Exception e) {
+                log.error("Failed to journal {} settlements - First Bet ID: {}, Error: {}",
+                        entries.size(), entries.get(0).betId(), e.getMessage(), e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                append.run();
+            }
+        });
+    }
+
+    private SettlementJournal.Entry journalEntry(BetSettlementDTO settlement, Bet bet) {
+        return new SettlementJournal.Entry(bet.getBetId(), bet.getEventId(), bet.getUserId(),
+                Boolean.TRUE.equals(settlement.getWon()), settlement.getPayoutMinorUnits(), bet.getSettledAt());
+    }
+
+    private SettlementJournal.Entry journalEntry(BetSettlementDTO settlement, LocalDateTime settledAt) {
+        return new SettlementJournal.Entry(settlement.getBetId(), settlement.getEventId(), settlement.getUserId(),
+                Boolean.TRUE.equals(settlement.getWon()), settlement.getPayoutMinorUnits(), settledAt);
+    }
+
+    private StatusChange statusChange(Bet bet, BetStatus previous) {
+        return new StatusChange(bet.getUserId(), bet.getBetAmount(), previous, bet.getStatus());
+    }
+}
@@ -0,0 +1,173 @@
+package com.sportygroup.betsettler.service;
+
+import com.sportygroup.betsettler.config.DispatchCheckpointConfig;
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.entity.DispatchCheckpoint;
+import com.sportygroup.betsettler.repository.DispatchCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Service for checkpointing settlement dispatch progress per event.
+ *
+ * Progress is written every {@code interval} settlements and once more
+ * when the event is fully dispatched. A redelivered outcome resumes after
+ * the last checkpointed betId instead of re-sending the whole event; at
+ * most one interval of settlements is sent twice after a crash.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DispatchCheckpointService {
+
+    private final DispatchCheckpointRepository checkpointRepository;
+    private final DispatchCheckpointConfig config;
+
+    /**
+     * Finds the checkpoint to resume an outcome from.
+     *
+     * A checkpoint written for a different winner belongs to an earlier,
+     * since corrected outcome, and one written for different market results
+     * to an outcome that resolved other markets of the event; either is
+     * discarded, as its lastBetId says nothing about the bets of this outcome.
+     *
+     * @param eventOutcome The outcome about to be dispatched
+     * @return The checkpoint to resume after, or empty to start from the first bet
+     */
+    public Optional<DispatchCheckpoint> findResumePoint(EventOutcomeDTO eventOutcome) {
+        if (!config.isEnabled()) {
+            return Optional.empty();
+        }
+
+        Optional<DispatchCheckpoint> checkpoint = checkpointRepository.findById(eventOutcome.getEventId());
+        if (checkpoint.isPresent() && !resultKeyOf(checkpoint.get()).equals(eventOutcome.resultKey())) {
+            log.info("Discarding dispatch checkpoint for event {} - outcome changed from {} to {}",
+                    eventOutcome.getEventId(), resultKeyOf(checkpoint.get()), eventOutcome.resultKey());
+            checkpointRepository.deleteById(eventOutcome.getEventId());
+            return Optional.empty();
+        }
+
+        checkpoint.ifPresent(c -> log.info("Resuming dispatch for event {} after bet {} ({} already dispatched)",
+                c.getEventId(), c.getLastBetId(), c.getDispatchedCount()));
+        return checkpoint;
+    }
+
+    /**
+     * Records dispatch progress, writing a checkpoint every {@code interval} settlements.
+     *
+     * @param eventOutcome The outcome being dispatched
+     * @param lastBetId The betId of the settlement just dispatched
+     * @param dispatchedCount Total settlements dispatched for the outcome so far
+     */
+    public void recordProgress(EventOutcomeDTO eventOutcome, long lastBetId, long dispatchedCount) {
+        if (isCheckpointDue(dispatchedCount)) {
+            save(eventOutcome, lastBetId, dispatchedCount, false);
+        }
+    }
+
+    /**
+     * Whether {@link #recordProgress} writes a checkpoint at this dispatched count.
+     *
+     * Lets the dispatcher flush its settlement transport first, so a
+     * checkpoint never covers a settlement that has not been delivered.
+     *
+     * @param dispatchedCount Total settlements dispatched for the outcome so far
+     * @return true if a checkpoint is written
+     */
+    public boolean isCheckpointDue(long dispatchedCount) {
+        return config.isEnabled() && dispatchedCount % config.getInterval() == 0;
+    }
+
+    /**
+     * Records that every bet up to {@code lastBetId} has been dispatched, regardless of the interval.
+     *
+     * Used when an outcome is dispatched in chunks: progress only advances
+     * once a chunk and every chunk before it are done, so each such step is
+     * checkpointed.
+     *
+     * @param eventOutcome The outcome being dispatched
+     * @param lastBetId The last betId of the contiguous dispatched chunks
+     * @param dispatchedCount Total settlements dispatched for the outcome so far
+     */
+    public void recordChunk(EventOutcomeDTO eventOutcome, long lastBetId, long dispatchedCount) {
+        if (config.isEnabled()) {
+            save(eventOutcome, lastBetId, dispatchedCount, false);
+        }
+    }
+
+    /**
+     * Records that every matched bet of the outcome has been dispatched.
+     *
+     * @param eventOutcome The outcome that was dispatched
+     * @param lastBetId The betId of the last settlement dispatched
+     * @param dispatchedCount Total settlements dispatched for the outcome
+     */
+    public void markCompleted(EventOutcomeDTO eventOutcome, long lastBetId, long dispatchedCount) {
+        if (config.isEnabled()) {
+            save(eventOutcome, lastBetId, dispatchedCount, true);
+        }
+    }
+
+    /**
+     * Whether an outcome of the event is part-way through being dispatched.
+     *
+     * @param eventId The event identifier
+     * @return true if a checkpoint exists that has not been completed
+     */
+    public boolean isDispatchInProgress(String eventId) {
+        return config.isEnabled() && checkpointRepository.findById(eventId)
+                .map(checkpoint -> !checkpoint.isCompleted())
+                .orElse(false);
+    }
+
+    /**
+     * Moves the checkpoint of a settled event over to its corrected outcome.
+     *
+     * Progress is kept, so a later re-publication of the corrected outcome
+     * resumes (or is short-circuited) instead of discarding the checkpoint.
+     *
+     * @param correctedOutcome The corrected outcome
+     */
+    public void recordCorrection(EventOutcomeDTO correctedOutcome) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        checkpointRepository.findById(correctedOutcome.getEventId())
+                .ifPresent(checkpoint -> save(correctedOutcome, checkpoint.getLastBetId(),
+                        checkpoint.getDispatchedCount(), checkpoint.isCompleted()));
+    }
+
+    private void save(EventOutcomeDTO eventOutcome, long lastBetId, long dispatchedCount, boolean completed) {
+        try {
+            checkpointRepository.save(DispatchCheckpoint.builder()
+                    .eventId(eventOutcome.getEventId())
+                    .eventWinnerId(eventOutcome.getEventWinnerId())
+                    .marketResults(eventOutcome.marketResultsKey())
+                    .lastBetId(lastBetId)
+                    .dispatchedCount(dispatchedCount)
+                    .completed(completed)
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            log.debug("Checkpointed dispatch for event {} at bet {} ({} dispatched)",
+                    eventOutcome.getEventId(), lastBetId, dispatchedCount);
+        } catch (Exception e) {
+            // A missed checkpoint only means more re-sending after a crash
+            log.warn("Failed to checkpoint dispatch for event {} - Error: {}",
+                    eventOutcome.getEventId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the result key of the outcome a checkpoint was written for.
+     *
+     * @param checkpoint The checkpoint
+     * @return The result key, comparable with {@link EventOutcomeDTO#resultKey()}
+     */
+    public static String resultKeyOf(DispatchCheckpoint checkpoint) {
+        return EventOutcomeDTO.resultKey(checkpoint.getEventWinnerId(), checkpoint.getMarketResults());
+    }
+}
@@ -0,0 +1,193 @@
+package com.sportygroup.betsettler.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.betsettler.config.OutcomePublishingConfig;
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.dto.OutcomeBatchItemResult;
+import com.sportygroup.betsettler.dto.OutcomeBatchResponse;
+import com.sportygroup.betsettler.dto.PublishEventRequest;
+import com.sportygroup.betsettler.exception.OverloadedException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Service for publishing many event outcomes from one request body.
+ *
+ * The body is read token by token - either a JSON array of outcomes or
+ * newline-delimited JSON objects - so only one item is held in memory at a
+ * time. Each valid item is sent to Kafka as soon as it is read, letting the
+ * producer pipeline the sends; the response is built once every send has
+ * been acknowledged or has failed.
+ *
+ * An outcome that is already settled is not sent again. Every sent outcome
+ * holds one of the in-flight sends; when none is free, reading waits for
+ * one - up to the acknowledgement budget - so the body is consumed at the
+ * broker's pace. An item that still finds no slot is rejected with the
+ * reason; the client can resend it later. The request itself is admitted
+ * once, like a single publication.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventOutcomeBatchService {
+
+    private final EventOutcomeService eventOutcomeService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final OutcomePublishingConfig config;
+
+    /**
+     * Parses and publishes a batch of event outcomes.
+     *
+     * A parse error stops reading the body; items read before it are still
+     * published and reported, and the error is returned in the response.
+     *
+     * @param body JSON array or NDJSON stream of outcomes
+     * @return Future completed with per-item results once all sends have finished
+     * @throws IllegalArgumentException if the body contains no outcomes
+     * @throws IOException if the body cannot be read
+     */
+    public CompletableFuture<OutcomeBatchResponse> publishBatch(InputStream body) throws IOException {
+        List<OutcomeBatchItemResult> results = new ArrayList<>();
+        List<CompletableFuture<Void>> sends = new ArrayList<>();
+        String parseError = null;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken first = parser.nextToken();
+            boolean array = first == JsonToken.START_ARRAY;
+            JsonToken token = array ? parser.nextToken() : first;
+
+            while (token != null && token != JsonToken.END_ARRAY) {
+                int index = results.size();
+                if (index >= config.getMaxBatchItems()) {
+                    parseError = "Batch exceeds the maximum of " + config.getMaxBatchItems() + " outcomes";
+                    break;
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    parseError = "Expected a JSON object at item " + index;
+                    break;
+                }
+
+                JsonNode item = objectMapper.readTree(parser);
+                OutcomeBatchItemResult result = OutcomeBatchItemResult.builder().index(index).build();
+                results.add(result);
+                sends.add(publishItem(item, result));
+
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            parseError = "Malformed JSON after item " + results.size() + ": " + e.getOriginalMessage();
+        }
+
+        if (results.isEmpty() && parseError == null) {
+            throw new IllegalArgumentException("Batch contains no outcomes");
+        }
+
+        log.info("Read {} outcomes from batch request, waiting for Kafka acknowledgements", results.size());
+
+        String error = parseError;
+        return CompletableFuture.allOf(sends.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> buildResponse(results, error));
+    }
+
+    private CompletableFuture<Void> publishItem(JsonNode item, OutcomeBatchItemResult result) {
+        PublishEventRequest request;
+        try {
+            request = objectMapper.treeToValue(item, PublishEventRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            reject(result, "Invalid outcome: " + e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        result.setEventId(request.getEventId());
+
+        Set<ConstraintViolation<PublishEventRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            reject(result, violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return CompletableFuture.completedFuture(null);
+        }
+
+        EventOutcomeDTO eventOutcome = request.toEventOutcome();
+        if (eventOutcomeService.isAlreadySettled(eventOutcome)) {
+            reject(result, "Event outcome already settled");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        try {
+            return eventOutcomeService.sendWithinLimits(eventOutcome, config.getAckTimeoutMs())
+                    .handle((sendResult, ex) -> {
+                        if (ex == null) {
+                            result.setStatus(OutcomeBatchItemResult.Status.ACCEPTED);
+                            result.setPartition(sendResult.getRecordMetadata().partition());
+                            result.setOffset(sendResult.getRecordMetadata().offset());
+                        } else {
+                            fail(result, ex);
+                        }
+                        return null;
+                    });
+        } catch (OverloadedException e) {
+            reject(result, e.getMessage() + " - retry after " + e.getRetryAfterSeconds() + "s");
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            fail(result, e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void reject(OutcomeBatchItemResult result, String message) {
+        result.setStatus(OutcomeBatchItemResult.Status.REJECTED);
+        result.setMessage(message);
+    }
+
+    private void fail(OutcomeBatchItemResult result, Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        log.error("Failed to publish outcome in batch - Index: {}, Event ID: {}, Error: {}",
+                result.getIndex(), result.getEventId(), cause.getMessage());
+        result.setStatus(OutcomeBatchItemResult.Status.FAILED);
+        result.setMessage(cause.getMessage());
+    }
+
+    private OutcomeBatchResponse buildResponse(List<OutcomeBatchItemResult> results, String error) {
+        int accepted = 0;
+        int rejected = 0;
+        int failed = 0;
+        for (OutcomeBatchItemResult result : results) {
+            switch (result.getStatus()) {
+                case ACCEPTED -> accepted++;
+                case REJECTED -> rejected++;
+                case FAILED -> failed++;
+            }
+        }
+
+        log.info("Batch outcome publication finished - Total: {}, Accepted: {}, Rejected: {}, Failed: {}",
+                results.size(), accepted, rejected, failed);
+
+        return OutcomeBatchResponse.builder()
+                .total(results.size())
+                .accepted(accepted)
+                .rejected(rejected)
+                .failed(failed)
+                .error(error)
+                .results(results)
+                .build();
+    }
+}
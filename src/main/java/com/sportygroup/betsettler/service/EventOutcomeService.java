@@ -1,14 +1,23 @@
 package com.sportygroup.betsettler.service;
 
+import com.sportygroup.betsettler.cache.SettledEventCache;
 import com.sportygroup.betsettler.config.KafkaTopicConfig;
+import com.sportygroup.betsettler.config.OutcomePublishingConfig;
 import com.sportygroup.betsettler.dto.EventOutcomeDTO;
-import lombok.RequiredArgsConstructor;
+import com.sportygroup.betsettler.exception.OverloadedException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Service for publishing event outcomes to Kafka.
@@ -17,12 +26,29 @@ import java.util.concurrent.CompletableFuture;
  * sending messages to the Kafka topic for downstream processing.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class EventOutcomeService {
 
+    private static final String BUFFER_AVAILABLE_METRIC = "buffer-available-bytes";
+
     private final KafkaTemplate<String, EventOutcomeDTO> kafkaTemplate;
     private final KafkaTopicConfig topicConfig;
+    private final OutcomePublishingConfig publishingConfig;
+    private final SettledEventCache settledEventCache;
+    private final Semaphore inFlight;
+    private volatile Metric bufferAvailableMetric;
+
+    public EventOutcomeService(
+            KafkaTemplate<String, EventOutcomeDTO> kafkaTemplate,
+            KafkaTopicConfig topicConfig,
+            OutcomePublishingConfig publishingConfig,
+            SettledEventCache settledEventCache) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topicConfig = topicConfig;
+        this.publishingConfig = publishingConfig;
+        this.settledEventCache = settledEventCache;
+        this.inFlight = new Semaphore(publishingConfig.getMaxInFlight());
+    }
 
     /**
      * Publishes an event outcome to Kafka.
@@ -39,8 +65,7 @@ public class EventOutcomeService {
         String topic = topicConfig.getEventOutcomes();
         String key = eventOutcome.getEventId();
 
-        CompletableFuture<SendResult<String, EventOutcomeDTO>> future =
-                kafkaTemplate.send(topic, key, eventOutcome);
+        CompletableFuture<SendResult<String, EventOutcomeDTO>> future = sendEventOutcome(eventOutcome);
 
         future.whenComplete((result, ex) -> {
             if (ex == null) {
@@ -49,10 +74,189 @@ public class EventOutcomeService {
                         result.getRecordMetadata().partition(),
                         result.getRecordMetadata().offset());
             } else {
+                // Nobody is waiting on this future; use acknowledged mode to surface failures to the caller
                 log.error("Failed to send event outcome to Kafka - Event ID: {}, Error: {}",
                         eventOutcome.getEventId(), ex.getMessage(), ex);
-                throw new RuntimeException("Failed to publish event outcome", ex);
             }
         });
     }
+
+    /**
+     * Publishes an event outcome and completes once the broker acknowledges it.
+     *
+     * Admission is bounded by the number of sends in flight and by the free
+     * space in the producer's buffer, so bursts are rejected up front instead
+     * of blocking request threads inside the producer.
+     *
+     * @param eventOutcome The event outcome to publish
+     * @return Future completed with the send result, or exceptionally with
+     *         {@link OverloadedException} if the acknowledgement does not arrive
+     *         within the configured latency budget
+     * @throws OverloadedException if the in-flight or buffer limit is reached
+     */
+    public CompletableFuture<SendResult<String, EventOutcomeDTO>> publishAcknowledged(EventOutcomeDTO eventOutcome) {
+        return sendWithinLimits(eventOutcome).copy()
+                .orTimeout(publishingConfig.getAckTimeoutMs(), TimeUnit.MILLISECONDS)
+                .handle((result, ex) -> {
+                    if (ex != null) {
+                        throw translate(ex);
+                    }
+                    log.info("Event outcome acknowledged - Event ID: {}, Partition: {}, Offset: {}",
+                            eventOutcome.getEventId(),
+                            result.getRecordMetadata().partition(),
+                            result.getRecordMetadata().offset());
+                    return result;
+                });
+    }
+
+    /**
+     * Sends an event outcome if the in-flight and producer buffer limits allow it.
+     *
+     * The in-flight slot is held until the broker has answered, so batch
+     * sends count against the same limit as acknowledged publications.
+     *
+     * @param eventOutcome The event outcome to send
+     * @return Future completed when the broker acknowledges the record
+     * @throws OverloadedException if the in-flight or buffer limit is reached
+     */
+    public CompletableFuture<SendResult<String, EventOutcomeDTO>> sendWithinLimits(EventOutcomeDTO eventOutcome) {
+        return sendWithinLimits(eventOutcome, 0);
+    }
+
+    /**
+     * Sends an event outcome, waiting up to the given time for an in-flight slot.
+     *
+     * Callers streaming many outcomes wait here instead of being rejected
+     * while earlier sends are still awaiting the broker, which holds back
+     * the stream until the broker catches up.
+     *
+     * @param eventOutcome The event outcome to send
+     * @param slotWaitMs Maximum time to wait for an in-flight slot
+     * @return Future completed when the broker acknowledges the record
+     * @throws OverloadedException if no slot frees up in time or the buffer limit is reached
+     */
+    public CompletableFuture<SendResult<String, EventOutcomeDTO>> sendWithinLimits(EventOutcomeDTO eventOutcome,
+                                                                                   long slotWaitMs) {
+        if (!acquireInFlight(slotWaitMs)) {
+            log.warn("Rejecting event outcome - in-flight limit of {} reached - Event ID: {}",
+                    publishingConfig.getMaxInFlight(), eventOutcome.getEventId());
+            throw new OverloadedException("Too many event outcomes in flight",
+                    OverloadedException.Reason.THROTTLED, publishingConfig.getRetryAfterSeconds());
+        }
+
+        CompletableFuture<SendResult<String, EventOutcomeDTO>> future;
+        try {
+            if (isProducerBufferExhausted()) {
+                log.warn("Rejecting event outcome - producer buffer exhausted - Event ID: {}",
+                        eventOutcome.getEventId());
+                throw new OverloadedException("Kafka producer buffer is exhausted",
+                        OverloadedException.Reason.UNAVAILABLE, publishingConfig.getRetryAfterSeconds());
+            }
+            future = sendEventOutcome(eventOutcome);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw translate(e);
+        }
+
+        // Release on the real completion, not on a caller's latency-budget timeout
+        future.whenComplete((result, ex) -> inFlight.release());
+        return future;
+    }
+
+    private boolean acquireInFlight(long waitMs) {
+        if (waitMs <= 0) {
+            return inFlight.tryAcquire();
+        }
+        try {
+            return inFlight.tryAcquire(waitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Sends an event outcome to Kafka without waiting for the broker.
+     *
+     * Callers sending many outcomes can issue all sends first and then wait
+     * on the returned futures, letting the producer pipeline them in batches.
+     *
+     * @param eventOutcome The event outcome to send
+     * @return Future completed when the broker acknowledges the record
+     */
+    public CompletableFuture<SendResult<String, EventOutcomeDTO>> sendEventOutcome(EventOutcomeDTO eventOutcome) {
+        return kafkaTemplate.send(topicConfig.getEventOutcomes(), eventOutcome.getEventId(), eventOutcome);
+    }
+
+    /**
+     * Whether this exact outcome has already been settled.
+     *
+     * Re-publishing it would only re-query an event with no pending bets,
+     * so callers can answer without touching Kafka.
+     *
+     * @param eventOutcome The outcome about to be published
+     * @return true if the event was already settled with the same winner and market results
+     */
+    public boolean isAlreadySettled(EventOutcomeDTO eventOutcome) {
+        return settledEventCache.isSettled(eventOutcome.getEventId(), eventOutcome.resultKey());
+    }
+
+    /**
+     * Whether the REST layer should wait for the broker acknowledgement.
+     */
+    public boolean isAcknowledgedMode() {
+        return publishingConfig.isAcknowledged();
+    }
+
+    /**
+     * Returns the number of acknowledged-mode sends currently in flight.
+     */
+    public int getInFlightCount() {
+        return publishingConfig.getMaxInFlight() - inFlight.availablePermits();
+    }
+
+    private boolean isProducerBufferExhausted() {
+        if (publishingConfig.getMinAvailableBufferBytes() <= 0) {
+            return false;
+        }
+
+        Metric metric = bufferAvailableMetric;
+        if (metric == null) {
+            for (Map.Entry<MetricName, ? extends Metric> entry : kafkaTemplate.metrics().entrySet()) {
+                if (BUFFER_AVAILABLE_METRIC.equals(entry.getKey().name())) {
+                    metric = entry.getValue();
+                    bufferAvailableMetric = metric;
+                    break;
+                }
+            }
+            if (metric == null) {
+                return false;
+            }
+        }
+
+        return metric.metricValue() instanceof Number available
+                && available.longValue() < publishingConfig.getMinAvailableBufferBytes();
+    }
+
+    private RuntimeException translate(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+
+        if (cause instanceof OverloadedException overloaded) {
+            return overloaded;
+        }
+        if (cause instanceof TimeoutException) {
+            return new OverloadedException("Kafka did not acknowledge the event outcome within "
+                    + publishingConfig.getAckTimeoutMs() + "ms",
+                    OverloadedException.Reason.UNAVAILABLE, publishingConfig.getRetryAfterSeconds(), cause);
+        }
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof org.apache.kafka.common.errors.TimeoutException) {
+                return new OverloadedException("Kafka producer is saturated: " + t.getMessage(),
+                        OverloadedException.Reason.UNAVAILABLE, publishingConfig.getRetryAfterSeconds(), cause);
+            }
+        }
+
+        log.error("Failed to publish event outcome to Kafka - Error: {}", cause.getMessage(), cause);
+        return new RuntimeException("Failed to publish event outcome", cause);
+    }
 }
@@ -0,0 +1,203 @@
+package com.sportygroup.betsettler.service;
+
+import com.sportygroup.betsettler.config.OutcomePublishingConfig;
+import com.sportygroup.betsettler.exception.OverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control for outcome publication requests.
+ *
+ * Every client gets a token bucket refilled at the configured rate, so a
+ * single misbehaving feed is throttled without affecting the others, and
+ * the number of requests handled at once is capped across all clients so
+ * a storm spread over many clients cannot flood Kafka either. Rejections
+ * are answered with 429 and a Retry-After header.
+ *
+ * Both checks are lock-free: a bucket is a single compare-and-set on the
+ * time at which it would be full again, and the concurrency cap is a
+ * compare-and-set on the in-flight count.
+ */
+@Component
+@Slf4j
+public class OutcomeAdmissionControl {
+
+    /**
+     * Bucket shared by the clients that arrive once max-clients are tracked
+     */
+    static final String OVERFLOW_CLIENT = "*";
+
+    private final OutcomePublishingConfig publishingConfig;
+    private final OutcomePublishingConfig.Admission config;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final Counter admittedCounter;
+    private final Counter rateLimitedCounter;
+    private final Counter concurrencyLimitedCounter;
+
+    public OutcomeAdmissionControl(OutcomePublishingConfig publishingConfig, MeterRegistry meterRegistry) {
+        this.publishingConfig = publishingConfig;
+        this.config = publishingConfig.getAdmission();
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / config.getPermitsPerSecond()));
+        this.capacityNanos = intervalNanos * Math.max(1, config.getBurst());
+
+        Gauge.builder("outcome.admission.in.flight", inFlight, AtomicInteger::get)
+                .description("Outcome publication requests currently being handled")
+                .register(meterRegistry);
+        Gauge.builder("outcome.admission.clients", buckets, Map::size)
+                .description("Clients with a token bucket")
+                .register(meterRegistry);
+        this.admittedCounter = meterRegistry.counter("outcome.admission.admitted");
+        this.rateLimitedCounter = meterRegistry.counter("outcome.admission.rejected", "reason", "rate_limit");
+        this.concurrencyLimitedCounter = meterRegistry.counter("outcome.admission.rejected", "reason", "concurrency");
+    }
+
+    /**
+     * Admits an outcome publication request of a client.
+     *
+     * A batch publication is admitted as one request; its outcomes are
+     * bounded by the maximum batch size and by the in-flight sends instead.
+     * The slot is taken before the token, so a request turned away by the
+     * concurrency cap does not use up the client's rate.
+     *
+     * Every admitted request must be followed by exactly one {@link #release()}.
+     *
+     * @param clientId The client identifier
+     * @throws OverloadedException if the client is over its rate or too many requests are in flight
+     */
+    public void admit(String clientId) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        acquireSlot(clientId);
+        try {
+            takeToken(clientId);
+        } catch (OverloadedException e) {
+            inFlight.decrementAndGet();
+            throw e;
+        }
+        admittedCounter.increment();
+    }
+
+    private void takeToken(String clientId) {
+        long waitNanos = bucketOf(clientId).tryTake(System.nanoTime());
+        if (waitNanos > 0) {
+            rateLimitedCounter.increment();
+            log.warn("Rejecting event outcome - client rate limit reached - Client: {}", clientId);
+            throw new OverloadedException("Rate limit of " + config.getPermitsPerSecond()
+                    + " event outcomes per second exceeded",
+                    OverloadedException.Reason.THROTTLED, toRetryAfterSeconds(waitNanos));
+        }
+    }
+
+    private void acquireSlot(String clientId) {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= config.getMaxConcurrentRequests()) {
+                concurrencyLimitedCounter.increment();
+                log.warn("Rejecting event outcome - concurrency limit of {} reached - Client: {}",
+                        config.getMaxConcurrentRequests(), clientId);
+                throw new OverloadedException("Too many event outcome requests in progress",
+                        OverloadedException.Reason.THROTTLED, publishingConfig.getRetryAfterSeconds());
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+    }
+
+    /**
+     * Releases the concurrency slot of an admitted request once it has completed.
+     */
+    public void release() {
+        if (config.isEnabled()) {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Drops the buckets of clients that have been idle long enough to refill completely.
+     *
+     * A request racing with the removal may be counted against the dropped
+     * bucket; the client then starts again from a full bucket.
+     */
+    @Scheduled(fixedDelayString = "${application.kafka.publishing.admission.idle-eviction-ms:60000}")
+    public void evictIdleClients() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("Dropped token buckets of idle clients - Count: {}", evicted);
+        }
+    }
+
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    public int getClientCount() {
+        return buckets.size();
+    }
+
+    private TokenBucket bucketOf(String clientId) {
+        TokenBucket bucket = buckets.get(clientId);
+        if (bucket != null) {
+            return bucket;
+        }
+        // Bounds the map when a storm arrives from many (or spoofed) client identifiers
+        String key = buckets.size() < config.getMaxClients() ? clientId : OVERFLOW_CLIENT;
+        return buckets.computeIfAbsent(key, id -> new TokenBucket(System.nanoTime()));
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Token bucket kept as the time at which it would be full again.
+     *
+     * Taking a token moves that time one refill interval further; the
+     * bucket is empty once it lies more than its capacity in the future.
+     */
+    private final class TokenBucket {
+        private final AtomicLong fullAt;
+
+        private TokenBucket(long now) {
+            this.fullAt = new AtomicLong(now);
+        }
+
+        /**
+         * Takes a token.
+         *
+         * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+         */
+        long tryTake(long now) {
+            while (true) {
+                long current = fullAt.get();
+                long next = (current - now > 0 ? current : now) + intervalNanos;
+                long waitNanos = next - now - capacityNanos;
+                if (waitNanos > 0) {
+                    return waitNanos;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return fullAt.get() - now <= 0;
+        }
+    }
+}
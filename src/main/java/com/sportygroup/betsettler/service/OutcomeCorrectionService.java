@@ -0,0 +1,105 @@
+package com.sportygroup.betsettler.service;
+
+import com.sportygroup.betsettler.cache.SettledEventCache;
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.dto.OutcomeCorrectionResponse;
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.journal.SettlementJournal;
+import com.sportygroup.betsettler.repository.SettlementCorrectionWriter;
+import com.sportygroup.betsettler.repository.SettlementCorrectionWriter.CorrectedBet;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter.StatusChange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Service for correcting the outcome of an already-settled event.
+ *
+ * Pending-only matching never revisits settled bets, so a wrongly
+ * published winner is fixed here instead: only the bets whose status
+ * differs under the corrected result are re-settled, with set-based
+ * updates, and the users' bet summaries are adjusted in the same
+ * transaction. The changed bets are journaled like any other settlement.
+ * Pending bets are left to the normal outcome flow.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutcomeCorrectionService {
+
+    private final SettlementCorrectionWriter correctionWriter;
+    private final UserBetSummaryWriter summaryWriter;
+    private final DispatchCheckpointService checkpointService;
+    private final SettledEventCache settledEventCache;
+    private final BetSettlementService betSettlementService;
+
+    /**
+     * Re-settles an event's settled bets against a corrected outcome.
+     *
+     * Applying the same correction twice changes nothing the second time.
+     *
+     * @param correctedOutcome The corrected outcome
+     * @return Counts of the bets that changed status
+     * @throws IllegalArgumentException if an outcome of the event is still being dispatched
+     */
+    @Transactional
+    public OutcomeCorrectionResponse correctOutcome(EventOutcomeDTO correctedOutcome) {
+        String eventId = correctedOutcome.getEventId();
+        if (checkpointService.isDispatchInProgress(eventId)) {
+            throw new IllegalArgumentException("Outcome of event " + eventId + " is still being dispatched");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<StatusChange> changes = new ArrayList<>();
+        List<SettlementJournal.Entry> entries = new ArrayList<>();
+        Consumer<CorrectedBet> journaled = bet -> entries.add(new SettlementJournal.Entry(
+                bet.betId(), eventId, bet.userId(), bet.won(), payout(bet), now));
+        Map<String, String> marketResults = correctedOutcome.getMarketResults();
+        if (marketResults == null || marketResults.isEmpty()) {
+            changes.addAll(correctionWriter.resettle(eventId, null, correctedOutcome.getEventWinnerId(), now,
+                    journaled));
+        } else {
+            // Sorted so that concurrent corrections lock markets in the same order
+            new TreeMap<>(marketResults).forEach((marketId, result) ->
+                    changes.addAll(correctionWriter.resettle(eventId, marketId, result, now, journaled)));
+        }
+
+        summaryWriter.recordStatusChanges(changes);
+        betSettlementService.journal(entries);
+        checkpointService.recordCorrection(correctedOutcome);
+        settledEventCache.evict(eventId);
+
+        int lostToWon = (int) changes.stream().filter(c -> c.to() == BetStatus.WON).count();
+        int usersAffected = (int) changes.stream().map(StatusChange::userId).distinct().count();
+
+        log.info("Corrected event outcome - Event ID: {}, Winner: {}, Won to lost: {}, Lost to won: {}, Users: {}",
+                eventId, correctedOutcome.getEventWinnerId(), changes.size() - lostToWon, lostToWon, usersAffected);
+
+        return OutcomeCorrectionResponse.builder()
+                .eventId(eventId)
+                .eventWinnerId(correctedOutcome.getEventWinnerId())
+                .wonToLost(changes.size() - lostToWon)
+                .lostToWon(lostToWon)
+                .usersAffected(usersAffected)
+                .build();
+    }
+
+    private static Long payout(CorrectedBet bet) {
+        if (bet.odds() == null) {
+            return null;
+        }
+        return bet.won()
+                ? PayoutCalculator.payout(PayoutCalculator.toMinorUnits(bet.amount()),
+                        PayoutCalculator.toFixedOdds(bet.odds()))
+                : 0L;
+    }
+}
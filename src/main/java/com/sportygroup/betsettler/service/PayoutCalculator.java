@@ -0,0 +1,77 @@
+package com.sportygroup.betsettler.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Fixed-point payout arithmetic.
+ *
+ * Stakes and payouts are carried as longs in minor currency units (cents)
+ * and decimal odds as longs in ten-thousandths, so computing a payout is a
+ * multiply and a divide on primitives instead of allocating BigDecimals
+ * for every bet settled. Conversions from the BigDecimal amounts held by
+ * entities and requests happen once, at the edges.
+ */
+public final class PayoutCalculator {
+
+    /**
+     * Minor units per major currency unit (2 decimal places)
+     */
+    public static final int MINOR_UNIT_SCALE = 2;
+
+    /**
+     * Decimal places of fixed-point odds (2.5 is stored as 25000)
+     */
+    public static final int ODDS_SCALE = 4;
+
+    private static final long ODDS_ONE = 10_000L;
+
+    private PayoutCalculator() {
+    }
+
+    /**
+     * Returns the payout of a winning bet, stake included.
+     *
+     * Fractions of a minor unit are truncated, never rounded up in the
+     * customer's favour.
+     *
+     * @param stakeMinor Stake in minor units
+     * @param oddsFixed Decimal odds in ten-thousandths
+     * @return Payout in minor units
+     * @throws ArithmeticException if the payout does not fit in a long
+     */
+    public static long payout(long stakeMinor, long oddsFixed) {
+        return Math.multiplyExact(stakeMinor, oddsFixed) / ODDS_ONE;
+    }
+
+    /**
+     * Converts an amount to minor units.
+     *
+     * @param amount Amount with at most two decimal places
+     * @return The amount in minor units
+     * @throws ArithmeticException if the amount has more than two decimal places
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(MINOR_UNIT_SCALE).longValueExact();
+    }
+
+    /**
+     * Converts decimal odds to fixed point.
+     *
+     * @param odds Decimal odds with at most four decimal places
+     * @return The odds in ten-thousandths
+     * @throws ArithmeticException if the odds have more than four decimal places
+     */
+    public static long toFixedOdds(BigDecimal odds) {
+        return odds.movePointRight(ODDS_SCALE).longValueExact();
+    }
+
+    /**
+     * Converts minor units back to an amount, for display and persistence.
+     *
+     * @param minorUnits Amount in minor units
+     * @return The amount with two decimal places
+     */
+    public static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, MINOR_UNIT_SCALE);
+    }
+}
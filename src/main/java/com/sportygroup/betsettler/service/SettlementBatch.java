@@ -0,0 +1,238 @@
+package com.sportygroup.betsettler.service;
+
+import com.sportygroup.betsettler.dto.BetSettlementDTO;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Matched settlements of one event outcome, stored column by column.
+ *
+ * Each bet is a row index into parallel primitive arrays; user, market,
+ * prediction and result identifiers are dictionary-encoded to ints, and
+ * the won flags are a bit set. Rows of different markets carry their own
+ * market result. Matching a large event therefore fills a handful of
+ * arrays instead of allocating an entity, a builder and a DTO per bet.
+ * {@link #toSettlement(int)} materializes a single row for transports that
+ * need a message object.
+ *
+ * Not thread-safe: filled by one thread, then read.
+ */
+public final class SettlementBatch {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final long NO_ODDS = 0L;
+
+    private final String eventId;
+    private final String eventWinnerId;
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final int winnerCode;
+    private final BitSet won = new BitSet();
+
+    private long[] betIds;
+    private int[] userCodes;
+    private int[] marketCodes;
+    private int[] predictedCodes;
+    private int[] resultCodes;
+    private long[] stakesMinor;
+    private long[] oddsFixed;
+    private long[] payoutsMinor;
+    private int size;
+    private int readCount;
+    private long lastReadBetId;
+
+    public SettlementBatch(String eventId, String eventWinnerId) {
+        this(eventId, eventWinnerId, DEFAULT_CAPACITY);
+    }
+
+    public SettlementBatch(String eventId, String eventWinnerId, int initialCapacity) {
+        this.eventId = eventId;
+        this.eventWinnerId = eventWinnerId;
+        this.winnerCode = encode(eventWinnerId);
+        int capacity = Math.max(1, initialCapacity);
+        this.betIds = new long[capacity];
+        this.userCodes = new int[capacity];
+        this.marketCodes = new int[capacity];
+        this.predictedCodes = new int[capacity];
+        this.resultCodes = new int[capacity];
+        this.stakesMinor = new long[capacity];
+        this.oddsFixed = new long[capacity];
+        this.payoutsMinor = new long[capacity];
+    }
+
+    /**
+     * Returns the dictionary code of an identifier, assigning one on first use.
+     *
+     * @param value The identifier
+     * @return Its code in this batch
+     */
+    public int encode(String value) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = dictionary.size();
+            dictionary.add(value);
+            codes.put(value, code);
+        }
+        return code;
+    }
+
+    /**
+     * Returns the dictionary code of the event's headline winner.
+     */
+    public int getWinnerCode() {
+        return winnerCode;
+    }
+
+    /**
+     * Appends a matched bet.
+     *
+     * @param betId The bet identifier
+     * @param userCode Encoded user identifier
+     * @param marketCode Encoded market identifier
+     * @param predictedCode Encoded predicted winner
+     * @param resultCode Encoded result of the bet's market
+     * @param stakeMinor Stake in minor units
+     * @param odds Odds in fixed point, or 0 if the bet has none
+     * @param payoutMinor Payout in minor units (ignored without odds)
+     */
+    public void add(long betId, int userCode, int marketCode, int predictedCode, int resultCode,
+                    long stakeMinor, long odds, long payoutMinor) {
+        if (size == betIds.length) {
+            grow();
+        }
+        betIds[size] = betId;
+        userCodes[size] = userCode;
+        marketCodes[size] = marketCode;
+        predictedCodes[size] = predictedCode;
+        resultCodes[size] = resultCode;
+        stakesMinor[size] = stakeMinor;
+        oddsFixed[size] = odds;
+        payoutsMinor[size] = payoutMinor;
+        if (predictedCode == resultCode) {
+            won.set(size);
+        }
+        size++;
+    }
+
+    /**
+     * Records a pending bet that was read for this batch, whether or not it was matched.
+     *
+     * @param betId The bet identifier
+     */
+    public void recordRead(long betId) {
+        readCount++;
+        lastReadBetId = betId;
+    }
+
+    /**
+     * Number of pending bets read, including those left pending on unresolved markets.
+     */
+    public int getReadCount() {
+        return readCount;
+    }
+
+    /**
+     * The highest betId read, or 0 if none was; the next chunk of the event starts after it.
+     */
+    public long getLastReadBetId() {
+        return lastReadBetId;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getEventWinnerId() {
+        return eventWinnerId;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long betId(int index) {
+        return betIds[index];
+    }
+
+    public String userId(int index) {
+        return dictionary.get(userCodes[index]);
+    }
+
+    public String eventMarketId(int index) {
+        return dictionary.get(marketCodes[index]);
+    }
+
+    public String predictedWinnerId(int index) {
+        return dictionary.get(predictedCodes[index]);
+    }
+
+    public String resultId(int index) {
+        return dictionary.get(resultCodes[index]);
+    }
+
+    public long stakeMinor(int index) {
+        return stakesMinor[index];
+    }
+
+    public boolean isWon(int index) {
+        return won.get(index);
+    }
+
+    /**
+     * Returns the payout of a row in minor units, or null if the bet has no odds.
+     */
+    public Long payoutMinor(int index) {
+        return oddsFixed[index] == NO_ODDS ? null : payoutsMinor[index];
+    }
+
+    /**
+     * Returns the number of won bets.
+     */
+    public int wonCount() {
+        return won.cardinality();
+    }
+
+    /**
+     * Materializes one row as a settlement message.
+     *
+     * @param index Row index
+     * @return The settlement DTO for that bet
+     */
+    public BetSettlementDTO toSettlement(int index) {
+        long odds = oddsFixed[index];
+        return BetSettlementDTO.builder()
+                .betId(betIds[index])
+                .userId(userId(index))
+                .eventId(eventId)
+                .eventMarketId(eventMarketId(index))
+                .eventWinnerId(resultId(index))
+                .predictedWinnerId(predictedWinnerId(index))
+                .betAmount(PayoutCalculator.fromMinorUnits(stakesMinor[index]))
+                .won(won.get(index))
+                .odds(odds == NO_ODDS ? null : BigDecimal.valueOf(odds, PayoutCalculator.ODDS_SCALE))
+                .payoutMinorUnits(payoutMinor(index))
+                .build();
+    }
+
+    private void grow() {
+        int capacity = betIds.length * 2;
+        betIds = Arrays.copyOf(betIds, capacity);
+        userCodes = Arrays.copyOf(userCodes, capacity);
+        marketCodes = Arrays.copyOf(marketCodes, capacity);
+        predictedCodes = Arrays.copyOf(predictedCodes, capacity);
+        resultCodes = Arrays.copyOf(resultCodes, capacity);
+        stakesMinor = Arrays.copyOf(stakesMinor, capacity);
+        oddsFixed = Arrays.copyOf(oddsFixed, capacity);
+        payoutsMinor = Arrays.copyOf(payoutsMinor, capacity);
+    }
+}
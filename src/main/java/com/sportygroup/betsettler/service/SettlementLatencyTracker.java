@@ -0,0 +1,54 @@
+package com.sportygroup.betsettler.service;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Measures how long settlement writes take, commit included.
+ *
+ * Keeps an exponentially weighted moving average of the time per
+ * settlement transaction, which the listener backpressure uses to tell
+ * when the database is falling behind. An average is only reported while
+ * writes keep arriving, so an idle database never looks slow.
+ */
+@Component
+public class SettlementLatencyTracker {
+
+    /**
+     * Weight of the newest sample in the moving average
+     */
+    private static final double ALPHA = 0.2;
+
+    private double averageMillis;
+    private long samples;
+    private long lastSampleNanos;
+
+    /**
+     * Adds one write time sample to the moving average.
+     *
+     * @param millis Time taken by one settlement transaction
+     */
+    public synchronized void recordWrite(double millis) {
+        averageMillis = samples == 0 ? millis : ALPHA * millis + (1 - ALPHA) * averageMillis;
+        samples++;
+        lastSampleNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the moving average write time, or 0 if nothing has been written recently.
+     *
+     * @param maxAgeMillis How old the newest sample may be for the average to count
+     */
+    public synchronized double getRecentAverageMillis(long maxAgeMillis) {
+        if (samples == 0 || System.nanoTime() - lastSampleNanos > maxAgeMillis * 1_000_000) {
+            return 0;
+        }
+        return averageMillis;
+    }
+
+    /**
+     * Returns the moving average write time, or 0 if nothing has been written yet.
+     */
+    public synchronized double getAverageMillis() {
+        return averageMillis;
+    }
+}
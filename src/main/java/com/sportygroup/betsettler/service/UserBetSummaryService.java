@@ -0,0 +1,31 @@
+package com.sportygroup.betsettler.service;
+
+import com.sportygroup.betsettler.dto.UserBetSummaryDTO;
+import com.sportygroup.betsettler.repository.UserBetSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for reading per-user betting totals.
+ *
+ * Totals come from the incrementally maintained summary read model, so a
+ * lookup costs the same regardless of how many bets the user has placed.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserBetSummaryService {
+
+    private final UserBetSummaryRepository summaryRepository;
+
+    /**
+     * Returns a user's betting totals.
+     *
+     * @param userId The user identifier
+     * @return The totals, all zero if the user has never placed a bet
+     */
+    public UserBetSummaryDTO getSummary(String userId) {
+        return summaryRepository.findById(userId)
+                .map(UserBetSummaryDTO::from)
+                .orElseGet(() -> UserBetSummaryDTO.empty(userId));
+    }
+}
@@ -62,3 +62,17 @@ VALUES ('USER-016', 'EVT-001', 'MATCH_WINNER', 'TEAM-B', 850.00, 'PENDING', CURR
 --                                                 and USER-004, USER-005, USER-006, USER-016 as LOST
 -- Event EVT-002 with eventWinnerId = 'LAKERS' -> Should settle USER-009 as WON and USER-010 as LOST
 -- Event EVT-003 with eventWinnerId = 'NADAL' -> Should settle USER-012 as WON and USER-011 as LOST
+
+-- Sample odds so settlements carry payouts
+UPDATE bet SET odds = 1.9500;
+
+-- Per-user bet summaries for the sample bets above (kept incrementally from here on)
+INSERT INTO user_bet_summary (user_id, total_count, total_stake, pending_count, pending_stake,
+                              won_count, won_stake, lost_count, lost_stake, updated_at)
+SELECT user_id, COUNT(*), SUM(bet_amount),
+       SUM(CASE WHEN status = 'PENDING' THEN 1 ELSE 0 END), SUM(CASE WHEN status = 'PENDING' THEN bet_amount ELSE 0 END),
+       SUM(CASE WHEN status = 'WON' THEN 1 ELSE 0 END), SUM(CASE WHEN status = 'WON' THEN bet_amount ELSE 0 END),
+       SUM(CASE WHEN status = 'LOST' THEN 1 ELSE 0 END), SUM(CASE WHEN status = 'LOST' THEN bet_amount ELSE 0 END),
+       CURRENT_TIMESTAMP
+FROM bet
+GROUP BY user_id;
@@ -0,0 +1,95 @@
+package com.sportygroup.betsettler.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for BloomFilter.
+ */
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ReturnsTrueForEveryAddedKey() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("EVT-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("EVT-" + i), is(true));
+        }
+    }
+
+    @Test
+    void mightContain_KeepsFalsePositivesNearTargetRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("EVT-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("OTHER-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives, lessThan(2_000));
+    }
+
+    @Test
+    void constructor_SizesFilterFromExpectedInsertions() {
+        BloomFilter filter = new BloomFilter(1_000_000, 0.01);
+
+        // ~9.6 bits and 7 hashes per key at 1%
+        assertThat(filter.getBitCount(), allOf(greaterThan(9_000_000L), lessThan(10_000_000L)));
+        assertThat(filter.getHashCount(), equalTo(7));
+    }
+
+    @Test
+    void constructor_WithInvalidRate_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.5));
+    }
+
+    @Test
+    void mergeFrom_RestoresKeysWrittenByWriteTo() throws Exception {
+        BloomFilter written = new BloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            written.put("EVT-" + i);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        written.writeTo(new DataOutputStream(bytes));
+
+        BloomFilter restored = new BloomFilter(1_000, 0.01);
+        restored.put("EVT-NEW");
+        boolean merged = restored.mergeFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(merged, is(true));
+        assertThat(restored.mightContain("EVT-NEW"), is(true));
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(restored.mightContain("EVT-" + i), is(true));
+        }
+    }
+
+    @Test
+    void mergeFrom_WithDifferentSizing_LeavesFilterUnchanged() throws Exception {
+        BloomFilter written = new BloomFilter(1_000, 0.01);
+        written.put("EVT-001");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        written.writeTo(new DataOutputStream(bytes));
+
+        BloomFilter restored = new BloomFilter(50_000, 0.01);
+        boolean merged = restored.mergeFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(merged, is(false));
+        assertThat(restored.mightContain("EVT-001"), is(false));
+    }
+}
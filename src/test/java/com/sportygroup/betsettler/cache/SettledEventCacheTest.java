@@ -0,0 +1,106 @@
+package com.sportygroup.betsettler.cache;
+
+import com.sportygroup.betsettler.config.SettledEventCacheConfig;
+import com.sportygroup.betsettler.entity.DispatchCheckpoint;
+import com.sportygroup.betsettler.repository.DispatchCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SettledEventCache.
+ */
+@ExtendWith(MockitoExtension.class)
+class SettledEventCacheTest {
+
+    @Mock
+    private DispatchCheckpointRepository checkpointRepository;
+
+    private SettledEventCacheConfig config;
+    private SettledEventCache cache;
+
+    @BeforeEach
+    void setUp() {
+        config = new SettledEventCacheConfig();
+        config.setMaxEntries(2);
+        config.setExpectedEvents(1000);
+        cache = new SettledEventCache(config, checkpointRepository);
+    }
+
+    @Test
+    void isSettled_ForUnknownEvent_SkipsDatabase() {
+        assertThat(cache.isSettled("EVT-001", "TEAM-A"), is(false));
+
+        verifyNoInteractions(checkpointRepository);
+    }
+
+    @Test
+    void isSettled_AfterMarkSettled_MatchesOnlySameWinner() {
+        // When
+        cache.markSettled("EVT-001", "TEAM-A");
+
+        // Then
+        assertThat(cache.isSettled("EVT-001", "TEAM-A"), is(true));
+        assertThat(cache.isSettled("EVT-001", "TEAM-B"), is(false));
+        verifyNoInteractions(checkpointRepository);
+    }
+
+    @Test
+    void isSettled_AfterLruEviction_FallsBackToCompletedCheckpoint() {
+        // Given
+        cache.markSettled("EVT-001", "TEAM-A");
+        cache.markSettled("EVT-002", "TEAM-A");
+        cache.markSettled("EVT-003", "TEAM-A");
+        when(checkpointRepository.findById("EVT-001")).thenReturn(Optional.of(checkpoint("EVT-001", true)));
+
+        // When & Then
+        assertThat(cache.isSettled("EVT-001", "TEAM-A"), is(true));
+        // Reloaded into the LRU, so no second lookup
+        assertThat(cache.isSettled("EVT-001", "TEAM-A"), is(true));
+        verify(checkpointRepository, times(1)).findById("EVT-001");
+    }
+
+    @Test
+    void isSettled_WithIncompleteCheckpoint_ReturnsFalse() {
+        // Given
+        when(checkpointRepository.findCompletedEventIds()).thenReturn(List.of("EVT-001"));
+        cache.warmUp();
+        when(checkpointRepository.findById("EVT-001")).thenReturn(Optional.of(checkpoint("EVT-001", false)));
+
+        // When & Then
+        assertThat(cache.isSettled("EVT-001", "TEAM-A"), is(false));
+    }
+
+    @Test
+    void isSettled_WhenDisabled_AlwaysReturnsFalse() {
+        // Given
+        config.setEnabled(false);
+        cache.markSettled("EVT-001", "TEAM-A");
+
+        // When & Then
+        assertThat(cache.isSettled("EVT-001", "TEAM-A"), is(false));
+        verify(checkpointRepository, never()).findById(anyString());
+    }
+
+    private DispatchCheckpoint checkpoint(String eventId, boolean completed) {
+        return DispatchCheckpoint.builder()
+                .eventId(eventId)
+                .eventWinnerId("TEAM-A")
+                .lastBetId(10L)
+                .dispatchedCount(10L)
+                .completed(completed)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
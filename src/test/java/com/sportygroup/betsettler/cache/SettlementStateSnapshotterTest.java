@@ -0,0 +1,155 @@
+package com.sportygroup.betsettler.cache;
+
+import com.sportygroup.betsettler.config.SettledEventCacheConfig;
+import com.sportygroup.betsettler.config.SettlementSnapshotConfig;
+import com.sportygroup.betsettler.entity.DispatchCheckpoint;
+import com.sportygroup.betsettler.repository.DispatchCheckpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SettlementStateSnapshotter.
+ */
+@ExtendWith(MockitoExtension.class)
+class SettlementStateSnapshotterTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private DispatchCheckpointRepository checkpointRepository;
+
+    private SettledEventCacheConfig cacheConfig;
+    private SettlementSnapshotConfig config;
+
+    @BeforeEach
+    void setUp() {
+        cacheConfig = new SettledEventCacheConfig();
+        cacheConfig.setExpectedEvents(1000);
+        config = new SettlementSnapshotConfig();
+        config.setEnabled(true);
+        config.setDirectory(directory.toString());
+    }
+
+    @Test
+    void start_WithoutSnapshot_LoadsCacheFromDatabase() {
+        // Given
+        when(checkpointRepository.findCompletedEventIds()).thenReturn(List.of("EVT-001"));
+        SettlementStateSnapshotter snapshotter = snapshotter(new SettledEventCache(cacheConfig, checkpointRepository));
+
+        // When
+        snapshotter.start();
+
+        // Then
+        assertThat(snapshotter.isRunning(), is(true));
+        verify(checkpointRepository).findCompletedEventIds();
+        verify(checkpointRepository, never()).findUpdatedSince(any());
+    }
+
+    @Test
+    void start_WithSnapshot_RestoresItAndReplaysOnlyTheDelta() {
+        // Given
+        SettledEventCache previous = new SettledEventCache(cacheConfig, checkpointRepository);
+        previous.markSettled("EVT-001", "TEAM-A");
+        previous.markSettled("EVT-002", "TEAM-B");
+        LocalDateTime beforeSnapshot = LocalDateTime.now();
+        assertThat(snapshotter(previous).snapshot(), is(true));
+
+        when(checkpointRepository.findUpdatedSince(any())).thenReturn(List.of(
+                checkpoint("EVT-003", "TEAM-A", true),
+                checkpoint("EVT-002", "TEAM-A", false)));
+        SettledEventCache restored = new SettledEventCache(cacheConfig, checkpointRepository);
+
+        // When
+        snapshotter(restored).start();
+
+        // Then
+        verify(checkpointRepository, never()).findCompletedEventIds();
+        verify(checkpointRepository).findUpdatedSince(argThat(since -> since.isBefore(beforeSnapshot)));
+        assertThat(restored.isSettled("EVT-001", "TEAM-A"), is(true));
+        assertThat(restored.isSettled("EVT-003", "TEAM-A"), is(true));
+        verify(checkpointRepository, never()).findById(any());
+    }
+
+    @Test
+    void start_WithCorruptSnapshot_FallsBackToDatabase() throws Exception {
+        // Given
+        SettledEventCache previous = new SettledEventCache(cacheConfig, checkpointRepository);
+        previous.markSettled("EVT-001", "TEAM-A");
+        snapshotter(previous).snapshot();
+        Path file = directory.resolve(SettlementStateSnapshotter.SNAPSHOT_FILE);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x7f;
+        Files.write(file, bytes);
+        when(checkpointRepository.findCompletedEventIds()).thenReturn(List.of());
+
+        // When
+        snapshotter(new SettledEventCache(cacheConfig, checkpointRepository)).start();
+
+        // Then
+        verify(checkpointRepository).findCompletedEventIds();
+        verify(checkpointRepository, never()).findUpdatedSince(any());
+    }
+
+    @Test
+    void start_WithSnapshotOfDifferentSizing_FallsBackToDatabase() {
+        // Given
+        snapshotter(new SettledEventCache(cacheConfig, checkpointRepository)).snapshot();
+        SettledEventCacheConfig resized = new SettledEventCacheConfig();
+        resized.setExpectedEvents(50_000);
+        when(checkpointRepository.findCompletedEventIds()).thenReturn(List.of());
+        SettlementStateSnapshotter snapshotter = new SettlementStateSnapshotter(
+                new SettledEventCache(resized, checkpointRepository), resized, config, new SimpleMeterRegistry());
+
+        // When
+        snapshotter.start();
+
+        // Then
+        verify(checkpointRepository).findCompletedEventIds();
+    }
+
+    @Test
+    void stop_WritesFinalSnapshot() {
+        // Given
+        when(checkpointRepository.findCompletedEventIds()).thenReturn(List.of());
+        SettlementStateSnapshotter snapshotter = snapshotter(new SettledEventCache(cacheConfig, checkpointRepository));
+        snapshotter.start();
+
+        // When
+        snapshotter.stop();
+
+        // Then
+        assertThat(snapshotter.isRunning(), is(false));
+        assertThat(Files.exists(directory.resolve(SettlementStateSnapshotter.SNAPSHOT_FILE)), is(true));
+    }
+
+    private SettlementStateSnapshotter snapshotter(SettledEventCache cache) {
+        return new SettlementStateSnapshotter(cache, cacheConfig, config, new SimpleMeterRegistry());
+    }
+
+    private DispatchCheckpoint checkpoint(String eventId, String winnerId, boolean completed) {
+        return DispatchCheckpoint.builder()
+                .eventId(eventId)
+                .eventWinnerId(winnerId)
+                .lastBetId(10L)
+                .dispatchedCount(5L)
+                .completed(completed)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
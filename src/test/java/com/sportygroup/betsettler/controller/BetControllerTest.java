@@ -0,0 +1,175 @@
+package com.sportygroup.betsettler.controller;
+
+import com.sportygroup.betsettler.dto.PlaceBetBatchRequest;
+import com.sportygroup.betsettler.dto.PlaceBetRequest;
+import com.sportygroup.betsettler.exception.OverloadedException;
+import com.sportygroup.betsettler.service.BetPlacementService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for BetController.
+ */
+@WebMvcTest(BetController.class)
+class BetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private BetPlacementService betPlacementService;
+
+    @Test
+    void placeBet_WithValidRequest_Returns201WhenPersisted() throws Exception {
+        // Given
+        when(betPlacementService.placeBet(any(PlaceBetRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(1));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("USER-001"))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.message", is("Bet placed successfully")))
+                .andExpect(jsonPath("$.accepted", is(1)))
+                .andExpect(jsonPath("$.status", is(201)));
+    }
+
+    @Test
+    void placeBet_WithMissingAmount_Returns400() throws Exception {
+        // Given
+        PlaceBetRequest request = createRequest("USER-001");
+        request.setBetAmount(null);
+
+        // When & Then
+        mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.betAmount", notNullValue()));
+
+        verify(betPlacementService, never()).placeBet(any());
+    }
+
+    @Test
+    void placeBet_WithNonPositiveAmount_Returns400() throws Exception {
+        // Given
+        PlaceBetRequest request = createRequest("USER-001");
+        request.setBetAmount(BigDecimal.ZERO);
+
+        // When & Then
+        mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(betPlacementService, never()).placeBet(any());
+    }
+
+    @Test
+    void placeBet_WhenWriterQueueFull_Returns503WithRetryAfter() throws Exception {
+        // Given
+        when(betPlacementService.placeBet(any(PlaceBetRequest.class)))
+                .thenThrow(new OverloadedException("Bet ingestion queue is full",
+                        OverloadedException.Reason.UNAVAILABLE, 2));
+
+        // When & Then
+        mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest("USER-001"))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.status", is(503)));
+    }
+
+    @Test
+    void placeBets_WithValidBatch_Returns201WithAcceptedCount() throws Exception {
+        // Given
+        PlaceBetBatchRequest request = PlaceBetBatchRequest.builder()
+                .bets(List.of(createRequest("USER-001"), createRequest("USER-002")))
+                .build();
+        when(betPlacementService.placeBets(anyList()))
+                .thenReturn(CompletableFuture.completedFuture(2));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.message", is("Bets placed successfully")))
+                .andExpect(jsonPath("$.accepted", is(2)));
+    }
+
+    @Test
+    void placeBets_WithInvalidItem_Returns400() throws Exception {
+        // Given
+        PlaceBetRequest invalid = createRequest("");
+        PlaceBetBatchRequest request = PlaceBetBatchRequest.builder()
+                .bets(List.of(createRequest("USER-001"), invalid))
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['bets[1].userId']", notNullValue()));
+
+        verify(betPlacementService, never()).placeBets(anyList());
+    }
+
+    @Test
+    void placeBets_WithEmptyBatch_Returns400() throws Exception {
+        // Given
+        PlaceBetBatchRequest request = PlaceBetBatchRequest.builder()
+                .bets(List.of())
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.bets", notNullValue()));
+    }
+
+    private PlaceBetRequest createRequest(String userId) {
+        return PlaceBetRequest.builder()
+                .userId(userId)
+                .eventId("EVT-001")
+                .eventMarketId("MATCH_WINNER")
+                .eventWinnerId("TEAM-A")
+                .betAmount(new BigDecimal("25.00"))
+                .build();
+    }
+}
@@ -1,15 +1,29 @@
 package com.sportygroup.betsettler.controller;
 
 import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.dto.OutcomeBatchItemResult;
+import com.sportygroup.betsettler.dto.OutcomeBatchResponse;
+import com.sportygroup.betsettler.dto.OutcomeCorrectionResponse;
 import com.sportygroup.betsettler.dto.PublishEventRequest;
+import com.sportygroup.betsettler.exception.OverloadedException;
+import com.sportygroup.betsettler.service.EventOutcomeBatchService;
 import com.sportygroup.betsettler.service.EventOutcomeService;
+import com.sportygroup.betsettler.service.OutcomeAdmissionControl;
+import com.sportygroup.betsettler.service.OutcomeCorrectionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,6 +46,15 @@ class EventOutcomeControllerTest {
     @MockBean
     private EventOutcomeService eventOutcomeService;
 
+    @MockBean
+    private EventOutcomeBatchService eventOutcomeBatchService;
+
+    @MockBean
+    private OutcomeCorrectionService outcomeCorrectionService;
+
+    @MockBean
+    private OutcomeAdmissionControl admissionControl;
+
     @Test
     void publishEventOutcome_WithValidRequest_Returns202() throws Exception {
         // Given
@@ -43,10 +66,15 @@ class EventOutcomeControllerTest {
 
         doNothing().when(eventOutcomeService).publishEventOutcome(any(EventOutcomeDTO.class));
 
-        // When & Then
-        mockMvc.perform(post("/api/events/outcomes")
+        // When
+        MvcResult result = mockMvc.perform(post("/api/events/outcomes")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isAccepted())
                 .andExpect(jsonPath("$.message", is("Event outcome published successfully")))
                 .andExpect(jsonPath("$.eventId", is("EVT-001")))
@@ -76,6 +104,50 @@ class EventOutcomeControllerTest {
         verify(eventOutcomeService, never()).publishEventOutcome(any());
     }
 
+    @Test
+    void publishEventOutcome_WithSeparatorInMarketResult_Returns400() throws Exception {
+        // Given
+        PublishEventRequest request = PublishEventRequest.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-A")
+                .marketResults(Map.of("MATCH_WINNER", "TEAM-A;OVER_UNDER_2_5=OVER"))
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/events/outcomes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Validation failed")));
+
+        verify(eventOutcomeService, never()).publishEventOutcome(any());
+    }
+
+    @Test
+    void publishEventOutcome_WithTooManyMarketResults_Returns400() throws Exception {
+        // Given
+        Map<String, String> marketResults = new HashMap<>();
+        for (int i = 0; i <= EventOutcomeDTO.MAX_MARKET_RESULTS; i++) {
+            marketResults.put("MARKET_" + i, "RESULT");
+        }
+        PublishEventRequest request = PublishEventRequest.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-A")
+                .marketResults(marketResults)
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/events/outcomes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.marketResults", notNullValue()));
+
+        verify(eventOutcomeService, never()).publishEventOutcome(any());
+    }
+
     @Test
     void publishEventOutcome_WithMissingEventName_Returns400() throws Exception {
         // Given
@@ -142,15 +214,368 @@ class EventOutcomeControllerTest {
         doThrow(new RuntimeException("Kafka connection failed"))
                 .when(eventOutcomeService).publishEventOutcome(any(EventOutcomeDTO.class));
 
-        // When & Then
-        mockMvc.perform(post("/api/events/outcomes")
+        // When
+        MvcResult result = mockMvc.perform(post("/api/events/outcomes")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isInternalServerError())
                 .andExpect(jsonPath("$.status", is(500)))
                 .andExpect(jsonPath("$.message", containsString("Failed to publish event outcome")));
     }
 
+    @Test
+    void publishEventOutcome_WhenAlreadySettled_Returns200WithoutPublishing() throws Exception {
+        // Given
+        PublishEventRequest request = PublishEventRequest.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-A")
+                .build();
+
+        when(eventOutcomeService.isAlreadySettled(any(EventOutcomeDTO.class))).thenReturn(true);
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/events/outcomes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", is("Event outcome already settled")))
+                .andExpect(jsonPath("$.eventId", is("EVT-001")));
+
+        verify(eventOutcomeService, never()).publishEventOutcome(any());
+        verify(eventOutcomeService, never()).publishAcknowledged(any());
+    }
+
+    @Test
+    void publishEventOutcome_InAcknowledgedMode_CompletesOnBrokerAck() throws Exception {
+        // Given
+        PublishEventRequest request = PublishEventRequest.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-A")
+                .build();
+
+        when(eventOutcomeService.isAcknowledgedMode()).thenReturn(true);
+        when(eventOutcomeService.publishAcknowledged(any(EventOutcomeDTO.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/events/outcomes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.eventId", is("EVT-001")));
+
+        verify(eventOutcomeService, never()).publishEventOutcome(any());
+    }
+
+    @Test
+    void publishEventOutcome_InAcknowledgedModeWhenThrottled_Returns429WithRetryAfter() throws Exception {
+        // Given
+        PublishEventRequest request = PublishEventRequest.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-A")
+                .build();
+
+        when(eventOutcomeService.isAcknowledgedMode()).thenReturn(true);
+        when(eventOutcomeService.publishAcknowledged(any(EventOutcomeDTO.class)))
+                .thenThrow(new OverloadedException("Too many event outcomes in flight",
+                        OverloadedException.Reason.THROTTLED, 1));
+
+        // When & Then
+        mockMvc.perform(post("/api/events/outcomes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.status", is(429)));
+    }
+
+    @Test
+    void publishEventOutcome_InAcknowledgedModeWhenAckTimesOut_Returns503() throws Exception {
+        // Given
+        PublishEventRequest request = PublishEventRequest.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-A")
+                .build();
+
+        when(eventOutcomeService.isAcknowledgedMode()).thenReturn(true);
+        when(eventOutcomeService.publishAcknowledged(any(EventOutcomeDTO.class)))
+                .thenReturn(CompletableFuture.failedFuture(new OverloadedException(
+                        "Kafka did not acknowledge the event outcome within 2000ms",
+                        OverloadedException.Reason.UNAVAILABLE, 1)));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/events/outcomes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void publishEventOutcome_WhenClientRateLimited_Returns429WithoutPublishing() throws Exception {
+        // Given
+        PublishEventRequest request = PublishEventRequest.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-A")
+                .build();
+
+        doThrow(new OverloadedException("Rate limit of 100.0 event outcomes per second exceeded",
+                OverloadedException.Reason.THROTTLED, 2))
+                .when(admissionControl).admit("FEED-1");
+
+        // When & Then
+        mockMvc.perform(post("/api/events/outcomes")
+                        .header(EventOutcomeController.CLIENT_ID_HEADER, "FEED-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.status", is(429)));
+
+        verify(eventOutcomeService, never()).publishEventOutcome(any());
+        verify(admissionControl, never()).release();
+    }
+
+    @Test
+    void publishEventOutcome_WithoutClientIdHeader_AdmitsByRemoteAddress() throws Exception {
+        // Given
+        PublishEventRequest request = PublishEventRequest.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-A")
+                .build();
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/events/outcomes")
+                        .with(httpRequest -> {
+                            httpRequest.setRemoteAddr("10.0.0.7");
+                            return httpRequest;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted());
+
+        verify(admissionControl).admit("10.0.0.7");
+        verify(admissionControl).release();
+    }
+
+    @Test
+    void publishEventOutcome_InAcknowledgedMode_ReleasesAdmissionOnBrokerAck() throws Exception {
+        // Given
+        PublishEventRequest request = PublishEventRequest.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-A")
+                .build();
+        CompletableFuture<SendResult<String, EventOutcomeDTO>> ack = new CompletableFuture<>();
+
+        when(eventOutcomeService.isAcknowledgedMode()).thenReturn(true);
+        when(eventOutcomeService.publishAcknowledged(any(EventOutcomeDTO.class))).thenReturn(ack);
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/events/outcomes")
+                        .header(EventOutcomeController.CLIENT_ID_HEADER, "FEED-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        verify(admissionControl).admit("FEED-1");
+        verify(admissionControl, never()).release();
+
+        ack.complete(null);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted());
+        verify(admissionControl).release();
+    }
+
+    @Test
+    void publishEventOutcome_WhenPublishThrows_ReleasesAdmission() throws Exception {
+        // Given
+        PublishEventRequest request = PublishEventRequest.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-A")
+                .build();
+
+        when(eventOutcomeService.isAcknowledgedMode()).thenReturn(true);
+        when(eventOutcomeService.publishAcknowledged(any(EventOutcomeDTO.class)))
+                .thenThrow(new OverloadedException("Too many event outcomes in flight",
+                        OverloadedException.Reason.THROTTLED, 1));
+
+        // When
+        mockMvc.perform(post("/api/events/outcomes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests());
+
+        // Then
+        verify(admissionControl).release();
+    }
+
+    @Test
+    void publishEventOutcomes_WithNdjsonBody_ReturnsPerItemResults() throws Exception {
+        // Given
+        OutcomeBatchResponse batchResponse = OutcomeBatchResponse.builder()
+                .total(2)
+                .accepted(1)
+                .rejected(1)
+                .failed(0)
+                .results(List.of(
+                        OutcomeBatchItemResult.builder().index(0).eventId("EVT-001")
+                                .status(OutcomeBatchItemResult.Status.ACCEPTED).partition(0).offset(10L).build(),
+                        OutcomeBatchItemResult.builder().index(1)
+                                .status(OutcomeBatchItemResult.Status.REJECTED).message("eventId: must not be blank").build()))
+                .build();
+        when(eventOutcomeBatchService.publishBatch(any()))
+                .thenReturn(CompletableFuture.completedFuture(batchResponse));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/events/outcomes/batch")
+                        .header(EventOutcomeController.CLIENT_ID_HEADER, "FEED-1")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"eventId\":\"EVT-001\",\"eventName\":\"Match\",\"eventWinnerId\":\"TEAM-A\"}\n"
+                                + "{\"eventName\":\"Match\",\"eventWinnerId\":\"TEAM-A\"}\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(2)))
+                .andExpect(jsonPath("$.accepted", is(1)))
+                .andExpect(jsonPath("$.results[0].status", is("ACCEPTED")))
+                .andExpect(jsonPath("$.results[1].status", is("REJECTED")));
+        verify(admissionControl).admit("FEED-1");
+        verify(eventOutcomeBatchService).publishBatch(any());
+        verify(admissionControl).release();
+    }
+
+    @Test
+    void publishEventOutcomes_WhenTooManyRequests_Returns429WithoutReadingBody() throws Exception {
+        // Given
+        doThrow(new OverloadedException("Too many event outcome requests in progress",
+                OverloadedException.Reason.THROTTLED, 3))
+                .when(admissionControl).admit("FEED-1");
+
+        // When & Then
+        mockMvc.perform(post("/api/events/outcomes/batch")
+                        .header(EventOutcomeController.CLIENT_ID_HEADER, "FEED-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"eventId\":\"EVT-001\",\"eventName\":\"Match\",\"eventWinnerId\":\"TEAM-A\"}]"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "3"));
+
+        verifyNoInteractions(eventOutcomeBatchService);
+        verify(admissionControl, never()).release();
+    }
+
+    @Test
+    void publishEventOutcomes_WithParseError_Returns400() throws Exception {
+        // Given
+        OutcomeBatchResponse batchResponse = OutcomeBatchResponse.builder()
+                .total(0)
+                .accepted(0)
+                .rejected(0)
+                .failed(0)
+                .error("Malformed JSON after item 0")
+                .results(List.of())
+                .build();
+        when(eventOutcomeBatchService.publishBatch(any()))
+                .thenReturn(CompletableFuture.completedFuture(batchResponse));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/events/outcomes/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"eventId\":"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("Malformed JSON")));
+    }
+
+    @Test
+    void correctEventOutcome_ReturnsChangedCounts() throws Exception {
+        // Given
+        PublishEventRequest request = PublishEventRequest.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-B")
+                .build();
+        when(outcomeCorrectionService.correctOutcome(any(EventOutcomeDTO.class)))
+                .thenReturn(OutcomeCorrectionResponse.builder()
+                        .eventId("EVT-001")
+                        .eventWinnerId("TEAM-B")
+                        .wonToLost(3)
+                        .lostToWon(2)
+                        .usersAffected(5)
+                        .build());
+
+        // When & Then
+        mockMvc.perform(post("/api/events/outcomes/corrections")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventId", is("EVT-001")))
+                .andExpect(jsonPath("$.wonToLost", is(3)))
+                .andExpect(jsonPath("$.lostToWon", is(2)))
+                .andExpect(jsonPath("$.usersAffected", is(5)));
+
+        verify(eventOutcomeService, never()).publishEventOutcome(any());
+    }
+
+    @Test
+    void correctEventOutcome_WhileDispatchInProgress_Returns400() throws Exception {
+        // Given
+        PublishEventRequest request = PublishEventRequest.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-B")
+                .build();
+        when(outcomeCorrectionService.correctOutcome(any(EventOutcomeDTO.class)))
+                .thenThrow(new IllegalArgumentException("Outcome of event EVT-001 is still being dispatched"));
+
+        // When & Then
+        mockMvc.perform(post("/api/events/outcomes/corrections")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void health_ReturnsOk() throws Exception {
         // When & Then
@@ -0,0 +1,109 @@
+package com.sportygroup.betsettler.controller;
+
+import com.sportygroup.betsettler.dto.BetHistoryItem;
+import com.sportygroup.betsettler.dto.BetHistoryPage;
+import com.sportygroup.betsettler.dto.UserBetSummaryDTO;
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.service.BetHistoryService;
+import com.sportygroup.betsettler.service.UserBetSummaryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for UserBetController.
+ */
+@WebMvcTest(UserBetController.class)
+class UserBetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BetHistoryService betHistoryService;
+
+    @MockBean
+    private UserBetSummaryService userBetSummaryService;
+
+    @Test
+    void getUserBets_ReturnsPageWithCursor() throws Exception {
+        // Given
+        BetHistoryPage page = BetHistoryPage.builder()
+                .userId("USER-001")
+                .bets(List.of(BetHistoryItem.builder()
+                        .betId(42L)
+                        .eventId("EVT-001")
+                        .betAmount(new BigDecimal("10.00"))
+                        .status(BetStatus.PENDING)
+                        .build()))
+                .nextCursor("abc")
+                .hasMore(true)
+                .build();
+        when(betHistoryService.getUserBets("USER-001", BetStatus.PENDING, "xyz", 1)).thenReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/users/USER-001/bets")
+                        .param("status", "PENDING")
+                        .param("cursor", "xyz")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId", is("USER-001")))
+                .andExpect(jsonPath("$.bets", hasSize(1)))
+                .andExpect(jsonPath("$.bets[0].betId", is(42)))
+                .andExpect(jsonPath("$.nextCursor", is("abc")))
+                .andExpect(jsonPath("$.hasMore", is(true)));
+    }
+
+    @Test
+    void getUserBets_WithUnknownStatus_Returns400() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/users/USER-001/bets").param("status", "VOID"))
+                .andExpect(status().isBadRequest());
+
+        verify(betHistoryService, never()).getUserBets(anyString(), any(), any(), any());
+    }
+
+    @Test
+    void getUserBets_WithInvalidCursor_Returns400() throws Exception {
+        // Given
+        when(betHistoryService.getUserBets("USER-001", null, "bad", null))
+                .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/USER-001/bets").param("cursor", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid cursor")));
+    }
+
+    @Test
+    void getUserSummary_ReturnsTotals() throws Exception {
+        // Given
+        UserBetSummaryDTO summary = UserBetSummaryDTO.empty("USER-001");
+        summary.setTotalCount(3);
+        summary.setTotalStake(new BigDecimal("30.00"));
+        summary.setWonCount(1);
+        summary.setWonStake(new BigDecimal("10.00"));
+        when(userBetSummaryService.getSummary("USER-001")).thenReturn(summary);
+
+        // When & Then
+        mockMvc.perform(get("/api/users/USER-001/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId", is("USER-001")))
+                .andExpect(jsonPath("$.totalCount", is(3)))
+                .andExpect(jsonPath("$.totalStake", is(30.00)))
+                .andExpect(jsonPath("$.wonCount", is(1)))
+                .andExpect(jsonPath("$.pendingCount", is(0)));
+    }
+}
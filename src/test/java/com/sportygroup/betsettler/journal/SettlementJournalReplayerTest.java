@@ -0,0 +1,162 @@
+package com.sportygroup.betsettler.journal;
+
+import com.sportygroup.betsettler.config.SettlementJournalConfig;
+import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Unit tests for SettlementJournalReplayer.
+ */
+@DataJpaTest
+@Import(UserBetSummaryWriter.class)
+class SettlementJournalReplayerTest {
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserBetSummaryWriter summaryWriter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private SettlementJournal journal;
+    private SettlementJournalReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        SettlementJournalConfig config = new SettlementJournalConfig();
+        config.setEnabled(true);
+        config.setDirectory(directory.toString());
+        config.setSegmentSizeBytes(4096);
+        config.setReplayBatchSize(2);
+        journal = new SettlementJournal(config, new SimpleMeterRegistry());
+        journal.start();
+        replayer = new SettlementJournalReplayer(journal, jdbcTemplate, transactionTemplate, summaryWriter, config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.stop();
+    }
+
+    @Test
+    void replay_SettlesPendingBetsWithJournaledOutcome() {
+        // Given
+        Bet won = persist("USER-001", BetStatus.PENDING);
+        Bet lost = persist("USER-002", BetStatus.PENDING);
+        Bet pending = persist("USER-003", BetStatus.PENDING);
+        entityManager.flush();
+        LocalDateTime settledAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+        journal.append(List.of(entry(won, true, settledAt), entry(lost, false, settledAt)));
+
+        // When
+        SettlementJournalReplayer.ReplayResult result = replayer.replay(0L);
+        entityManager.clear();
+
+        // Then
+        assertThat(result.records(), equalTo(2L));
+        assertThat(result.settled(), equalTo(2L));
+        Bet replayedWon = entityManager.find(Bet.class, won.getBetId());
+        assertThat(replayedWon.getStatus(), equalTo(BetStatus.WON));
+        assertThat(replayedWon.getSettledAt(), equalTo(settledAt));
+        assertThat(entityManager.find(Bet.class, lost.getBetId()).getStatus(), equalTo(BetStatus.LOST));
+        assertThat(entityManager.find(Bet.class, pending.getBetId()).getStatus(), equalTo(BetStatus.PENDING));
+    }
+
+    @Test
+    void replay_SkipsBetsThatAlreadyHaveTheJournaledStatus() {
+        // Given
+        Bet settled = persist("USER-001", BetStatus.LOST);
+        Bet pending = persist("USER-002", BetStatus.PENDING);
+        entityManager.flush();
+        LocalDateTime settledAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+        long position = journal.append(List.of(entry(settled, false, settledAt), entry(pending, true, settledAt)));
+
+        // When
+        SettlementJournalReplayer.ReplayResult first = replayer.replay(0L);
+        SettlementJournalReplayer.ReplayResult second = replayer.replay(0L);
+        entityManager.clear();
+
+        // Then
+        assertThat(first.records(), equalTo(2L));
+        assertThat(first.settled(), equalTo(1L));
+        assertThat(first.position(), equalTo(position));
+        assertThat(second.settled(), equalTo(0L));
+        Bet unchanged = entityManager.find(Bet.class, settled.getBetId());
+        assertThat(unchanged.getStatus(), equalTo(BetStatus.LOST));
+        assertThat(unchanged.getSettlementVersion(), equalTo(0));
+        assertThat(entityManager.find(Bet.class, pending.getBetId()).getStatus(), equalTo(BetStatus.WON));
+    }
+
+    @Test
+    void replay_AppliesLatestRecordOfEachBet() {
+        // Given - settled, then corrected, with the correction in a later replay batch
+        Bet corrected = persist("USER-001", BetStatus.PENDING);
+        Bet other = persist("USER-002", BetStatus.PENDING);
+        Bet correctedInBatch = persist("USER-003", BetStatus.PENDING);
+        entityManager.flush();
+        LocalDateTime settledAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+        LocalDateTime correctedAt = settledAt.plusHours(1);
+        journal.append(List.of(
+                entry(corrected, false, settledAt), entry(other, true, settledAt),
+                entry(correctedInBatch, true, settledAt), entry(correctedInBatch, false, correctedAt),
+                entry(corrected, true, correctedAt)));
+
+        // When
+        SettlementJournalReplayer.ReplayResult result = replayer.replay(0L);
+        entityManager.clear();
+
+        // Then
+        assertThat(result.records(), equalTo(5L));
+        Bet won = entityManager.find(Bet.class, corrected.getBetId());
+        assertThat(won.getStatus(), equalTo(BetStatus.WON));
+        assertThat(won.getSettledAt(), equalTo(correctedAt));
+        assertThat(entityManager.find(Bet.class, other.getBetId()).getStatus(), equalTo(BetStatus.WON));
+        Bet lost = entityManager.find(Bet.class, correctedInBatch.getBetId());
+        assertThat(lost.getStatus(), equalTo(BetStatus.LOST));
+        assertThat(lost.getSettlementVersion(), equalTo(1));
+    }
+
+    private SettlementJournal.Entry entry(Bet bet, boolean won, LocalDateTime settledAt) {
+        return new SettlementJournal.Entry(bet.getBetId(), bet.getEventId(), bet.getUserId(), won, null, settledAt);
+    }
+
+    private Bet persist(String userId, BetStatus status) {
+        return entityManager.persist(Bet.builder()
+                .userId(userId)
+                .eventId("EVT-700")
+                .eventMarketId("MATCH_WINNER")
+                .eventWinnerId("TEAM-A")
+                .betAmount(new BigDecimal("10.00"))
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
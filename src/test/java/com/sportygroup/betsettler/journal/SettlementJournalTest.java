@@ -0,0 +1,165 @@
+package com.sportygroup.betsettler.journal;
+
+import com.sportygroup.betsettler.config.SettlementJournalConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for SettlementJournal.
+ */
+class SettlementJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private SettlementJournalConfig config;
+    private SettlementJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        config = new SettlementJournalConfig();
+        config.setEnabled(true);
+        config.setDirectory(directory.toString());
+        config.setSegmentSizeBytes(4096);
+        config.setFlushIntervalMs(1);
+        journal = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.stop();
+    }
+
+    @Test
+    void start_WhenDisabled_RejectsAppends() {
+        SettlementJournal disabled = new SettlementJournal(new SettlementJournalConfig(), new SimpleMeterRegistry());
+        disabled.start();
+
+        assertThat(disabled.isEnabled(), is(false));
+        assertThrows(IllegalStateException.class, () -> disabled.append(List.of(entry(1L, true))));
+    }
+
+    @Test
+    void append_ThenRead_ReturnsEntriesInOrder() {
+        // Given
+        SettlementJournal.Entry won = entry(1L, true);
+        SettlementJournal.Entry lost = new SettlementJournal.Entry(2L, "EVT-001", "USER-002", false, null,
+                LocalDateTime.of(2024, 6, 1, 12, 0, 1));
+
+        // When
+        long position = journal.append(List.of(won, lost));
+        List<SettlementJournal.Entry> read = new ArrayList<>();
+        long end = journal.read(0L, read::add);
+
+        // Then
+        assertThat(read, contains(won, lost));
+        assertThat(end, equalTo(position));
+    }
+
+    @Test
+    void awaitFlushed_ReturnsOnceRecordsAreForcedToDisk() {
+        // Given
+        long position = journal.append(List.of(entry(1L, true)));
+
+        // When
+        boolean flushed = journal.awaitFlushed(position);
+
+        // Then
+        assertThat(flushed, is(true));
+        assertThat(journal.status().get("flushedPosition"), equalTo(position));
+    }
+
+    @Test
+    void append_BeyondSegmentSize_RollsToNewSegments() throws Exception {
+        // Given
+        List<SettlementJournal.Entry> entries = new ArrayList<>();
+        for (long betId = 1; betId <= 200; betId++) {
+            entries.add(entry(betId, betId % 2 == 0));
+        }
+
+        // When
+        journal.append(entries);
+        List<SettlementJournal.Entry> read = new ArrayList<>();
+        journal.read(0L, read::add);
+
+        // Then
+        assertThat(SettlementJournal.segmentFiles(directory).size(), greaterThan(1));
+        assertThat(read, equalTo(entries));
+    }
+
+    @Test
+    void read_FromPosition_SkipsEarlierRecords() {
+        // Given
+        long afterFirst = journal.append(List.of(entry(1L, true)));
+        journal.append(List.of(entry(2L, false), entry(3L, true)));
+
+        // When
+        List<Long> betIds = new ArrayList<>();
+        journal.read(afterFirst, entry -> betIds.add(entry.betId()));
+
+        // Then
+        assertThat(betIds, contains(2L, 3L));
+    }
+
+    @Test
+    void start_AfterRestart_ContinuesAfterLastRecord() {
+        // Given
+        journal.append(List.of(entry(1L, true)));
+        journal.stop();
+
+        // When
+        journal = open();
+        journal.append(List.of(entry(2L, false)));
+
+        // Then
+        List<Long> betIds = new ArrayList<>();
+        journal.read(0L, entry -> betIds.add(entry.betId()));
+        assertThat(betIds, contains(1L, 2L));
+    }
+
+    @Test
+    void start_WithTornRecord_DiscardsItAndOverwritesIt() throws Exception {
+        // Given - a record whose payload never reached the disk
+        long position = journal.append(List.of(entry(1L, true)));
+        journal.stop();
+        Path segment = SettlementJournal.segmentFiles(directory).get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).putInt(40).putInt(12345).flip(), position);
+        }
+
+        // When
+        journal = open();
+        journal.append(List.of(entry(2L, false)));
+
+        // Then
+        List<Long> betIds = new ArrayList<>();
+        journal.read(0L, entry -> betIds.add(entry.betId()));
+        assertThat(betIds, contains(1L, 2L));
+    }
+
+    private SettlementJournal open() {
+        SettlementJournal opened = new SettlementJournal(config, new SimpleMeterRegistry());
+        opened.start();
+        return opened;
+    }
+
+    private SettlementJournal.Entry entry(long betId, boolean won) {
+        return new SettlementJournal.Entry(betId, "EVT-001", "USER-" + betId, won, won ? 25_000L : 0L,
+                LocalDateTime.of(2024, 6, 1, 12, 0));
+    }
+}
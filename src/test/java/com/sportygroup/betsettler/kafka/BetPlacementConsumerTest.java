@@ -0,0 +1,80 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.dto.PlaceBetRequest;
+import com.sportygroup.betsettler.service.BetPlacementService;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BetPlacementConsumer.
+ */
+@ExtendWith(MockitoExtension.class)
+class BetPlacementConsumerTest {
+
+    @Mock
+    private BetPlacementService betPlacementService;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private BetPlacementConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        consumer = new BetPlacementConsumer(betPlacementService, validator);
+    }
+
+    @Test
+    void consumeBetPlacements_WhenPersisted_Acknowledges() {
+        // Given
+        when(betPlacementService.placeBets(anyList())).thenReturn(CompletableFuture.completedFuture(1));
+
+        // When
+        consumer.consumeBetPlacements(List.of(request()), acknowledgment);
+
+        // Then
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void consumeBetPlacements_WhenWriteFails_RethrowsWithoutAcknowledging() {
+        // Given
+        when(betPlacementService.placeBets(anyList()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Connection refused")));
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> consumer.consumeBetPlacements(List.of(request()), acknowledgment));
+
+        // Then
+        assertThat(exception.getCause().getMessage(), is("Connection refused"));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    private PlaceBetRequest request() {
+        return PlaceBetRequest.builder()
+                .userId("USER-001")
+                .eventId("EVT-001")
+                .eventMarketId("MATCH_WINNER")
+                .eventWinnerId("TEAM-A")
+                .betAmount(new BigDecimal("10.00"))
+                .build();
+    }
+}
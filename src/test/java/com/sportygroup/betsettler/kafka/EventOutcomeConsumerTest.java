@@ -1,12 +1,22 @@
 package com.sportygroup.betsettler.kafka;
 
+import com.sportygroup.betsettler.cache.SettledEventCache;
+import com.sportygroup.betsettler.config.DispatchCheckpointConfig;
+import com.sportygroup.betsettler.config.SettledEventCacheConfig;
 import com.sportygroup.betsettler.dto.BetSettlementDTO;
 import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.entity.DispatchCheckpoint;
+import com.sportygroup.betsettler.repository.DispatchCheckpointRepository;
+import com.sportygroup.betsettler.repository.PreloadedPendingBets;
 import com.sportygroup.betsettler.rocketmq.BetSettlementProducer;
 import com.sportygroup.betsettler.service.BetMatchingService;
+import com.sportygroup.betsettler.service.DispatchCheckpointService;
+import com.sportygroup.betsettler.service.SettlementBatch;
+import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -15,13 +25,22 @@ import org.springframework.kafka.support.Acknowledgment;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -32,7 +51,7 @@ import static org.mockito.Mockito.*;
  * - Bet matching and settlement
  * - Error handling and recovery
  * - Acknowledgment behavior
- * - Edge cases (empty settlements, partial failures)
+ * - Edge cases (empty settlements, failed sends)
  */
 @ExtendWith(MockitoExtension.class)
 class EventOutcomeConsumerTest {
@@ -43,6 +62,24 @@ class EventOutcomeConsumerTest {
     @Mock
     private BetSettlementProducer betSettlementProducer;
 
+    @Mock
+    private KeyOrderedProcessor keyOrderedProcessor;
+
+    @Mock
+    private FairSettlementScheduler fairSettlementScheduler;
+
+    @Mock
+    private OutcomeDeadLetterPublisher deadLetterPublisher;
+
+    @Mock
+    private DispatchCheckpointService checkpointService;
+
+    @Mock
+    private SettledEventCache settledEventCache;
+
+    @Mock
+    private PartitionPendingBetCache partitionPendingBetCache;
+
     @Mock
     private Acknowledgment acknowledgment;
 
@@ -50,6 +87,7 @@ class EventOutcomeConsumerTest {
     private EventOutcomeConsumer eventOutcomeConsumer;
 
     private EventOutcomeDTO eventOutcome;
+    private String topic;
     private int partition;
     private long offset;
 
@@ -61,6 +99,7 @@ class EventOutcomeConsumerTest {
                 .eventWinnerId("TEAM-A")
                 .build();
 
+        topic = "event-outcomes";
         partition = 0;
         offset = 123L;
     }
@@ -72,7 +111,7 @@ class EventOutcomeConsumerTest {
         when(betMatchingService.matchBets(eventOutcome)).thenReturn(settlements);
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
 
         // Then
         verify(betMatchingService).matchBets(eventOutcome);
@@ -86,7 +125,7 @@ class EventOutcomeConsumerTest {
         when(betMatchingService.matchBets(eventOutcome)).thenReturn(new ArrayList<>());
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
 
         // Then
         verify(betMatchingService).matchBets(eventOutcome);
@@ -105,7 +144,7 @@ class EventOutcomeConsumerTest {
         when(betMatchingService.matchBets(eventOutcome)).thenReturn(settlements);
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
 
         // Then
         verify(betSettlementProducer).sendSettlement(settlement1);
@@ -121,7 +160,7 @@ class EventOutcomeConsumerTest {
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () ->
-                eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment)
+                eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment)
         );
 
         assertThat(exception.getMessage(), containsString("Failed to process event outcome"));
@@ -134,7 +173,7 @@ class EventOutcomeConsumerTest {
     }
 
     @Test
-    void consumeEventOutcome_OnRocketMQFailure_ContinuesProcessingOthers() {
+    void consumeEventOutcome_OnRocketMQFailure_StopsAtFailedSettlement() {
         // Given
         BetSettlementDTO settlement1 = createSettlement(1L, true);
         BetSettlementDTO settlement2 = createSettlement(2L, false);
@@ -147,20 +186,25 @@ class EventOutcomeConsumerTest {
         doNothing().when(betSettlementProducer).sendSettlement(settlement1);
         doThrow(new RuntimeException("RocketMQ timeout"))
                 .when(betSettlementProducer).sendSettlement(settlement2);
-        doNothing().when(betSettlementProducer).sendSettlement(settlement3);
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        RuntimeException exception = assertThrows(RuntimeException.class, () ->
+                eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment));
 
         // Then
+        assertThat(exception.getCause().getCause().getMessage(), containsString("RocketMQ timeout"));
         verify(betSettlementProducer).sendSettlement(settlement1);
         verify(betSettlementProducer).sendSettlement(settlement2);
-        verify(betSettlementProducer).sendSettlement(settlement3);
-        verify(acknowledgment).acknowledge(); // Still acknowledges despite individual failure
+        verify(betSettlementProducer, never()).sendSettlement(settlement3);
+        verify(checkpointService).recordProgress(eventOutcome, 1L, 1L);
+        verify(checkpointService, never()).recordProgress(eventOutcome, 2L, 2L);
+        verify(checkpointService, never()).markCompleted(any(), anyLong(), anyLong());
+        verify(settledEventCache, never()).markSettled(any(), any());
+        verify(acknowledgment, never()).acknowledge();
     }
 
     @Test
-    void consumeEventOutcome_OnAllRocketMQFailures_StillAcknowledges() {
+    void consumeEventOutcome_OnAllRocketMQFailures_DoesNotAcknowledge() {
         // Given
         List<BetSettlementDTO> settlements = createSettlements(3);
         when(betMatchingService.matchBets(eventOutcome)).thenReturn(settlements);
@@ -170,11 +214,13 @@ class EventOutcomeConsumerTest {
                 .when(betSettlementProducer).sendSettlement(any(BetSettlementDTO.class));
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        assertThrows(RuntimeException.class, () ->
+                eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment));
 
         // Then
-        verify(betSettlementProducer, times(3)).sendSettlement(any(BetSettlementDTO.class));
-        verify(acknowledgment).acknowledge(); // Still acknowledges (RocketMQ failures are logged but not fatal)
+        verify(betSettlementProducer, times(1)).sendSettlement(any(BetSettlementDTO.class));
+        verify(checkpointService, never()).recordProgress(any(), anyLong(), anyLong());
+        verify(acknowledgment, never()).acknowledge();
     }
 
     @Test
@@ -183,7 +229,7 @@ class EventOutcomeConsumerTest {
         when(betMatchingService.matchBets(any())).thenReturn(new ArrayList<>());
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
 
         // Then
         verify(betMatchingService).matchBets(eventOutcome);
@@ -196,7 +242,7 @@ class EventOutcomeConsumerTest {
         when(betMatchingService.matchBets(eventOutcome)).thenReturn(Arrays.asList(settlement));
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
 
         // Then
         verify(betSettlementProducer, times(1)).sendSettlement(settlement);
@@ -210,7 +256,7 @@ class EventOutcomeConsumerTest {
         when(betMatchingService.matchBets(eventOutcome)).thenReturn(settlements);
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
 
         // Then
         // Verify each settlement sent in order
@@ -228,7 +274,7 @@ class EventOutcomeConsumerTest {
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () ->
-                eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment)
+                eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment)
         );
 
         assertThat(exception.getMessage(), containsString("Failed to process event outcome"));
@@ -241,7 +287,7 @@ class EventOutcomeConsumerTest {
         when(betMatchingService.matchBets(eventOutcome)).thenReturn(new ArrayList<>());
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
 
         // Then
         // Partition and offset should be passed through (verified by no exceptions)
@@ -259,6 +305,7 @@ class EventOutcomeConsumerTest {
         // When
         eventOutcomeConsumer.consumeEventOutcome(
                 eventOutcome,
+                topic,
                 differentPartition,
                 differentOffset,
                 acknowledgment
@@ -275,7 +322,7 @@ class EventOutcomeConsumerTest {
         when(betMatchingService.matchBets(eventOutcome)).thenReturn(createSettlements(2));
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
 
         // Then
         verify(acknowledgment, times(1)).acknowledge();
@@ -289,7 +336,7 @@ class EventOutcomeConsumerTest {
 
         // When & Then
         assertThrows(RuntimeException.class, () ->
-                eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment)
+                eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment)
         );
 
         verify(acknowledgment, never()).acknowledge();
@@ -305,7 +352,7 @@ class EventOutcomeConsumerTest {
                 .thenReturn(Arrays.asList(wonBet1, wonBet2));
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
 
         // Then
         verify(betSettlementProducer).sendSettlement(wonBet1);
@@ -322,7 +369,7 @@ class EventOutcomeConsumerTest {
                 .thenReturn(Arrays.asList(lostBet1, lostBet2));
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
 
         // Then
         verify(betSettlementProducer).sendSettlement(lostBet1);
@@ -339,7 +386,7 @@ class EventOutcomeConsumerTest {
                 .thenReturn(Arrays.asList(wonBet, lostBet));
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
 
         // Then
         verify(betSettlementProducer).sendSettlement(wonBet);
@@ -348,7 +395,7 @@ class EventOutcomeConsumerTest {
     }
 
     @Test
-    void consumeEventOutcome_PartialRocketMQFailure_LogsErrorButContinues() {
+    void consumeEventOutcome_PartialRocketMQFailure_DoesNotMarkSettled() {
         // Given
         BetSettlementDTO settlement1 = createSettlement(1L, true);
         BetSettlementDTO settlement2 = createSettlement(2L, false);
@@ -362,16 +409,18 @@ class EventOutcomeConsumerTest {
                 .when(betSettlementProducer).sendSettlement(settlement2);
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        assertThrows(RuntimeException.class, () ->
+                eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment));
 
         // Then
         verify(betSettlementProducer).sendSettlement(settlement1);
         verify(betSettlementProducer).sendSettlement(settlement2);
-        verify(acknowledgment).acknowledge(); // Still acknowledges
+        verify(settledEventCache, never()).markSettled(any(), any());
+        verify(acknowledgment, never()).acknowledge();
     }
 
     @Test
-    void consumeEventOutcome_NullPointerInRocketMQ_ContinuesProcessing() {
+    void consumeEventOutcome_NullPointerInRocketMQ_FailsRecord() {
         // Given
         BetSettlementDTO settlement1 = createSettlement(1L, true);
         BetSettlementDTO settlement2 = createSettlement(2L, false);
@@ -382,15 +431,15 @@ class EventOutcomeConsumerTest {
         // First throws NPE
         doThrow(new NullPointerException("Null reference"))
                 .when(betSettlementProducer).sendSettlement(settlement1);
-        doNothing().when(betSettlementProducer).sendSettlement(settlement2);
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        assertThrows(RuntimeException.class, () ->
+                eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment));
 
         // Then
         verify(betSettlementProducer).sendSettlement(settlement1);
-        verify(betSettlementProducer).sendSettlement(settlement2); // Still processes second
-        verify(acknowledgment).acknowledge();
+        verify(betSettlementProducer, never()).sendSettlement(settlement2);
+        verify(acknowledgment, never()).acknowledge();
     }
 
     @Test
@@ -405,7 +454,7 @@ class EventOutcomeConsumerTest {
         when(betMatchingService.matchBets(eventWithEmptyId)).thenReturn(new ArrayList<>());
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventWithEmptyId, partition, offset, acknowledgment);
+        eventOutcomeConsumer.consumeEventOutcome(eventWithEmptyId, topic, partition, offset, acknowledgment);
 
         // Then
         verify(betMatchingService).matchBets(eventWithEmptyId);
@@ -419,7 +468,7 @@ class EventOutcomeConsumerTest {
         when(betMatchingService.matchBets(eventOutcome)).thenReturn(largeSettlementList);
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
 
         // Then
         verify(betSettlementProducer, times(100)).sendSettlement(any(BetSettlementDTO.class));
@@ -433,7 +482,7 @@ class EventOutcomeConsumerTest {
         when(betMatchingService.matchBets(eventOutcome)).thenReturn(settlements);
 
         // When
-        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, partition, offset, acknowledgment);
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
 
         // Then - Verify order of calls
         var inOrder = inOrder(betMatchingService, betSettlementProducer, acknowledgment);
@@ -442,6 +491,387 @@ class EventOutcomeConsumerTest {
         inOrder.verify(acknowledgment).acknowledge();
     }
 
+    @Test
+    void consumeEventOutcome_InKeyOrderedMode_DelegatesToProcessor() {
+        // Given
+        when(keyOrderedProcessor.isEnabled()).thenReturn(true);
+
+        // When
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
+
+        // Then
+        verify(keyOrderedProcessor).submit(eq("EVT-001"), eq(new TopicPartition(topic, partition)), eq(offset),
+                any(Runnable.class), any(), eq(acknowledgment));
+        verifyNoInteractions(betMatchingService, betSettlementProducer);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void consumeEventOutcome_InKeyOrderedMode_DeadLettersExhaustedRecord() {
+        // Given
+        when(keyOrderedProcessor.isEnabled()).thenReturn(true);
+        ArgumentCaptor<Consumer<Exception>> onFailure = ArgumentCaptor.forClass(Consumer.class);
+        RuntimeException failure = new RuntimeException("Database unavailable");
+
+        // When
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
+        verify(keyOrderedProcessor).submit(any(), any(TopicPartition.class), anyLong(), any(Runnable.class),
+                onFailure.capture(), any());
+        onFailure.getValue().accept(failure);
+
+        // Then
+        verify(deadLetterPublisher).publish(eventOutcome, failure);
+    }
+
+    @Test
+    void consumeEventOutcome_InFairMode_DispatchesOutcomeChunkByChunk() {
+        // Given
+        when(fairSettlementScheduler.isEnabled()).thenReturn(true);
+        when(fairSettlementScheduler.getChunkSize()).thenReturn(2);
+        SettlementBatch firstChunk = createChunk(1, 2);
+        SettlementBatch lastChunk = createChunk(3, 3);
+        when(betMatchingService.matchChunk(eventOutcome, 0L, 2)).thenReturn(firstChunk);
+        when(betMatchingService.matchChunk(eventOutcome, 2L, 2)).thenReturn(lastChunk);
+        ArgumentCaptor<FairSettlementScheduler.ChunkedJob> job =
+                ArgumentCaptor.forClass(FairSettlementScheduler.ChunkedJob.class);
+
+        // When
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
+        verify(fairSettlementScheduler).submit(eq("EVT-001"), eq(new TopicPartition(topic, partition)), eq(offset),
+                job.capture(), any(), eq(acknowledgment));
+        Runnable first = job.getValue().nextChunk();
+        Runnable last = job.getValue().nextChunk();
+        last.run();
+        first.run();
+
+        // Then - the checkpoint only moves past the last chunk once the first one is sent
+        assertThat(job.getValue().nextChunk(), is(nullValue()));
+        job.getValue().complete();
+        verify(betSettlementProducer, times(2)).sendSettlement(eq(firstChunk), anyInt());
+        verify(betSettlementProducer).sendSettlement(lastChunk, 0);
+        verify(checkpointService).recordChunk(eventOutcome, 3L, 3L);
+        verify(checkpointService, never()).recordChunk(eventOutcome, 2L, 2L);
+        verify(checkpointService).markCompleted(eventOutcome, 3L, 3L);
+        verify(settledEventCache).markSettled("EVT-001", "TEAM-A");
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    void consumeEventOutcome_InFairMode_FailedChunkDoesNotAdvanceCheckpoint() {
+        // Given
+        when(fairSettlementScheduler.isEnabled()).thenReturn(true);
+        when(fairSettlementScheduler.getChunkSize()).thenReturn(2);
+        SettlementBatch chunk = createChunk(1, 2);
+        when(betMatchingService.matchChunk(eventOutcome, 0L, 2)).thenReturn(chunk);
+        doThrow(new RuntimeException("RocketMQ timeout")).when(betSettlementProducer).sendSettlement(chunk, 1);
+        ArgumentCaptor<FairSettlementScheduler.ChunkedJob> job =
+                ArgumentCaptor.forClass(FairSettlementScheduler.ChunkedJob.class);
+
+        // When
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
+        verify(fairSettlementScheduler).submit(any(), any(TopicPartition.class), anyLong(), job.capture(), any(),
+                any());
+        Runnable send = job.getValue().nextChunk();
+
+        // Then - the scheduler sees the failure and never completes the record
+        assertThrows(IllegalStateException.class, send::run);
+        verify(checkpointService, never()).recordChunk(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void consumeEventOutcome_InFairMode_SkipsAlreadySettledEvent() {
+        // Given
+        when(fairSettlementScheduler.isEnabled()).thenReturn(true);
+        when(fairSettlementScheduler.getChunkSize()).thenReturn(2);
+        when(settledEventCache.isSettled("EVT-001", "TEAM-A")).thenReturn(true);
+        ArgumentCaptor<FairSettlementScheduler.ChunkedJob> job =
+                ArgumentCaptor.forClass(FairSettlementScheduler.ChunkedJob.class);
+
+        // When
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
+        verify(fairSettlementScheduler).submit(any(), any(TopicPartition.class), anyLong(), job.capture(), any(),
+                any());
+        Runnable chunk = job.getValue().nextChunk();
+        job.getValue().complete();
+
+        // Then
+        assertThat(chunk, is(nullValue()));
+        verifyNoInteractions(betMatchingService, betSettlementProducer, checkpointService);
+    }
+
+    @Test
+    void consumeEventOutcome_WithCheckpoint_ResumesAfterLastDispatchedBet() {
+        // Given
+        DispatchCheckpoint checkpoint = DispatchCheckpoint.builder()
+                .eventId("EVT-001")
+                .eventWinnerId("TEAM-A")
+                .lastBetId(2L)
+                .dispatchedCount(2L)
+                .build();
+        when(checkpointService.findResumePoint(eventOutcome)).thenReturn(Optional.of(checkpoint));
+        when(betMatchingService.matchBetsAfter(eventOutcome, 2L))
+                .thenReturn(List.of(createSettlement(3L, true), createSettlement(4L, false)));
+
+        // When
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
+
+        // Then
+        verify(betMatchingService, never()).matchBets(any());
+        verify(betSettlementProducer, times(2)).sendSettlement(any(BetSettlementDTO.class));
+        verify(checkpointService).recordProgress(eventOutcome, 3L, 3L);
+        verify(checkpointService).recordProgress(eventOutcome, 4L, 4L);
+        verify(checkpointService).markCompleted(eventOutcome, 4L, 4L);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void consumeEventOutcome_WithoutCheckpoint_RecordsProgressForEachSettlement() {
+        // Given
+        List<BetSettlementDTO> settlements = createSettlements(3);
+        when(betMatchingService.matchBets(eventOutcome)).thenReturn(settlements);
+
+        // When
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
+
+        // Then
+        verify(checkpointService).recordProgress(eventOutcome, 1L, 1L);
+        verify(checkpointService).recordProgress(eventOutcome, 2L, 2L);
+        verify(checkpointService).recordProgress(eventOutcome, 3L, 3L);
+        verify(checkpointService).markCompleted(eventOutcome, 3L, 3L);
+    }
+
+    @Test
+    void consumeEventOutcome_WhenEventAlreadySettled_SkipsMatchingAndAcknowledges() {
+        // Given
+        when(settledEventCache.isSettled("EVT-001", "TEAM-A")).thenReturn(true);
+
+        // When
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
+
+        // Then
+        verifyNoInteractions(betMatchingService, betSettlementProducer, checkpointService);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void consumeEventOutcome_SecondPartialMarketOutcome_IsNeitherSkippedNorResumedPastFirst() {
+        // Given - a real checkpoint service and settled cache over an in-memory checkpoint store
+        Map<String, DispatchCheckpoint> checkpoints = new HashMap<>();
+        DispatchCheckpointRepository checkpointRepository = mock(DispatchCheckpointRepository.class);
+        when(checkpointRepository.findById("EVT-001"))
+                .thenAnswer(invocation -> Optional.ofNullable(checkpoints.get("EVT-001")));
+        when(checkpointRepository.save(any(DispatchCheckpoint.class))).thenAnswer(invocation -> {
+            DispatchCheckpoint checkpoint = invocation.getArgument(0);
+            checkpoints.put(checkpoint.getEventId(), checkpoint);
+            return checkpoint;
+        });
+        doAnswer(invocation -> checkpoints.remove(invocation.<String>getArgument(0)))
+                .when(checkpointRepository).deleteById("EVT-001");
+        EventOutcomeConsumer consumer = new EventOutcomeConsumer(betMatchingService, betSettlementProducer,
+                keyOrderedProcessor, fairSettlementScheduler, deadLetterPublisher,
+                new DispatchCheckpointService(checkpointRepository, new DispatchCheckpointConfig()),
+                new SettledEventCache(new SettledEventCacheConfig(), checkpointRepository),
+                partitionPendingBetCache);
+
+        EventOutcomeDTO matchWinner = partialOutcome(Map.of("MATCH_WINNER", "TEAM-A"));
+        EventOutcomeDTO overUnder = partialOutcome(Map.of("OVER_UNDER_2_5", "OVER"));
+        when(betMatchingService.matchBets(matchWinner))
+                .thenReturn(List.of(createSettlement(2L, true), createSettlement(4L, false)));
+        when(betMatchingService.matchBets(overUnder)).thenReturn(List.of(createSettlement(3L, true)));
+
+        // When
+        consumer.consumeEventOutcome(matchWinner, topic, partition, offset, acknowledgment);
+        consumer.consumeEventOutcome(overUnder, topic, partition, offset + 1, acknowledgment);
+
+        // Then - bet 3 lies below the first outcome's checkpoint, yet is settled by the second
+        verify(betMatchingService).matchBets(overUnder);
+        verify(betMatchingService, never()).matchBetsAfter(any(), anyLong());
+        verify(betSettlementProducer, times(3)).sendSettlement(any(BetSettlementDTO.class));
+        assertThat(checkpoints.get("EVT-001").getMarketResults(), is("OVER_UNDER_2_5=OVER"));
+        assertThat(checkpoints.get("EVT-001").getLastBetId(), is(3L));
+        verify(acknowledgment, times(2)).acknowledge();
+    }
+
+    @Test
+    void consumeEventOutcome_AfterDispatchCompletes_MarksEventSettled() {
+        // Given
+        when(betMatchingService.matchBets(eventOutcome)).thenReturn(createSettlements(2));
+
+        // When
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
+
+        // Then
+        verify(settledEventCache).markSettled("EVT-001", "TEAM-A");
+    }
+
+    @Test
+    void consumeEventOutcome_InColumnarMode_SendsEachRowOfTheBatch() {
+        // Given
+        SettlementBatch batch = createBatch(3);
+        when(betMatchingService.isColumnar()).thenReturn(true);
+        when(betMatchingService.matchBatch(eventOutcome, 0L)).thenReturn(batch);
+
+        // When
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
+
+        // Then
+        verify(betSettlementProducer).sendSettlement(batch, 0);
+        verify(betSettlementProducer).sendSettlement(batch, 1);
+        verify(betSettlementProducer).sendSettlement(batch, 2);
+        verify(betMatchingService, never()).matchBets(any());
+        verify(checkpointService).recordProgress(eventOutcome, 3L, 3L);
+        verify(checkpointService).markCompleted(eventOutcome, 3L, 3L);
+        verify(settledEventCache).markSettled("EVT-001", "TEAM-A");
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void consumeEventOutcome_InColumnarMode_StopsAtFailedRow() {
+        // Given
+        SettlementBatch batch = createBatch(3);
+        when(betMatchingService.isColumnar()).thenReturn(true);
+        when(betMatchingService.matchBatch(eventOutcome, 0L)).thenReturn(batch);
+        doThrow(new RuntimeException("Network error")).when(betSettlementProducer).sendSettlement(batch, 1);
+
+        // When
+        assertThrows(RuntimeException.class, () ->
+                eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment));
+
+        // Then
+        verify(betSettlementProducer, never()).sendSettlement(batch, 2);
+        verify(checkpointService).recordProgress(eventOutcome, 1L, 1L);
+        verify(checkpointService, never()).recordProgress(eventOutcome, 2L, 2L);
+        verify(checkpointService, never()).markCompleted(any(), anyLong(), anyLong());
+        verify(settledEventCache, never()).markSettled(any(), any());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    void consumeEventOutcome_WhenQueuedSettlementsFail_DoesNotComplete() {
+        // Given
+        when(betMatchingService.matchBets(eventOutcome)).thenReturn(createSettlements(2));
+        doThrow(new IllegalStateException("1 queued settlements could not be settled"))
+                .when(betSettlementProducer).flush();
+
+        // When
+        assertThrows(RuntimeException.class, () ->
+                eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment));
+
+        // Then
+        verify(checkpointService, never()).markCompleted(any(), anyLong(), anyLong());
+        verify(settledEventCache, never()).markSettled(any(), any());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    void consumeEventOutcome_BeforeCheckpoint_FlushesSettlements() {
+        // Given
+        when(betMatchingService.matchBets(eventOutcome)).thenReturn(createSettlements(2));
+        when(checkpointService.isCheckpointDue(1L)).thenReturn(true);
+
+        // When
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
+
+        // Then
+        var inOrder = inOrder(betSettlementProducer, checkpointService);
+        inOrder.verify(betSettlementProducer).flush();
+        inOrder.verify(checkpointService).recordProgress(eventOutcome, 1L, 1L);
+        verify(betSettlementProducer, times(2)).flush();
+    }
+
+    @Test
+    void consumeEventOutcome_InColumnarMode_ResumesAfterCheckpoint() {
+        // Given
+        DispatchCheckpoint checkpoint = DispatchCheckpoint.builder()
+                .eventId("EVT-001")
+                .eventWinnerId("TEAM-A")
+                .lastBetId(3L)
+                .dispatchedCount(3L)
+                .build();
+        when(betMatchingService.isColumnar()).thenReturn(true);
+        when(checkpointService.findResumePoint(eventOutcome)).thenReturn(Optional.of(checkpoint));
+        when(betMatchingService.matchBatch(eventOutcome, 3L))
+                .thenReturn(new SettlementBatch("EVT-001", "TEAM-A"));
+
+        // When
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
+
+        // Then
+        verify(betSettlementProducer, never()).sendSettlement(any(SettlementBatch.class), anyInt());
+        verify(checkpointService).markCompleted(eventOutcome, 3L, 3L);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void consumeEventOutcome_WithPreloadedBets_MatchesThemInsteadOfReadingAgain() {
+        // Given
+        PreloadedPendingBets preloaded = new PreloadedPendingBets("EVT-001", 100L);
+        SettlementBatch batch = createBatch(2);
+        when(partitionPendingBetCache.take("EVT-001")).thenReturn(preloaded);
+        when(betMatchingService.isColumnar()).thenReturn(true);
+        when(betMatchingService.matchBatch(eventOutcome, 0L, preloaded)).thenReturn(batch);
+
+        // When
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
+
+        // Then
+        verify(betMatchingService, never()).matchBatch(eventOutcome, 0L);
+        verify(betSettlementProducer).sendSettlement(batch, 0);
+        verify(betSettlementProducer).sendSettlement(batch, 1);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void consumeEventOutcome_WhenEventAlreadySettled_StillTakesPreloadedBets() {
+        // Given
+        when(settledEventCache.isSettled("EVT-001", "TEAM-A")).thenReturn(true);
+
+        // When
+        eventOutcomeConsumer.consumeEventOutcome(eventOutcome, topic, partition, offset, acknowledgment);
+
+        // Then
+        verify(partitionPendingBetCache).take("EVT-001");
+        verifyNoInteractions(betMatchingService);
+    }
+
+    /**
+     * Helper method to create a chunk read from bets first..last, all of them matched.
+     */
+    private SettlementBatch createChunk(int first, int last) {
+        SettlementBatch batch = new SettlementBatch("EVT-001", "TEAM-A");
+        for (int i = first; i <= last; i++) {
+            batch.recordRead(i);
+            batch.add(i, batch.encode("USER-" + i), batch.encode("MATCH_WINNER"),
+                    batch.getWinnerCode(), batch.getWinnerCode(), 10_000, 0, 0);
+        }
+        return batch;
+    }
+
+    /**
+     * Helper method to create a columnar batch with bets 1..count.
+     */
+    private SettlementBatch createBatch(int count) {
+        SettlementBatch batch = new SettlementBatch("EVT-001", "TEAM-A");
+        for (int i = 1; i <= count; i++) {
+            batch.add(i, batch.encode("USER-" + i), batch.encode("MATCH_WINNER"),
+                    batch.encode(i % 2 == 0 ? "TEAM-A" : "TEAM-B"), batch.getWinnerCode(), 10_000, 0, 0);
+        }
+        return batch;
+    }
+
+    /**
+     * Helper method to create an outcome of EVT-001 that resolves only some markets.
+     */
+    private EventOutcomeDTO partialOutcome(Map<String, String> marketResults) {
+        return EventOutcomeDTO.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-A")
+                .marketResults(marketResults)
+                .build();
+    }
+
     /**
      * Helper method to create a list of test settlements.
      */
@@ -0,0 +1,276 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.config.OutcomeProcessingConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for FairSettlementScheduler.
+ */
+class FairSettlementSchedulerTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("event-outcomes", 0);
+
+    private OutcomeProcessingConfig config;
+    private FairSettlementScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        config = new OutcomeProcessingConfig();
+        config.setMode(OutcomeProcessingConfig.Mode.FAIR);
+        config.setWorkers(2);
+        config.setLaneQueueCapacity(100);
+        config.setMaxChunksPerEvent(1);
+        config.setMaxAttempts(2);
+        config.setRetryBackoffMs(1);
+        scheduler = new FairSettlementScheduler(config);
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    void start_InSequentialMode_StaysDisabled() {
+        FairSettlementScheduler disabled = new FairSettlementScheduler(new OutcomeProcessingConfig());
+        disabled.start();
+
+        assertThat(disabled.isEnabled(), is(false));
+        assertThrows(IllegalStateException.class,
+                () -> disabled.submit("EVT-001", PARTITION, 0, new CountingJob(1, null), e -> { },
+                        mock(Acknowledgment.class)));
+    }
+
+    @Test
+    void submit_RunsEveryChunkThenCompletesAndAcknowledges() {
+        CountingJob job = new CountingJob(5, null);
+        Acknowledgment ack = mock(Acknowledgment.class);
+
+        scheduler.submit("EVT-001", PARTITION, 0, job, e -> { }, ack);
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> verify(ack).acknowledge());
+        assertThat(job.ran.get(), equalTo(5));
+        assertThat(job.completed.get(), is(true));
+        assertThat(scheduler.getPendingCount(), equalTo(0));
+        assertThat(scheduler.getActiveEventCount(), equalTo(0));
+    }
+
+    @Test
+    void submit_SmallEventDoesNotWaitForLargeEvent() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountingJob large = new CountingJob(1000, release);
+        CountingJob small = new CountingJob(1, null);
+        Acknowledgment largeAck = mock(Acknowledgment.class);
+        Acknowledgment smallAck = mock(Acknowledgment.class);
+
+        scheduler.submit("EVT-LARGE", PARTITION, 0, large, e -> { }, largeAck);
+        scheduler.submit("EVT-SMALL", new TopicPartition("event-outcomes", 1), 0, small, e -> { }, smallAck);
+
+        // The large event is capped at one chunk at a time, leaving the second worker free
+        await().atMost(5, TimeUnit.SECONDS).until(small.completed::get);
+        verify(smallAck, timeout(1000)).acknowledge();
+        assertThat(large.completed.get(), is(false));
+        verify(largeAck, never()).acknowledge();
+
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(large.completed::get);
+        verify(largeAck, timeout(1000)).acknowledge();
+    }
+
+    @Test
+    void submit_RetryTopicPartition_DoesNotHoldBackMainTopicPartition() {
+        CountDownLatch release = new CountDownLatch(1);
+        CountingJob retried = new CountingJob(1, release);
+        CountingJob fresh = new CountingJob(1, null);
+        Acknowledgment retriedAck = mock(Acknowledgment.class);
+        Acknowledgment freshAck = mock(Acknowledgment.class);
+
+        // Same partition number and a lower offset, but on the retry topic
+        scheduler.submit("EVT-RETRIED", new TopicPartition("event-outcomes-retry-0", 0), 3, retried, e -> { },
+                retriedAck);
+        scheduler.submit("EVT-FRESH", PARTITION, 7, fresh, e -> { }, freshAck);
+
+        verify(freshAck, timeout(5000)).acknowledge();
+        verify(retriedAck, never()).acknowledge();
+
+        release.countDown();
+        verify(retriedAck, timeout(5000)).acknowledge();
+    }
+
+    @Test
+    void submit_InterleavesChunksOfDifferentEvents() {
+        config.setWorkers(1);
+        FairSettlementScheduler single = new FairSettlementScheduler(config);
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        single.start();
+        try {
+            // Holds the only worker until both events are queued
+            single.submit("EVT-GATE", PARTITION, 0, new CountingJob(1, release) {
+                @Override
+                protected void runChunk(int index) throws InterruptedException {
+                    blocked.countDown();
+                    super.runChunk(index);
+                }
+            }, e -> { }, mock(Acknowledgment.class));
+            await().atMost(5, TimeUnit.SECONDS).until(() -> blocked.getCount() == 0);
+            single.submit("EVT-A", PARTITION, 1, new RecordingJob("A", 3, order), e -> { }, mock(Acknowledgment.class));
+            single.submit("EVT-B", PARTITION, 2, new RecordingJob("B", 3, order), e -> { }, mock(Acknowledgment.class));
+            release.countDown();
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> order.size() == 6);
+            assertThat(order, contains("A0", "B0", "A1", "B1", "A2", "B2"));
+        } finally {
+            single.stop();
+        }
+    }
+
+    @Test
+    void submit_SameEvent_RunsRecordsInOffsetOrder() {
+        List<String> order = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            scheduler.submit("EVT-001", PARTITION, i, new RecordingJob("R" + i + "-", 2, order), e -> { },
+                    mock(Acknowledgment.class));
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> order.size() == 10);
+        for (int i = 0; i < 5; i++) {
+            assertThat(order.get(i * 2), equalTo("R" + i + "-0"));
+            assertThat(order.get(i * 2 + 1), equalTo("R" + i + "-1"));
+        }
+    }
+
+    @Test
+    void submit_FailingChunk_HandsRecordToFailureCallbackAndCommitsPastIt() {
+        AtomicInteger failures = new AtomicInteger();
+        CountingJob job = new CountingJob(3, null) {
+            @Override
+            protected void runChunk(int index) throws InterruptedException {
+                if (index == 1) {
+                    throw new IllegalStateException("Broker unavailable");
+                }
+                super.runChunk(index);
+            }
+        };
+        Acknowledgment ack = mock(Acknowledgment.class);
+
+        scheduler.submit("EVT-001", PARTITION, 0, job, e -> failures.incrementAndGet(), ack);
+
+        verify(ack, timeout(5000)).acknowledge();
+        assertThat(failures.get(), equalTo(1));
+        assertThat(job.completed.get(), is(false));
+    }
+
+    @Test
+    void submit_FailingChunkWhoseHandOffFails_LeavesOffsetPending() {
+        CountingJob failing = new CountingJob(1, null) {
+            @Override
+            protected void runChunk(int index) {
+                throw new IllegalStateException("Broker unavailable");
+            }
+        };
+        CountingJob next = new CountingJob(1, null);
+        Acknowledgment failedAck = mock(Acknowledgment.class);
+        Acknowledgment nextAck = mock(Acknowledgment.class);
+
+        scheduler.submit("EVT-001", PARTITION, 0, failing, e -> {
+            throw new IllegalStateException("Failed to dead-letter event outcome EVT-001");
+        }, failedAck);
+        scheduler.submit("EVT-001", PARTITION, 1, next, e -> { }, nextAck);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> next.completed.get() && scheduler.getPendingCount() == 1);
+        verify(failedAck, never()).acknowledge();
+        verify(nextAck, never()).acknowledge();
+    }
+
+    /**
+     * Job with a fixed number of chunks that optionally wait for a latch.
+     */
+    private static class CountingJob implements FairSettlementScheduler.ChunkedJob {
+        private final int chunks;
+        private final CountDownLatch gate;
+        private final AtomicInteger ran = new AtomicInteger();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private int claimed;
+
+        CountingJob(int chunks, CountDownLatch gate) {
+            this.chunks = chunks;
+            this.gate = gate;
+        }
+
+        @Override
+        public Runnable nextChunk() {
+            if (claimed == chunks) {
+                return null;
+            }
+            int index = claimed++;
+            return () -> {
+                try {
+                    runChunk(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+        }
+
+        protected void runChunk(int index) throws InterruptedException {
+            if (gate != null) {
+                gate.await(5, TimeUnit.SECONDS);
+            }
+            ran.incrementAndGet();
+        }
+
+        @Override
+        public void complete() {
+            completed.set(true);
+        }
+    }
+
+    /**
+     * Job that records the name of each chunk as it runs.
+     */
+    private static class RecordingJob implements FairSettlementScheduler.ChunkedJob {
+        private final String name;
+        private final int chunks;
+        private final List<String> order;
+        private int claimed;
+
+        RecordingJob(String name, int chunks, List<String> order) {
+            this.name = name;
+            this.chunks = chunks;
+            this.order = order;
+        }
+
+        @Override
+        public Runnable nextChunk() {
+            if (claimed == chunks) {
+                return null;
+            }
+            String chunk = name + claimed++;
+            return () -> order.add(chunk);
+        }
+
+        @Override
+        public void complete() {
+        }
+    }
+}
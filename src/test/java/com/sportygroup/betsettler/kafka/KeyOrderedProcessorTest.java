@@ -0,0 +1,152 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.config.OutcomeProcessingConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for KeyOrderedProcessor.
+ */
+class KeyOrderedProcessorTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("event-outcomes", 0);
+
+    private OutcomeProcessingConfig config;
+    private KeyOrderedProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        config = new OutcomeProcessingConfig();
+        config.setMode(OutcomeProcessingConfig.Mode.KEY_ORDERED);
+        config.setWorkers(4);
+        config.setLaneQueueCapacity(100);
+        config.setMaxAttempts(2);
+        config.setRetryBackoffMs(1);
+        processor = new KeyOrderedProcessor(config);
+        processor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.stop();
+    }
+
+    @Test
+    void start_InSequentialMode_StaysDisabled() {
+        OutcomeProcessingConfig sequential = new OutcomeProcessingConfig();
+        KeyOrderedProcessor disabled = new KeyOrderedProcessor(sequential);
+        disabled.start();
+
+        assertThat(disabled.isEnabled(), is(false));
+        assertThrows(IllegalStateException.class,
+                () -> disabled.submit("EVT-001", PARTITION, 0, () -> { }, e -> { }, mock(Acknowledgment.class)));
+    }
+
+    @Test
+    void submit_SameKey_RunsInOffsetOrder() {
+        List<Long> processed = new CopyOnWriteArrayList<>();
+        for (long offset = 0; offset < 50; offset++) {
+            long current = offset;
+            processor.submit("EVT-001", PARTITION, offset, () -> processed.add(current), e -> { },
+                    mock(Acknowledgment.class));
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> processed.size() == 50);
+        for (int i = 0; i < 50; i++) {
+            assertThat(processed.get(i), equalTo((long) i));
+        }
+    }
+
+    @Test
+    void submit_SlowKey_DoesNotBlockOtherKeysButHoldsCommit() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Acknowledgment slowAck = mock(Acknowledgment.class);
+        Acknowledgment fastAck = mock(Acknowledgment.class);
+        AtomicInteger fastDone = new AtomicInteger();
+
+        String slowKey = "EVT-SLOW";
+        String fastKey = keyOnDifferentLane(slowKey);
+
+        processor.submit(slowKey, PARTITION, 0, () -> awaitQuietly(release), e -> { }, slowAck);
+        processor.submit(fastKey, PARTITION, 1, fastDone::incrementAndGet, e -> { }, fastAck);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> fastDone.get() == 1);
+        // Offset 1 finished first but cannot be committed past the running offset 0
+        verify(fastAck, never()).acknowledge();
+        verify(slowAck, never()).acknowledge();
+
+        release.countDown();
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> verify(fastAck).acknowledge());
+        verify(slowAck, never()).acknowledge();
+        assertThat(processor.getPendingCount(), equalTo(0));
+    }
+
+    @Test
+    void submit_FailingRecord_RetriesThenHandsOffAndCommitsPastIt() {
+        AtomicInteger attempts = new AtomicInteger();
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+        Acknowledgment ack = mock(Acknowledgment.class);
+
+        processor.submit("EVT-001", PARTITION, 0, () -> {
+            attempts.incrementAndGet();
+            throw new RuntimeException("Matching failed");
+        }, failures::add, ack);
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> verify(ack).acknowledge());
+        assertThat(attempts.get(), equalTo(2));
+        assertThat(failures, hasSize(1));
+        assertThat(failures.get(0).getMessage(), equalTo("Matching failed"));
+    }
+
+    @Test
+    void submit_FailingRecordWhoseHandOffFails_LeavesOffsetPending() {
+        Acknowledgment failedAck = mock(Acknowledgment.class);
+        Acknowledgment nextAck = mock(Acknowledgment.class);
+        AtomicInteger nextDone = new AtomicInteger();
+
+        processor.submit("EVT-001", PARTITION, 0, () -> {
+            throw new RuntimeException("Matching failed");
+        }, e -> {
+            throw new IllegalStateException("Failed to dead-letter event outcome EVT-001");
+        }, failedAck);
+        processor.submit("EVT-001", PARTITION, 1, nextDone::incrementAndGet, e -> { }, nextAck);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> nextDone.get() == 1 && processor.getPendingCount() == 1);
+        verify(failedAck, never()).acknowledge();
+        verify(nextAck, never()).acknowledge();
+    }
+
+    private String keyOnDifferentLane(String key) {
+        int lane = Math.floorMod(key.hashCode(), config.getWorkers());
+        for (int i = 0; ; i++) {
+            String candidate = "EVT-" + i;
+            if (Math.floorMod(candidate.hashCode(), config.getWorkers()) != lane) {
+                return candidate;
+            }
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
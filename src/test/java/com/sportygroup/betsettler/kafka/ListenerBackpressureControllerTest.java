@@ -0,0 +1,154 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.config.ListenerAutoscalingConfig;
+import com.sportygroup.betsettler.rocketmq.InProcessBetSettlementProducer;
+import com.sportygroup.betsettler.service.SettlementLatencyTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ListenerBackpressureController.
+ */
+@ExtendWith(MockitoExtension.class)
+class ListenerBackpressureControllerTest {
+
+    @Mock
+    private KafkaListenerEndpointRegistry registry;
+
+    @Mock
+    private MessageListenerContainer container;
+
+    @Mock
+    private ObjectProvider<InProcessBetSettlementProducer> producerProvider;
+
+    @Mock
+    private InProcessBetSettlementProducer producer;
+
+    private SettlementLatencyTracker latencyTracker;
+    private ListenerAutoscalingConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private ListenerBackpressureController controller;
+
+    @BeforeEach
+    void setUp() {
+        latencyTracker = new SettlementLatencyTracker();
+        config = new ListenerAutoscalingConfig();
+        config.getBackpressure().setPauseInFlightSettlements(1000);
+        config.getBackpressure().setResumeInFlightSettlements(100);
+        config.getBackpressure().setPauseDbLatencyMs(500);
+        config.getBackpressure().setResumeDbLatencyMs(200);
+        meterRegistry = new SimpleMeterRegistry();
+
+        controller = new ListenerBackpressureController(registry, producerProvider, latencyTracker, config,
+                meterRegistry);
+
+        lenient().when(registry.getListenerContainer(EventOutcomeConsumer.LISTENER_ID)).thenReturn(container);
+        lenient().when(container.isRunning()).thenReturn(true);
+        lenient().when(producerProvider.getIfAvailable()).thenReturn(producer);
+    }
+
+    @Test
+    void evaluate_WithInFlightAbovePauseThreshold_PausesListener() {
+        // Given
+        when(producer.getQueueDepth()).thenReturn(5000);
+
+        // When
+        controller.evaluate();
+
+        // Then
+        verify(container).pause();
+        assertThat(meterRegistry.counter("kafka.listener.backpressure.pauses").count(), equalTo(1.0));
+        assertThat(meterRegistry.get("kafka.listener.backpressure.in.flight").gauge().value(), equalTo(5000.0));
+    }
+
+    @Test
+    void evaluate_WithSlowDbWrites_PausesListener() {
+        // Given
+        when(producer.getQueueDepth()).thenReturn(0);
+        latencyTracker.recordWrite(900);
+
+        // When
+        controller.evaluate();
+
+        // Then
+        verify(container).pause();
+    }
+
+    @Test
+    void evaluate_WithinThresholds_DoesNotPause() {
+        // Given
+        when(producer.getQueueDepth()).thenReturn(500);
+        latencyTracker.recordWrite(50);
+
+        // When
+        controller.evaluate();
+
+        // Then
+        verify(container, never()).pause();
+    }
+
+    @Test
+    void evaluate_WhenPausedAndBetweenThresholds_StaysPaused() {
+        // Given
+        when(container.isPauseRequested()).thenReturn(true);
+        when(producer.getQueueDepth()).thenReturn(500);
+
+        // When
+        controller.evaluate();
+
+        // Then
+        verify(container, never()).resume();
+        assertThat(meterRegistry.get("kafka.listener.backpressure.paused").gauge().value(), equalTo(1.0));
+    }
+
+    @Test
+    void evaluate_WhenPausedAndRecovered_ResumesListener() {
+        // Given
+        when(container.isPauseRequested()).thenReturn(true);
+        when(producer.getQueueDepth()).thenReturn(50);
+        latencyTracker.recordWrite(100);
+
+        // When
+        controller.evaluate();
+
+        // Then
+        verify(container).resume();
+    }
+
+    @Test
+    void evaluate_WithoutInProcessTransport_UsesLatencyOnly() {
+        // Given
+        when(producerProvider.getIfAvailable()).thenReturn(null);
+
+        // When
+        controller.evaluate();
+
+        // Then
+        verify(container, never()).pause();
+    }
+
+    @Test
+    void evaluate_WhenDisabled_ResumesPausedListener() {
+        // Given
+        config.getBackpressure().setEnabled(false);
+        when(container.isPauseRequested()).thenReturn(true);
+
+        // When
+        controller.evaluate();
+
+        // Then
+        verify(container).resume();
+        verify(container, never()).pause();
+    }
+}
@@ -0,0 +1,154 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.config.KafkaTopicConfig;
+import com.sportygroup.betsettler.config.ListenerAutoscalingConfig;
+import com.sportygroup.betsettler.config.OutcomeProcessingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ListenerConcurrencyAutoscaler.
+ */
+@ExtendWith(MockitoExtension.class)
+class ListenerConcurrencyAutoscalerTest {
+
+    @Mock
+    private KafkaListenerEndpointRegistry registry;
+
+    @Mock
+    private KafkaAdmin kafkaAdmin;
+
+    @Mock
+    private ConcurrentMessageListenerContainer<String, Object> container;
+
+    private ListenerAutoscalingConfig config;
+    private ListenerAutoscalingConfig.Autoscaling autoscaling;
+    private OutcomeProcessingConfig processingConfig;
+    private ListenerConcurrencyAutoscaler autoscaler;
+
+    @BeforeEach
+    void setUp() {
+        config = new ListenerAutoscalingConfig();
+        autoscaling = config.getAutoscaling();
+        autoscaling.setEnabled(true);
+        autoscaling.setMinConcurrency(1);
+        autoscaling.setMaxConcurrency(12);
+        autoscaling.setTargetDrainSeconds(60);
+
+        processingConfig = new OutcomeProcessingConfig();
+        autoscaler = new ListenerConcurrencyAutoscaler(registry, kafkaAdmin, new ListenerLoadTracker(),
+                config, processingConfig, new KafkaTopicConfig(), "betting-settlement-group");
+    }
+
+    @Test
+    void desiredConcurrency_WithLagAboveCapacity_ScalesUpToDrainTarget() {
+        // 10ms per record = 100 records/s per consumer = 6000 records per 60s window
+        int desired = ListenerConcurrencyAutoscaler.desiredConcurrency(2, 30000, 12, 10.0, autoscaling);
+
+        assertThat(desired, equalTo(5));
+    }
+
+    @Test
+    void desiredConcurrency_NeverExceedsPartitionCount() {
+        int desired = ListenerConcurrencyAutoscaler.desiredConcurrency(2, 1_000_000, 6, 10.0, autoscaling);
+
+        assertThat(desired, equalTo(6));
+    }
+
+    @Test
+    void desiredConcurrency_NeverExceedsMaxConcurrency() {
+        autoscaling.setMaxConcurrency(4);
+
+        int desired = ListenerConcurrencyAutoscaler.desiredConcurrency(2, 1_000_000, 12, 10.0, autoscaling);
+
+        assertThat(desired, equalTo(4));
+    }
+
+    @Test
+    void desiredConcurrency_WithNoLag_ScalesDownOneStep() {
+        int desired = ListenerConcurrencyAutoscaler.desiredConcurrency(6, 0, 12, 10.0, autoscaling);
+
+        assertThat(desired, equalTo(5));
+    }
+
+    @Test
+    void desiredConcurrency_WithNoLag_StaysAtMinimum() {
+        autoscaling.setMinConcurrency(2);
+
+        int desired = ListenerConcurrencyAutoscaler.desiredConcurrency(2, 0, 12, 10.0, autoscaling);
+
+        assertThat(desired, equalTo(2));
+    }
+
+    @Test
+    void desiredConcurrency_WithoutProcessingSamples_UsesDefaultThroughput() {
+        autoscaling.setDefaultRecordsPerSecond(50);
+
+        // 50 records/s * 60s = 3000 records per consumer
+        int desired = ListenerConcurrencyAutoscaler.desiredConcurrency(1, 9000, 12, 0, autoscaling);
+
+        assertThat(desired, equalTo(3));
+    }
+
+    @Test
+    void pin_RestartsContainerAndSuspendsAutoscaling() {
+        // Given
+        when(registry.getListenerContainer(EventOutcomeConsumer.LISTENER_ID)).thenReturn(container);
+        when(container.getConcurrency()).thenReturn(3);
+        when(container.isRunning()).thenReturn(true);
+
+        // When
+        autoscaler.pin(8);
+        autoscaler.evaluate();
+
+        // Then
+        assertThat(autoscaler.isPinned(), equalTo(true));
+        verify(container, times(1)).stop(any(Runnable.class));
+        verifyNoInteractions(kafkaAdmin);
+    }
+
+    @Test
+    void evaluate_InKeyOrderedMode_DoesNotScale() {
+        // Given
+        processingConfig.setMode(OutcomeProcessingConfig.Mode.KEY_ORDERED);
+
+        // When
+        autoscaler.evaluate();
+
+        // Then
+        assertThat(autoscaler.isAutoscalingActive(), equalTo(false));
+        verifyNoInteractions(registry, kafkaAdmin);
+    }
+
+    @Test
+    void pin_WithInvalidValue_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> autoscaler.pin(0));
+    }
+
+    @Test
+    void unpin_ResumesAutoscaling() {
+        // Given
+        when(registry.getListenerContainer(EventOutcomeConsumer.LISTENER_ID)).thenReturn(container);
+        when(container.getConcurrency()).thenReturn(4);
+        autoscaler.pin(4);
+
+        // When
+        autoscaler.unpin();
+
+        // Then
+        assertThat(autoscaler.isPinned(), equalTo(false));
+        verify(container, never()).stop(any(Runnable.class));
+    }
+}
@@ -0,0 +1,92 @@
+package com.sportygroup.betsettler.kafka;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for OffsetTracker.
+ */
+class OffsetTrackerTest {
+
+    private static final TopicPartition P0 = new TopicPartition("event-outcomes", 0);
+    private static final TopicPartition P1 = new TopicPartition("event-outcomes", 1);
+
+    private OffsetTracker tracker;
+    private Acknowledgment ack10;
+    private Acknowledgment ack11;
+    private Acknowledgment ack12;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new OffsetTracker();
+        ack10 = mock(Acknowledgment.class);
+        ack11 = mock(Acknowledgment.class);
+        ack12 = mock(Acknowledgment.class);
+        tracker.register(P0, 10);
+        tracker.register(P0, 11);
+        tracker.register(P0, 12);
+    }
+
+    @Test
+    void complete_InOrder_CommitsEachOffset() {
+        assertThat(tracker.complete(P0, 10, ack10), sameInstance(ack10));
+        assertThat(tracker.complete(P0, 11, ack11), sameInstance(ack11));
+        assertThat(tracker.complete(P0, 12, ack12), sameInstance(ack12));
+        assertThat(tracker.getPendingCount(), equalTo(0));
+    }
+
+    @Test
+    void complete_AheadOfLowestPending_HoldsCommitBack() {
+        assertThat(tracker.complete(P0, 12, ack12), nullValue());
+        assertThat(tracker.complete(P0, 11, ack11), nullValue());
+        assertThat(tracker.getPendingCount(), equalTo(1));
+
+        // Completing the head releases the whole contiguous prefix
+        assertThat(tracker.complete(P0, 10, ack10), sameInstance(ack12));
+        assertThat(tracker.getPendingCount(), equalTo(0));
+    }
+
+    @Test
+    void complete_WithGap_CommitsOnlyUpToGap() {
+        assertThat(tracker.complete(P0, 10, ack10), sameInstance(ack10));
+        assertThat(tracker.complete(P0, 12, ack12), nullValue());
+        assertThat(tracker.complete(P0, 11, ack11), sameInstance(ack12));
+    }
+
+    @Test
+    void complete_PartitionsAreIndependent() {
+        Acknowledgment other = mock(Acknowledgment.class);
+        tracker.register(P1, 5);
+
+        assertThat(tracker.complete(P1, 5, other), sameInstance(other));
+        assertThat(tracker.getPendingCount(), equalTo(3));
+    }
+
+    @Test
+    void complete_RetryTopicPartitionIsIndependentOfMainTopic() {
+        // Same partition number on the retry topic, with offsets below the main topic's
+        TopicPartition retry = new TopicPartition("event-outcomes-retry-0", 0);
+        Acknowledgment retryAck = mock(Acknowledgment.class);
+        tracker.register(retry, 3);
+
+        assertThat(tracker.complete(retry, 3, retryAck), sameInstance(retryAck));
+        assertThat(tracker.getPendingCount(), equalTo(3));
+        assertThat(tracker.complete(P0, 10, ack10), sameInstance(ack10));
+    }
+
+    @Test
+    void register_AfterReassignment_DiscardsStaleState() {
+        // Partition re-read from its committed offset after a rebalance
+        tracker.register(P0, 10);
+
+        assertThat(tracker.getPendingCount(), equalTo(1));
+        assertThat(tracker.complete(P0, 12, ack12), nullValue());
+        assertThat(tracker.complete(P0, 10, ack10), sameInstance(ack10));
+    }
+}
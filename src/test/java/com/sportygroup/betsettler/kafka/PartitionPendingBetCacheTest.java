@@ -0,0 +1,216 @@
+package com.sportygroup.betsettler.kafka;
+
+import com.sportygroup.betsettler.config.KafkaTopicConfig;
+import com.sportygroup.betsettler.config.OutcomeProcessingConfig;
+import com.sportygroup.betsettler.config.PartitionAffinityConfig;
+import com.sportygroup.betsettler.config.SettlementMatchingConfig;
+import com.sportygroup.betsettler.repository.PendingBetReader;
+import com.sportygroup.betsettler.repository.PreloadedPendingBets;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PartitionPendingBetCache.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PartitionPendingBetCacheTest {
+
+    private static final String TOPIC = "event-outcomes";
+
+    @Mock
+    private PendingBetReader pendingBetReader;
+
+    @Mock
+    private Consumer<String, Object> consumer;
+
+    private PartitionAffinityConfig config;
+    private OutcomeProcessingConfig processingConfig;
+    private SettlementMatchingConfig matchingConfig;
+    private PartitionPendingBetCache cache;
+    private String ownedEvent;
+    private String otherEvent;
+
+    @BeforeEach
+    void setUp() {
+        config = new PartitionAffinityConfig();
+        config.setEnabled(true);
+        processingConfig = new OutcomeProcessingConfig();
+        matchingConfig = new SettlementMatchingConfig();
+        cache = new PartitionPendingBetCache(config, processingConfig, matchingConfig, new KafkaTopicConfig(),
+                pendingBetReader, new SimpleMeterRegistry());
+
+        ownedEvent = eventOnPartition(0);
+        otherEvent = eventOnPartition(1);
+        when(consumer.partitionsFor(TOPIC)).thenReturn(List.of(
+                new PartitionInfo(TOPIC, 0, null, null, null),
+                new PartitionInfo(TOPIC, 1, null, null, null)));
+        when(pendingBetReader.findMaxBetId()).thenReturn(100L);
+        doAnswer(invocation -> {
+            PendingBetReader.EventRowHandler handler = invocation.getArgument(1);
+            handler.accept(ownedEvent, 20L, "USER-002", "MATCH_WINNER", "TEAM-B", 5_000, 0);
+            handler.accept(otherEvent, 15L, "USER-009", "MATCH_WINNER", "TEAM-A", 1_000, 0);
+            handler.accept(ownedEvent, 10L, "USER-001", "MATCH_WINNER", "TEAM-A", 10_000, 25_000);
+            return null;
+        }).when(pendingBetReader).readAllPendingBets(eq(100L), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.stop();
+    }
+
+    @Test
+    void onPartitionsAssigned_LoadsPendingBetsOfEventsOnAssignedPartitions() {
+        // When
+        assign(0);
+
+        // Then
+        assertThat(cache.getHeldBetCount(), equalTo(2L));
+        PreloadedPendingBets bets = cache.take(ownedEvent);
+        assertThat(bets.getWatermarkBetId(), equalTo(100L));
+        assertThat(betIds(bets), contains(10L, 20L));
+        assertThat(cache.take(otherEvent), is(nullValue()));
+        assertThat(cache.getHeldBetCount(), equalTo(0L));
+    }
+
+    @Test
+    void take_SecondTimeForSameEvent_ReturnsNull() {
+        // Given
+        assign(0);
+        cache.take(ownedEvent);
+
+        // When & Then
+        assertThat(cache.take(ownedEvent), is(nullValue()));
+    }
+
+    @Test
+    void take_ForEventWithoutPendingBets_ReturnsNull() {
+        // Given
+        assign(0);
+        String quietEvent = eventOnPartition(0, ownedEvent);
+
+        // When & Then - the event is read from the database, which also finds bets committed after the load
+        assertThat(cache.take(quietEvent), is(nullValue()));
+        assertThat(cache.getHeldBetCount(), equalTo(2L));
+    }
+
+    @Test
+    void take_ForEventTakenWhileLoading_IsNotPublished() {
+        // Given - the event's outcome arrives before its partition has loaded
+        cache.onPartitionsAssigned(consumer, List.of(new TopicPartition(TOPIC, 0)));
+        cache.take(ownedEvent);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> cache.getLoadedPartitionCount() == 1);
+
+        // When & Then
+        assertThat(cache.take(ownedEvent), is(nullValue()));
+        assertThat(cache.getHeldBetCount(), equalTo(0L));
+    }
+
+    @Test
+    void onPartitionsRevoked_DropsLoadedBets() {
+        // Given
+        assign(0);
+
+        // When
+        cache.onPartitionsRevokedAfterCommit(consumer, List.of(new TopicPartition(TOPIC, 0)));
+
+        // Then
+        assertThat(cache.getLoadedPartitionCount(), equalTo(0));
+        assertThat(cache.getHeldBetCount(), equalTo(0L));
+        assertThat(cache.take(ownedEvent), is(nullValue()));
+    }
+
+    @Test
+    void onPartitionsAssigned_IgnoresOtherTopics() {
+        // When
+        cache.onPartitionsAssigned(consumer, List.of(new TopicPartition(TOPIC + "-retry-0", 0)));
+
+        // Then
+        verify(pendingBetReader, never()).findMaxBetId();
+        assertThat(cache.take(ownedEvent), is(nullValue()));
+    }
+
+    @Test
+    void onPartitionsAssigned_BeyondMaxBets_LeavesPartitionUnloaded() {
+        // Given
+        config.setMaxBets(1);
+
+        // When
+        cache.onPartitionsAssigned(consumer, List.of(new TopicPartition(TOPIC, 0)));
+
+        // Then
+        verify(pendingBetReader, timeout(5000)).readAllPendingBets(anyLong(), any());
+        await().during(200, TimeUnit.MILLISECONDS).atMost(2, TimeUnit.SECONDS)
+                .until(() -> cache.getLoadedPartitionCount() == 0);
+        assertThat(cache.take(ownedEvent), is(nullValue()));
+    }
+
+    @Test
+    void onPartitionsAssigned_InFairMode_DoesNothing() {
+        // Given
+        processingConfig.setMode(OutcomeProcessingConfig.Mode.FAIR);
+
+        // When
+        cache.onPartitionsAssigned(consumer, List.of(new TopicPartition(TOPIC, 0)));
+
+        // Then
+        assertThat(cache.isEnabled(), is(false));
+        verifyNoInteractions(pendingBetReader);
+    }
+
+    @Test
+    void onPartitionsAssigned_WithListMatching_DoesNothing() {
+        // Given
+        matchingConfig.setColumnar(false);
+
+        // When
+        cache.onPartitionsAssigned(consumer, List.of(new TopicPartition(TOPIC, 0)));
+
+        // Then
+        assertThat(cache.isEnabled(), is(false));
+        assertThat(cache.take(ownedEvent), is(nullValue()));
+        verifyNoInteractions(pendingBetReader);
+    }
+
+    private void assign(int partition) {
+        cache.onPartitionsAssigned(consumer, List.of(new TopicPartition(TOPIC, partition)));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> cache.getLoadedPartitionCount() == 1);
+    }
+
+    private static String eventOnPartition(int partition, String... excluded) {
+        for (int i = 0; ; i++) {
+            String eventId = "EVT-" + i;
+            if (PartitionPendingBetCache.partitionFor(eventId, 2) == partition && !List.of(excluded).contains(eventId)) {
+                return eventId;
+            }
+        }
+    }
+
+    private static List<Long> betIds(PreloadedPendingBets bets) {
+        List<Long> betIds = new ArrayList<>();
+        bets.forEach(0L, (betId, userId, marketId, predicted, stakeMinor, oddsFixed) -> betIds.add(betId));
+        return betIds;
+    }
+}
@@ -0,0 +1,173 @@
+package com.sportygroup.betsettler.reconciliation;
+
+import com.sportygroup.betsettler.config.SettlementReconciliationConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Unit tests for SettlementReconciler.
+ *
+ * Rows are committed rather than rolled back, as the reconciler reads them
+ * on its own worker threads; they are deleted after each test.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SettlementReconcilerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SettlementReconciliationConfig config;
+    private SettlementReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        config = new SettlementReconciliationConfig();
+        config.setParallelism(2);
+        config.setFetchSize(2);
+        reconciler = new SettlementReconciler(jdbcTemplate, config, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM bet WHERE event_id LIKE 'EVT-REC-%'");
+        jdbcTemplate.update("DELETE FROM dispatch_checkpoint WHERE event_id LIKE 'EVT-REC-%'");
+    }
+
+    @Test
+    void reconcile_WithCorrectlySettledEvents_ReportsNoDiscrepancies() {
+        // Given
+        settled("EVT-REC-1", "TEAM-A");
+        bet("EVT-REC-1", "MATCH_WINNER", "TEAM-A", "WON");
+        bet("EVT-REC-1", "MATCH_WINNER", "TEAM-B", "LOST");
+        settled("EVT-REC-2", "TEAM-B");
+        bet("EVT-REC-2", "MATCH_WINNER", "TEAM-B", "WON");
+
+        // When
+        SettlementReconciler.Report report = reconciler.reconcile();
+
+        // Then
+        assertThat(report.eventsChecked(), equalTo(2L));
+        assertThat(report.betsScanned(), equalTo(3L));
+        assertThat(report.mismatched(), equalTo(0L));
+        assertThat(report.stillPending(), equalTo(0L));
+        assertThat(report.events(), is(empty()));
+        assertThat(reconciler.getLastReport(), sameInstance(report));
+    }
+
+    @Test
+    void reconcile_FlagsMismatchedAndStillPendingBets() {
+        // Given
+        settled("EVT-REC-1", "TEAM-A");
+        bet("EVT-REC-1", "MATCH_WINNER", "TEAM-A", "WON");
+        long wrong = bet("EVT-REC-1", "MATCH_WINNER", "TEAM-B", "WON");
+        long pending = bet("EVT-REC-1", "MATCH_WINNER", "TEAM-A", "PENDING");
+        settled("EVT-REC-2", "TEAM-A");
+        bet("EVT-REC-2", "MATCH_WINNER", "TEAM-B", "LOST");
+
+        // When
+        SettlementReconciler.Report report = reconciler.reconcile();
+
+        // Then
+        assertThat(report.eventsChecked(), equalTo(2L));
+        assertThat(report.mismatched(), equalTo(1L));
+        assertThat(report.stillPending(), equalTo(1L));
+        assertThat(report.eventsWithDiscrepancies(), equalTo(1L));
+        assertThat(report.events(), hasSize(1));
+        SettlementReconciler.EventDiscrepancy discrepancy = report.events().get(0);
+        assertThat(discrepancy.eventId(), equalTo("EVT-REC-1"));
+        assertThat(discrepancy.betsScanned(), equalTo(3L));
+        assertThat(discrepancy.flaggedBetIds(), containsInAnyOrder(wrong, pending));
+    }
+
+    @Test
+    void reconcile_SkipsEventsWithoutCompletedDispatch() {
+        // Given
+        checkpoint("EVT-REC-1", "TEAM-A", false);
+        bet("EVT-REC-1", "MATCH_WINNER", "TEAM-A", "PENDING");
+
+        // When
+        SettlementReconciler.Report report = reconciler.reconcile();
+
+        // Then
+        assertThat(report.eventsChecked(), equalTo(0L));
+        assertThat(report.stillPending(), equalTo(0L));
+    }
+
+    @Test
+    void reconcile_SingleEvent_ChecksOnlyThatEventAndConfiguredMarkets() {
+        // Given
+        config.setMarkets(List.of("MATCH_WINNER"));
+        config.setMaxFlaggedBetsPerEvent(1);
+        settled("EVT-REC-1", "TEAM-A");
+        bet("EVT-REC-1", "MATCH_WINNER", "TEAM-B", "WON");
+        bet("EVT-REC-1", "MATCH_WINNER", "TEAM-B", "WON");
+        bet("EVT-REC-1", "OVER_UNDER_2_5", "OVER", "WON");
+        settled("EVT-REC-2", "TEAM-A");
+        bet("EVT-REC-2", "MATCH_WINNER", "TEAM-A", "PENDING");
+
+        // When
+        SettlementReconciler.Report report = reconciler.reconcile("EVT-REC-1");
+
+        // Then
+        assertThat(report.eventsChecked(), equalTo(1L));
+        assertThat(report.betsScanned(), equalTo(2L));
+        assertThat(report.mismatched(), equalTo(2L));
+        assertThat(report.stillPending(), equalTo(0L));
+        assertThat(report.events().get(0).flaggedBetIds(), hasSize(1));
+    }
+
+    @Test
+    void reconcile_WithMarketResults_ComparesEachBetWithItsMarketResult() {
+        // Given
+        checkpoint("EVT-REC-1", "TEAM-A", "MATCH_WINNER=TEAM-A;OVER_UNDER_2_5=OVER", true);
+        bet("EVT-REC-1", "MATCH_WINNER", "TEAM-A", "WON");
+        bet("EVT-REC-1", "OVER_UNDER_2_5", "OVER", "WON");
+        bet("EVT-REC-1", "OVER_UNDER_2_5", "UNDER", "LOST");
+        long wrong = bet("EVT-REC-1", "OVER_UNDER_2_5", "TEAM-A", "WON");
+        bet("EVT-REC-1", "BOTH_TEAMS_SCORE", "YES", "PENDING");
+
+        // When
+        SettlementReconciler.Report report = reconciler.reconcile();
+
+        // Then
+        assertThat(report.betsScanned(), equalTo(4L));
+        assertThat(report.mismatched(), equalTo(1L));
+        assertThat(report.stillPending(), equalTo(0L));
+        assertThat(report.events().get(0).flaggedBetIds(), contains(wrong));
+    }
+
+    private void settled(String eventId, String winnerId) {
+        checkpoint(eventId, winnerId, true);
+    }
+
+    private void checkpoint(String eventId, String winnerId, boolean completed) {
+        checkpoint(eventId, winnerId, null, completed);
+    }
+
+    private void checkpoint(String eventId, String winnerId, String marketResults, boolean completed) {
+        jdbcTemplate.update("INSERT INTO dispatch_checkpoint (event_id, event_winner_id, market_results, "
+                + "last_bet_id, dispatched_count, completed, updated_at) "
+                + "VALUES (?, ?, ?, 0, 0, ?, CURRENT_TIMESTAMP)",
+                eventId, winnerId, marketResults, completed);
+    }
+
+    private long bet(String eventId, String marketId, String predictedWinnerId, String status) {
+        jdbcTemplate.update("INSERT INTO bet (user_id, event_id, event_market_id, event_winner_id, bet_amount, "
+                + "status, created_at, settlement_version) VALUES ('USER-001', ?, ?, ?, 10.00, ?, CURRENT_TIMESTAMP, 0)",
+                eventId, marketId, predictedWinnerId, status);
+        return jdbcTemplate.queryForObject("SELECT MAX(bet_id) FROM bet", Long.class);
+    }
+}
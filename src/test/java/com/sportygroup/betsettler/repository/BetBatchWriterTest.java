@@ -0,0 +1,166 @@
+package com.sportygroup.betsettler.repository;
+
+import com.sportygroup.betsettler.config.BetIngestionConfig;
+import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.entity.BetStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BetBatchWriter.
+ */
+@ExtendWith(MockitoExtension.class)
+class BetBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private UserBetSummaryWriter summaryWriter;
+
+    private BetBatchWriter betBatchWriter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        BetIngestionConfig config = new BetIngestionConfig();
+        config.setLingerMs(20);
+        config.setMaxBatchSize(100);
+        config.setQueueCapacity(10);
+
+        lenient().doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        betBatchWriter = new BetBatchWriter(jdbcTemplate, transactionTemplate, config, summaryWriter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        betBatchWriter.stop();
+    }
+
+    @Test
+    void submit_GroupsConcurrentRequestsIntoOneBatch() throws Exception {
+        // Given
+        betBatchWriter.start();
+
+        // When
+        CompletableFuture<Integer> first = betBatchWriter.submit(List.of(createBet("USER-001"), createBet("USER-002")));
+        CompletableFuture<Integer> second = betBatchWriter.submit(List.of(createBet("USER-003")));
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS), equalTo(2));
+        assertThat(second.get(5, TimeUnit.SECONDS), equalTo(1));
+        verify(jdbcTemplate, atMost(2)).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        verify(summaryWriter, atMost(2)).recordPlaced(anyCollection());
+    }
+
+    @Test
+    void submit_WithEmptyList_CompletesImmediately() throws Exception {
+        // When
+        CompletableFuture<Integer> future = betBatchWriter.submit(List.of());
+
+        // Then
+        assertThat(future.get(), equalTo(0));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void stop_WithRequestsLeftInQueue_FailsTheirFutures() throws Exception {
+        // Given - the flusher is stuck writing the first request until it is interrupted
+        CountDownLatch writing = new CountDownLatch(1);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenAnswer(invocation -> {
+                    writing.countDown();
+                    try {
+                        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new CannotGetJdbcConnectionException("Interrupted");
+                });
+        betBatchWriter.start();
+        CompletableFuture<Integer> stuck = betBatchWriter.submit(List.of(createBet("USER-001")));
+        assertThat(writing.await(5, TimeUnit.SECONDS), is(true));
+        CompletableFuture<Integer> queued = betBatchWriter.submit(List.of(createBet("USER-002")));
+
+        // When
+        betBatchWriter.stop();
+
+        // Then
+        assertThat(stuck.isCompletedExceptionally(), is(true));
+        ExecutionException exception = assertThrows(ExecutionException.class, queued::get);
+        assertThat(exception.getCause(), instanceOf(IllegalStateException.class));
+        assertThat(betBatchWriter.getQueueDepth(), equalTo(0));
+    }
+
+    @Test
+    void flush_WhenGroupFails_RetriesEachRequestIndividually() {
+        // Given
+        BetBatchWriter.PendingInsert good = new BetBatchWriter.PendingInsert(
+                List.of(createBet("USER-001")), new CompletableFuture<>());
+        BetBatchWriter.PendingInsert bad = new BetBatchWriter.PendingInsert(
+                List.of(createBet("USER-002")), new CompletableFuture<>());
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenAnswer(invocation -> {
+                    Collection<?> rows = invocation.getArgument(1);
+                    if (rows.size() > 1 || rows.iterator().next() == bad.bets().get(0)) {
+                        throw new DataIntegrityViolationException("constraint violated");
+                    }
+                    return new int[][]{{1}};
+                });
+
+        // When
+        betBatchWriter.flush(List.of(good, bad));
+
+        // Then
+        assertThat(good.future().isDone(), is(true));
+        assertThat(good.future().isCompletedExceptionally(), is(false));
+        assertThat(bad.future().isCompletedExceptionally(), is(true));
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        verify(summaryWriter).recordPlaced(good.bets());
+    }
+
+    private Bet createBet(String userId) {
+        return Bet.builder()
+                .userId(userId)
+                .eventId("EVT-001")
+                .eventMarketId("MATCH_WINNER")
+                .eventWinnerId("TEAM-A")
+                .betAmount(new BigDecimal("10.00"))
+                .status(BetStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
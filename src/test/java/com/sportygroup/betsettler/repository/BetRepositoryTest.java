@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -93,6 +94,17 @@ class BetRepositoryTest {
         assertThat(results.get(0).getSettledAt(), is(notNullValue()));
     }
 
+    @Test
+    void findByEventIdAndStatusAndBetIdGreaterThan_ReturnsLaterBetsInOrder() {
+        // When
+        List<Bet> results = betRepository.findByEventIdAndStatusAndBetIdGreaterThanOrderByBetIdAsc(
+                "EVT-001", BetStatus.PENDING, pendingBet1.getBetId());
+
+        // Then
+        assertThat(results, hasSize(1));
+        assertThat(results.get(0).getBetId(), equalTo(pendingBet2.getBetId()));
+    }
+
     @Test
     void findByEventIdAndStatus_WithNonExistentEvent_ReturnsEmpty() {
         // When
@@ -112,6 +124,47 @@ class BetRepositoryTest {
         assertThat(results.get(0).getUserId(), equalTo("USER-001"));
     }
 
+    @Test
+    void findUserBetsBefore_PagesThroughHistoryNewestFirst() {
+        // Given - two bets share a timestamp so the betId tie-break is exercised
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        Bet oldest = persistUserBet("USER-100", BetStatus.LOST, base.minusDays(2));
+        Bet tiedFirst = persistUserBet("USER-100", BetStatus.PENDING, base.minusDays(1));
+        Bet tiedSecond = persistUserBet("USER-100", BetStatus.WON, base.minusDays(1));
+        Bet newest = persistUserBet("USER-100", BetStatus.PENDING, base);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Bet> first = betRepository.findByUserIdOrderByCreatedAtDescBetIdDesc("USER-100", PageRequest.of(0, 2));
+        Bet last = first.get(first.size() - 1);
+        List<Bet> second = betRepository.findUserBetsBefore(
+                "USER-100", last.getCreatedAt(), last.getBetId(), PageRequest.of(0, 2));
+
+        // Then
+        assertThat(first, contains(hasProperty("betId", equalTo(newest.getBetId())),
+                hasProperty("betId", equalTo(tiedSecond.getBetId()))));
+        assertThat(second, contains(hasProperty("betId", equalTo(tiedFirst.getBetId())),
+                hasProperty("betId", equalTo(oldest.getBetId()))));
+    }
+
+    @Test
+    void findUserBetsBefore_WithStatus_ReturnsOnlyMatchingBets() {
+        // Given
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        Bet olderPending = persistUserBet("USER-100", BetStatus.PENDING, base.minusDays(2));
+        persistUserBet("USER-100", BetStatus.WON, base.minusDays(1));
+        Bet newestPending = persistUserBet("USER-100", BetStatus.PENDING, base);
+        entityManager.flush();
+
+        // When
+        List<Bet> results = betRepository.findUserBetsBefore("USER-100", BetStatus.PENDING,
+                newestPending.getCreatedAt(), newestPending.getBetId(), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(results, contains(hasProperty("betId", equalTo(olderPending.getBetId()))));
+    }
+
     @Test
     void findByEventId_ReturnsAllBetsForEvent() {
         // When
@@ -175,4 +228,16 @@ class BetRepositoryTest {
         // Then
         assertThat(saved.getCreatedAt(), is(notNullValue()));
     }
-}
\ No newline at end of file
+
+    private Bet persistUserBet(String userId, BetStatus status, LocalDateTime createdAt) {
+        return entityManager.persist(Bet.builder()
+                .userId(userId)
+                .eventId("EVT-010")
+                .eventMarketId("MATCH_WINNER")
+                .eventWinnerId("TEAM-A")
+                .betAmount(new BigDecimal("10.00"))
+                .status(status)
+                .createdAt(createdAt)
+                .build());
+    }
+}
@@ -0,0 +1,155 @@
+package com.sportygroup.betsettler.repository;
+
+import com.sportygroup.betsettler.config.SettlementDataAccessConfig;
+import com.sportygroup.betsettler.config.SettlementMatchingConfig;
+import com.sportygroup.betsettler.dto.BetSettlementDTO;
+import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter.StatusChange;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for JdbcBetRepository.
+ */
+@DataJpaTest
+@Import({JdbcBetRepository.class, SettlementMatchingConfig.class, SettlementDataAccessConfig.class})
+class JdbcBetRepositoryTest {
+
+    @Autowired
+    private JdbcBetRepository jdbcBetRepository;
+
+    @Autowired
+    private SettlementDataAccessConfig dataAccessConfig;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void findPendingBets_ReturnsPendingBetsAfterGivenBetInBetIdOrder() {
+        // Given
+        Bet first = persist("USER-001", BetStatus.PENDING, "12.34", "2.5000");
+        persist("USER-002", BetStatus.WON, "5.00", null);
+        Bet third = persist("USER-003", BetStatus.PENDING, "7.00", null);
+        Bet fourth = persist("USER-004", BetStatus.PENDING, "1.00", null);
+        entityManager.flush();
+
+        // When
+        List<Bet> all = jdbcBetRepository.findPendingBets("EVT-600", 0L);
+        List<Bet> remaining = jdbcBetRepository.findPendingBets("EVT-600", third.getBetId());
+
+        // Then
+        assertThat(all, hasSize(3));
+        assertThat(all.get(0).getBetId(), equalTo(first.getBetId()));
+        assertThat(all.get(0).getBetAmount(), comparesEqualTo(new BigDecimal("12.34")));
+        assertThat(all.get(0).getOdds(), comparesEqualTo(new BigDecimal("2.5")));
+        assertThat(all.get(1).getOdds(), is(nullValue()));
+        assertThat(remaining, hasSize(1));
+        assertThat(remaining.get(0).getBetId(), equalTo(fourth.getBetId()));
+    }
+
+    @Test
+    void settle_UpdatesBetsInBatchesAndReturnsStatusChanges() {
+        // Given
+        dataAccessConfig.setWriteBatchSize(2);
+        List<Bet> bets = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            bets.add(persist("USER-00" + i, BetStatus.PENDING, i + ".00", null));
+        }
+        entityManager.flush();
+        LocalDateTime settledAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+        // When
+        List<StatusChange> changes = jdbcBetRepository.settle(List.of(
+                settlement(bets.get(0), true),
+                settlement(bets.get(1), false),
+                settlement(bets.get(2), true)), settledAt, settled -> { });
+        entityManager.clear();
+
+        // Then
+        assertThat(changes, contains(
+                new StatusChange("USER-001", new BigDecimal("1.00"), BetStatus.PENDING, BetStatus.WON),
+                new StatusChange("USER-002", new BigDecimal("2.00"), BetStatus.PENDING, BetStatus.LOST),
+                new StatusChange("USER-003", new BigDecimal("3.00"), BetStatus.PENDING, BetStatus.WON)));
+        Bet won = entityManager.find(Bet.class, bets.get(0).getBetId());
+        assertThat(won.getStatus(), equalTo(BetStatus.WON));
+        assertThat(won.getSettledAt(), equalTo(settledAt));
+        assertThat(won.getSettlementVersion(), equalTo(1));
+        assertThat(entityManager.find(Bet.class, bets.get(1).getBetId()).getStatus(), equalTo(BetStatus.LOST));
+        assertThat(entityManager.find(Bet.class, bets.get(2).getBetId()).getStatus(), equalTo(BetStatus.WON));
+    }
+
+    @Test
+    void settle_OnlySettlesPendingBets() {
+        // Given
+        Bet pending = persist("USER-001", BetStatus.PENDING, "1.00", null);
+        Bet corrected = persist("USER-002", BetStatus.LOST, "2.00", null);
+        entityManager.flush();
+
+        List<BetSettlementDTO> settled = new ArrayList<>();
+
+        // When - the pending bet is also settled a second time within the batch
+        List<StatusChange> changes = jdbcBetRepository.settle(List.of(
+                settlement(pending, true),
+                settlement(corrected, true),
+                settlement(pending, false)), LocalDateTime.now(), settled::add);
+        entityManager.clear();
+
+        // Then
+        assertThat(changes, contains(
+                new StatusChange("USER-001", new BigDecimal("1.00"), BetStatus.PENDING, BetStatus.WON)));
+        assertThat(settled, hasSize(1));
+        assertThat(settled.get(0).getWon(), is(true));
+        Bet won = entityManager.find(Bet.class, pending.getBetId());
+        assertThat(won.getStatus(), equalTo(BetStatus.WON));
+        assertThat(won.getSettlementVersion(), equalTo(1));
+        Bet lost = entityManager.find(Bet.class, corrected.getBetId());
+        assertThat(lost.getStatus(), equalTo(BetStatus.LOST));
+        assertThat(lost.getSettlementVersion(), equalTo(0));
+    }
+
+    @Test
+    void settle_WithMissingBet_ThrowsException() {
+        // Given
+        BetSettlementDTO missing = BetSettlementDTO.builder().betId(999_999L).won(true).build();
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> jdbcBetRepository.settle(List.of(missing), LocalDateTime.now(), settled -> { }));
+        assertThat(exception.getMessage(), containsString("Bet not found"));
+    }
+
+    private BetSettlementDTO settlement(Bet bet, boolean won) {
+        return BetSettlementDTO.builder()
+                .betId(bet.getBetId())
+                .userId(bet.getUserId())
+                .eventId(bet.getEventId())
+                .won(won)
+                .build();
+    }
+
+    private Bet persist(String userId, BetStatus status, String amount, String odds) {
+        return entityManager.persist(Bet.builder()
+                .userId(userId)
+                .eventId("EVT-600")
+                .eventMarketId("MATCH_WINNER")
+                .eventWinnerId("TEAM-A")
+                .betAmount(new BigDecimal(amount))
+                .odds(odds == null ? null : new BigDecimal(odds))
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
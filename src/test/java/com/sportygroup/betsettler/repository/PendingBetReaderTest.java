@@ -0,0 +1,150 @@
+package com.sportygroup.betsettler.repository;
+
+import com.sportygroup.betsettler.config.SettlementMatchingConfig;
+import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.entity.BetStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Unit tests for PendingBetReader.
+ */
+@DataJpaTest
+@Import({PendingBetReader.class, SettlementMatchingConfig.class})
+class PendingBetReaderTest {
+
+    @Autowired
+    private PendingBetReader pendingBetReader;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void readPendingBets_StreamsPendingBetsInBetIdOrderWithFixedPointAmounts() {
+        // Given
+        Bet first = persist("USER-001", BetStatus.PENDING, "12.34", "2.5000");
+        persist("USER-002", BetStatus.WON, "5.00", null);
+        Bet third = persist("USER-003", BetStatus.PENDING, "7.00", null);
+        entityManager.flush();
+
+        List<String> rows = new ArrayList<>();
+
+        // When
+        pendingBetReader.readPendingBets("EVT-500", 0L,
+                (betId, userId, marketId, predicted, stakeMinor, oddsFixed) ->
+                        rows.add(betId + ":" + userId + ":" + predicted + ":" + stakeMinor + ":" + oddsFixed));
+
+        // Then
+        assertThat(rows, contains(
+                first.getBetId() + ":USER-001:TEAM-A:1234:25000",
+                third.getBetId() + ":USER-003:TEAM-A:700:0"));
+    }
+
+    @Test
+    void readPendingBets_SkipsBetsUpToAfterBetId() {
+        // Given
+        Bet first = persist("USER-001", BetStatus.PENDING, "1.00", null);
+        Bet second = persist("USER-002", BetStatus.PENDING, "1.00", null);
+        entityManager.flush();
+
+        List<Long> betIds = new ArrayList<>();
+
+        // When
+        pendingBetReader.readPendingBets("EVT-500", first.getBetId(),
+                (betId, userId, marketId, predicted, stakeMinor, oddsFixed) -> betIds.add(betId));
+
+        // Then
+        assertThat(betIds, contains(second.getBetId()));
+    }
+
+    @Test
+    void readPendingBets_WithLimit_ReadsOneChunkAtATime() {
+        // Given
+        Bet first = persist("USER-001", BetStatus.PENDING, "1.00", null);
+        Bet second = persist("USER-002", BetStatus.PENDING, "1.00", null);
+        Bet third = persist("USER-003", BetStatus.PENDING, "1.00", null);
+        entityManager.flush();
+
+        List<Long> firstChunk = new ArrayList<>();
+        List<Long> secondChunk = new ArrayList<>();
+
+        // When
+        pendingBetReader.readPendingBets("EVT-500", 0L, 2,
+                (betId, userId, marketId, predicted, stakeMinor, oddsFixed) -> firstChunk.add(betId));
+        pendingBetReader.readPendingBets("EVT-500", firstChunk.get(firstChunk.size() - 1), 2,
+                (betId, userId, marketId, predicted, stakeMinor, oddsFixed) -> secondChunk.add(betId));
+
+        // Then
+        assertThat(firstChunk, contains(first.getBetId(), second.getBetId()));
+        assertThat(secondChunk, contains(third.getBetId()));
+    }
+
+    @Test
+    void readAllPendingBets_ReadsPendingBetsUpToMaxBetId() {
+        // Given
+        Bet first = persist("USER-001", BetStatus.PENDING, "1.00", null);
+        persist("USER-002", BetStatus.LOST, "1.00", null);
+        Bet third = persist("USER-003", BetStatus.PENDING, "2.50", "1.5000");
+        persist("USER-004", BetStatus.PENDING, "1.00", null);
+        entityManager.flush();
+
+        List<String> rows = new ArrayList<>();
+
+        // When
+        pendingBetReader.readAllPendingBets(third.getBetId(),
+                (eventId, betId, userId, marketId, predicted, stakeMinor, oddsFixed) -> {
+                    if ("EVT-500".equals(eventId)) {
+                        rows.add(betId + ":" + userId + ":" + stakeMinor + ":" + oddsFixed);
+                    }
+                });
+
+        // Then
+        assertThat(rows, containsInAnyOrder(
+                first.getBetId() + ":USER-001:100:0",
+                third.getBetId() + ":USER-003:250:15000"));
+        assertThat(pendingBetReader.findMaxBetId(), greaterThan(third.getBetId()));
+    }
+
+    @Test
+    void readPendingBetIds_ReadsPendingBetIdsInRange() {
+        // Given
+        Bet first = persist("USER-001", BetStatus.PENDING, "1.00", null);
+        persist("USER-002", BetStatus.WON, "1.00", null);
+        Bet third = persist("USER-003", BetStatus.PENDING, "1.00", null);
+        Bet fourth = persist("USER-004", BetStatus.PENDING, "1.00", null);
+        persist("USER-005", BetStatus.PENDING, "1.00", null);
+        entityManager.flush();
+
+        List<Long> betIds = new ArrayList<>();
+
+        // When
+        pendingBetReader.readPendingBetIds("EVT-500", first.getBetId(), fourth.getBetId(), betIds::add);
+
+        // Then
+        assertThat(betIds, containsInAnyOrder(third.getBetId(), fourth.getBetId()));
+    }
+
+    private Bet persist(String userId, BetStatus status, String amount, String odds) {
+        return entityManager.persist(Bet.builder()
+                .userId(userId)
+                .eventId("EVT-500")
+                .eventMarketId("MATCH_WINNER")
+                .eventWinnerId("TEAM-A")
+                .betAmount(new BigDecimal(amount))
+                .odds(odds == null ? null : new BigDecimal(odds))
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,120 @@
+package com.sportygroup.betsettler.repository;
+
+import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter.StatusChange;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Unit tests for SettlementCorrectionWriter.
+ */
+@DataJpaTest
+@Import(SettlementCorrectionWriter.class)
+class SettlementCorrectionWriterTest {
+
+    @Autowired
+    private SettlementCorrectionWriter correctionWriter;
+
+    @Autowired
+    private BetRepository betRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void resettle_FlipsOnlyBetsWhoseStatusChanges() {
+        // Given - settled with TEAM-A winning
+        Bet wonOnA = persist("USER-001", "MATCH_WINNER", "TEAM-A", BetStatus.WON);
+        Bet lostOnB = persist("USER-002", "MATCH_WINNER", "TEAM-B", BetStatus.LOST);
+        Bet lostOnDraw = persist("USER-003", "MATCH_WINNER", "DRAW", BetStatus.LOST);
+        Bet pendingOnB = persist("USER-004", "MATCH_WINNER", "TEAM-B", BetStatus.PENDING);
+        entityManager.flush();
+
+        List<SettlementCorrectionWriter.CorrectedBet> corrected = new ArrayList<>();
+
+        // When - corrected to TEAM-B
+        List<StatusChange> changes = correctionWriter.resettle("EVT-600", null, "TEAM-B", LocalDateTime.now(),
+                corrected::add);
+        entityManager.clear();
+
+        // Then
+        assertThat(changes, hasSize(2));
+        assertThat(changes, hasItem(new StatusChange("USER-001", new BigDecimal("10.00"), BetStatus.WON, BetStatus.LOST)));
+        assertThat(changes, hasItem(new StatusChange("USER-002", new BigDecimal("10.00"), BetStatus.LOST, BetStatus.WON)));
+
+        assertThat(reload(wonOnA).getStatus(), equalTo(BetStatus.LOST));
+        assertThat(reload(wonOnA).getSettlementVersion(), equalTo(2));
+        assertThat(reload(lostOnB).getStatus(), equalTo(BetStatus.WON));
+        assertThat(reload(lostOnB).getSettlementVersion(), equalTo(2));
+        assertThat(reload(lostOnDraw).getStatus(), equalTo(BetStatus.LOST));
+        assertThat(reload(lostOnDraw).getSettlementVersion(), equalTo(1));
+        assertThat(reload(pendingOnB).getStatus(), equalTo(BetStatus.PENDING));
+        assertThat(corrected.stream().map(SettlementCorrectionWriter.CorrectedBet::betId).toList(),
+                containsInAnyOrder(wonOnA.getBetId(), lostOnB.getBetId()));
+        assertThat(corrected.stream().filter(SettlementCorrectionWriter.CorrectedBet::won)
+                .map(SettlementCorrectionWriter.CorrectedBet::betId).toList(), contains(lostOnB.getBetId()));
+    }
+
+    @Test
+    void resettle_WithMarket_LeavesOtherMarketsUntouched() {
+        // Given
+        Bet overWon = persist("USER-001", "OVER_UNDER_2_5", "OVER", BetStatus.WON);
+        Bet winnerWon = persist("USER-002", "MATCH_WINNER", "TEAM-A", BetStatus.WON);
+        entityManager.flush();
+
+        // When
+        List<StatusChange> changes = correctionWriter.resettle("EVT-600", "OVER_UNDER_2_5", "UNDER", LocalDateTime.now(),
+                bet -> { });
+        entityManager.clear();
+
+        // Then
+        assertThat(changes, hasSize(1));
+        assertThat(reload(overWon).getStatus(), equalTo(BetStatus.LOST));
+        assertThat(reload(winnerWon).getStatus(), equalTo(BetStatus.WON));
+    }
+
+    @Test
+    void resettle_AppliedTwice_ChangesNothingTheSecondTime() {
+        // Given
+        Bet wonOnA = persist("USER-001", "MATCH_WINNER", "TEAM-A", BetStatus.WON);
+        entityManager.flush();
+        correctionWriter.resettle("EVT-600", null, "TEAM-B", LocalDateTime.now(), bet -> { });
+
+        // When
+        List<StatusChange> changes = correctionWriter.resettle("EVT-600", null, "TEAM-B", LocalDateTime.now(), bet -> { });
+        entityManager.clear();
+
+        // Then
+        assertThat(changes, empty());
+        assertThat(reload(wonOnA).getSettlementVersion(), equalTo(2));
+    }
+
+    private Bet persist(String userId, String marketId, String predictedWinnerId, BetStatus status) {
+        return entityManager.persist(Bet.builder()
+                .userId(userId)
+                .eventId("EVT-600")
+                .eventMarketId(marketId)
+                .eventWinnerId(predictedWinnerId)
+                .betAmount(new BigDecimal("10.00"))
+                .status(status)
+                .settlementVersion(status == BetStatus.PENDING ? 0 : 1)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private Bet reload(Bet bet) {
+        return betRepository.findById(bet.getBetId()).orElseThrow();
+    }
+}
@@ -0,0 +1,98 @@
+package com.sportygroup.betsettler.repository;
+
+import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.entity.UserBetSummary;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter.StatusChange;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Unit tests for UserBetSummaryWriter.
+ */
+@DataJpaTest
+@Import(UserBetSummaryWriter.class)
+class UserBetSummaryWriterTest {
+
+    @Autowired
+    private UserBetSummaryWriter summaryWriter;
+
+    @Autowired
+    private UserBetSummaryRepository summaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void recordPlaced_CreatesSummaryThenIncrementsIt() {
+        // When
+        summaryWriter.recordPlaced(List.of(bet("USER-900", "10.00"), bet("USER-900", "15.50")));
+        summaryWriter.recordPlaced(List.of(bet("USER-900", "4.50")));
+
+        // Then
+        UserBetSummary summary = load("USER-900");
+        assertThat(summary.getTotalCount(), equalTo(3L));
+        assertThat(summary.getTotalStake(), comparesEqualTo(new BigDecimal("30.00")));
+        assertThat(summary.getPendingCount(), equalTo(3L));
+        assertThat(summary.getPendingStake(), comparesEqualTo(new BigDecimal("30.00")));
+        assertThat(summary.getWonCount(), equalTo(0L));
+    }
+
+    @Test
+    void recordStatusChanges_MovesStakeBetweenBuckets() {
+        // Given
+        summaryWriter.recordPlaced(List.of(bet("USER-901", "10.00"), bet("USER-901", "20.00")));
+
+        // When
+        summaryWriter.recordStatusChanges(List.of(
+                new StatusChange("USER-901", new BigDecimal("10.00"), BetStatus.PENDING, BetStatus.WON),
+                new StatusChange("USER-901", new BigDecimal("20.00"), BetStatus.PENDING, BetStatus.LOST)));
+
+        // Then
+        UserBetSummary summary = load("USER-901");
+        assertThat(summary.getTotalCount(), equalTo(2L));
+        assertThat(summary.getPendingCount(), equalTo(0L));
+        assertThat(summary.getPendingStake(), comparesEqualTo(BigDecimal.ZERO));
+        assertThat(summary.getWonCount(), equalTo(1L));
+        assertThat(summary.getWonStake(), comparesEqualTo(new BigDecimal("10.00")));
+        assertThat(summary.getLostCount(), equalTo(1L));
+        assertThat(summary.getLostStake(), comparesEqualTo(new BigDecimal("20.00")));
+    }
+
+    @Test
+    void recordStatusChanges_WithUnchangedStatus_WritesNothing() {
+        // When
+        summaryWriter.recordStatusChanges(List.of(
+                new StatusChange("USER-902", new BigDecimal("10.00"), BetStatus.WON, BetStatus.WON)));
+
+        // Then
+        assertThat(summaryRepository.findById("USER-902").isPresent(), is(false));
+    }
+
+    private UserBetSummary load(String userId) {
+        entityManager.clear();
+        return summaryRepository.findById(userId).orElseThrow();
+    }
+
+    private Bet bet(String userId, String amount) {
+        return Bet.builder()
+                .userId(userId)
+                .eventId("EVT-001")
+                .eventMarketId("MATCH_WINNER")
+                .eventWinnerId("TEAM-A")
+                .betAmount(new BigDecimal(amount))
+                .status(BetStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
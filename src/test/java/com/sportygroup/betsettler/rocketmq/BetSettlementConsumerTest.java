@@ -0,0 +1,105 @@
+package com.sportygroup.betsettler.rocketmq;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.betsettler.config.RocketMQConfig;
+import com.sportygroup.betsettler.dto.BetSettlementDTO;
+import com.sportygroup.betsettler.service.BetSettlementService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.rocketmq.client.apis.consumer.ConsumeResult;
+import org.apache.rocketmq.client.apis.message.MessageView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BetSettlementConsumer.
+ */
+@ExtendWith(MockitoExtension.class)
+class BetSettlementConsumerTest {
+
+    @Mock
+    private BetSettlementService betSettlementService;
+
+    @Mock
+    private MessageView messageView;
+
+    private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
+    private BetSettlementConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new BetSettlementConsumer(new RocketMQConfig(), betSettlementService, objectMapper, meterRegistry);
+    }
+
+    @Test
+    void laneThreads_SplitsThreadsByWeight() {
+        assertThat(BetSettlementConsumer.laneThreads(20, 3, 1), equalTo(15));
+        assertThat(BetSettlementConsumer.laneThreads(20, 1, 3), equalTo(5));
+    }
+
+    @Test
+    void laneThreads_LeavesAtLeastOneThreadForEachLane() {
+        assertThat(BetSettlementConsumer.laneThreads(4, 10, 0), equalTo(3));
+        assertThat(BetSettlementConsumer.laneThreads(4, 0, 10), equalTo(1));
+        assertThat(BetSettlementConsumer.laneThreads(1, 3, 1), equalTo(1));
+    }
+
+    @Test
+    void consume_WithValidMessage_SettlesBetAndRecordsLaneLatency() throws Exception {
+        // Given
+        BetSettlementDTO settlement = BetSettlementDTO.builder()
+                .betId(1L)
+                .userId("USER-001")
+                .eventId("EVT-001")
+                .betAmount(new BigDecimal("10.00"))
+                .won(true)
+                .build();
+        when(messageView.getBody()).thenReturn(ByteBuffer.wrap(
+                objectMapper.writeValueAsString(settlement).getBytes(StandardCharsets.UTF_8)));
+        when(messageView.getBornTimestamp()).thenReturn(System.currentTimeMillis() - 50);
+        Timer latency = meterRegistry.timer("settlement.consume.latency", "lane", "won");
+
+        // When
+        ConsumeResult result = consumer.consume(messageView, latency);
+
+        // Then
+        assertThat(result, equalTo(ConsumeResult.SUCCESS));
+        ArgumentCaptor<BetSettlementDTO> captor = ArgumentCaptor.forClass(BetSettlementDTO.class);
+        verify(betSettlementService).settleBet(captor.capture());
+        assertThat(captor.getValue().getBetId(), equalTo(1L));
+        assertThat(latency.count(), equalTo(1L));
+    }
+
+    @Test
+    void consume_WhenSettlementFails_ReturnsFailure() throws Exception {
+        // Given
+        BetSettlementDTO settlement = BetSettlementDTO.builder().betId(2L).won(false).build();
+        when(messageView.getBody()).thenReturn(ByteBuffer.wrap(
+                objectMapper.writeValueAsString(settlement).getBytes(StandardCharsets.UTF_8)));
+        doThrow(new IllegalArgumentException("Bet not found: 2")).when(betSettlementService).settleBet(any());
+        Timer latency = meterRegistry.timer("settlement.consume.latency", "lane", "lost");
+
+        // When
+        ConsumeResult result = consumer.consume(messageView, latency);
+
+        // Then
+        assertThat(result, equalTo(ConsumeResult.FAILURE));
+        assertThat(latency.count(), equalTo(0L));
+    }
+}
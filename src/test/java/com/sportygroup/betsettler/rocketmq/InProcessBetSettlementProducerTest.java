@@ -0,0 +1,147 @@
+package com.sportygroup.betsettler.rocketmq;
+
+import com.sportygroup.betsettler.config.SettlementRingBufferConfig;
+import com.sportygroup.betsettler.dto.BetSettlementDTO;
+import com.sportygroup.betsettler.service.BetSettlementService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for InProcessBetSettlementProducer.
+ */
+@ExtendWith(MockitoExtension.class)
+class InProcessBetSettlementProducerTest {
+
+    @Mock
+    private BetSettlementService betSettlementService;
+
+    private SettlementRingBufferConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private InProcessBetSettlementProducer producer;
+
+    @BeforeEach
+    void setUp() {
+        config = new SettlementRingBufferConfig();
+        config.setCapacity(4);
+        config.setWorkers(2);
+        config.setBatchSize(10);
+        config.setOfferTimeoutMs(50);
+        meterRegistry = new SimpleMeterRegistry();
+        producer = new InProcessBetSettlementProducer(betSettlementService, config, meterRegistry);
+    }
+
+    @Test
+    void sendSettlement_IsSettledByWorkers() {
+        // Given
+        producer.start();
+
+        // When
+        producer.sendSettlement(settlement(1L));
+        producer.sendSettlement(settlement(2L));
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertThat(meterRegistry.counter("settlement.ring.settled").count(), equalTo(2.0)));
+        producer.stop();
+    }
+
+    @Test
+    void sendSettlement_WhenBufferStaysFull_Rejects() {
+        // Given - workers not started, so nothing drains the buffer
+        for (long i = 1; i <= 4; i++) {
+            producer.sendSettlement(settlement(i));
+        }
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> producer.sendSettlement(settlement(5L)));
+        assertThat(producer.getQueueDepth(), equalTo(4));
+        assertThat(meterRegistry.counter("settlement.ring.rejected").count(), equalTo(1.0));
+    }
+
+    @Test
+    void settle_WhenBatchFails_SettlesIndividually() {
+        // Given
+        BetSettlementDTO good = settlement(1L);
+        BetSettlementDTO missing = settlement(2L);
+        doThrow(new IllegalArgumentException("Bet not found: 2")).when(betSettlementService).settleBets(anyList());
+        doThrow(new IllegalArgumentException("Bet not found: 2")).when(betSettlementService).settleBet(missing);
+
+        // When
+        producer.settle(List.of(good, missing));
+
+        // Then
+        verify(betSettlementService).settleBet(good);
+        verify(betSettlementService).settleBet(missing);
+        assertThat(meterRegistry.counter("settlement.ring.settled").count(), equalTo(1.0));
+        assertThat(meterRegistry.counter("settlement.ring.failed").count(), equalTo(1.0));
+    }
+
+    @Test
+    void flush_WaitsUntilQueuedSettlementsAreWritten() {
+        // Given
+        producer.start();
+        producer.sendSettlement(settlement(1L));
+        producer.sendSettlement(settlement(2L));
+
+        // When
+        producer.flush();
+
+        // Then
+        assertThat(meterRegistry.counter("settlement.ring.settled").count(), equalTo(2.0));
+        producer.stop();
+    }
+
+    @Test
+    void flush_WhenSettlementFailed_ThrowsOnce() {
+        // Given
+        BetSettlementDTO missing = settlement(2L);
+        doThrow(new IllegalArgumentException("Bet not found: 2")).when(betSettlementService).settleBets(anyList());
+        doThrow(new IllegalArgumentException("Bet not found: 2")).when(betSettlementService).settleBet(missing);
+        producer.start();
+        producer.sendSettlement(settlement(1L));
+        producer.sendSettlement(missing);
+
+        // When & Then - the failure is reported to the sender, then cleared for its next dispatch
+        IllegalStateException exception = assertThrows(IllegalStateException.class, producer::flush);
+        assertThat(exception.getMessage(), equalTo("1 queued settlements could not be settled"));
+        producer.flush();
+        producer.stop();
+    }
+
+    @Test
+    void flush_WhenWorkersAreNotRunning_Throws() {
+        // Given - workers not started, so the settlement is never written
+        producer.sendSettlement(settlement(1L));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, producer::flush);
+    }
+
+    private BetSettlementDTO settlement(Long betId) {
+        return BetSettlementDTO.builder()
+                .betId(betId)
+                .userId("USER-" + betId)
+                .eventId("EVT-001")
+                .eventMarketId("MATCH_WINNER")
+                .eventWinnerId("TEAM-A")
+                .predictedWinnerId("TEAM-A")
+                .betAmount(new BigDecimal("10.00"))
+                .won(true)
+                .build();
+    }
+}
@@ -88,6 +88,21 @@ class RealBetSettlementProducerTest {
         // In real scenario, this would test the actual init() method
     }
 
+    @Test
+    void init_WithLazyStart_DoesNotCreateClient() throws Exception {
+        // Given
+        rocketMQConfig.getProducer().setLazyStart(true);
+        realBetSettlementProducer = new RealBetSettlementProducer(rocketMQConfig, objectMapper);
+
+        // When
+        realBetSettlementProducer.init();
+
+        // Then
+        Field producerField = RealBetSettlementProducer.class.getDeclaredField("producer");
+        producerField.setAccessible(true);
+        assertThat(producerField.get(realBetSettlementProducer), is(nullValue()));
+    }
+
     @Test
     void sendSettlement_WithValidSettlement_SendsSuccessfully() throws Exception {
         // Given
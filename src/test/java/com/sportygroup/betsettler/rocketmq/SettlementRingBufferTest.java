@@ -0,0 +1,116 @@
+package com.sportygroup.betsettler.rocketmq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for SettlementRingBuffer.
+ */
+class SettlementRingBufferTest {
+
+    @Test
+    void constructor_RoundsCapacityUpToPowerOfTwo() {
+        assertThat(new SettlementRingBuffer<String>(5).capacity(), equalTo(8));
+        assertThat(new SettlementRingBuffer<String>(8).capacity(), equalTo(8));
+        assertThrows(IllegalArgumentException.class, () -> new SettlementRingBuffer<String>(1));
+    }
+
+    @Test
+    void offerAndPoll_PreserveFifoOrder() {
+        SettlementRingBuffer<Integer> buffer = new SettlementRingBuffer<>(4);
+
+        buffer.offer(1);
+        buffer.offer(2);
+        buffer.offer(3);
+
+        assertThat(buffer.size(), equalTo(3));
+        assertThat(buffer.poll(), equalTo(1));
+        assertThat(buffer.poll(), equalTo(2));
+        assertThat(buffer.poll(), equalTo(3));
+        assertThat(buffer.poll(), nullValue());
+    }
+
+    @Test
+    void offer_WhenFull_ReturnsFalseUntilSlotIsFreed() {
+        SettlementRingBuffer<Integer> buffer = new SettlementRingBuffer<>(2);
+
+        assertThat(buffer.offer(1), is(true));
+        assertThat(buffer.offer(2), is(true));
+        assertThat(buffer.offer(3), is(false));
+
+        buffer.poll();
+        assertThat(buffer.offer(3), is(true));
+    }
+
+    @Test
+    void drainTo_MovesAtMostMaxElements() {
+        SettlementRingBuffer<Integer> buffer = new SettlementRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+
+        List<Integer> batch = new ArrayList<>();
+        assertThat(buffer.drainTo(batch, 3), equalTo(3));
+        assertThat(batch, contains(0, 1, 2));
+        assertThat(buffer.size(), equalTo(2));
+    }
+
+    @Test
+    void concurrentProducersAndConsumers_DeliverEveryElementExactlyOnce() throws Exception {
+        SettlementRingBuffer<Integer> buffer = new SettlementRingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 10_000;
+        int total = producers * perProducer;
+        Set<Integer> received = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(total);
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 2);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+        for (int c = 0; c < 2; c++) {
+            executor.submit(() -> {
+                while (done.getCount() > 0) {
+                    Integer value = buffer.poll();
+                    if (value == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    if (!received.add(value)) {
+                        duplicates.incrementAndGet();
+                    }
+                    done.countDown();
+                }
+            });
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS), is(true));
+        executor.shutdownNow();
+
+        assertThat(duplicates.get(), equalTo(0));
+        assertThat(received, hasSize(total));
+        assertThat(new HashSet<>(received).contains(total - 1), is(true));
+    }
+}
@@ -0,0 +1,121 @@
+package com.sportygroup.betsettler.service;
+
+import com.sportygroup.betsettler.config.BetHistoryConfig;
+import com.sportygroup.betsettler.dto.BetHistoryPage;
+import com.sportygroup.betsettler.entity.Bet;
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.repository.BetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BetHistoryService.
+ */
+@ExtendWith(MockitoExtension.class)
+class BetHistoryServiceTest {
+
+    @Mock
+    private BetRepository betRepository;
+
+    private BetHistoryService betHistoryService;
+
+    private final LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0, 30);
+
+    @BeforeEach
+    void setUp() {
+        BetHistoryConfig config = new BetHistoryConfig();
+        config.setDefaultPageSize(2);
+        config.setMaxPageSize(5);
+        betHistoryService = new BetHistoryService(betRepository, config);
+    }
+
+    @Test
+    void getUserBets_WithMoreBetsThanPageSize_ReturnsCursorForNextPage() {
+        // Given
+        when(betRepository.findByUserIdOrderByCreatedAtDescBetIdDesc("USER-001", PageRequest.of(0, 3)))
+                .thenReturn(List.of(bet(3L, now), bet(2L, now.minusHours(1)), bet(1L, now.minusHours(2))));
+
+        // When
+        BetHistoryPage page = betHistoryService.getUserBets("USER-001", null, null, null);
+
+        // Then
+        assertThat(page.getBets(), hasSize(2));
+        assertThat(page.isHasMore(), is(true));
+        assertThat(page.getNextCursor(), is(notNullValue()));
+
+        BetHistoryService.Cursor cursor = BetHistoryService.decodeCursor(page.getNextCursor());
+        assertThat(cursor.betId(), equalTo(2L));
+        assertThat(cursor.createdAt(), equalTo(now.minusHours(1)));
+    }
+
+    @Test
+    void getUserBets_OnLastPage_ReturnsNoCursor() {
+        // Given
+        when(betRepository.findByUserIdOrderByCreatedAtDescBetIdDesc("USER-001", PageRequest.of(0, 3)))
+                .thenReturn(List.of(bet(1L, now)));
+
+        // When
+        BetHistoryPage page = betHistoryService.getUserBets("USER-001", null, null, null);
+
+        // Then
+        assertThat(page.getBets(), hasSize(1));
+        assertThat(page.isHasMore(), is(false));
+        assertThat(page.getNextCursor(), is(nullValue()));
+    }
+
+    @Test
+    void getUserBets_WithCursorAndStatus_SeeksPastCursor() {
+        // Given
+        String cursor = BetHistoryService.encodeCursor(bet(7L, now));
+        when(betRepository.findUserBetsBefore("USER-001", BetStatus.WON, now, 7L, PageRequest.of(0, 4)))
+                .thenReturn(List.of(bet(5L, now.minusDays(1))));
+
+        // When
+        BetHistoryPage page = betHistoryService.getUserBets("USER-001", BetStatus.WON, cursor, 3);
+
+        // Then
+        assertThat(page.getBets(), contains(hasProperty("betId", equalTo(5L))));
+        verify(betRepository, never()).findByUserIdAndStatusOrderByCreatedAtDescBetIdDesc(any(), any(), any());
+    }
+
+    @Test
+    void getUserBets_WithInvalidCursor_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> betHistoryService.getUserBets("USER-001", null, "not-a-cursor", null));
+
+        verifyNoInteractions(betRepository);
+    }
+
+    @Test
+    void getUserBets_WithPageSizeAboveMax_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> betHistoryService.getUserBets("USER-001", null, null, 6));
+    }
+
+    private Bet bet(Long betId, LocalDateTime createdAt) {
+        return Bet.builder()
+                .betId(betId)
+                .userId("USER-001")
+                .eventId("EVT-001")
+                .eventMarketId("MATCH_WINNER")
+                .eventWinnerId("TEAM-A")
+                .betAmount(new BigDecimal("10.00"))
+                .status(BetStatus.WON)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -1,10 +1,15 @@
 package com.sportygroup.betsettler.service;
 
+import com.sportygroup.betsettler.config.SettlementDataAccessConfig;
+import com.sportygroup.betsettler.config.SettlementMatchingConfig;
 import com.sportygroup.betsettler.dto.BetSettlementDTO;
 import com.sportygroup.betsettler.dto.EventOutcomeDTO;
 import com.sportygroup.betsettler.entity.Bet;
 import com.sportygroup.betsettler.entity.BetStatus;
 import com.sportygroup.betsettler.repository.BetRepository;
+import com.sportygroup.betsettler.repository.JdbcBetRepository;
+import com.sportygroup.betsettler.repository.PendingBetReader;
+import com.sportygroup.betsettler.repository.PreloadedPendingBets;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,8 +19,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -32,6 +40,18 @@ class BetMatchingServiceTest {
     @Mock
     private BetRepository betRepository;
 
+    @Mock
+    private PendingBetReader pendingBetReader;
+
+    @Mock
+    private SettlementMatchingConfig config;
+
+    @Mock
+    private JdbcBetRepository jdbcBetRepository;
+
+    @Mock
+    private SettlementDataAccessConfig dataAccessConfig;
+
     @InjectMocks
     private BetMatchingService betMatchingService;
 
@@ -113,6 +133,229 @@ class BetMatchingServiceTest {
         assertThat(lostSettlements.get(0).getBetId(), equalTo(3L));
     }
 
+    @Test
+    void matchBets_WithOdds_ComputesFixedPointPayouts() {
+        // Given
+        pendingBets.get(0).setOdds(new BigDecimal("2.5000"));
+        pendingBets.get(1).setOdds(new BigDecimal("1.3333"));
+        pendingBets.get(2).setOdds(new BigDecimal("3.0000"));
+        when(betRepository.findByEventIdAndStatus("EVT-001", BetStatus.PENDING)).thenReturn(pendingBets);
+
+        // When
+        List<BetSettlementDTO> settlements = betMatchingService.matchBets(eventOutcome);
+
+        // Then - 100.00 x 2.5, 50.00 x 1.3333 truncated to the cent, lost bet pays nothing
+        assertThat(settlements.get(0).getPayoutMinorUnits(), equalTo(25_000L));
+        assertThat(settlements.get(1).getPayoutMinorUnits(), equalTo(6_666L));
+        assertThat(settlements.get(2).getPayoutMinorUnits(), equalTo(0L));
+        assertThat(settlements.get(0).getOdds(), comparesEqualTo(new BigDecimal("2.5")));
+    }
+
+    @Test
+    void matchBets_WithoutOdds_LeavesPayoutUnset() {
+        // Given
+        when(betRepository.findByEventIdAndStatus("EVT-001", BetStatus.PENDING)).thenReturn(pendingBets);
+
+        // When
+        List<BetSettlementDTO> settlements = betMatchingService.matchBets(eventOutcome);
+
+        // Then
+        assertThat(settlements, everyItem(hasProperty("payoutMinorUnits", nullValue())));
+    }
+
+    @Test
+    void matchBatch_FillsColumnsFromReader() {
+        // Given
+        doAnswer(invocation -> {
+            PendingBetReader.RowHandler handler = invocation.getArgument(2);
+            handler.accept(1L, "USER-001", "MATCH_WINNER", "TEAM-A", 10_000, 25_000);
+            handler.accept(2L, "USER-002", "MATCH_WINNER", "TEAM-B", 5_000, 30_000);
+            handler.accept(3L, "USER-001", "MATCH_WINNER", "TEAM-A", 2_000, 0);
+            return null;
+        }).when(pendingBetReader).readPendingBets(eq("EVT-001"), eq(0L), any());
+
+        // When
+        SettlementBatch batch = betMatchingService.matchBatch(eventOutcome, 0L);
+
+        // Then
+        assertThat(batch.size(), equalTo(3));
+        assertThat(batch.wonCount(), equalTo(2));
+        assertThat(batch.payoutMinor(0), equalTo(25_000L));
+        assertThat(batch.payoutMinor(1), equalTo(0L));
+        assertThat(batch.payoutMinor(2), is(nullValue()));
+        verifyNoInteractions(betRepository);
+    }
+
+    @Test
+    void matchBatch_WithPreloadedBets_ReadsOnlyBetsAboveWatermark() {
+        // Given
+        PreloadedPendingBets preloaded = new PreloadedPendingBets("EVT-001", 50L);
+        preloaded.add(7L, "USER-002", "MATCH_WINNER", "TEAM-B", 5_000, 0);
+        preloaded.add(3L, "USER-001", "MATCH_WINNER", "TEAM-A", 10_000, 25_000);
+        preloaded.add(9L, "USER-003", "MATCH_WINNER", "TEAM-A", 1_000, 0);
+        preloaded.seal();
+        doAnswer(invocation -> {
+            PendingBetReader.RowHandler handler = invocation.getArgument(2);
+            handler.accept(51L, "USER-004", "MATCH_WINNER", "TEAM-A", 2_000, 0);
+            return null;
+        }).when(pendingBetReader).readPendingBets(eq("EVT-001"), eq(50L), any());
+
+        // When - bet 3 was already dispatched before a restart
+        SettlementBatch batch = betMatchingService.matchBatch(eventOutcome, 3L, preloaded);
+
+        // Then
+        assertThat(batch.size(), equalTo(3));
+        assertThat(batch.betId(0), equalTo(7L));
+        assertThat(batch.betId(1), equalTo(9L));
+        assertThat(batch.betId(2), equalTo(51L));
+        assertThat(batch.wonCount(), equalTo(2));
+        verify(pendingBetReader, never()).readPendingBets(eq("EVT-001"), eq(3L), any());
+    }
+
+    @Test
+    void matchBatch_WithBetCommittedAfterPreload_ReadsEventFromDatabase() {
+        // Given - bet 8 was inserted below the watermark but committed only after the load
+        PreloadedPendingBets preloaded = new PreloadedPendingBets("EVT-001", 50L);
+        preloaded.add(7L, "USER-002", "MATCH_WINNER", "TEAM-B", 5_000, 0);
+        preloaded.add(9L, "USER-003", "MATCH_WINNER", "TEAM-A", 1_000, 0);
+        preloaded.seal();
+        doAnswer(invocation -> {
+            LongConsumer handler = invocation.getArgument(3);
+            handler.accept(7L);
+            handler.accept(8L);
+            handler.accept(9L);
+            return null;
+        }).when(pendingBetReader).readPendingBetIds(eq("EVT-001"), eq(3L), eq(50L), any());
+        doAnswer(invocation -> {
+            PendingBetReader.RowHandler handler = invocation.getArgument(2);
+            handler.accept(7L, "USER-002", "MATCH_WINNER", "TEAM-B", 5_000, 0);
+            handler.accept(8L, "USER-005", "MATCH_WINNER", "TEAM-A", 3_000, 0);
+            handler.accept(9L, "USER-003", "MATCH_WINNER", "TEAM-A", 1_000, 0);
+            return null;
+        }).when(pendingBetReader).readPendingBets(eq("EVT-001"), eq(3L), any());
+
+        // When
+        SettlementBatch batch = betMatchingService.matchBatch(eventOutcome, 3L, preloaded);
+
+        // Then
+        assertThat(batch.size(), equalTo(3));
+        assertThat(batch.betId(1), equalTo(8L));
+        verify(pendingBetReader, never()).readPendingBets(eq("EVT-001"), eq(50L), any());
+    }
+
+    @Test
+    void matchBets_WithMarketResults_SettlesEachMarketAgainstItsOwnResult() {
+        // Given
+        Bet overBet = Bet.builder()
+                .betId(4L)
+                .userId("USER-004")
+                .eventId("EVT-001")
+                .eventMarketId("OVER_UNDER_2_5")
+                .eventWinnerId("OVER")
+                .betAmount(new BigDecimal("20.00"))
+                .status(BetStatus.PENDING)
+                .build();
+        Bet scorerBet = Bet.builder()
+                .betId(5L)
+                .userId("USER-005")
+                .eventId("EVT-001")
+                .eventMarketId("FIRST_SCORER")
+                .eventWinnerId("PLAYER-9")
+                .betAmount(new BigDecimal("5.00"))
+                .status(BetStatus.PENDING)
+                .build();
+        List<Bet> bets = new ArrayList<>(pendingBets);
+        bets.add(overBet);
+        bets.add(scorerBet);
+        eventOutcome.setMarketResults(Map.of("MATCH_WINNER", "TEAM-A", "OVER_UNDER_2_5", "OVER"));
+        when(betRepository.findByEventIdAndStatus("EVT-001", BetStatus.PENDING)).thenReturn(bets);
+
+        // When
+        List<BetSettlementDTO> settlements = betMatchingService.matchBets(eventOutcome);
+
+        // Then - FIRST_SCORER has no result, so its bet stays pending
+        assertThat(settlements, hasSize(4));
+        assertThat(settlements, not(hasItem(hasProperty("betId", equalTo(5L)))));
+        BetSettlementDTO over = settlements.get(3);
+        assertThat(over.getBetId(), equalTo(4L));
+        assertThat(over.getWon(), is(true));
+        assertThat(over.getEventWinnerId(), equalTo("OVER"));
+        verify(betRepository, times(1)).findByEventIdAndStatus("EVT-001", BetStatus.PENDING);
+    }
+
+    @Test
+    void matchBatch_WithMarketResults_UsesPerMarketResultAndSkipsUnresolvedMarkets() {
+        // Given
+        eventOutcome.setMarketResults(Map.of("MATCH_WINNER", "TEAM-A", "OVER_UNDER_2_5", "UNDER"));
+        doAnswer(invocation -> {
+            PendingBetReader.RowHandler handler = invocation.getArgument(2);
+            handler.accept(1L, "USER-001", "MATCH_WINNER", "TEAM-A", 1_000, 0);
+            handler.accept(2L, "USER-002", "OVER_UNDER_2_5", "OVER", 1_000, 0);
+            handler.accept(3L, "USER-003", "FIRST_SCORER", "PLAYER-9", 1_000, 0);
+            handler.accept(4L, "USER-004", "OVER_UNDER_2_5", "UNDER", 1_000, 0);
+            return null;
+        }).when(pendingBetReader).readPendingBets(eq("EVT-001"), eq(0L), any());
+
+        // When
+        SettlementBatch batch = betMatchingService.matchBatch(eventOutcome, 0L);
+
+        // Then
+        assertThat(batch.size(), equalTo(3));
+        assertThat(batch.betId(2), equalTo(4L));
+        assertThat(batch.isWon(0), is(true));
+        assertThat(batch.isWon(1), is(false));
+        assertThat(batch.isWon(2), is(true));
+        assertThat(batch.resultId(1), equalTo("UNDER"));
+    }
+
+    @Test
+    void matchBets_InJdbcMode_LoadsPendingBetsWithoutJpa() {
+        // Given
+        when(dataAccessConfig.isJdbc()).thenReturn(true);
+        when(jdbcBetRepository.findPendingBets("EVT-001", 0L)).thenReturn(pendingBets);
+
+        // When
+        List<BetSettlementDTO> settlements = betMatchingService.matchBets(eventOutcome);
+
+        // Then
+        assertThat(settlements, hasSize(pendingBets.size()));
+        verifyNoInteractions(betRepository);
+    }
+
+    @Test
+    void matchBetsAfter_InJdbcMode_ResumesAfterGivenBet() {
+        // Given
+        when(dataAccessConfig.isJdbc()).thenReturn(true);
+        when(jdbcBetRepository.findPendingBets("EVT-001", 2L)).thenReturn(pendingBets.subList(2, pendingBets.size()));
+
+        // When
+        List<BetSettlementDTO> settlements = betMatchingService.matchBetsAfter(eventOutcome, 2L);
+
+        // Then
+        assertThat(settlements, hasSize(pendingBets.size() - 2));
+        verifyNoInteractions(betRepository);
+    }
+
+    @Test
+    void matchChunk_ReadsAtMostMaxBetsAndTracksLastReadBet() {
+        // Given
+        eventOutcome.setMarketResults(Map.of("MATCH_WINNER", "TEAM-A"));
+        doAnswer(invocation -> {
+            PendingBetReader.RowHandler handler = invocation.getArgument(3);
+            handler.accept(11L, "USER-001", "MATCH_WINNER", "TEAM-A", 1_000, 0);
+            handler.accept(12L, "USER-002", "FIRST_SCORER", "PLAYER-9", 1_000, 0);
+            return null;
+        }).when(pendingBetReader).readPendingBets(eq("EVT-001"), eq(10L), eq(2), any());
+
+        // When
+        SettlementBatch batch = betMatchingService.matchChunk(eventOutcome, 10L, 2);
+
+        // Then - the unresolved bet is not matched but still counts as read
+        assertThat(batch.size(), equalTo(1));
+        assertThat(batch.getReadCount(), equalTo(2));
+        assertThat(batch.getLastReadBetId(), equalTo(12L));
+    }
+
     @Test
     void matchBets_WithNoPendingBets_ReturnsEmptyList() {
         // Given
@@ -152,6 +395,37 @@ class BetMatchingServiceTest {
         assertThat(firstSettlement.getWon(), is(true));
     }
 
+    @Test
+    void matchBets_ReturnsSettlementsInBetIdOrder() {
+        // Given
+        when(betRepository.findByEventIdAndStatus("EVT-001", BetStatus.PENDING))
+                .thenReturn(List.of(pendingBets.get(2), pendingBets.get(0), pendingBets.get(1)));
+
+        // When
+        List<BetSettlementDTO> settlements = betMatchingService.matchBets(eventOutcome);
+
+        // Then
+        assertThat(settlements.stream().map(BetSettlementDTO::getBetId).toList(), contains(1L, 2L, 3L));
+    }
+
+    @Test
+    void matchBetsAfter_MatchesOnlyBetsAfterCheckpoint() {
+        // Given
+        when(betRepository.findByEventIdAndStatusAndBetIdGreaterThanOrderByBetIdAsc(
+                "EVT-001", BetStatus.PENDING, 1L))
+                .thenReturn(pendingBets.subList(1, 3));
+
+        // When
+        List<BetSettlementDTO> settlements = betMatchingService.matchBetsAfter(eventOutcome, 1L);
+
+        // Then
+        assertThat(settlements, hasSize(2));
+        assertThat(settlements.get(0).getBetId(), equalTo(2L));
+        assertThat(settlements.get(0).getWon(), is(true));
+        assertThat(settlements.get(1).getWon(), is(false));
+        verify(betRepository, never()).findByEventIdAndStatus(any(), any());
+    }
+
     @Test
     void getPendingBetCount_ReturnsCorrectCount() {
         // Given
@@ -1,9 +1,14 @@
 package com.sportygroup.betsettler.service;
 
+import com.sportygroup.betsettler.config.SettlementDataAccessConfig;
 import com.sportygroup.betsettler.dto.BetSettlementDTO;
 import com.sportygroup.betsettler.entity.Bet;
 import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.journal.SettlementJournal;
 import com.sportygroup.betsettler.repository.BetRepository;
+import com.sportygroup.betsettler.repository.JdbcBetRepository;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter.StatusChange;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,12 +19,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -31,6 +41,18 @@ class BetSettlementServiceTest {
     @Mock
     private BetRepository betRepository;
 
+    @Mock
+    private UserBetSummaryWriter summaryWriter;
+
+    @Mock
+    private JdbcBetRepository jdbcBetRepository;
+
+    @Mock
+    private SettlementDataAccessConfig dataAccessConfig;
+
+    @Mock
+    private SettlementJournal settlementJournal;
+
     @InjectMocks
     private BetSettlementService betSettlementService;
 
@@ -75,33 +97,34 @@ class BetSettlementServiceTest {
     @Test
     void settleBet_WithWonBet_UpdatesStatusToWon() {
         // Given
-        when(betRepository.findById(1L)).thenReturn(Optional.of(pendingBet));
+        when(betRepository.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(pendingBet));
         ArgumentCaptor<Bet> betCaptor = ArgumentCaptor.forClass(Bet.class);
 
         // When
         betSettlementService.settleBet(wonSettlement);
 
         // Then
-        verify(betRepository).findById(1L);
+        verify(betRepository).findAllByIdForUpdate(List.of(1L));
         verify(betRepository).save(betCaptor.capture());
 
         Bet savedBet = betCaptor.getValue();
         assertThat(savedBet.getStatus(), equalTo(BetStatus.WON));
         assertThat(savedBet.getSettledAt(), is(notNullValue()));
         assertThat(savedBet.getSettledAt(), greaterThan(savedBet.getCreatedAt()));
+        assertThat(savedBet.getSettlementVersion(), equalTo(1));
     }
 
     @Test
     void settleBet_WithLostBet_UpdatesStatusToLost() {
         // Given
-        when(betRepository.findById(1L)).thenReturn(Optional.of(pendingBet));
+        when(betRepository.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(pendingBet));
         ArgumentCaptor<Bet> betCaptor = ArgumentCaptor.forClass(Bet.class);
 
         // When
         betSettlementService.settleBet(lostSettlement);
 
         // Then
-        verify(betRepository).findById(1L);
+        verify(betRepository).findAllByIdForUpdate(List.of(1L));
         verify(betRepository).save(betCaptor.capture());
 
         Bet savedBet = betCaptor.getValue();
@@ -112,7 +135,7 @@ class BetSettlementServiceTest {
     @Test
     void settleBet_WithNonExistentBet_ThrowsException() {
         // Given
-        when(betRepository.findById(999L)).thenReturn(Optional.empty());
+        when(betRepository.findAllByIdForUpdate(List.of(999L))).thenReturn(List.of());
 
         BetSettlementDTO settlement = BetSettlementDTO.builder()
                 .betId(999L)
@@ -126,8 +149,184 @@ class BetSettlementServiceTest {
         );
 
         assertThat(exception.getMessage(), containsString("Bet not found"));
-        verify(betRepository).findById(999L);
+        verify(betRepository).findAllByIdForUpdate(List.of(999L));
+        verify(betRepository, never()).save(any(Bet.class));
+    }
+
+    @Test
+    void settleBets_UpdatesAllBetsInOneSave() {
+        // Given
+        Bet otherBet = Bet.builder()
+                .betId(2L)
+                .userId("USER-002")
+                .eventId("EVT-001")
+                .eventMarketId("MATCH_WINNER")
+                .eventWinnerId("TEAM-B")
+                .betAmount(new BigDecimal("50.00"))
+                .status(BetStatus.PENDING)
+                .createdAt(LocalDateTime.now().minusHours(1))
+                .build();
+        BetSettlementDTO otherLost = BetSettlementDTO.builder()
+                .betId(2L)
+                .userId("USER-002")
+                .eventId("EVT-001")
+                .eventWinnerId("TEAM-A")
+                .predictedWinnerId("TEAM-B")
+                .betAmount(new BigDecimal("50.00"))
+                .won(false)
+                .build();
+        when(betRepository.findAllByIdForUpdate(List.of(1L, 2L))).thenReturn(List.of(pendingBet, otherBet));
+
+        // When
+        betSettlementService.settleBets(List.of(wonSettlement, otherLost));
+
+        // Then
+        assertThat(pendingBet.getStatus(), equalTo(BetStatus.WON));
+        assertThat(otherBet.getStatus(), equalTo(BetStatus.LOST));
+        verify(betRepository).saveAll(anyCollection());
+        verify(betRepository, never()).save(any(Bet.class));
+        verify(summaryWriter).recordStatusChanges(List.of(
+                new StatusChange("USER-001", new BigDecimal("100.00"), BetStatus.PENDING, BetStatus.WON),
+                new StatusChange("USER-002", new BigDecimal("50.00"), BetStatus.PENDING, BetStatus.LOST)));
+    }
+
+    @Test
+    void settleBet_WithAlreadySettledBet_LeavesItUnchanged() {
+        // Given
+        pendingBet.markAsLost();
+        when(betRepository.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(pendingBet));
+
+        // When
+        betSettlementService.settleBet(wonSettlement);
+
+        // Then
+        assertThat(pendingBet.getStatus(), equalTo(BetStatus.LOST));
+        assertThat(pendingBet.getSettlementVersion(), equalTo(1));
         verify(betRepository, never()).save(any(Bet.class));
+        verifyNoInteractions(summaryWriter, settlementJournal);
+    }
+
+    @Test
+    void settleBets_SettlesEachPendingBetOnce() {
+        // Given
+        when(betRepository.findAllByIdForUpdate(List.of(1L, 1L))).thenReturn(List.of(pendingBet));
+
+        // When
+        betSettlementService.settleBets(List.of(wonSettlement, lostSettlement));
+
+        // Then - the second settlement finds the bet already settled
+        assertThat(pendingBet.getStatus(), equalTo(BetStatus.WON));
+        assertThat(pendingBet.getSettlementVersion(), equalTo(1));
+        verify(summaryWriter).recordStatusChanges(List.of(
+                new StatusChange("USER-001", new BigDecimal("100.00"), BetStatus.PENDING, BetStatus.WON)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void settleBet_WithJournalEnabled_AppendsSettledBet() {
+        // Given
+        when(settlementJournal.isEnabled()).thenReturn(true);
+        when(betRepository.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(pendingBet));
+        ArgumentCaptor<List<SettlementJournal.Entry>> entries = ArgumentCaptor.forClass(List.class);
+
+        // When
+        betSettlementService.settleBet(wonSettlement);
+
+        // Then
+        verify(settlementJournal).append(entries.capture());
+        SettlementJournal.Entry entry = entries.getValue().get(0);
+        assertThat(entry.betId(), equalTo(1L));
+        assertThat(entry.won(), is(true));
+        assertThat(entry.settledAt(), equalTo(pendingBet.getSettledAt()));
+        verify(settlementJournal, never()).awaitFlushed(anyLong());
+    }
+
+    @Test
+    void settleBet_WithJournalDisabled_DoesNotAppend() {
+        // Given
+        when(betRepository.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(pendingBet));
+
+        // When
+        betSettlementService.settleBet(wonSettlement);
+
+        // Then
+        verify(settlementJournal, never()).append(any());
+    }
+
+    @Test
+    void settleBets_InJdbcMode_WritesThroughJdbcRepository() {
+        // Given
+        List<StatusChange> changes = List.of(
+                new StatusChange("USER-001", new BigDecimal("100.00"), BetStatus.PENDING, BetStatus.WON));
+        when(dataAccessConfig.isJdbc()).thenReturn(true);
+        when(jdbcBetRepository.settle(eq(List.of(wonSettlement)), any(LocalDateTime.class), any()))
+                .thenReturn(changes);
+
+        // When
+        betSettlementService.settleBets(List.of(wonSettlement));
+
+        // Then
+        verify(summaryWriter).recordStatusChanges(changes);
+        verifyNoInteractions(betRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void settleBets_InJdbcMode_JournalsOnlySettledBets() {
+        // Given
+        BetSettlementDTO alreadySettled = BetSettlementDTO.builder().betId(2L).eventId("EVT-001").won(true).build();
+        when(dataAccessConfig.isJdbc()).thenReturn(true);
+        when(settlementJournal.isEnabled()).thenReturn(true);
+        when(jdbcBetRepository.settle(eq(List.of(wonSettlement, alreadySettled)), any(LocalDateTime.class), any()))
+                .thenAnswer(invocation -> {
+                    invocation.<Consumer<BetSettlementDTO>>getArgument(2).accept(wonSettlement);
+                    return List.of();
+                });
+        ArgumentCaptor<List<SettlementJournal.Entry>> entries = ArgumentCaptor.forClass(List.class);
+
+        // When
+        betSettlementService.settleBets(List.of(wonSettlement, alreadySettled));
+
+        // Then
+        verify(settlementJournal).append(entries.capture());
+        assertThat(entries.getValue().stream().map(SettlementJournal.Entry::betId).toList(), contains(1L));
+    }
+
+    @Test
+    void settleBet_InJdbcMode_PropagatesMissingBet() {
+        // Given
+        when(dataAccessConfig.isJdbc()).thenReturn(true);
+        when(jdbcBetRepository.settle(eq(List.of(wonSettlement)), any(LocalDateTime.class), any()))
+                .thenThrow(new IllegalArgumentException("Bet not found: 1"));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> betSettlementService.settleBet(wonSettlement));
+        verifyNoInteractions(betRepository, summaryWriter);
+    }
+
+    @Test
+    void settleBets_WithMissingBet_ThrowsException() {
+        // Given
+        when(betRepository.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> betSettlementService.settleBets(List.of(wonSettlement)));
+        verify(betRepository, never()).saveAll(anyCollection());
+        verifyNoInteractions(summaryWriter);
+    }
+
+    @Test
+    void settleBet_RecordsStatusChangeInUserSummary() {
+        // Given
+        when(betRepository.findAllByIdForUpdate(List.of(1L))).thenReturn(List.of(pendingBet));
+
+        // When
+        betSettlementService.settleBet(wonSettlement);
+
+        // Then
+        verify(summaryWriter).recordStatusChanges(List.of(
+                new StatusChange("USER-001", new BigDecimal("100.00"), BetStatus.PENDING, BetStatus.WON)));
     }
 
     @Test
@@ -0,0 +1,197 @@
+package com.sportygroup.betsettler.service;
+
+import com.sportygroup.betsettler.config.DispatchCheckpointConfig;
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.entity.DispatchCheckpoint;
+import com.sportygroup.betsettler.repository.DispatchCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DispatchCheckpointService.
+ */
+@ExtendWith(MockitoExtension.class)
+class DispatchCheckpointServiceTest {
+
+    @Mock
+    private DispatchCheckpointRepository checkpointRepository;
+
+    private DispatchCheckpointConfig config;
+    private DispatchCheckpointService checkpointService;
+    private EventOutcomeDTO eventOutcome;
+
+    @BeforeEach
+    void setUp() {
+        config = new DispatchCheckpointConfig();
+        config.setInterval(100);
+        checkpointService = new DispatchCheckpointService(checkpointRepository, config);
+
+        eventOutcome = EventOutcomeDTO.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-A")
+                .build();
+    }
+
+    @Test
+    void findResumePoint_WithCheckpointForSameWinner_ReturnsIt() {
+        // Given
+        DispatchCheckpoint checkpoint = checkpoint("TEAM-A", 500L);
+        when(checkpointRepository.findById("EVT-001")).thenReturn(Optional.of(checkpoint));
+
+        // When
+        Optional<DispatchCheckpoint> result = checkpointService.findResumePoint(eventOutcome);
+
+        // Then
+        assertThat(result.isPresent(), is(true));
+        assertThat(result.get().getLastBetId(), equalTo(500L));
+    }
+
+    @Test
+    void findResumePoint_WithCheckpointForDifferentWinner_DiscardsIt() {
+        // Given
+        when(checkpointRepository.findById("EVT-001")).thenReturn(Optional.of(checkpoint("TEAM-B", 500L)));
+
+        // When
+        Optional<DispatchCheckpoint> result = checkpointService.findResumePoint(eventOutcome);
+
+        // Then
+        assertThat(result.isPresent(), is(false));
+        verify(checkpointRepository).deleteById("EVT-001");
+    }
+
+    @Test
+    void findResumePoint_WithCheckpointForOtherMarkets_DiscardsIt() {
+        // Given - the checkpoint was written by an outcome that resolved only MATCH_WINNER
+        DispatchCheckpoint checkpoint = checkpoint("TEAM-A", 500L);
+        checkpoint.setMarketResults("MATCH_WINNER=TEAM-A");
+        when(checkpointRepository.findById("EVT-001")).thenReturn(Optional.of(checkpoint));
+        eventOutcome.setMarketResults(Map.of("OVER_UNDER_2_5", "OVER"));
+
+        // When
+        Optional<DispatchCheckpoint> result = checkpointService.findResumePoint(eventOutcome);
+
+        // Then
+        assertThat(result.isPresent(), is(false));
+        verify(checkpointRepository).deleteById("EVT-001");
+    }
+
+    @Test
+    void markCompleted_RecordsMarketResultsOfTheOutcome() {
+        // Given
+        eventOutcome.setMarketResults(Map.of("OVER_UNDER_2_5", "OVER", "MATCH_WINNER", "TEAM-A"));
+
+        // When
+        checkpointService.markCompleted(eventOutcome, 2500L, 250L);
+
+        // Then
+        ArgumentCaptor<DispatchCheckpoint> captor = ArgumentCaptor.forClass(DispatchCheckpoint.class);
+        verify(checkpointRepository).save(captor.capture());
+        assertThat(captor.getValue().getMarketResults(), equalTo("MATCH_WINNER=TEAM-A;OVER_UNDER_2_5=OVER"));
+        assertThat(DispatchCheckpointService.resultKeyOf(captor.getValue()), equalTo(eventOutcome.resultKey()));
+    }
+
+    @Test
+    void findResumePoint_WhenDisabled_IgnoresCheckpoints() {
+        // Given
+        config.setEnabled(false);
+
+        // When
+        Optional<DispatchCheckpoint> result = checkpointService.findResumePoint(eventOutcome);
+
+        // Then
+        assertThat(result.isPresent(), is(false));
+        verifyNoInteractions(checkpointRepository);
+    }
+
+    @Test
+    void recordProgress_WritesOnlyAtInterval() {
+        // When
+        for (long count = 1; count <= 250; count++) {
+            checkpointService.recordProgress(eventOutcome, count * 10, count);
+        }
+
+        // Then
+        ArgumentCaptor<DispatchCheckpoint> captor = ArgumentCaptor.forClass(DispatchCheckpoint.class);
+        verify(checkpointRepository, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues().get(1).getLastBetId(), equalTo(2000L));
+        assertThat(captor.getAllValues().get(1).getDispatchedCount(), equalTo(200L));
+        assertThat(captor.getAllValues().get(1).isCompleted(), is(false));
+    }
+
+    @Test
+    void markCompleted_WritesCompletedCheckpoint() {
+        // When
+        checkpointService.markCompleted(eventOutcome, 2500L, 250L);
+
+        // Then
+        ArgumentCaptor<DispatchCheckpoint> captor = ArgumentCaptor.forClass(DispatchCheckpoint.class);
+        verify(checkpointRepository).save(captor.capture());
+        assertThat(captor.getValue().getEventWinnerId(), equalTo("TEAM-A"));
+        assertThat(captor.getValue().isCompleted(), is(true));
+    }
+
+    @Test
+    void markCompleted_WhenSaveFails_DoesNotThrow() {
+        // Given
+        when(checkpointRepository.save(any(DispatchCheckpoint.class))).thenThrow(new RuntimeException("DB down"));
+
+        // When
+        checkpointService.markCompleted(eventOutcome, 2500L, 250L);
+
+        // Then
+        verify(checkpointRepository).save(any(DispatchCheckpoint.class));
+    }
+
+    @Test
+    void isDispatchInProgress_WithIncompleteCheckpoint_ReturnsTrue() {
+        // Given
+        when(checkpointRepository.findById("EVT-001")).thenReturn(Optional.of(checkpoint("TEAM-A", 500L)));
+
+        // When & Then
+        assertThat(checkpointService.isDispatchInProgress("EVT-001"), is(true));
+    }
+
+    @Test
+    void recordCorrection_MovesCheckpointToCorrectedWinnerKeepingProgress() {
+        // Given
+        DispatchCheckpoint checkpoint = checkpoint("TEAM-A", 500L);
+        checkpoint.setCompleted(true);
+        when(checkpointRepository.findById("EVT-001")).thenReturn(Optional.of(checkpoint));
+        eventOutcome.setEventWinnerId("TEAM-B");
+
+        // When
+        checkpointService.recordCorrection(eventOutcome);
+
+        // Then
+        ArgumentCaptor<DispatchCheckpoint> captor = ArgumentCaptor.forClass(DispatchCheckpoint.class);
+        verify(checkpointRepository).save(captor.capture());
+        assertThat(captor.getValue().getEventWinnerId(), equalTo("TEAM-B"));
+        assertThat(captor.getValue().getLastBetId(), equalTo(500L));
+        assertThat(captor.getValue().isCompleted(), is(true));
+    }
+
+    private DispatchCheckpoint checkpoint(String winner, long lastBetId) {
+        return DispatchCheckpoint.builder()
+                .eventId("EVT-001")
+                .eventWinnerId(winner)
+                .lastBetId(lastBetId)
+                .dispatchedCount(100L)
+                .completed(false)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,225 @@
+package com.sportygroup.betsettler.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportygroup.betsettler.cache.SettledEventCache;
+import com.sportygroup.betsettler.config.KafkaTopicConfig;
+import com.sportygroup.betsettler.config.OutcomePublishingConfig;
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.dto.OutcomeBatchItemResult;
+import com.sportygroup.betsettler.dto.OutcomeBatchResponse;
+import com.sportygroup.betsettler.exception.OverloadedException;
+import jakarta.validation.Validation;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EventOutcomeBatchService.
+ */
+@ExtendWith(MockitoExtension.class)
+class EventOutcomeBatchServiceTest {
+
+    @Mock
+    private EventOutcomeService eventOutcomeService;
+
+    private OutcomePublishingConfig config;
+    private EventOutcomeBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        config = new OutcomePublishingConfig();
+        batchService = new EventOutcomeBatchService(
+                eventOutcomeService,
+                new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                config);
+    }
+
+    @Test
+    void publishBatch_WithJsonArray_SendsEachOutcome() throws Exception {
+        // Given
+        when(eventOutcomeService.sendWithinLimits(any(EventOutcomeDTO.class), anyLong()))
+                .thenAnswer(invocation -> acknowledged(invocation.getArgument(0)));
+        String body = "[" + outcome("EVT-001", "TEAM-A") + "," + outcome("EVT-002", "TEAM-B") + "]";
+
+        // When
+        OutcomeBatchResponse response = batchService.publishBatch(stream(body)).get();
+
+        // Then
+        assertThat(response.getTotal(), equalTo(2));
+        assertThat(response.getAccepted(), equalTo(2));
+        assertThat(response.getError(), is(nullValue()));
+        assertThat(response.getResults().get(1).getEventId(), equalTo("EVT-002"));
+        assertThat(response.getResults().get(1).getOffset(), equalTo(42L));
+        verify(eventOutcomeService, times(2)).sendWithinLimits(any(EventOutcomeDTO.class), anyLong());
+    }
+
+    @Test
+    void publishBatch_WithNdjson_RejectsInvalidItemsAndSendsTheRest() throws Exception {
+        // Given
+        when(eventOutcomeService.sendWithinLimits(any(EventOutcomeDTO.class), anyLong()))
+                .thenAnswer(invocation -> acknowledged(invocation.getArgument(0)));
+        String body = outcome("EVT-001", "TEAM-A") + "\n"
+                + "{\"eventId\":\"EVT-002\",\"eventName\":\"Match\"}\n"
+                + outcome("EVT-003", "TEAM-C") + "\n";
+
+        // When
+        OutcomeBatchResponse response = batchService.publishBatch(stream(body)).get();
+
+        // Then
+        assertThat(response.getTotal(), equalTo(3));
+        assertThat(response.getAccepted(), equalTo(2));
+        assertThat(response.getRejected(), equalTo(1));
+        assertThat(response.getResults().get(1).getStatus(), equalTo(OutcomeBatchItemResult.Status.REJECTED));
+        assertThat(response.getResults().get(1).getMessage(), containsString("eventWinnerId"));
+        verify(eventOutcomeService, times(2)).sendWithinLimits(any(EventOutcomeDTO.class), anyLong());
+    }
+
+    @Test
+    void publishBatch_WhenKafkaSendFails_MarksItemFailed() throws Exception {
+        // Given
+        when(eventOutcomeService.sendWithinLimits(any(EventOutcomeDTO.class), anyLong()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Broker unavailable")));
+
+        // When
+        OutcomeBatchResponse response = batchService.publishBatch(stream(outcome("EVT-001", "TEAM-A"))).get();
+
+        // Then
+        assertThat(response.getFailed(), equalTo(1));
+        assertThat(response.getResults().get(0).getStatus(), equalTo(OutcomeBatchItemResult.Status.FAILED));
+        assertThat(response.getResults().get(0).getMessage(), containsString("Broker unavailable"));
+    }
+
+    @Test
+    void publishBatch_WithTruncatedBody_ReportsErrorAndKeepsEarlierItems() throws Exception {
+        // Given
+        when(eventOutcomeService.sendWithinLimits(any(EventOutcomeDTO.class), anyLong()))
+                .thenAnswer(invocation -> acknowledged(invocation.getArgument(0)));
+        String body = "[" + outcome("EVT-001", "TEAM-A") + ",{\"eventId\":";
+
+        // When
+        OutcomeBatchResponse response = batchService.publishBatch(stream(body)).get();
+
+        // Then
+        assertThat(response.getTotal(), equalTo(1));
+        assertThat(response.getAccepted(), equalTo(1));
+        assertThat(response.getError(), containsString("Malformed JSON"));
+    }
+
+    @Test
+    void publishBatch_OverMaxItems_StopsReading() throws Exception {
+        // Given
+        config.setMaxBatchItems(1);
+        when(eventOutcomeService.sendWithinLimits(any(EventOutcomeDTO.class), anyLong()))
+                .thenAnswer(invocation -> acknowledged(invocation.getArgument(0)));
+        String body = "[" + outcome("EVT-001", "TEAM-A") + "," + outcome("EVT-002", "TEAM-B") + "]";
+
+        // When
+        OutcomeBatchResponse response = batchService.publishBatch(stream(body)).get();
+
+        // Then
+        assertThat(response.getTotal(), equalTo(1));
+        assertThat(response.getError(), containsString("maximum of 1"));
+        verify(eventOutcomeService, times(1)).sendWithinLimits(any(EventOutcomeDTO.class), anyLong());
+    }
+
+    @Test
+    void publishBatch_WithSettledOutcome_RejectsItWithoutSending() throws Exception {
+        // Given
+        when(eventOutcomeService.isAlreadySettled(any(EventOutcomeDTO.class))).thenReturn(true);
+
+        // When
+        OutcomeBatchResponse response = batchService.publishBatch(stream(outcome("EVT-001", "TEAM-A"))).get();
+
+        // Then
+        assertThat(response.getRejected(), equalTo(1));
+        assertThat(response.getResults().get(0).getMessage(), equalTo("Event outcome already settled"));
+        verify(eventOutcomeService, never()).sendWithinLimits(any(), anyLong());
+    }
+
+    @Test
+    void publishBatch_WhenNoInFlightSlotFreesUp_RejectsItem() throws Exception {
+        // Given
+        when(eventOutcomeService.sendWithinLimits(any(EventOutcomeDTO.class), anyLong()))
+                .thenThrow(new OverloadedException("Too many event outcomes in flight",
+                        OverloadedException.Reason.THROTTLED, 1));
+
+        // When
+        OutcomeBatchResponse response = batchService.publishBatch(stream(outcome("EVT-001", "TEAM-A"))).get();
+
+        // Then
+        assertThat(response.getRejected(), equalTo(1));
+        assertThat(response.getFailed(), equalTo(0));
+        assertThat(response.getResults().get(0).getMessage(), containsString("Too many event outcomes in flight"));
+    }
+
+    @Test
+    void publishBatch_AboveBurstAndInFlightLimit_PublishesEveryOutcome() throws Exception {
+        // Given - acknowledgements arrive asynchronously and only two sends may be in flight
+        config.setMaxInFlight(2);
+        config.setMinAvailableBufferBytes(0);
+        int items = config.getAdmission().getBurst() + 50;
+        KafkaTemplate<String, EventOutcomeDTO> kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(anyString(), anyString(), any(EventOutcomeDTO.class)))
+                .thenAnswer(invocation -> acknowledged(invocation.getArgument(2))
+                        .thenApplyAsync(ack -> ack, CompletableFuture.delayedExecutor(1, TimeUnit.MILLISECONDS)));
+        EventOutcomeService realService = new EventOutcomeService(kafkaTemplate, new KafkaTopicConfig(), config,
+                mock(SettledEventCache.class));
+        EventOutcomeBatchService service = new EventOutcomeBatchService(realService, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), config);
+        String body = IntStream.range(0, items)
+                .mapToObj(i -> outcome("EVT-" + i, "TEAM-A"))
+                .collect(Collectors.joining(",", "[", "]"));
+
+        // When
+        OutcomeBatchResponse response = service.publishBatch(stream(body)).get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(response.getTotal(), equalTo(items));
+        assertThat(response.getAccepted(), equalTo(items));
+        assertThat(response.getRejected(), equalTo(0));
+    }
+
+    @Test
+    void publishBatch_WithEmptyArray_ThrowsException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> batchService.publishBatch(stream("[]")));
+        verifyNoInteractions(eventOutcomeService);
+    }
+
+    private CompletableFuture<SendResult<String, EventOutcomeDTO>> acknowledged(EventOutcomeDTO outcome) {
+        RecordMetadata metadata = new RecordMetadata(new TopicPartition("event-outcomes", 0), 42L, 0, 0L, 0, 0);
+        return CompletableFuture.completedFuture(
+                new SendResult<>(new ProducerRecord<>("event-outcomes", outcome.getEventId(), outcome), metadata));
+    }
+
+    private String outcome(String eventId, String winnerId) {
+        return "{\"eventId\":\"" + eventId + "\",\"eventName\":\"Match\",\"eventWinnerId\":\"" + winnerId + "\"}";
+    }
+
+    private ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,178 @@
+package com.sportygroup.betsettler.service;
+
+import com.sportygroup.betsettler.cache.SettledEventCache;
+import com.sportygroup.betsettler.config.KafkaTopicConfig;
+import com.sportygroup.betsettler.config.OutcomePublishingConfig;
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.exception.OverloadedException;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EventOutcomeService acknowledged publishing.
+ */
+@ExtendWith(MockitoExtension.class)
+class EventOutcomeServiceTest {
+
+    @Mock
+    private KafkaTemplate<String, EventOutcomeDTO> kafkaTemplate;
+
+    @Mock
+    private SettledEventCache settledEventCache;
+
+    private OutcomePublishingConfig publishingConfig;
+    private EventOutcomeService eventOutcomeService;
+    private EventOutcomeDTO eventOutcome;
+
+    @BeforeEach
+    void setUp() {
+        publishingConfig = new OutcomePublishingConfig();
+        publishingConfig.setAcknowledged(true);
+        publishingConfig.setMaxInFlight(1);
+        publishingConfig.setAckTimeoutMs(100);
+        publishingConfig.setMinAvailableBufferBytes(0);
+        publishingConfig.setRetryAfterSeconds(3);
+
+        eventOutcomeService = new EventOutcomeService(kafkaTemplate, new KafkaTopicConfig(), publishingConfig,
+                settledEventCache);
+
+        eventOutcome = EventOutcomeDTO.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-A")
+                .build();
+    }
+
+    @Test
+    void publishAcknowledged_OnBrokerAck_CompletesAndReleasesPermit() throws Exception {
+        // Given
+        when(kafkaTemplate.send(anyString(), anyString(), any(EventOutcomeDTO.class)))
+                .thenReturn(CompletableFuture.completedFuture(sendResult()));
+
+        // When
+        SendResult<String, EventOutcomeDTO> result =
+                eventOutcomeService.publishAcknowledged(eventOutcome).get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(result.getRecordMetadata().offset(), equalTo(7L));
+        assertThat(eventOutcomeService.getInFlightCount(), equalTo(0));
+    }
+
+    @Test
+    void publishAcknowledged_WhenInFlightLimitReached_ThrowsThrottled() {
+        // Given
+        when(kafkaTemplate.send(anyString(), anyString(), any(EventOutcomeDTO.class)))
+                .thenReturn(new CompletableFuture<>());
+        eventOutcomeService.publishAcknowledged(eventOutcome);
+
+        // When & Then
+        OverloadedException exception = assertThrows(OverloadedException.class,
+                () -> eventOutcomeService.publishAcknowledged(eventOutcome));
+
+        assertThat(exception.getReason(), equalTo(OverloadedException.Reason.THROTTLED));
+        assertThat(exception.getRetryAfterSeconds(), equalTo(3L));
+        verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any(EventOutcomeDTO.class));
+    }
+
+    @Test
+    void publishAcknowledged_WhenAckExceedsBudget_FailsWithUnavailable() {
+        // Given
+        CompletableFuture<SendResult<String, EventOutcomeDTO>> pending = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), any(EventOutcomeDTO.class))).thenReturn(pending);
+
+        // When
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> eventOutcomeService.publishAcknowledged(eventOutcome).get(1, TimeUnit.SECONDS));
+
+        // Then
+        assertThat(exception.getCause(), instanceOf(OverloadedException.class));
+        assertThat(((OverloadedException) exception.getCause()).getReason(),
+                equalTo(OverloadedException.Reason.UNAVAILABLE));
+        // Permit is held until the real send completes
+        assertThat(eventOutcomeService.getInFlightCount(), equalTo(1));
+        pending.complete(sendResult());
+        assertThat(eventOutcomeService.getInFlightCount(), equalTo(0));
+    }
+
+    @Test
+    void publishAcknowledged_WhenProducerBufferTimesOut_FailsWithUnavailable() {
+        // Given
+        when(kafkaTemplate.send(anyString(), anyString(), any(EventOutcomeDTO.class)))
+                .thenReturn(CompletableFuture.failedFuture(new org.apache.kafka.common.errors.TimeoutException(
+                        "Failed to allocate memory within the configured max blocking time")));
+
+        // When
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> eventOutcomeService.publishAcknowledged(eventOutcome).get(1, TimeUnit.SECONDS));
+
+        // Then
+        assertThat(exception.getCause(), instanceOf(OverloadedException.class));
+        assertThat(exception.getCause().getMessage(), containsString("saturated"));
+    }
+
+    @Test
+    void publishEventOutcome_WhenSendFails_DoesNotThrow() {
+        // Given
+        when(kafkaTemplate.send(anyString(), anyString(), any(EventOutcomeDTO.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Broker down")));
+
+        // When
+        eventOutcomeService.publishEventOutcome(eventOutcome);
+
+        // Then
+        verify(kafkaTemplate).send("event-outcomes", "EVT-001", eventOutcome);
+    }
+
+    @Test
+    void sendWithinLimits_WithSlotWait_SendsOnceEarlierSendIsAcknowledged() throws Exception {
+        // Given
+        CompletableFuture<SendResult<String, EventOutcomeDTO>> first = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), any(EventOutcomeDTO.class)))
+                .thenReturn(first)
+                .thenReturn(CompletableFuture.completedFuture(sendResult()));
+        eventOutcomeService.sendWithinLimits(eventOutcome);
+        CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS).execute(() -> first.complete(sendResult()));
+
+        // When
+        SendResult<String, EventOutcomeDTO> result =
+                eventOutcomeService.sendWithinLimits(eventOutcome, 1000).get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(result.getRecordMetadata().offset(), equalTo(7L));
+        verify(kafkaTemplate, times(2)).send(anyString(), anyString(), any(EventOutcomeDTO.class));
+    }
+
+    @Test
+    void isAlreadySettled_DelegatesToSettledEventCache() {
+        // Given
+        when(settledEventCache.isSettled("EVT-001", "TEAM-A")).thenReturn(true);
+
+        // When & Then
+        assertThat(eventOutcomeService.isAlreadySettled(eventOutcome), equalTo(true));
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    private SendResult<String, EventOutcomeDTO> sendResult() {
+        RecordMetadata metadata = new RecordMetadata(new TopicPartition("event-outcomes", 0), 7L, 0, 0L, 0, 0);
+        return new SendResult<>(new ProducerRecord<>("event-outcomes", "EVT-001", eventOutcome), metadata);
+    }
+}
@@ -0,0 +1,179 @@
+package com.sportygroup.betsettler.service;
+
+import com.sportygroup.betsettler.config.OutcomePublishingConfig;
+import com.sportygroup.betsettler.exception.OverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for OutcomeAdmissionControl.
+ */
+class OutcomeAdmissionControlTest {
+
+    private OutcomePublishingConfig publishingConfig;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        publishingConfig = new OutcomePublishingConfig();
+        publishingConfig.setRetryAfterSeconds(3);
+        publishingConfig.getAdmission().setPermitsPerSecond(1);
+        publishingConfig.getAdmission().setBurst(2);
+        publishingConfig.getAdmission().setMaxConcurrentRequests(10);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void admit_BeyondClientBurst_RejectsWithRetryAfter() {
+        // Given
+        OutcomeAdmissionControl admissionControl = admissionControl();
+        admissionControl.admit("FEED-1");
+        admissionControl.admit("FEED-1");
+
+        // When
+        OverloadedException exception = assertThrows(OverloadedException.class,
+                () -> admissionControl.admit("FEED-1"));
+
+        // Then
+        assertThat(exception.getReason(), is(OverloadedException.Reason.THROTTLED));
+        assertThat(exception.getRetryAfterSeconds(), equalTo(1L));
+        assertThat(meterRegistry.counter("outcome.admission.rejected", "reason", "rate_limit").count(),
+                equalTo(1.0));
+        assertThat(meterRegistry.counter("outcome.admission.admitted").count(), equalTo(2.0));
+    }
+
+    @Test
+    void admit_LimitsEachClientSeparately() {
+        // Given
+        OutcomeAdmissionControl admissionControl = admissionControl();
+        admissionControl.admit("FEED-1");
+        admissionControl.admit("FEED-1");
+
+        // When & Then
+        assertDoesNotThrow(() -> admissionControl.admit("FEED-2"));
+        assertThat(admissionControl.getClientCount(), equalTo(2));
+    }
+
+    @Test
+    void admit_AfterRefill_AdmitsAgain() {
+        // Given
+        publishingConfig.getAdmission().setPermitsPerSecond(20);
+        publishingConfig.getAdmission().setBurst(1);
+        OutcomeAdmissionControl admissionControl = admissionControl();
+        admissionControl.admit("FEED-1");
+        assertThrows(OverloadedException.class, () -> admissionControl.admit("FEED-1"));
+
+        // When & Then
+        await().atMost(1, TimeUnit.SECONDS).pollInterval(10, TimeUnit.MILLISECONDS)
+                .ignoreException(OverloadedException.class)
+                .until(() -> {
+                    admissionControl.admit("FEED-1");
+                    return true;
+                });
+    }
+
+    @Test
+    void admit_AtConcurrencyLimit_RejectsUntilReleased() {
+        // Given
+        publishingConfig.getAdmission().setMaxConcurrentRequests(1);
+        OutcomeAdmissionControl admissionControl = admissionControl();
+        admissionControl.admit("FEED-1");
+
+        // When
+        OverloadedException exception = assertThrows(OverloadedException.class,
+                () -> admissionControl.admit("FEED-2"));
+
+        // Then
+        assertThat(exception.getRetryAfterSeconds(), equalTo(3L));
+        assertThat(meterRegistry.counter("outcome.admission.rejected", "reason", "concurrency").count(),
+                equalTo(1.0));
+        admissionControl.release();
+        assertDoesNotThrow(() -> admissionControl.admit("FEED-2"));
+        assertThat(admissionControl.getInFlightCount(), equalTo(1));
+    }
+
+    @Test
+    void admit_RejectedByConcurrencyLimit_DoesNotSpendClientToken() {
+        // Given
+        publishingConfig.getAdmission().setMaxConcurrentRequests(1);
+        OutcomeAdmissionControl admissionControl = admissionControl();
+        admissionControl.admit("FEED-1");
+        assertThrows(OverloadedException.class, () -> admissionControl.admit("FEED-1"));
+        admissionControl.release();
+
+        // When & Then - the second of the two burst tokens is still there
+        assertDoesNotThrow(() -> admissionControl.admit("FEED-1"));
+        assertThat(admissionControl.getInFlightCount(), equalTo(1));
+    }
+
+    @Test
+    void admit_BeyondMaxClients_SharesOverflowBucket() {
+        // Given
+        publishingConfig.getAdmission().setMaxClients(1);
+        OutcomeAdmissionControl admissionControl = admissionControl();
+        admissionControl.admit("FEED-1");
+        admissionControl.admit("FEED-2");
+        admissionControl.admit("FEED-3");
+
+        // When & Then
+        assertThrows(OverloadedException.class, () -> admissionControl.admit("FEED-4"));
+        assertThat(admissionControl.getClientCount(), equalTo(2));
+    }
+
+    @Test
+    void evictIdleClients_DropsOnlyRefilledBuckets() {
+        // Given
+        publishingConfig.getAdmission().setPermitsPerSecond(0.001);
+        OutcomeAdmissionControl admissionControl = admissionControl();
+        admissionControl.admit("FEED-1");
+
+        // When
+        admissionControl.evictIdleClients();
+
+        // Then
+        assertThat(admissionControl.getClientCount(), equalTo(1));
+    }
+
+    @Test
+    void evictIdleClients_DropsBucketsOfIdleClients() {
+        // Given
+        publishingConfig.getAdmission().setPermitsPerSecond(1000);
+        OutcomeAdmissionControl admissionControl = admissionControl();
+        admissionControl.admit("FEED-1");
+
+        // When & Then
+        await().atMost(1, TimeUnit.SECONDS).until(() -> {
+            admissionControl.evictIdleClients();
+            return admissionControl.getClientCount() == 0;
+        });
+    }
+
+    @Test
+    void admit_WhenDisabled_AdmitsEverything() {
+        // Given
+        publishingConfig.getAdmission().setEnabled(false);
+        publishingConfig.getAdmission().setMaxConcurrentRequests(0);
+        OutcomeAdmissionControl admissionControl = admissionControl();
+
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            admissionControl.admit("FEED-1");
+        }
+        admissionControl.release();
+        assertThat(admissionControl.getInFlightCount(), equalTo(0));
+        assertThat(admissionControl.getClientCount(), equalTo(0));
+    }
+
+    private OutcomeAdmissionControl admissionControl() {
+        return new OutcomeAdmissionControl(publishingConfig, meterRegistry);
+    }
+}
@@ -0,0 +1,142 @@
+package com.sportygroup.betsettler.service;
+
+import com.sportygroup.betsettler.cache.SettledEventCache;
+import com.sportygroup.betsettler.dto.EventOutcomeDTO;
+import com.sportygroup.betsettler.dto.OutcomeCorrectionResponse;
+import com.sportygroup.betsettler.entity.BetStatus;
+import com.sportygroup.betsettler.journal.SettlementJournal;
+import com.sportygroup.betsettler.repository.SettlementCorrectionWriter;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter;
+import com.sportygroup.betsettler.repository.UserBetSummaryWriter.StatusChange;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutcomeCorrectionService.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutcomeCorrectionServiceTest {
+
+    @Mock
+    private SettlementCorrectionWriter correctionWriter;
+
+    @Mock
+    private UserBetSummaryWriter summaryWriter;
+
+    @Mock
+    private DispatchCheckpointService checkpointService;
+
+    @Mock
+    private SettledEventCache settledEventCache;
+
+    @Mock
+    private BetSettlementService betSettlementService;
+
+    @InjectMocks
+    private OutcomeCorrectionService correctionService;
+
+    @Test
+    void correctOutcome_ResettlesEventAndAdjustsSummaries() {
+        // Given
+        EventOutcomeDTO corrected = outcome(null);
+        List<StatusChange> changes = List.of(
+                new StatusChange("USER-001", new BigDecimal("10.00"), BetStatus.WON, BetStatus.LOST),
+                new StatusChange("USER-002", new BigDecimal("5.00"), BetStatus.LOST, BetStatus.WON),
+                new StatusChange("USER-002", new BigDecimal("7.00"), BetStatus.LOST, BetStatus.WON));
+        when(correctionWriter.resettle(eq("EVT-001"), isNull(), eq("TEAM-B"), any(), any())).thenReturn(changes);
+
+        // When
+        OutcomeCorrectionResponse response = correctionService.correctOutcome(corrected);
+
+        // Then
+        assertThat(response.getWonToLost(), equalTo(1));
+        assertThat(response.getLostToWon(), equalTo(2));
+        assertThat(response.getUsersAffected(), equalTo(2));
+        verify(summaryWriter).recordStatusChanges(changes);
+        verify(checkpointService).recordCorrection(corrected);
+        verify(settledEventCache).evict("EVT-001");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void correctOutcome_JournalsCorrectedBets() {
+        // Given
+        when(correctionWriter.resettle(eq("EVT-001"), isNull(), eq("TEAM-B"), any(), any())).thenAnswer(invocation -> {
+            Consumer<SettlementCorrectionWriter.CorrectedBet> corrected = invocation.getArgument(4);
+            corrected.accept(new SettlementCorrectionWriter.CorrectedBet(1L, "USER-001", true,
+                    new BigDecimal("10.00"), new BigDecimal("2.5000")));
+            corrected.accept(new SettlementCorrectionWriter.CorrectedBet(2L, "USER-002", false,
+                    new BigDecimal("5.00"), null));
+            return List.of();
+        });
+        ArgumentCaptor<List<SettlementJournal.Entry>> entries = ArgumentCaptor.forClass(List.class);
+
+        // When
+        correctionService.correctOutcome(outcome(null));
+
+        // Then
+        verify(betSettlementService).journal(entries.capture());
+        SettlementJournal.Entry won = entries.getValue().get(0);
+        assertThat(won.betId(), equalTo(1L));
+        assertThat(won.eventId(), equalTo("EVT-001"));
+        assertThat(won.won(), is(true));
+        assertThat(won.payoutMinorUnits(), equalTo(2500L));
+        assertThat(entries.getValue().get(1).payoutMinorUnits(), is(nullValue()));
+    }
+
+    @Test
+    void correctOutcome_WithMarketResults_ResettlesEachMarketInOrder() {
+        // Given
+        EventOutcomeDTO corrected = outcome(Map.of("OVER_UNDER_2_5", "UNDER", "MATCH_WINNER", "TEAM-B"));
+        when(correctionWriter.resettle(eq("EVT-001"), anyString(), anyString(), any(), any())).thenReturn(List.of());
+
+        // When
+        OutcomeCorrectionResponse response = correctionService.correctOutcome(corrected);
+
+        // Then
+        InOrder inOrder = inOrder(correctionWriter);
+        inOrder.verify(correctionWriter).resettle(eq("EVT-001"), eq("MATCH_WINNER"), eq("TEAM-B"), any(), any());
+        inOrder.verify(correctionWriter).resettle(eq("EVT-001"), eq("OVER_UNDER_2_5"), eq("UNDER"), any(), any());
+        verify(correctionWriter, never()).resettle(any(), isNull(), any(), any(), any());
+        assertThat(response.getWonToLost(), equalTo(0));
+        assertThat(response.getUsersAffected(), equalTo(0));
+    }
+
+    @Test
+    void correctOutcome_WhileDispatchInProgress_ThrowsException() {
+        // Given
+        when(checkpointService.isDispatchInProgress("EVT-001")).thenReturn(true);
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> correctionService.correctOutcome(outcome(null)));
+
+        assertThat(exception.getMessage(), containsString("still being dispatched"));
+        verifyNoInteractions(correctionWriter, summaryWriter);
+    }
+
+    private EventOutcomeDTO outcome(Map<String, String> marketResults) {
+        return EventOutcomeDTO.builder()
+                .eventId("EVT-001")
+                .eventName("Test Match")
+                .eventWinnerId("TEAM-B")
+                .marketResults(marketResults)
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.sportygroup.betsettler.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for PayoutCalculator.
+ */
+class PayoutCalculatorTest {
+
+    @Test
+    void payout_TruncatesFractionsOfACent() {
+        // 10.01 x 1.5 = 15.015
+        assertThat(PayoutCalculator.payout(1001, 15_000), equalTo(1501L));
+    }
+
+    @Test
+    void payout_MatchesBigDecimalArithmetic() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 10_000; i++) {
+            long stake = random.nextLong(1, 100_000_000_00L);
+            long odds = random.nextLong(1_0001, 9999_9999);
+
+            BigDecimal expected = BigDecimal.valueOf(stake, 2)
+                    .multiply(BigDecimal.valueOf(odds, 4))
+                    .setScale(2, RoundingMode.DOWN);
+
+            assertThat(PayoutCalculator.fromMinorUnits(PayoutCalculator.payout(stake, odds)), equalTo(expected));
+        }
+    }
+
+    @Test
+    void conversions_RoundTripAmountsAndOdds() {
+        assertThat(PayoutCalculator.toMinorUnits(new BigDecimal("123.45")), equalTo(12_345L));
+        assertThat(PayoutCalculator.toMinorUnits(new BigDecimal("7")), equalTo(700L));
+        assertThat(PayoutCalculator.toFixedOdds(new BigDecimal("2.75")), equalTo(27_500L));
+        assertThat(PayoutCalculator.fromMinorUnits(12_345L), equalTo(new BigDecimal("123.45")));
+    }
+
+    @Test
+    void toMinorUnits_WithSubCentAmount_ThrowsException() {
+        assertThrows(ArithmeticException.class, () -> PayoutCalculator.toMinorUnits(new BigDecimal("1.005")));
+    }
+}
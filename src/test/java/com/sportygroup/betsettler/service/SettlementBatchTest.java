@@ -0,0 +1,108 @@
+package com.sportygroup.betsettler.service;
+
+import com.sportygroup.betsettler.dto.BetSettlementDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Unit tests for SettlementBatch.
+ */
+class SettlementBatchTest {
+
+    @Test
+    void add_MarksRowsPredictingTheWinnerAsWon() {
+        // Given
+        SettlementBatch batch = new SettlementBatch("EVT-001", "TEAM-A");
+        int market = batch.encode("MATCH_WINNER");
+
+        // When
+        int winner = batch.getWinnerCode();
+        batch.add(1L, batch.encode("USER-001"), market, batch.encode("TEAM-A"), winner, 10_000, 25_000, 25_000);
+        batch.add(2L, batch.encode("USER-002"), market, batch.encode("TEAM-B"), winner, 5_000, 0, 0);
+        batch.add(3L, batch.encode("USER-001"), market, batch.encode("TEAM-A"), winner, 2_000, 0, 0);
+
+        // Then
+        assertThat(batch.size(), equalTo(3));
+        assertThat(batch.wonCount(), equalTo(2));
+        assertThat(batch.isWon(0), is(true));
+        assertThat(batch.isWon(1), is(false));
+        assertThat(batch.userId(2), equalTo("USER-001"));
+        assertThat(batch.predictedWinnerId(1), equalTo("TEAM-B"));
+    }
+
+    @Test
+    void encode_ReusesCodesForRepeatedIdentifiers() {
+        SettlementBatch batch = new SettlementBatch("EVT-001", "TEAM-A");
+
+        assertThat(batch.encode("TEAM-A"), equalTo(batch.getWinnerCode()));
+        assertThat(batch.encode("USER-001"), equalTo(batch.encode("USER-001")));
+        assertThat(batch.encode("USER-001"), not(equalTo(batch.encode("USER-002"))));
+    }
+
+    @Test
+    void add_GrowsBeyondInitialCapacity() {
+        // Given
+        SettlementBatch batch = new SettlementBatch("EVT-001", "TEAM-A", 2);
+        int user = batch.encode("USER-001");
+        int market = batch.encode("MATCH_WINNER");
+
+        // When
+        for (long betId = 1; betId <= 100; betId++) {
+            batch.add(betId, user, market, batch.getWinnerCode(), batch.getWinnerCode(), 100, 0, 0);
+        }
+
+        // Then
+        assertThat(batch.size(), equalTo(100));
+        assertThat(batch.betId(99), equalTo(100L));
+        assertThat(batch.wonCount(), equalTo(100));
+    }
+
+    @Test
+    void add_DecidesEachRowAgainstItsOwnMarketResult() {
+        // Given
+        SettlementBatch batch = new SettlementBatch("EVT-001", "TEAM-A");
+        int over = batch.encode("OVER");
+
+        // When
+        batch.add(1L, batch.encode("USER-001"), batch.encode("OVER_UNDER_2_5"), over, over, 100, 0, 0);
+        batch.add(2L, batch.encode("USER-002"), batch.encode("OVER_UNDER_2_5"), batch.encode("UNDER"), over, 100, 0, 0);
+
+        // Then
+        assertThat(batch.isWon(0), is(true));
+        assertThat(batch.isWon(1), is(false));
+        assertThat(batch.toSettlement(1).getEventWinnerId(), equalTo("OVER"));
+    }
+
+    @Test
+    void toSettlement_MaterializesRow() {
+        // Given
+        SettlementBatch batch = new SettlementBatch("EVT-001", "TEAM-A");
+        batch.add(7L, batch.encode("USER-007"), batch.encode("MATCH_WINNER"), batch.getWinnerCode(),
+                batch.getWinnerCode(), 10_050, 20_000, 20_100);
+        batch.add(8L, batch.encode("USER-008"), batch.encode("MATCH_WINNER"), batch.encode("TEAM-B"),
+                batch.getWinnerCode(), 1_000, 0, 0);
+
+        // When
+        BetSettlementDTO won = batch.toSettlement(0);
+        BetSettlementDTO lost = batch.toSettlement(1);
+
+        // Then
+        assertThat(won.getBetId(), equalTo(7L));
+        assertThat(won.getUserId(), equalTo("USER-007"));
+        assertThat(won.getEventId(), equalTo("EVT-001"));
+        assertThat(won.getEventMarketId(), equalTo("MATCH_WINNER"));
+        assertThat(won.getEventWinnerId(), equalTo("TEAM-A"));
+        assertThat(won.getPredictedWinnerId(), equalTo("TEAM-A"));
+        assertThat(won.getBetAmount(), equalTo(new BigDecimal("100.50")));
+        assertThat(won.getWon(), is(true));
+        assertThat(won.getOdds(), comparesEqualTo(new BigDecimal("2")));
+        assertThat(won.getPayoutMinorUnits(), equalTo(20_100L));
+        assertThat(lost.getWon(), is(false));
+        assertThat(lost.getOdds(), is(nullValue()));
+        assertThat(lost.getPayoutMinorUnits(), is(nullValue()));
+    }
+}